@@ -2,6 +2,9 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,15 +12,29 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** Parameter to run without the GUI, reading commands from the standard input */
+    public static final String HEADLESS_PARAMETER = "--headless";
+    /** Name of the parameter to run without the GUI, reading commands from a file */
+    public static final String SCRIPT_PARAMETER = "script";
+    /** Name of the parameter for the localhost port to serve the API at */
+    public static final String API_PORT_PARAMETER = "api-port";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_START = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private boolean isHeadless;
+    private Path scriptPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +44,67 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the application should run without the GUI.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the file to read commands from when running without the GUI, or null to read the standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the localhost port to serve the API at, or null if the API should not be served.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed(), parameters.getUnnamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, before JavaFX is started. Arguments of the form
+     * {@code --name=value} are named parameters, as in {@link Application.Parameters}, and the rest are unnamed.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.startsWith(NAMED_PARAMETER_START) && separatorIndex > NAMED_PARAMETER_START.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_START.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        return parse(namedParameters, unnamedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters, List<String> unnamedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +113,23 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get(SCRIPT_PARAMETER);
+        boolean hasScriptParameter = scriptPathParameter != null;
+        if (hasScriptParameter && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Reading commands from standard input.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+        appParameters.setHeadless(hasScriptParameter || unnamedParameters.contains(HEADLESS_PARAMETER));
+
+        String apiPortParameter = namedParameters.get(API_PORT_PARAMETER);
+        if (apiPortParameter != null && (!StringUtil.isNonZeroUnsignedInteger(apiPortParameter)
+                || Integer.parseInt(apiPortParameter) > MAX_PORT)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". Not serving the API.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.valueOf(apiPortParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +145,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isHeadless == otherAppParameters.isHeadless
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless, scriptPath, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isHeadless", isHeadless)
+                .add("scriptPath", scriptPath)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
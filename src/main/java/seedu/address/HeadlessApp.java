@@ -0,0 +1,96 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.ui.HelpWindow;
+
+/**
+ * Runs the application without the GUI, executing the commands read from the standard input or a script file
+ * and printing their results, so that the data can be queried and updated from other programs.
+ */
+public class HeadlessApp extends MainApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_SCRIPT_NOT_READ = 2;
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_SCRIPT_NOT_READ = "Could not read commands from %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Starts the application without the GUI as given by {@code appParameters}, runs every command of its script,
+     * or of the standard input if there is no script, and returns the exit status for the process.
+     */
+    public static int run(AppParameters appParameters) {
+        Path scriptPath = appParameters.getScriptPath();
+        if (scriptPath != null && !Files.isRegularFile(scriptPath)) {
+            System.err.println(String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, scriptPath));
+            return EXIT_SCRIPT_NOT_READ;
+        }
+
+        logger.info("=========================[ Initializing headless ABCLI ]======================");
+        HeadlessApp app = new HeadlessApp();
+        app.initComponents(appParameters);
+
+        try (BufferedReader commands = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            return app.run(commands, System.out, System.err);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_SCRIPT_NOT_READ,
+                    scriptPath == null ? "standard input" : scriptPath, e.getMessage()));
+            return EXIT_SCRIPT_NOT_READ;
+        } finally {
+            logger.info("======================== [ Stopping headless ABCLI ] =========================");
+            app.saveUserPrefs();
+        }
+    }
+
+    /**
+     * Executes the commands read from {@code commands}, one per line, until the input ends or a command exits.
+     * Blank lines and lines starting with {@value BatchCommand#COMMENT_MARKER} are skipped. The feedback of each
+     * command is printed to {@code out}, and the error of each failed command, with its line, to {@code err}.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_COMMAND_FAILED} otherwise.
+     * @throws IOException if the commands cannot be read.
+     */
+    int run(BufferedReader commands, PrintStream out, PrintStream err) throws IOException {
+        int exitStatus = EXIT_SUCCESS;
+        int lineNumber = 0;
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(BatchCommand.COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.isShowHelp() ? HelpWindow.HELP_MESSAGE : commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                exitStatus = EXIT_COMMAND_FAILED;
+            }
+        }
+        return exitStatus;
+    }
+}
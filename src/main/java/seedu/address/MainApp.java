@@ -2,11 +2,16 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -15,6 +20,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.reminder.ReminderService;
 import seedu.address.model.BuyerList;
 import seedu.address.model.MeetUpList;
 import seedu.address.model.Model;
@@ -49,19 +55,41 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 5, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final long MODEL_WRITER_STOP_TIMEOUT_SECONDS = 10;
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ReminderService reminderService;
+    protected AppParameters appParameters;
+    protected ApiServer apiServer;
+    protected ExecutorService modelWriter;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing ABCLI ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        appParameters = AppParameters.parse(getParameters());
+        initComponents(appParameters);
+
+        modelWriter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "model writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ui = new UiManager(logic, modelWriter);
+
+        reminderService = new ReminderService(model.getMeetUpList().getMeetUpList(),
+                model.getUserPrefs().getReminderLeadTime(), Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes the config, storage, model and logic of the app from {@code appParameters}, leaving out the UI.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
@@ -75,8 +103,6 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
     }
 
     /**
@@ -216,11 +242,68 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ABCLI " + MainApp.VERSION);
         ui.start(primaryStage);
+        reminderService.start(ui::showReminder);
+        startApiServer();
+    }
+
+    /**
+     * Starts serving the API, if a port was given for it, with the model writer as the model thread.
+     */
+    private void startApiServer() {
+        Integer apiPort = appParameters.getApiPort();
+        if (apiPort == null) {
+            return;
+        }
+
+        try {
+            Path tokenFile = getApiTokenFilePath();
+            String token = ApiServer.createToken(tokenFile);
+            apiServer = new ApiServer(logic, modelWriter, apiPort, token);
+            apiServer.start();
+            logger.info("The API token is in " + tokenFile);
+        } catch (IOException e) {
+            logger.warning("Could not serve the API at port " + apiPort + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the file the API token is written to, in the folder of the buyer list.
+     */
+    private Path getApiTokenFilePath() {
+        Path dataFolder = model.getUserPrefs().getBuyerListFilePath().toAbsolutePath().getParent();
+        return dataFolder.resolve(ApiServer.TOKEN_FILE_NAME);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ABCLI ] =============================");
+        reminderService.stop();
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        stopModelWriter();
+        saveUserPrefs();
+    }
+
+    /**
+     * Stops the model writer once the commands and other changes queued on it are done, so the data they change is
+     * saved.
+     */
+    private void stopModelWriter() {
+        modelWriter.shutdown();
+        try {
+            if (!modelWriter.awaitTermination(MODEL_WRITER_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Stopped before the running command finished");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Saves the user prefs of the model, logging instead of failing if they cannot be saved.
+     */
+    protected void saveUserPrefs() {
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
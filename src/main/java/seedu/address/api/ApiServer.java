@@ -0,0 +1,505 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.Session;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.property.Property;
+import seedu.address.storage.buyer.JsonAdaptedBuyer;
+import seedu.address.storage.meetup.JsonAdaptedMeetUp;
+import seedu.address.storage.property.JsonAdaptedProperty;
+
+/**
+ * Serves the buyers, meet-ups and properties of the app as JSON over HTTP on the loopback interface, and runs the
+ * commands submitted to it.
+ *
+ * Every request must carry the token of the server in the {@value #TOKEN_HEADER} header. The token is random for
+ * each launch and is written to a file that only the user can read, so only programs run by the user can send
+ * requests. Requests from web pages, which carry an {@code Origin} header, and requests addressed to any host but the
+ * loopback interface, as after DNS rebinding, are refused even with the token.
+ * <p>
+ * Requests are handled concurrently by a pool of threads. Reads are served from the latest snapshot of the model,
+ * without waiting for the model thread, the model writer thread in the app. Commands are parsed on the thread
+ * handling the request, and only executed on the model thread through {@link Logic}, as if they were typed into the
+ * command box. Each client names the {@link Session}
+ * its commands run in, so switching the parser mode through the API affects neither the command box nor the other
+ * clients.
+ */
+public class ApiServer {
+
+    public static final String BUYERS_PATH = "/api/buyers";
+    public static final String MEETUPS_PATH = "/api/meetups";
+    public static final String PROPERTIES_PATH = "/api/properties";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String TOKEN_HEADER = "X-Api-Token";
+    public static final String TOKEN_FILE_NAME = "api-token";
+
+    public static final String PARAMETER_OFFSET = "offset";
+    public static final String PARAMETER_LIMIT = "limit";
+    public static final String PARAMETER_SESSION = "session";
+    public static final String DEFAULT_SESSION = "default";
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not allowed here; use %2$s";
+    public static final String MESSAGE_NOT_FOUND = "Nothing is served at %1$s";
+    public static final String MESSAGE_UNKNOWN_PARAMETER = "Unknown parameter %1$s; the parameters here are %2$s";
+    public static final String MESSAGE_INVALID_PAGE = "The offset should be an unsigned integer, and the limit "
+            + "an unsigned integer from 1 to " + MAX_LIMIT;
+    public static final String MESSAGE_EMPTY_COMMAND = "The request body should be the command to run";
+    public static final String MESSAGE_INVALID_TOKEN = "The " + TOKEN_HEADER + " header should be the token in the "
+            + TOKEN_FILE_NAME + " file of the data folder";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests from web pages are not accepted";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Requests should be addressed to localhost";
+    public static final String MESSAGE_NOT_RUN = "The app was busy, so the command was not run";
+    public static final String MESSAGE_OUTCOME_UNKNOWN = "The command is taking long and may still be applied; check "
+            + "the data before sending it again";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request failed unexpectedly: %1$s";
+    public static final int MAX_SESSIONS = 100;
+
+    static final int STATUS_OK = 200;
+    static final int STATUS_BAD_REQUEST = 400;
+    static final int STATUS_UNAUTHORIZED = 401;
+    static final int STATUS_FORBIDDEN = 403;
+    static final int STATUS_NOT_FOUND = 404;
+    static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    static final int STATUS_INTERNAL_ERROR = 500;
+    static final int STATUS_UNAVAILABLE = 503;
+    static final int STATUS_TIMEOUT = 504;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final int HANDLER_THREADS = 4;
+    private static final long MODEL_THREAD_TIMEOUT_MILLIS = 30_000;
+    private static final String METHOD_GET = "GET";
+    private static final String METHOD_POST = "POST";
+    private static final String CONTENT_TYPE_JSON = "application/json; charset=utf-8";
+    private static final int TOKEN_BYTES = 32;
+    private static final List<String> LOOPBACK_HOSTS = List.of("localhost", "127.0.0.1", "[::1]");
+
+    static {
+        // Without this, the JDK server writes the headers and body of a response separately and waits for the
+        // client to acknowledge the first write before sending the second, adding about 40 ms to every request.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private static final Map<String, BiPredicate<Buyer, String>> BUYER_FILTERS = Map.of(
+            "name", (buyer, value) -> containsIgnoreCase(buyer.getName().fullName, value),
+            "tag", (buyer, value) -> buyer.getTags().stream().anyMatch(tag -> tag.tagName.equalsIgnoreCase(value)));
+    private static final Map<String, BiPredicate<MeetUp, String>> MEETUP_FILTERS = Map.of(
+            "subject", (meetUp, value) -> containsIgnoreCase(meetUp.getSubject().meetUpFullSubject, value),
+            "buyer", (meetUp, value) -> meetUp.getAddedBuyers().stream()
+                    .anyMatch(addedBuyer -> addedBuyer.fullName.equalsIgnoreCase(value)),
+            "property", (meetUp, value) -> meetUp.getProperty()
+                    .map(address -> containsIgnoreCase(address.value, value)).orElse(false));
+    private static final Map<String, BiPredicate<Property, String>> PROPERTY_FILTERS = Map.of(
+            "address", (property, value) -> containsIgnoreCase(property.getAddress().value, value),
+            "landlord", (property, value) -> containsIgnoreCase(property.getLandlordName().fullName, value),
+            "type", (property, value) -> property.getPropertyType().value.equalsIgnoreCase(value));
+
+    private final Logic logic;
+    private final Executor modelThread;
+    private final long modelThreadTimeoutMillis;
+    private final byte[] token;
+    private final HttpServer server;
+    private final ExecutorService handlerPool;
+    /** The sessions by name, least recently used first. Guarded by itself. */
+    private final Map<String, Session> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates an {@code ApiServer} for {@code logic}, bound to {@code port} of the loopback interface, or to any free
+     * port if {@code port} is 0. {@code modelThread} runs the tasks that touch the model. Only requests carrying
+     * {@code token} are served, and only once the server is {@link #start() started}.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, Executor modelThread, int port, String token) throws IOException {
+        this(logic, modelThread, port, token, MODEL_THREAD_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates an {@code ApiServer} as above, that waits at most {@code modelThreadTimeoutMillis} for a command to be
+     * executed on the model thread.
+     */
+    ApiServer(Logic logic, Executor modelThread, int port, String token, long modelThreadTimeoutMillis)
+            throws IOException {
+        requireNonNull(logic);
+        requireNonNull(modelThread);
+        requireNonNull(token);
+        this.logic = logic;
+        this.modelThread = modelThread;
+        this.modelThreadTimeoutMillis = modelThreadTimeoutMillis;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        handlerPool = Executors.newFixedThreadPool(HANDLER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "api-handler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(handlerPool);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Returns a new random token, after writing it to {@code tokenFile} so that only the user can read it.
+     *
+     * @throws IOException if the token cannot be written.
+     */
+    public static String createToken(Path tokenFile) throws IOException {
+        requireNonNull(tokenFile);
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        FileUtil.createParentDirsOfFile(tokenFile);
+        Files.deleteIfExists(tokenFile);
+        FileUtil.createFile(tokenFile);
+        try {
+            Files.setPosixFilePermissions(tokenFile, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // the file system has no POSIX permissions, so the file is as private as the data folder
+        }
+        FileUtil.writeToFile(tokenFile, token);
+        return token;
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API at http://" + server.getAddress().getHostString() + ":" + getPort() + "/api");
+    }
+
+    /**
+     * Stops accepting requests and stops the server.
+     */
+    public void stop() {
+        server.stop(0);
+        handlerPool.shutdownNow();
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            respond(exchange, STATUS_OK, serve(exchange));
+        } catch (ApiException e) {
+            respond(exchange, e.status, new JsonError(e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            respond(exchange, STATUS_INTERNAL_ERROR, new JsonError(String.format(MESSAGE_INTERNAL_ERROR, e)));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns the body of the response to the request of {@code exchange}.
+     */
+    private Object serve(HttpExchange exchange) throws ApiException, IOException {
+        checkAccess(exchange);
+        String path = exchange.getRequestURI().getPath();
+        Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+        switch (path) {
+        case BUYERS_PATH:
+            requireMethod(exchange, METHOD_GET);
+            return page(logic.getSnapshot().getBuyerList(), parameters, BUYER_FILTERS, JsonAdaptedBuyer::new);
+        case MEETUPS_PATH:
+            requireMethod(exchange, METHOD_GET);
+            return page(logic.getSnapshot().getMeetUpList(), parameters, MEETUP_FILTERS, JsonAdaptedMeetUp::new);
+        case PROPERTIES_PATH:
+            requireMethod(exchange, METHOD_GET);
+            return page(logic.getSnapshot().getPropertyList(), parameters, PROPERTY_FILTERS, JsonAdaptedProperty::new);
+        case COMMANDS_PATH:
+            requireMethod(exchange, METHOD_POST);
+            return new JsonCommandResult(runCommand(readBody(exchange),
+                    parameters.getOrDefault(PARAMETER_SESSION, DEFAULT_SESSION)));
+        default:
+            throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+    }
+
+    /**
+     * Refuses requests from web pages, requests addressed to a host other than the loopback interface, and requests
+     * without the token of the server.
+     */
+    private void checkAccess(HttpExchange exchange) throws ApiException {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            throw new ApiException(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_ORIGIN);
+        }
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !LOOPBACK_HOSTS.contains(stripPort(host).toLowerCase())) {
+            throw new ApiException(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_HOST);
+        }
+        String requestToken = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        if (requestToken == null
+                || !MessageDigest.isEqual(token, requestToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new ApiException(STATUS_UNAUTHORIZED, MESSAGE_INVALID_TOKEN);
+        }
+    }
+
+    private static String stripPort(String host) {
+        int portIndex = host.startsWith("[") ? host.indexOf("]:") + 1 : host.lastIndexOf(':');
+        return portIndex > 0 ? host.substring(0, portIndex) : host;
+    }
+
+    /**
+     * Returns the page of {@code items} matching every filter in {@code parameters}, converted by {@code adapter}.
+     */
+    private static <T> JsonPage page(List<T> items, Map<String, String> parameters,
+            Map<String, BiPredicate<T, String>> filters, Function<T, Object> adapter) throws ApiException {
+        int offset = parsePageParameter(parameters.get(PARAMETER_OFFSET), 0);
+        int limit = parsePageParameter(parameters.get(PARAMETER_LIMIT), DEFAULT_LIMIT);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_INVALID_PAGE);
+        }
+
+        Predicate<T> matchesFilters = item -> true;
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            String name = parameter.getKey();
+            if (name.equals(PARAMETER_OFFSET) || name.equals(PARAMETER_LIMIT)) {
+                continue;
+            }
+            BiPredicate<T, String> filter = filters.get(name);
+            if (filter == null) {
+                throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_UNKNOWN_PARAMETER, name,
+                        filters.keySet().stream().sorted().collect(Collectors.joining(", "))));
+            }
+            String value = parameter.getValue();
+            matchesFilters = matchesFilters.and(item -> filter.test(item, value));
+        }
+
+        List<T> matches = items.stream().filter(matchesFilters).collect(Collectors.toList());
+        List<Object> pageItems = matches.stream().skip(offset).limit(limit).map(adapter).collect(Collectors.toList());
+        return new JsonPage(matches.size(), offset, pageItems);
+    }
+
+    private static int parsePageParameter(String value, int defaultValue) throws ApiException {
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!value.equals("0") && !StringUtil.isNonZeroUnsignedInteger(value)) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_INVALID_PAGE);
+        }
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * Runs {@code commandText} in the session named {@code sessionName}, starting that session if it is new.
+     * Only the {@value #MAX_SESSIONS} most recently used sessions are kept, so a session unused for longer starts
+     * over in buyer mode.
+     * The command is parsed on the calling thread, so only its execution waits for the model thread.
+     */
+    private String runCommand(String commandText, String sessionName) throws ApiException {
+        if (commandText.isBlank()) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_EMPTY_COMMAND);
+        }
+        logger.info("Running command from the API in session " + sessionName + ": " + commandText);
+        Session session;
+        synchronized (sessions) {
+            session = sessions.computeIfAbsent(sessionName, name -> new Session());
+            if (sessions.size() > MAX_SESSIONS) {
+                sessions.remove(sessions.keySet().iterator().next());
+            }
+        }
+        Command command;
+        try {
+            command = logic.parse(commandText, session);
+        } catch (ParseException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, e.getMessage());
+        }
+        CommandResult commandResult = onModelThread(() -> logic.execute(command, session));
+        return commandResult.getFeedbackToUser();
+    }
+
+    /**
+     * Runs {@code task} on the model thread and returns its result.
+     * The message of a {@code CommandException} or {@code ParseException} thrown by the task is a bad request.
+     * If the task has not started by the timeout, it is cancelled, so the client can safely send it again. If it
+     * started but has not finished, the client is told that its outcome is not known yet.
+     */
+    private <T> T onModelThread(Callable<T> task) throws ApiException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean isClaimed = new AtomicBoolean();
+        modelThread.execute(() -> {
+            if (!isClaimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(task.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return result.get(modelThreadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw notFinished(isClaimed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw notFinished(isClaimed);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                throw new ApiException(STATUS_BAD_REQUEST, cause.getMessage());
+            }
+            logger.warning("Command from the API failed: " + StringUtil.getDetails(cause));
+            throw new ApiException(STATUS_INTERNAL_ERROR, String.format(MESSAGE_INTERNAL_ERROR, cause));
+        }
+    }
+
+    /**
+     * Returns the error for a task that did not finish in time, cancelling the task if it has not started.
+     */
+    private static ApiException notFinished(AtomicBoolean isClaimed) {
+        if (isClaimed.compareAndSet(false, true)) {
+            return new ApiException(STATUS_UNAVAILABLE, MESSAGE_NOT_RUN);
+        }
+        return new ApiException(STATUS_TIMEOUT, MESSAGE_OUTCOME_UNKNOWN);
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) throws ApiException {
+        if (!exchange.getRequestMethod().equals(method)) {
+            exchange.getResponseHeaders().set("Allow", method);
+            throw new ApiException(STATUS_METHOD_NOT_ALLOWED,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod(), method));
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separatorIndex = pair.indexOf('=');
+            String name = separatorIndex < 0 ? pair : pair.substring(0, separatorIndex);
+            String value = separatorIndex < 0 ? "" : pair.substring(separatorIndex + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_JSON);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    private static boolean containsIgnoreCase(String text, String fragment) {
+        return text.toLowerCase().contains(fragment.toLowerCase());
+    }
+
+    /**
+     * Signals that a request cannot be served, with the HTTP status to respond with.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Jackson-friendly page of a list.
+     */
+    private static class JsonPage {
+        private final int total;
+        private final int offset;
+        private final List<Object> items;
+
+        JsonPage(int total, int offset, List<Object> items) {
+            this.total = total;
+            this.offset = offset;
+            this.items = items;
+        }
+    }
+
+    /**
+     * Jackson-friendly result of a command.
+     */
+    private static class JsonCommandResult {
+        private final String feedback;
+
+        JsonCommandResult(String feedback) {
+            this.feedback = feedback;
+        }
+    }
+
+    /**
+     * Jackson-friendly error.
+     */
+    private static class JsonError {
+        private final String error;
+
+        JsonError(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a run of consecutive positions in a displayed list, from a first to a last {@code Index} inclusive,
+ * or every position of the list, whatever its size.
+ */
+public class IndexRange {
+    private static final IndexRange ALL = new IndexRange(null, null);
+
+    private final Index first;
+    private final Index last;
+
+    private IndexRange(Index first, Index last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Creates a range from {@code first} to {@code last} inclusive. {@code first} must not be after {@code last}.
+     */
+    public static IndexRange between(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (first.getZeroBased() > last.getZeroBased()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new IndexRange(first, last);
+    }
+
+    /**
+     * Creates a range of the single position {@code index}.
+     */
+    public static IndexRange of(Index index) {
+        return between(index, index);
+    }
+
+    /**
+     * Returns the range of every position of a list.
+     */
+    public static IndexRange all() {
+        return ALL;
+    }
+
+    /**
+     * Returns true if every position in this range is within a list of {@code size} elements.
+     */
+    public boolean fitsIn(int size) {
+        return last == null || last.getZeroBased() < size;
+    }
+
+    /**
+     * Returns a copy of the elements of {@code list} in this range, in their order in {@code list}.
+     * The range must fit in {@code list}.
+     */
+    public <T> List<T> select(List<T> list) {
+        requireNonNull(list);
+        if (!fitsIn(list.size())) {
+            throw new IndexOutOfBoundsException();
+        }
+        return last == null
+                ? List.copyOf(list)
+                : List.copyOf(list.subList(first.getZeroBased(), last.getZeroBased() + 1));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexRange)) {
+            return false;
+        }
+
+        IndexRange otherIndexRange = (IndexRange) other;
+        return this != ALL && otherIndexRange != ALL
+                && first.equals(otherIndexRange.first)
+                && last.equals(otherIndexRange.last);
+    }
+
+    @Override
+    public String toString() {
+        if (this == ALL) {
+            return new ToStringBuilder(this).add("all", true).toString();
+        }
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("last", last)
+                .toString();
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set held in a single array exactly the size of its elements, for the small sets kept by every entity,
+ * such as the tags of a buyer. A {@code HashSet} of the same elements needs a map, a table and a node per element.
+ * <p>
+ * Sets are created with {@link #copyOf(Collection)}, which shares a single instance for the empty set. Elements are
+ * kept in order of hash code, so a set with a few elements is searched by a linear scan, and a larger one by binary
+ * search on the hash code.
+ *
+ * @param <E> the type of the elements, which must be immutable
+ */
+public final class CompactSet<E> extends AbstractSet<E> {
+
+    /** The most elements that are scanned linearly rather than binary searched. */
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    private static final CompactSet<?> EMPTY = new CompactSet<>(new Object[0]);
+
+    private final Object[] elements;
+
+    private CompactSet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns an immutable set of the distinct elements of {@code source}, which must not contain nulls.
+     */
+    public static <E> Set<E> copyOf(Collection<? extends E> source) {
+        requireAllNonNull(source);
+        if (source instanceof CompactSet) {
+            @SuppressWarnings("unchecked")
+            Set<E> compactSet = (Set<E>) source;
+            return compactSet;
+        }
+
+        Object[] distinct = (source instanceof Set ? source : new LinkedHashSet<>(source)).toArray();
+        if (distinct.length == 0) {
+            @SuppressWarnings("unchecked")
+            Set<E> empty = (Set<E>) EMPTY;
+            return empty;
+        }
+        Arrays.sort(distinct, Comparator.comparingInt(Object::hashCode));
+        return new CompactSet<>(distinct);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        if (elements.length <= LINEAR_SCAN_LIMIT) {
+            for (Object element : elements) {
+                if (element.equals(o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int hash = o.hashCode();
+        int low = 0;
+        int high = elements.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements[mid].hashCode() < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < elements.length && elements[i].hashCode() == hash; i++) {
+            if (elements[i].equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps one canonical instance of each distinct immutable value, so that equal values created separately, such as
+ * the same tag parsed for thousands of buyers, share a single object.
+ * Instances are only weakly held, so a value no longer referenced elsewhere is not kept alive by the interner.
+ *
+ * @param <T> the type of the values, which must be immutable and define {@code equals} and {@code hashCode}
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} the canonical instance if there is
+     * none yet.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = instances.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+        instances.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances currently held.
+     */
+    public synchronized int size() {
+        return instances.size();
+    }
+}
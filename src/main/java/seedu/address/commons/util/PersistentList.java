@@ -0,0 +1,251 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list that is changed by creating a new version of it, which shares all but O(log n) of its structure
+ * with the old one. Versions are never changed after they are created, so holding on to one is a snapshot of the
+ * list that costs nothing to take, and it can be read from any thread without locking.
+ * <p>
+ * The elements are kept in a balanced binary tree, each node knowing the size of its subtree, so that getting,
+ * replacing, inserting or removing the element at an index costs O(log n). Lists are created with {@link #empty()} or
+ * {@link #copyOf(Collection)}, and changed with {@link #with(int, Object)}, {@link #plus(int, Object)} and
+ * {@link #minus(int)}.
+ *
+ * @param <E> the type of the elements, which must be immutable
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    public static <E> PersistentList<E> empty() {
+        @SuppressWarnings("unchecked")
+        PersistentList<E> empty = (PersistentList<E>) EMPTY;
+        return empty;
+    }
+
+    /**
+     * Returns a list of the elements of {@code source}, in order. {@code source} must not contain nulls.
+     */
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> source) {
+        requireAllNonNull(source);
+        if (source instanceof PersistentList) {
+            @SuppressWarnings("unchecked")
+            PersistentList<E> persistentList = (PersistentList<E>) source;
+            return persistentList;
+        }
+        Object[] elements = source.toArray();
+        return elements.length == 0 ? empty() : new PersistentList<>(build(elements, 0, elements.length));
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(replaced(root, index, element));
+    }
+
+    /**
+     * Returns this list with {@code element} inserted at {@code index}, shifting the elements from there on.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(inserted(root, index, element));
+    }
+
+    /**
+     * Returns this list with {@code element} appended.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns this list without the element at {@code index}, shifting the elements after it.
+     */
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> newRoot = removed(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmostPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftmostPath(node.right);
+                return node.element;
+            }
+
+            private void pushLeftmostPath(Node<E> node) {
+                for (Node<E> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        @SuppressWarnings("unchecked")
+        E element = (E) elements[middle];
+        return new Node<>(build(elements, from, middle), element, build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> replaced(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(replaced(node.left, index, element), node.element, node.right);
+        }
+        if (index > leftSize) {
+            return new Node<>(node.left, node.element, replaced(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(node.left, element, node.right);
+    }
+
+    private static <E> Node<E> inserted(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(inserted(node.left, index, element), node.element, node.right);
+        }
+        return balance(node.left, node.element, inserted(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> removed(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(removed(node.left, index), node.element, node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.left, node.element, removed(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.element, removed(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code left}, {@code element} and {@code right}, rotated so that the heights of its subtrees
+     * differ by at most one. The heights of {@code left} and {@code right} must differ by at most two, as they do
+     * after a single insertion or removal.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            return new Node<>(new Node<>(left.left, left.element, left.right.left), left.right.element,
+                    new Node<>(left.right.right, element, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            return new Node<>(new Node<>(left, element, right.left.left), right.left.element,
+                    new Node<>(right.left.right, right.element, right.right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, never changed once created, so that it can be shared by many versions of the list.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            size = sizeOf(left) + sizeOf(right) + 1;
+            height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
@@ -38,6 +38,38 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of single
+     * character insertions, deletions and substitutions that turn one into the other.
+     *   <br>examples:<pre>
+     *       getEditDistance("Jonh", "John") == 2
+     *       getEditDistance("Tan", "Tang") == 1
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1], previous[j]) + 1, previous[j - 1] + substitutionCost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -65,4 +97,21 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns {@code number} with commas between every group of three digits, e.g. "1,250,000" for 1250000.
+     */
+    public static String formatWithCommas(long number) {
+        String digits = Long.toString(Math.abs(number));
+        StringBuilder builder = new StringBuilder(digits.length() + digits.length() / 3 + 1);
+        if (number < 0) {
+            builder.append('-');
+        }
+        int firstGroupLength = (digits.length() - 1) % 3 + 1;
+        builder.append(digits, 0, firstGroupLength);
+        for (int i = firstGroupLength; i < digits.length(); i += 3) {
+            builder.append(',').append(digits, i, i + 3);
+        }
+        return builder.toString();
+    }
 }
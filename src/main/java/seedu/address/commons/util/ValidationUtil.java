@@ -0,0 +1,234 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.Optional;
+
+/**
+ * Hand-written scanners for the formats of the value classes, which check a string in a single pass without compiling
+ * or running a regular expression. Each scanner accepts exactly the strings matched by the regular expression it
+ * names, where {@code \p{Alnum}} and {@code \d} are ASCII only, as in {@link java.util.regex.Pattern}.
+ */
+public class ValidationUtil {
+
+    private static final String DATE_TIME_SHAPE = "dddd-dd-dd dd:dd";
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{Alnum}][\p{Alnum} ]*}, i.e. is words of letters and digits
+     * separated by spaces, and does not start with a space.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{Alnum}-]+}.
+     */
+    public static boolean isAlphanumericOrDash(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != '-' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is at least {@code minLength} digits and nothing else, i.e. matches
+     * {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [^\s].*}, i.e. is a single line that does not start with
+     * whitespace.
+     */
+    public static boolean isSingleLineNotBlank(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} has at least one character that is not whitespace.
+     */
+    public static boolean isNotBlank(String test) {
+        requireNonNull(test);
+        for (int i = 0; i < test.length(); i++) {
+            if (!isWhitespace(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code 0*([1-9]\d*|[1-9]\d{0,2}(,\d{3})*)}, i.e. is a positive whole
+     * number, optionally with leading zeros, and either without commas or with commas between every group of three
+     * digits.
+     */
+    public static boolean isAmount(String test) {
+        requireNonNull(test);
+        int start = 0;
+        while (start < test.length() && test.charAt(start) == '0') {
+            start++;
+        }
+        if (start == test.length() || !isDigit(test.charAt(start))) {
+            return false;
+        }
+
+        int firstComma = test.indexOf(',', start);
+        if (firstComma - start > 3) {
+            return false;
+        }
+        int firstGroupEnd = firstComma == -1 ? test.length() : firstComma;
+        for (int i = start; i < firstGroupEnd; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        for (int group = firstGroupEnd; group < test.length(); group += 4) {
+            if (group + 4 > test.length() || test.charAt(group) != ',') {
+                return false;
+            }
+            for (int i = group + 1; i < group + 4; i++) {
+                if (!isDigit(test.charAt(i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value of {@code amount}, which must be valid as declared in {@link #isAmount(String)}, ignoring
+     * its commas.
+     *
+     * @throws NumberFormatException if the amount does not fit in a {@code long}.
+     */
+    public static long parseAmount(String amount) {
+        requireNonNull(amount);
+        long value = 0;
+        for (int i = 0; i < amount.length(); i++) {
+            char c = amount.charAt(i);
+            if (c == ',') {
+                continue;
+            }
+            if (value > (Long.MAX_VALUE - (c - '0')) / 10) {
+                throw new NumberFormatException("Amount out of range: " + amount);
+            }
+            value = value * 10 + c - '0';
+        }
+        return value;
+    }
+
+    /**
+     * Returns true if {@code test} has the shape {@code YYYY-MM-DD HH:mm}, i.e. matches
+     * {@code [0-9]{4}-[0-9]{2}-[0-9]{2} [0-9]{2}:[0-9]{2}}, whether or not it names an existing date-time.
+     */
+    public static boolean isDateTimeShape(String test) {
+        requireNonNull(test);
+        if (test.length() != DATE_TIME_SHAPE.length()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char expected = DATE_TIME_SHAPE.charAt(i);
+            char c = test.charAt(i);
+            if (expected == 'd' ? !isDigit(c) : c != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses {@code test}, in the format {@code YYYY-MM-DD HH:mm}, into a date-time in a single pass, resolving it
+     * as {@code LocalDateTime.parse} does with the pattern {@code yyyy-MM-dd HH:mm}: a day of month beyond the end
+     * of the month is taken as the last day of the month, and {@code 24:00} as the start of the next day.
+     * Returns an empty {@code Optional} if {@code test} is not in the format or does not name a date-time.
+     */
+    public static Optional<LocalDateTime> parseDateTime(String test) {
+        if (!isDateTimeShape(test)) {
+            return Optional.empty();
+        }
+        int year = parseDigits(test, 0, 4);
+        int month = parseDigits(test, 5, 7);
+        int day = parseDigits(test, 8, 10);
+        int hour = parseDigits(test, 11, 13);
+        int minute = parseDigits(test, 14, 16);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31 || minute > 59
+                || hour > 24 || (hour == 24 && minute != 0)) {
+            return Optional.empty();
+        }
+
+        int lastDay = Month.of(month).length(Year.isLeap(year));
+        LocalDateTime dateTime = LocalDateTime.of(year, month, Math.min(day, lastDay), hour % 24, minute);
+        return Optional.of(hour == 24 ? dateTime.plusDays(1) : dateTime);
+    }
+
+    private static int parseDigits(String string, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + string.charAt(i) - '0';
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by {@code .}.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
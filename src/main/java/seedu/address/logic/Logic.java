@@ -1,12 +1,16 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyBuyerList;
 import seedu.address.model.ReadOnlyMeetUpList;
 import seedu.address.model.ReadOnlyPropertyList;
@@ -20,6 +24,7 @@ import seedu.address.model.property.Property;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Text of more than one line is executed as a batch, with one command per line.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -27,6 +32,69 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command in {@code session} and returns the result, as {@link #execute(String)} does for the
+     * session of the GUI. The command is parsed in the mode of {@code session}, and switching the mode only affects
+     * that session.
+     * Can be called from several threads at once: the commands are parsed at the same time, but executed one at a
+     * time.
+     * @param commandText The command as entered by the user.
+     * @param session The session the command was entered in.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult execute(String commandText, Session session) throws CommandException, ParseException;
+
+    /**
+     * Executes {@code command} in {@code session} and saves the data, as {@link #execute(String, Session)} does once
+     * it has parsed the command.
+     * Can be called from several threads at once, but the commands are executed one at a time.
+     * @param command The command returned by {@link #parse(String, Session)}.
+     * @param session The session the command was parsed in.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command, Session session) throws CommandException;
+
+    /**
+     * Parses {@code commandText} in the mode of {@code session}, and adds it to the history of the session.
+     * Text of more than one line is parsed as a batch, whose lines are parsed as the batch is executed.
+     * Does not touch the model, so it can be called from any thread.
+     * @param commandText The command as entered by the user.
+     * @param session The session the command was entered in.
+     * @return the command, to be executed by {@link #execute(Command, Session)}.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    Command parse(String commandText, Session session) throws ParseException;
+
+    /**
+     * Executes the commands in order as one transaction, saving the data once after the last of them, and returns
+     * the results of all of them. If any command fails, none of the commands are applied.
+     * @param commandTexts The commands as entered by the user, one per element.
+     * @return the result of the batch execution.
+     * @throws CommandException If an error occurs during the execution of any command.
+     *
+     * @see seedu.address.logic.commands.BatchCommand
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException;
+
+    /**
+     * Executes the commands in {@code session} as one transaction, as {@link #executeBatch(List)} does for the
+     * session of the GUI.
+     * Can be called from several threads at once, but the batches are executed one at a time.
+     * @param commandTexts The commands as entered by the user, one per element.
+     * @param session The session the commands were entered in.
+     * @return the result of the batch execution.
+     * @throws CommandException If an error occurs during the execution of any command.
+     */
+    CommandResult executeBatch(List<String> commandTexts, Session session) throws CommandException;
+
+    /**
+     * Returns the session of the commands executed by {@link #execute(String)} and {@link #executeBatch(List)}.
+     */
+    Session getSession();
+
     /**
      * Returns the BuyerList.
      *
@@ -58,6 +126,21 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of meet ups */
     ObservableList<MeetUp> getFilteredMeetUpList();
 
+    /**
+     * Returns the meet-ups that overlap another meet-up with a buyer in common.
+     * The returned set compares meet-ups by identity.
+     *
+     * @see seedu.address.model.Model#findDoubleBookings()
+     */
+    Set<MeetUp> getDoubleBookedMeetUps();
+
+    /**
+     * Returns the meet-ups held at {@code property} that have not started yet, in order of their next start.
+     *
+     * @see seedu.address.model.Model#findUpcomingMeetUpsAt
+     */
+    List<MeetUp> getUpcomingMeetUpsAt(Property property);
+
     /**
      * Returns the user prefs' meet up list file path.
      */
@@ -81,6 +164,14 @@ public interface Logic {
      */
     Path getPropertyListFilePath();
 
+    /**
+     * Returns the buyers, meet-ups and properties as of the last completed change to them.
+     * Unlike the rest of this API, this can be called from any thread.
+     *
+     * @see seedu.address.model.Model#getSnapshot()
+     */
+    ModelSnapshot getSnapshot();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -1,29 +1,43 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AbcliParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyBuyerList;
 import seedu.address.model.ReadOnlyMeetUpList;
 import seedu.address.model.ReadOnlyPropertyList;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.index.IntervalIndex;
 import seedu.address.model.meetup.MeetUp;
 import seedu.address.model.property.Property;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands are parsed on the calling thread, in the mode of their session, and only their execution and the saving
+ * of the data are serialized, so several sessions can parse commands at the same time.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -31,10 +45,14 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final Session session = new Session();
+    private final Object modelLock = new Object();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -46,21 +64,82 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return execute(commandText, session);
+    }
+
+    @Override
+    public CommandResult execute(String commandText, Session session) throws CommandException, ParseException {
+        return execute(parse(commandText, session), session);
+    }
 
-        CommandResult commandResult;
-        Command command = AbcliParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    @Override
+    public CommandResult execute(Command command, Session session) throws CommandException {
+        requireNonNull(command);
+        requireNonNull(session);
+        return executeAndSave(command, session);
+    }
 
-        try {
-            storage.saveAddressBook(model.getBuyerList(), model.getMeetUpList(), model.getPropertyList());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    @Override
+    public Command parse(String commandText, Session session) throws ParseException {
+        requireNonNull(session);
+        if (LINE_BREAK.matcher(commandText.trim()).find()) {
+            return parseBatch(Arrays.asList(LINE_BREAK.split(commandText)), session);
         }
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        session.addToHistory(commandText);
+
+        return AbcliParser.parseCommand(commandText, session.getMode());
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException {
+        return executeBatch(commandTexts, session);
+    }
 
-        return commandResult;
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts, Session session) throws CommandException {
+        requireNonNull(session);
+        return executeAndSave(parseBatch(commandTexts, session), session);
+    }
+
+    @Override
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Adds {@code commandTexts} to the history of {@code session} and returns them as one batch. The lines are only
+     * parsed as the batch runs, since each is parsed in the mode left by the one before it.
+     */
+    private BatchCommand parseBatch(List<String> commandTexts, Session session) {
+        logger.info("----------------[USER BATCH][" + commandTexts.size() + " lines]");
+        commandTexts.forEach(session::addToHistory);
+        return new BatchCommand(commandTexts);
+    }
+
+    /**
+     * Executes {@code command} in {@code session} and saves the data, while no other command is executed.
+     * The changes made by the command, even one that fails, are recorded as a version of the model it can undo.
+     */
+    private CommandResult executeAndSave(Command command, Session session) throws CommandException {
+        synchronized (modelLock) {
+            CommandResult commandResult;
+            try {
+                commandResult = command.execute(model, session);
+            } finally {
+                model.commitVersion();
+            }
+
+            try {
+                storage.saveAddressBook(model.getBuyerList(), model.getMeetUpList(), model.getPropertyList());
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            }
+
+            return commandResult;
+        }
     }
 
     @Override
@@ -95,6 +174,21 @@ public class LogicManager implements Logic {
         return model.getFilteredMeetUpList();
     }
 
+    @Override
+    public List<MeetUp> getUpcomingMeetUpsAt(Property property) {
+        return model.findUpcomingMeetUpsAt(property.getAddress(), LocalDateTime.now());
+    }
+
+    @Override
+    public Set<MeetUp> getDoubleBookedMeetUps() {
+        Set<MeetUp> doubleBooked = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IntervalIndex.Overlap<MeetUp> overlap : model.findDoubleBookings()) {
+            doubleBooked.add(overlap.getFirst());
+            doubleBooked.add(overlap.getSecond());
+        }
+        return doubleBooked;
+    }
+
     @Override
     public Path getMeetUpListFilePath() {
         return model.getMeetUpListFilePath();
@@ -118,6 +212,11 @@ public class LogicManager implements Logic {
         return model.getPropertyListFilePath();
     }
 
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return model.getSnapshot();
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
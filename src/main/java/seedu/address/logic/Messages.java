@@ -28,6 +28,7 @@ public class Messages {
     // MeetUp
     public static final String MESSAGE_INVALID_MEETUP_DISPLAYED_INDEX = "The meet-up index provided is invalid";
     public static final String MESSAGE_MEETUPS_LISTED_OVERVIEW = "%1$d meet-ups listed!";
+    public static final String MESSAGE_UNKNOWN_PROPERTY = "No property has the address %1$s";
 
     // Property
     public static final String MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX = "The property index provided is invalid";
@@ -76,6 +77,8 @@ public class Messages {
                 .append(meetup.getTo())
                 .append("; Added Buyers: ");
         meetup.getAddedBuyers().forEach(builder::append);
+        meetup.getRecurrence().ifPresent(recurrence -> builder.append("; Repeats: ").append(recurrence));
+        meetup.getProperty().ifPresent(property -> builder.append("; Property: ").append(property));
         return builder.toString();
     }
 
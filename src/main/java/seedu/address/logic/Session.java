@@ -0,0 +1,66 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PARSER_MODE;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.logic.parser.ParserMode;
+import seedu.address.logic.parser.exceptions.InvalidParserModeException;
+
+/**
+ * The state of one stream of commands, such as the command box of the GUI or a script: the parser mode its commands
+ * are parsed in, and the commands entered in it.
+ * Sessions are independent of each other, so the commands of several sessions can be parsed at the same time.
+ * The methods of a session can be called from any thread.
+ */
+public class Session {
+
+    /** The number of the most recent commands kept in the history of a session */
+    public static final int HISTORY_CAPACITY = 1000;
+
+    private final Deque<String> history = new ArrayDeque<>();
+    private ParserMode mode = ParserMode.BUYER;
+
+    /**
+     * Returns the mode the commands of this session are parsed in.
+     */
+    public synchronized ParserMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Switches the mode the commands of this session are parsed in.
+     *
+     * @param mode mode to switch to
+     * @throws InvalidParserModeException if the mode doesn't exist
+     */
+    public synchronized void switchMode(ParserMode mode) throws InvalidParserModeException {
+        requireNonNull(mode);
+        if (mode != ParserMode.BUYER && mode != ParserMode.MEETUP && mode != ParserMode.PROPERTY) {
+            throw new InvalidParserModeException(MESSAGE_INVALID_PARSER_MODE);
+        }
+        this.mode = mode;
+    }
+
+    /**
+     * Adds {@code commandText} to the history of this session, forgetting the oldest command if the history is full.
+     */
+    public synchronized void addToHistory(String commandText) {
+        requireNonNull(commandText);
+        if (history.size() == HISTORY_CAPACITY) {
+            history.removeFirst();
+        }
+        history.addLast(commandText);
+    }
+
+    /**
+     * Returns the commands entered in this session, oldest first.
+     */
+    public synchronized List<String> getHistory() {
+        return new ArrayList<>(history);
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Session;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AbcliParser;
+import seedu.address.logic.parser.ParserMode;
+import seedu.address.logic.parser.exceptions.InvalidParserModeException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs a sequence of commands in one transaction of the model: if any of them fails, the changes made by the
+ * commands before it are undone, so that either all of the commands are applied or none of them is.
+ * Blank lines and lines starting with {@code #} are skipped.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands in %2$d ms (%3$d commands per second)";
+    public static final String MESSAGE_COMMAND_RESULT = "\n%1$d. %2$s\n%3$s";
+    public static final String MESSAGE_FAILED = "Command %1$d of %2$d failed, so none of the commands were applied: "
+            + "%3$s\n%4$s";
+    public static final String MESSAGE_NO_COMMANDS = "There are no commands to run";
+    public static final String MESSAGE_NESTED_RUN = "A batch of commands cannot run another batch";
+
+    private final List<String> commandTexts;
+
+    /**
+     * Creates a BatchCommand to run {@code commandTexts} in order.
+     */
+    public BatchCommand(List<String> commandTexts) {
+        requireNonNull(commandTexts);
+        this.commandTexts = commandTexts.stream()
+                .map(String::trim)
+                .filter(commandText -> !commandText.isEmpty() && !commandText.startsWith(COMMENT_MARKER))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs the commands in a new session, so they start in buyer mode.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, new Session());
+    }
+
+    /**
+     * Runs the commands in {@code session}, starting in its parser mode. If any command fails, the session is
+     * switched back to the mode it started in.
+     */
+    @Override
+    public CommandResult execute(Model model, Session session) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(session);
+        if (commandTexts.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_COMMANDS);
+        }
+
+        ParserMode startMode = session.getMode();
+        long startTime = System.nanoTime();
+        StringBuilder results = new StringBuilder();
+        CommandResult lastResult = null;
+        model.startTransaction();
+        for (int i = 0; i < commandTexts.size(); i++) {
+            String commandText = commandTexts.get(i);
+            try {
+                Command command = AbcliParser.parseCommand(commandText, session.getMode());
+                if (command instanceof RunCommand) {
+                    throw new CommandException(MESSAGE_NESTED_RUN);
+                }
+                lastResult = command.execute(model, session);
+            } catch (ParseException | CommandException e) {
+                rollBack(model, session, startMode);
+                throw new CommandException(String.format(MESSAGE_FAILED, i + 1, commandTexts.size(), commandText,
+                        e.getMessage()), e);
+            } catch (RuntimeException e) {
+                rollBack(model, session, startMode);
+                throw e;
+            }
+            results.append(String.format(MESSAGE_COMMAND_RESULT, i + 1, commandText, lastResult.getFeedbackToUser()));
+        }
+        model.commitTransaction();
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        long commandsPerSecond = commandTexts.size() * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+        String summary = String.format(MESSAGE_SUCCESS, commandTexts.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commandsPerSecond);
+        return new CommandResult(summary + results, false, false, lastResult.isShowMeetUpList(),
+                lastResult.isShowBuyerList(), lastResult.isShowPropertyList());
+    }
+
+    /**
+     * Undoes the changes made to {@code model} by the commands run so far, and switches {@code session} back to
+     * {@code startMode}.
+     */
+    private static void rollBack(Model model, Session session, ParserMode startMode) throws CommandException {
+        model.rollbackTransaction();
+        try {
+            session.switchMode(startMode);
+        } catch (InvalidParserModeException e) {
+            throw new CommandException(e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return commandTexts.equals(otherBatchCommand.commandTexts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandTexts", commandTexts)
+                .toString();
+    }
+}
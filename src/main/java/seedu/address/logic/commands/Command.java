@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import seedu.address.logic.Session;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
@@ -17,4 +18,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command for {@code session}, the stream of commands it was entered in, and returns the result
+     * message. Only the commands that use their session, such as those switching its parser mode, override this.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param session {@code Session} the command was entered in.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, Session session) throws CommandException {
+        return execute(model);
+    }
+
 }
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * Lists the buyers and landlords having a given phone number or email, in any mode.
+ */
+public class LookupCommand extends Command {
+
+    public static final String COMMAND_WORD = "lookup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the buyers and landlords with the given "
+            + "phone number or email. Spaces and symbols in phone numbers and the case of emails are ignored.\n"
+            + "Parameters: PHONE_OR_EMAIL\n"
+            + "Example: " + COMMAND_WORD + " 9123 4567";
+
+    public static final String MESSAGE_CONTACTS_FOUND = "%1$d contacts found for %2$s:";
+    public static final String MESSAGE_NO_CONTACTS_FOUND = "No contacts found for %1$s.";
+    public static final String BUYER_LABEL = "Buyer: ";
+    public static final String LANDLORD_LABEL = "Landlord: ";
+
+    private final String contact;
+
+    /**
+     * Creates a LookupCommand to find the buyers and landlords with the phone number or email {@code contact}.
+     */
+    public LookupCommand(String contact) {
+        requireNonNull(contact);
+        this.contact = contact;
+    }
+
+    /**
+     * Returns true if {@code contact} is looked up as an email rather than a phone number.
+     */
+    public static boolean isEmail(String contact) {
+        return contact.indexOf('@') >= 0;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Buyer> buyers = new ArrayList<>(isEmail(contact)
+                ? model.findBuyersByEmail(contact)
+                : model.findBuyersByPhone(contact));
+        List<Property> properties = new ArrayList<>(isEmail(contact)
+                ? List.of()
+                : model.findPropertiesByLandlordPhone(contact));
+        if (buyers.isEmpty() && properties.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_CONTACTS_FOUND, contact));
+        }
+
+        buyers.sort(Comparator.comparing(buyer -> buyer.getName().fullName));
+        properties.sort(Comparator.comparing(property -> property.getLandlordName().fullName));
+        StringBuilder builder = new StringBuilder(
+                String.format(MESSAGE_CONTACTS_FOUND, buyers.size() + properties.size(), contact));
+        for (Buyer buyer : buyers) {
+            builder.append('\n').append(BUYER_LABEL).append(Messages.format(buyer));
+        }
+        for (Property property : properties) {
+            builder.append('\n').append(LANDLORD_LABEL).append(Messages.format(property));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LookupCommand)) {
+            return false;
+        }
+
+        LookupCommand otherLookupCommand = (LookupCommand) other;
+        return contact.equals(otherLookupCommand.contact);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("contact", contact)
+                .toString();
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.match.Match;
+
+/**
+ * Lists the matches found by adding or editing buyers and properties since the new matches were last listed,
+ * then clears them.
+ */
+public class NewMatchesCommand extends Command {
+
+    public static final String COMMAND_ARGUMENT = "new";
+
+    public static final String MESSAGE_NEW_MATCHES = "%1$d new matches:";
+    public static final String MESSAGE_NO_NEW_MATCHES = "No new matches.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Match> matches = new ArrayList<>(model.getNewMatchList());
+        model.clearNewMatches();
+        if (matches.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_NEW_MATCHES);
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_NEW_MATCHES, matches.size()));
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            builder.append('\n').append(i + 1).append(". ").append(match.getBuyer().getName())
+                    .append(" - ").append(match.getProperty().getAddress())
+                    .append(" (").append(match.getScorePercentage()).append("%)");
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof NewMatchesCommand;
+    }
+}
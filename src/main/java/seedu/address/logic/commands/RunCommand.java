@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Session;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a file, one per line, as a {@link BatchCommand}.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line, starting "
+            + "in the current mode. If any command fails, none of the commands are applied. "
+            + "Blank lines and lines starting with " + BatchCommand.COMMENT_MARKER + " are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/edits.txt";
+
+    public static final String MESSAGE_FILE_NOT_FOUND = "No file found at %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read commands from %1$s: %2$s";
+
+    private final Path file;
+
+    /**
+     * Creates a RunCommand to run the commands in {@code file}.
+     */
+    public RunCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    /**
+     * Runs the commands in a new session, so they start in buyer mode.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, new Session());
+    }
+
+    @Override
+    public CommandResult execute(Model model, Session session) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(session);
+        if (!Files.isRegularFile(file)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, file));
+        }
+
+        List<String> commandTexts;
+        try {
+            commandTexts = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, file, e.getMessage()), e);
+        }
+        return new BatchCommand(commandTexts).execute(model, session);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return file.equals(otherRunCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
@@ -3,14 +3,14 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Session;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.AbcliParser;
 import seedu.address.logic.parser.ParserMode;
 import seedu.address.logic.parser.exceptions.InvalidParserModeException;
 import seedu.address.model.Model;
 
 /**
- * Switches Parser mode.
+ * Switches the parser mode of the session it is entered in.
  */
 public class SwitchParserModeCommand extends Command {
 
@@ -32,36 +32,44 @@ public class SwitchParserModeCommand extends Command {
         this.mode = mode;
     }
 
+    /**
+     * Shows the full list of the mode switched to, without switching the mode of any session.
+     */
     @Override
-    public CommandResult execute(Model model) throws CommandException {
+    public CommandResult execute(Model model) {
         requireNonNull(model);
         assert mode != null;
-        try {
-            AbcliParser.switchMode(mode);
+        switch (mode) {
 
-            switch (mode) {
+        case MEETUP:
+            model.updateFilteredMeetUpList(Model.PREDICATE_SHOW_ALL_MEETUPS);
+            break;
 
-            case MEETUP:
-                model.updateFilteredMeetUpList(Model.PREDICATE_SHOW_ALL_MEETUPS);
-                break;
+        case PROPERTY:
+            model.updateFilteredPropertyList(Model.PREDICATE_SHOW_ALL_PROPERTIES);
+            break;
 
-            case PROPERTY:
-                model.updateFilteredPropertyList(Model.PREDICATE_SHOW_ALL_PROPERTIES);
-                break;
+        default:
+            model.updateFilteredBuyerList(Model.PREDICATE_SHOW_ALL_BUYERS);
+        }
 
-            default:
-                model.updateFilteredBuyerList(Model.PREDICATE_SHOW_ALL_BUYERS);
-            }
+        boolean isShowingMeetUpList = this.mode == ParserMode.MEETUP;
+        boolean isShowingBuyerList = this.mode == ParserMode.BUYER;
+        boolean isShowingPropertyList = this.mode == ParserMode.PROPERTY;
 
-            boolean isShowingMeetUpList = this.mode == ParserMode.MEETUP;
-            boolean isShowingBuyerList = this.mode == ParserMode.BUYER;
-            boolean isShowingPropertyList = this.mode == ParserMode.PROPERTY;
+        return new CommandResult(SWITCH_SUCCESS_MESSAGE + mode, false,
+                false, isShowingMeetUpList, isShowingBuyerList, isShowingPropertyList);
+    }
 
-            return new CommandResult(SWITCH_SUCCESS_MESSAGE + mode, false,
-                    false, isShowingMeetUpList, isShowingBuyerList, isShowingPropertyList);
+    @Override
+    public CommandResult execute(Model model, Session session) throws CommandException {
+        requireNonNull(session);
+        try {
+            session.switchMode(mode);
         } catch (InvalidParserModeException e) {
             throw new CommandException(e.getMessage());
         }
+        return execute(model);
     }
 
     @Override
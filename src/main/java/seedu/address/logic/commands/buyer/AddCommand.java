@@ -7,6 +7,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
@@ -39,6 +41,8 @@ public class AddCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New buyer added: %1$s";
     public static final String MESSAGE_DUPLICATE_BUYER = "This buyer already exists in the application";
+    public static final String MESSAGE_DUPLICATE_PHONE = "This phone number already belongs to %1$s";
+    public static final String MESSAGE_DUPLICATE_EMAIL = "This email already belongs to %1$s";
 
     private final Buyer toAdd;
 
@@ -59,6 +63,15 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_BUYER);
         }
 
+        Set<Buyer> samePhone = model.findBuyersByPhone(toAdd.getPhone().value);
+        if (!samePhone.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_PHONE, samePhone.iterator().next().getName()));
+        }
+        Set<Buyer> sameEmail = model.findBuyersByEmail(toAdd.getEmail().value);
+        if (!sameEmail.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_EMAIL, sameEmail.iterator().next().getName()));
+        }
+
         model.addBuyer(toAdd);
         assert(model.hasBuyer(toAdd)); // verify buyer has indeed been added
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
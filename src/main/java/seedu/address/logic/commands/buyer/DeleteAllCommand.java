@@ -0,0 +1,77 @@
+package seedu.address.logic.commands.buyer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.buyer.Buyer;
+
+/**
+ * Deletes a range of the buyers in the displayed buyer list, all in a single change to the buyer list.
+ */
+public class DeleteAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "delete-all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Deletes the buyers identified by a range of the index numbers used in the displayed buyer list, "
+            + "or every displayed buyer.\n"
+            + "Parameters: INDEX, FIRST_INDEX-LAST_INDEX or " + KEYWORD_ALL_SHOWN + "\n"
+            + "Example: " + COMMAND_WORD + " 3-250";
+
+    public static final String MESSAGE_DELETE_BUYERS_SUCCESS = "Deleted %1$d buyers";
+
+    private final IndexRange targetRange;
+
+    /**
+     * Creates a DeleteAllCommand to delete the buyers in {@code targetRange} of the displayed buyer list.
+     */
+    public DeleteAllCommand(IndexRange targetRange) {
+        requireNonNull(targetRange);
+        this.targetRange = targetRange;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Buyer> lastShownList = model.getFilteredBuyerList();
+
+        if (!targetRange.fitsIn(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX);
+        }
+
+        List<Buyer> buyersToDelete = targetRange.select(lastShownList);
+        model.deleteBuyers(buyersToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_BUYERS_SUCCESS, buyersToDelete.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeleteAllCommand)) {
+            return false;
+        }
+
+        DeleteAllCommand otherDeleteAllCommand = (DeleteAllCommand) other;
+        return targetRange.equals(otherDeleteAllCommand.targetRange);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetRange", targetRange)
+                .toString();
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.logic.commands.buyer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_BUYERS;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.buyer.EditCommand.EditBuyerDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.buyer.Buyer;
+
+/**
+ * Edits the details of a range of the buyers in the displayed buyer list, all in a single change to the buyer list.
+ */
+public class EditAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "edit-all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the buyers identified "
+            + "by a range of the index numbers used in the displayed buyer list, or of every displayed buyer. "
+            + "Existing values will be overwritten by the input values. Names cannot be edited this way.\n"
+            + "Parameters: INDEX, FIRST_INDEX-LAST_INDEX or " + KEYWORD_ALL_SHOWN + " "
+            + "[" + PREFIX_PHONE + "PHONE] "
+            + "[" + PREFIX_EMAIL + "EMAIL] "
+            + "[" + PREFIX_BUDGET + "BUDGET] "
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " 3-250 "
+            + PREFIX_TAG + "HDB "
+            + PREFIX_TAG + "Tampines";
+
+    public static final String MESSAGE_EDIT_BUYERS_SUCCESS = "Edited %1$d buyers";
+    public static final String MESSAGE_NAME_NOT_EDITABLE = "Names cannot be edited for many buyers at once.";
+    public static final String MESSAGE_CONTACTS_NOT_SHAREABLE = "Many buyers cannot be given the same phone number "
+            + "or email.";
+
+    private final IndexRange range;
+    private final EditBuyerDescriptor editBuyerDescriptor;
+
+    /**
+     * @param range               of the buyers in the filtered buyer list to edit
+     * @param editBuyerDescriptor details to edit the buyers with, which must not include a name
+     */
+    public EditAllCommand(IndexRange range, EditBuyerDescriptor editBuyerDescriptor) {
+        requireNonNull(range);
+        requireNonNull(editBuyerDescriptor);
+        assert editBuyerDescriptor.getName().isEmpty();
+
+        this.range = range;
+        this.editBuyerDescriptor = new EditBuyerDescriptor(editBuyerDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Buyer> lastShownList = model.getFilteredBuyerList();
+
+        if (!range.fitsIn(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX);
+        }
+
+        List<Buyer> buyersToEdit = range.select(lastShownList);
+        boolean isContactEdited = editBuyerDescriptor.getPhone().isPresent()
+                || editBuyerDescriptor.getEmail().isPresent();
+        if (isContactEdited && buyersToEdit.size() > 1) {
+            throw new CommandException(MESSAGE_CONTACTS_NOT_SHAREABLE);
+        }
+
+        Map<Buyer, Buyer> editedBuyers = new HashMap<>();
+        for (Buyer buyerToEdit : buyersToEdit) {
+            Buyer editedBuyer = EditCommand.createEditedBuyer(buyerToEdit, editBuyerDescriptor);
+            EditCommand.requireUniqueContacts(model, buyerToEdit, editedBuyer);
+            editedBuyers.put(buyerToEdit, editedBuyer);
+        }
+
+        model.replaceBuyers(editedBuyers);
+        model.updateFilteredBuyerList(PREDICATE_SHOW_ALL_BUYERS);
+        return new CommandResult(String.format(MESSAGE_EDIT_BUYERS_SUCCESS, editedBuyers.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditAllCommand)) {
+            return false;
+        }
+
+        EditAllCommand otherEditAllCommand = (EditAllCommand) other;
+        return range.equals(otherEditAllCommand.range)
+                && editBuyerDescriptor.equals(otherEditAllCommand.editBuyerDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("range", range)
+                .add("editBuyerDescriptor", editBuyerDescriptor)
+                .toString();
+    }
+}
@@ -53,6 +53,8 @@ public class EditCommand extends Command {
     public static final String MESSAGE_EDIT_BUYER_SUCCESS = "Edited Buyer: %1$s";
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_BUYER = "This buyer already exists in the application.";
+    public static final String MESSAGE_DUPLICATE_PHONE = "This phone number already belongs to %1$s";
+    public static final String MESSAGE_DUPLICATE_EMAIL = "This email already belongs to %1$s";
 
     private final Index index;
     private final EditBuyerDescriptor editBuyerDescriptor;
@@ -84,17 +86,43 @@ public class EditCommand extends Command {
         if (!buyerToEdit.isSameBuyer(editedBuyer) && model.hasBuyer(editedBuyer)) {
             throw new CommandException(MESSAGE_DUPLICATE_BUYER);
         }
+        requireUniqueContacts(model, buyerToEdit, editedBuyer);
 
         model.setBuyer(buyerToEdit, editedBuyer);
         model.updateFilteredBuyerList(PREDICATE_SHOW_ALL_BUYERS);
         return new CommandResult(String.format(MESSAGE_EDIT_BUYER_SUCCESS, Messages.format(editedBuyer)));
     }
 
+    /**
+     * Checks that no buyer but {@code buyerToEdit} has the phone number or email that the edit gives
+     * {@code editedBuyer}, so that each new phone number and email identifies a single buyer.
+     * A phone number or email the edit leaves unchanged is not checked, so buyers that already share one, as
+     * data saved before this check may, can still be edited.
+     *
+     * @throws CommandException if another buyer has the new phone number or email.
+     */
+    static void requireUniqueContacts(Model model, Buyer buyerToEdit, Buyer editedBuyer) throws CommandException {
+        if (!editedBuyer.getPhone().equals(buyerToEdit.getPhone())) {
+            Optional<Buyer> samePhone = model.findBuyersByPhone(editedBuyer.getPhone().value).stream()
+                    .filter(buyer -> !buyer.equals(buyerToEdit)).findFirst();
+            if (samePhone.isPresent()) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_PHONE, samePhone.get().getName()));
+            }
+        }
+        if (!editedBuyer.getEmail().equals(buyerToEdit.getEmail())) {
+            Optional<Buyer> sameEmail = model.findBuyersByEmail(editedBuyer.getEmail().value).stream()
+                    .filter(buyer -> !buyer.equals(buyerToEdit)).findFirst();
+            if (sameEmail.isPresent()) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_EMAIL, sameEmail.get().getName()));
+            }
+        }
+    }
+
     /**
      * Creates and returns a {@code Buyer} with the details of {@code buyerToEdit}
      * edited with {@code editBuyerDescriptor}.
      */
-    private static Buyer createEditedBuyer(Buyer buyerToEdit, EditBuyerDescriptor editBuyerDescriptor) {
+    static Buyer createEditedBuyer(Buyer buyerToEdit, EditBuyerDescriptor editBuyerDescriptor) {
         requireNonNull(buyerToEdit);
         requireNonNull(editBuyerDescriptor);
 
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands.buyer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * Lists all buyers in buyer list whose tags satisfy a combination of tags.
+ * Tag matching is case-sensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String NOT_MARKER = "!";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all buyers whose tags satisfy every "
+            + PREFIX_TAG + " group and displays them as a list with index numbers.\n"
+            + "A group is satisfied if the buyer has any of its tags, or lacks any of its tags marked with \""
+            + NOT_MARKER + "\".\n"
+            + "Parameters: " + PREFIX_TAG + "TAG [MORE_TAGS]... [" + PREFIX_TAG + "TAG [MORE_TAGS]...]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends family " + PREFIX_TAG + NOT_MARKER
+            + "owesMoney";
+
+    private final TagFilter filter;
+
+    public FilterCommand(TagFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Buyer> matches = model.findBuyersByTags(filter);
+        model.updateFilteredBuyerList(matches::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_BUYERS_LISTED_OVERVIEW, model.getFilteredBuyerList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return filter.equals(otherFilterCommand.filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filter", filter)
+                .toString();
+    }
+}
@@ -1,18 +1,26 @@
 package seedu.address.logic.commands.buyer;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTANCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.buyer.Buyer;
 import seedu.address.model.buyer.NameContainsKeywordsPredicate;
+import seedu.address.model.index.FuzzyQuery;
 
 /**
  * Finds and lists all buyers in buyer list whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive, and tolerates typos if a maximum edit distance is given.
  */
 public class FindCommand extends Command {
 
@@ -20,23 +28,49 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all buyers whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: n/KEYWORD [MORE_KEYWORDS]...\n"
+            + "If " + PREFIX_DISTANCE + "DISTANCE is given, names with a word that differs from a keyword by at most"
+            + " DISTANCE (0 to " + FuzzyQuery.MAX_DISTANCE + ") letters are also found, closest first.\n"
+            + "Parameters: n/KEYWORD [MORE_KEYWORDS]... [" + PREFIX_DISTANCE + "DISTANCE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_NAME + "alice bob charlie\n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_NAME + "alice bob charlie";
+            + PREFIX_NAME + "Jonh " + PREFIX_DISTANCE + "2";
 
     public static final String MESSAGE_SUCCESS = "Find success: %1$s";
     public static final String MESSAGE_INVALID_NAME = "The provided name is of an invalid format!";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final FuzzyQuery fuzzyQuery;
 
+    /**
+     * Creates a FindCommand that finds buyers whose name contains any of the keywords of {@code predicate}.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.fuzzyQuery = null;
+    }
+
+    /**
+     * Creates a FindCommand that finds buyers whose name is within the maximum edit distance of {@code fuzzyQuery},
+     * ordered by distance.
+     */
+    public FindCommand(FuzzyQuery fuzzyQuery) {
+        this.predicate = null;
+        this.fuzzyQuery = fuzzyQuery;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredBuyerList(predicate);
+        if (fuzzyQuery != null) {
+            Map<Buyer, Integer> distances = model.findBuyersByNameFuzzy(fuzzyQuery);
+            model.updateFilteredBuyerList(distances::containsKey, Comparator.comparingInt(distances::get));
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_BUYERS_LISTED_OVERVIEW, model.getFilteredBuyerList().size()));
+        }
+
+        Set<Buyer> matches = model.findBuyersByName(predicate.getKeywords());
+        model.updateFilteredBuyerList(matches::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_BUYERS_LISTED_OVERVIEW, model.getFilteredBuyerList().size()));
     }
@@ -53,11 +87,17 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && Objects.equals(fuzzyQuery, otherFindCommand.fuzzyQuery);
     }
 
     @Override
     public String toString() {
+        if (fuzzyQuery != null) {
+            return new ToStringBuilder(this)
+                    .add("fuzzyQuery", fuzzyQuery)
+                    .toString();
+        }
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
                 .toString();
@@ -0,0 +1,131 @@
+package seedu.address.logic.commands.buyer;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.NewMatchesCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.match.Match;
+import seedu.address.model.match.MatchEngine;
+import seedu.address.model.property.Property;
+
+/**
+ * Ranks the properties that best suit a buyer, or every displayed buyer, by budget, property type and location.
+ */
+public class MatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "match";
+
+    public static final String ALL_BUYERS = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the properties that best match the buyer identified by the index number used in the displayed"
+            + " buyer list, or every displayed buyer if \"" + ALL_BUYERS + "\" is given.\n"
+            + "Properties are ranked by how well the asking price fits the buyer's budget, and by whether the"
+            + " buyer's tags name the property type or a word in the address.\n"
+            + "Parameters: INDEX (must be a positive integer) OR " + ALL_BUYERS + " "
+            + "[" + PREFIX_COUNT + "COUNT]\n"
+            + "Use \"" + COMMAND_WORD + " " + NewMatchesCommand.COMMAND_ARGUMENT + "\" to list the matches found"
+            + " since new matches were last listed.\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_COUNT + "3";
+
+    public static final String MESSAGE_MATCH_SUCCESS = "Top %1$d properties for %2$s:";
+    public static final String MESSAGE_MATCH_ALL_SUCCESS = "Top properties for %1$d buyers:";
+    public static final String MESSAGE_NO_MATCHES = "No properties match %1$s.";
+
+    private final Index targetIndex;
+    private final int limit;
+
+    /**
+     * Creates a MatchCommand that ranks properties for the buyer at {@code targetIndex}, or every displayed buyer if
+     * {@code targetIndex} is null, keeping at most {@code limit} properties per buyer.
+     */
+    public MatchCommand(Index targetIndex, int limit) {
+        checkArgument(limit > 0, "limit must be positive");
+        this.targetIndex = targetIndex;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Buyer> lastShownList = model.getFilteredBuyerList();
+        List<Property> properties = model.getPropertyList().getPropertyList();
+
+        if (targetIndex == null) {
+            List<List<Match>> matches = new MatchEngine(properties).matchAll(lastShownList, limit);
+            StringBuilder builder = new StringBuilder(String.format(MESSAGE_MATCH_ALL_SUCCESS, lastShownList.size()));
+            for (int i = 0; i < lastShownList.size(); i++) {
+                builder.append('\n').append(lastShownList.get(i).getName()).append(": ");
+                appendSummary(builder, matches.get(i));
+            }
+            return new CommandResult(builder.toString());
+        }
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX);
+        }
+
+        Buyer buyer = lastShownList.get(targetIndex.getZeroBased());
+        List<Match> matches = MatchEngine.matchProperties(buyer, properties, limit);
+        if (matches.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MATCHES, buyer.getName()));
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_MATCH_SUCCESS, matches.size(),
+                buyer.getName()));
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            builder.append('\n').append(i + 1).append(". ").append(match.getScorePercentage()).append("% ")
+                    .append(Messages.format(match.getProperty()));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    private static void appendSummary(StringBuilder builder, List<Match> matches) {
+        if (matches.isEmpty()) {
+            builder.append("no matches");
+            return;
+        }
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            builder.append(i == 0 ? "" : ", ").append(match.getProperty().getAddress())
+                    .append(" (").append(match.getScorePercentage()).append("%)");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchCommand)) {
+            return false;
+        }
+
+        MatchCommand otherMatchCommand = (MatchCommand) other;
+        return Objects.equals(targetIndex, otherMatchCommand.targetIndex)
+                && limit == otherMatchCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("limit", limit)
+                .toString();
+    }
+}
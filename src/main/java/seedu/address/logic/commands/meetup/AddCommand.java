@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -14,6 +17,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
 
 /**
  * Adds a meet-up to the meet-up list.
@@ -29,7 +33,9 @@ public class AddCommand extends Command {
             + PREFIX_FROM + "YYYY-MM-DD HH:mm "
             + PREFIX_TO + "YYYY-MM-DD HH:mm "
             + PREFIX_ADDED_BUYER + "BUYER_NAME "
-            + "[" + PREFIX_ADDED_BUYER + "MORE_BUYER_NAMES]...\n"
+            + "[" + PREFIX_ADDED_BUYER + "MORE_BUYER_NAMES]... "
+            + "[" + PREFIX_REPEAT + "daily OR weekly " + PREFIX_UNTIL + "YYYY-MM-DD] "
+            + "[" + PREFIX_PROPERTY + "PROPERTY_ADDRESS]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_SUBJECT + "Discuss work plans "
             + PREFIX_INFO + "Meet with Jason to discuss the March Project "
@@ -66,9 +72,18 @@ public class AddCommand extends Command {
                     toAdd.getTo(), toAdd.getFrom()));
         }
 
+        if (!toAdd.hasValidRecurrence()) {
+            throw new CommandException(Recurrence.MESSAGE_CONSTRAINTS_SERIES);
+        }
+
+        if (toAdd.getProperty().isPresent() && model.findPropertyByAddress(toAdd.getProperty().get()).isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_PROPERTY, toAdd.getProperty().get()));
+        }
+
+        String warnings = ConflictsCommand.getDoubleBookingWarnings(model, toAdd, null);
         model.addMeetUp(toAdd);
         assert(model.hasMeetUp(toAdd)); // verify meet up successfully added
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)),
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)) + warnings,
                 false, false, true, false, false);
     }
 
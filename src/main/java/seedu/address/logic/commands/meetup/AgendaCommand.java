@@ -0,0 +1,89 @@
+package seedu.address.logic.commands.meetup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.meetup.DateTime;
+import seedu.address.model.meetup.MeetUp;
+
+/**
+ * Lists the meet-ups starting within a date-time range, in order of their first start within the range.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the meet-ups starting within the given range, earliest first. A date without a time covers"
+            + " the whole day, and the range ends a day after its start if no end is given.\n"
+            + "Parameters: today OR tomorrow OR week OR "
+            + PREFIX_FROM + "DATE_OR_DATE_TIME [" + PREFIX_TO + "DATE_OR_DATE_TIME]\n"
+            + "Example: " + COMMAND_WORD + " week\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "2024-10-01 " + PREFIX_TO + "2024-10-31";
+
+    public static final String MESSAGE_AGENDA_LISTED = "%1$d meet-ups from %2$s to %3$s listed!";
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Creates an AgendaCommand to list the meet-ups starting at or after {@code start} and before {@code end}.
+     */
+    public AgendaCommand(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        checkArgument(start.isBefore(end), "The start of an agenda must be before its end");
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<MeetUp> agenda = model.findMeetUpsStartingBetween(start, end);
+        // keeps the order of the occurrences within the range, as a repeating meet-up may have started long before
+        Map<MeetUp, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < agenda.size(); i++) {
+            positions.put(agenda.get(i), i);
+        }
+        model.updateFilteredMeetUpList(positions::containsKey, Comparator.comparing(positions::get));
+        return new CommandResult(String.format(MESSAGE_AGENDA_LISTED, model.getFilteredMeetUpList().size(),
+                start.format(DateTime.FORMATTER), end.format(DateTime.FORMATTER)),
+                false, false, true, false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCommand)) {
+            return false;
+        }
+
+        AgendaCommand otherAgendaCommand = (AgendaCommand) other;
+        return start.equals(otherAgendaCommand.start) && end.equals(otherAgendaCommand.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands.meetup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.index.IntervalIndex;
+import seedu.address.model.meetup.AddedBuyer;
+import seedu.address.model.meetup.MeetUp;
+
+/**
+ * Lists every buyer booked into two meet-ups at once, and shows the meet-ups involved.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_CONFLICTS_FOUND = "%1$d double-bookings found:";
+    public static final String MESSAGE_NO_CONFLICTS = "No double-bookings found.";
+    public static final String MESSAGE_DOUBLE_BOOKED = "Warning: %1$s is also booked for %2$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<IntervalIndex.Overlap<MeetUp>> overlaps = model.findDoubleBookings();
+        Set<MeetUp> involved = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IntervalIndex.Overlap<MeetUp> overlap : overlaps) {
+            involved.add(overlap.getFirst());
+            involved.add(overlap.getSecond());
+        }
+        model.updateFilteredMeetUpList(involved::contains,
+                Comparator.comparing(meetUp -> meetUp.getFrom().getDateTime()));
+        if (overlaps.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS, false, false, true, false, false);
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_CONFLICTS_FOUND, overlaps.size()));
+        for (int i = 0; i < overlaps.size(); i++) {
+            IntervalIndex.Overlap<MeetUp> overlap = overlaps.get(i);
+            builder.append('\n').append(i + 1).append(". ").append(overlap.getKey()).append(": ")
+                    .append(describe(overlap.getFirst())).append(" and ").append(describe(overlap.getSecond()));
+        }
+        return new CommandResult(builder.toString(), false, false, true, false, false);
+    }
+
+    /**
+     * Returns a warning line for each buyer of {@code meetUp} who is booked into another meet-up at the same time
+     * as any occurrence of it, or an empty string if there is none. {@code replaced}, if not null, is the meet-up
+     * that {@code meetUp} is about to replace, and is not counted.
+     */
+    public static String getDoubleBookingWarnings(Model model, MeetUp meetUp, MeetUp replaced) {
+        requireNonNull(model);
+        requireNonNull(meetUp);
+        StringBuilder builder = new StringBuilder();
+        meetUp.getAddedBuyers().stream()
+                .sorted(Comparator.comparing(buyer -> buyer.fullName))
+                .forEach(buyer -> appendWarning(builder, buyer, model.findMeetUpsOverlappingFor(buyer,
+                        meetUp.getFrom().getDateTime(), meetUp.getLastEnd()), meetUp, replaced));
+        return builder.toString();
+    }
+
+    private static void appendWarning(StringBuilder builder, AddedBuyer buyer, List<MeetUp> overlapping,
+            MeetUp meetUp, MeetUp replaced) {
+        for (MeetUp other : overlapping) {
+            if (other != replaced && meetUp.overlapsWith(other)) {
+                builder.append('\n').append(String.format(MESSAGE_DOUBLE_BOOKED, buyer.fullName, describe(other)));
+            }
+        }
+    }
+
+    private static String describe(MeetUp meetUp) {
+        return meetUp.getSubject() + " (" + meetUp.getFrom() + " to " + meetUp.getTo() + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof ConflictsCommand;
+    }
+}
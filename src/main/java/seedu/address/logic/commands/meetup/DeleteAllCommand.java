@@ -0,0 +1,78 @@
+package seedu.address.logic.commands.meetup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.meetup.MeetUp;
+
+/**
+ * Deletes a range of the meet-ups in the displayed meet-up list, all in a single change to the meet-up list.
+ */
+public class DeleteAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "delete-all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Deletes the meet-ups identified by a range of the index numbers used in the displayed meet-up list, "
+            + "or every displayed meet-up.\n"
+            + "Parameters: INDEX, FIRST_INDEX-LAST_INDEX or " + KEYWORD_ALL_SHOWN + "\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_ALL_SHOWN;
+
+    public static final String MESSAGE_DELETE_MEETUPS_SUCCESS = "Deleted %1$d meet-ups";
+
+    private final IndexRange targetRange;
+
+    /**
+     * Creates a DeleteAllCommand to delete the meet-ups in {@code targetRange} of the displayed meet-up list.
+     */
+    public DeleteAllCommand(IndexRange targetRange) {
+        requireNonNull(targetRange);
+        this.targetRange = targetRange;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<MeetUp> lastShownList = model.getFilteredMeetUpList();
+
+        if (!targetRange.fitsIn(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_MEETUP_DISPLAYED_INDEX);
+        }
+
+        List<MeetUp> meetUpsToDelete = targetRange.select(lastShownList);
+        model.deleteMeetUps(meetUpsToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_MEETUPS_SUCCESS, meetUpsToDelete.size()),
+                false, false, true, false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeleteAllCommand)) {
+            return false;
+        }
+
+        DeleteAllCommand otherDeleteAllCommand = (DeleteAllCommand) other;
+        return targetRange.equals(otherDeleteAllCommand.targetRange);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetRange", targetRange)
+                .toString();
+    }
+}
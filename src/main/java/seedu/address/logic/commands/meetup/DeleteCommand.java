@@ -1,8 +1,11 @@
 package seedu.address.logic.commands.meetup;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCE;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -21,16 +24,31 @@ public class DeleteCommand extends Command {
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes meet-up identified by the index number used in the displayed meet-up list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + ": Deletes meet-up identified by the index number used in the displayed meet-up list. "
+            + "If " + PREFIX_OCCURRENCE + "DATE is given, only cancels the occurrence of a repeating meet-up on that "
+            + "date.\n"
+            + "Parameters: INDEX (must be a positive integer) [" + PREFIX_OCCURRENCE + "YYYY-MM-DD]\n"
             + "Example: " + COMMAND_WORD + " 1 ";
 
     public static final String MESSAGE_DELETE_MEETUP_SUCCESS = "Deleted meet-up: %1$s";
+    public static final String MESSAGE_CANCEL_OCCURRENCE_SUCCESS = "Cancelled the occurrence on %1$s of meet-up: %2$s";
+    public static final String MESSAGE_LAST_OCCURRENCE = "This is the last occurrence of the meet-up. "
+            + "Delete the whole meet-up instead.";
 
     private final Index targetIndex;
+    private final LocalDate occurrenceDate;
 
     public DeleteCommand(Index targetIndex) {
+        this(targetIndex, null);
+    }
+
+    /**
+     * Creates a DeleteCommand to cancel the occurrence on {@code occurrenceDate} of the repeating meet-up at
+     * {@code targetIndex}, or to delete the whole meet-up if {@code occurrenceDate} is null.
+     */
+    public DeleteCommand(Index targetIndex, LocalDate occurrenceDate) {
         this.targetIndex = targetIndex;
+        this.occurrenceDate = occurrenceDate;
     }
 
     @Override
@@ -43,6 +61,18 @@ public class DeleteCommand extends Command {
         }
 
         MeetUp meetUpToDelete = lastShownList.get(targetIndex.getZeroBased());
+        if (occurrenceDate != null) {
+            if (meetUpToDelete.getOccurrenceOn(occurrenceDate).isEmpty()) {
+                throw new CommandException(String.format(EditCommand.MESSAGE_NO_OCCURRENCE, occurrenceDate));
+            }
+            MeetUp remainingSeries = meetUpToDelete.withoutOccurrenceOn(occurrenceDate);
+            if (remainingSeries.hasNoOccurrences()) {
+                throw new CommandException(MESSAGE_LAST_OCCURRENCE);
+            }
+            model.setMeetUp(meetUpToDelete, remainingSeries);
+            return new CommandResult(String.format(MESSAGE_CANCEL_OCCURRENCE_SUCCESS, occurrenceDate,
+                    Messages.format(remainingSeries)), false, false, true, false, false);
+        }
         model.deleteMeetUp(meetUpToDelete);
         assert(!model.hasMeetUp(meetUpToDelete)); // verify meet up successfully deleted
         return new CommandResult(String.format(MESSAGE_DELETE_MEETUP_SUCCESS, Messages.format(meetUpToDelete)),
@@ -61,13 +91,15 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndex.equals(otherDeleteCommand.targetIndex)
+                && Objects.equals(occurrenceDate, otherDeleteCommand.occurrenceDate);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("targetIndex", targetIndex)
+                .add("occurrenceDate", occurrenceDate)
                 .toString();
     }
 }
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands.meetup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETUPS;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.meetup.EditCommand.EditMeetUpDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.meetup.MeetUp;
+
+/**
+ * Edits the details of a range of the meet-ups in the displayed meet-up list, all in a single change to the meet-up
+ * list.
+ */
+public class EditAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "edit-all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the meet-ups identified "
+            + "by a range of the index numbers used in the displayed meet-up list, or of every displayed meet-up. "
+            + "Existing values will be overwritten by the input. Subjects, times and repeat rules cannot be edited "
+            + "this way.\n"
+            + "Parameters: INDEX, FIRST_INDEX-LAST_INDEX or " + KEYWORD_ALL_SHOWN + " "
+            + "[" + PREFIX_INFO + "INFO] "
+            + "[" + PREFIX_ADDED_BUYER + "BUYER NAME]... "
+            + "[" + PREFIX_PROPERTY + "PROPERTY_ADDRESS]\n"
+            + "Example: " + COMMAND_WORD + " 1-20 "
+            + PREFIX_INFO + "Moved online";
+
+    public static final String MESSAGE_EDIT_MEETUPS_SUCCESS = "Edited %1$d meet-ups";
+    public static final String MESSAGE_IDENTITY_NOT_EDITABLE = "Subjects, times, repeat rules and single occurrences "
+            + "cannot be edited for many meet-ups at once.";
+
+    private final IndexRange targetRange;
+    private final EditMeetUpDescriptor editMeetUpDescriptor;
+
+    /**
+     * Creates an EditAllCommand to edit the {@code MeetUp}s in {@code targetRange}, with an
+     * {@code editMeetUpDescriptor} that does not edit the subject, times or repeat rule.
+     */
+    public EditAllCommand(IndexRange targetRange, EditMeetUpDescriptor editMeetUpDescriptor) {
+        requireNonNull(targetRange);
+        requireNonNull(editMeetUpDescriptor);
+        assert editMeetUpDescriptor.getSubject().isEmpty() && editMeetUpDescriptor.getFrom().isEmpty()
+                && editMeetUpDescriptor.getTo().isEmpty() && editMeetUpDescriptor.getRecurrence().isEmpty();
+
+        this.targetRange = targetRange;
+        this.editMeetUpDescriptor = editMeetUpDescriptor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<MeetUp> lastShownList = model.getFilteredMeetUpList();
+
+        if (!targetRange.fitsIn(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_MEETUP_DISPLAYED_INDEX);
+        }
+
+        List<MeetUp> meetUpsToEdit = targetRange.select(lastShownList);
+        Map<MeetUp, MeetUp> editedMeetUps = new HashMap<>();
+        for (MeetUp meetUpToEdit : meetUpsToEdit) {
+            MeetUp editedMeetUp = EditCommand.createEditedMeetUp(meetUpToEdit, editMeetUpDescriptor);
+            EditCommand.validate(model, editedMeetUp);
+            editedMeetUps.put(meetUpToEdit, editedMeetUp);
+        }
+
+        model.replaceMeetUps(editedMeetUps);
+        model.updateFilteredMeetUpList(PREDICATE_SHOW_ALL_MEETUPS);
+        return new CommandResult(String.format(MESSAGE_EDIT_MEETUPS_SUCCESS, editedMeetUps.size()),
+                false, false, true, false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditAllCommand)) {
+            return false;
+        }
+
+        EditAllCommand otherEditAllCommand = (EditAllCommand) other;
+        return targetRange.equals(otherEditAllCommand.targetRange)
+                && editMeetUpDescriptor.equals(otherEditAllCommand.editMeetUpDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetRange", targetRange)
+                .add("editMeetUpDescriptor", editMeetUpDescriptor)
+                .toString();
+    }
+}
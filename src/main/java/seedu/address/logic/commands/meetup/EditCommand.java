@@ -4,10 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETUPS;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -27,8 +32,10 @@ import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.From;
 import seedu.address.model.meetup.Info;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
 import seedu.address.model.meetup.Subject;
 import seedu.address.model.meetup.To;
+import seedu.address.model.property.Address;
 
 
 /**
@@ -40,13 +47,18 @@ public class EditCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the meet-up identified "
             + "by the index number used in the displayed meet-up list. "
-            + "Existing meet-up will be overwritten by the input.\n"
+            + "Existing meet-up will be overwritten by the input. "
+            + "If " + PREFIX_OCCURRENCE + "DATE is given, only the occurrence of a repeating meet-up on that date is "
+            + "edited, and it becomes a separate meet-up.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
+            + "[" + PREFIX_OCCURRENCE + "YYYY-MM-DD] "
             + "[" + PREFIX_SUBJECT + "SUBJECT] "
             + "[" + PREFIX_INFO + "INFO] "
             + "[" + PREFIX_FROM + "YYYY-MM-DD HH:mm] "
             + "[" + PREFIX_TO + "YYYY-MM-DD HH:mm] "
-            + "[" + PREFIX_ADDED_BUYER + "BUYER NAME]...\n"
+            + "[" + PREFIX_ADDED_BUYER + "BUYER NAME]... "
+            + "[" + PREFIX_REPEAT + "daily OR weekly " + PREFIX_UNTIL + "YYYY-MM-DD] "
+            + "[" + PREFIX_PROPERTY + "PROPERTY_ADDRESS]\n"
             + "Example: " + COMMAND_WORD + " 2 "
             + PREFIX_INFO + "Review work plans while having lunch with Jason "
             + PREFIX_FROM + "2024-02-03 12:00 "
@@ -55,22 +67,35 @@ public class EditCommand extends Command {
             + PREFIX_ADDED_BUYER + "David Li ";
 
     public static final String MESSAGE_EDIT_MEETUP_SUCCESS = "Edited meet-up: %1$s";
+    public static final String MESSAGE_EDIT_OCCURRENCE_SUCCESS = "Edited the occurrence on %1$s as a separate meet-up: "
+            + "%2$s";
+    public static final String MESSAGE_NO_OCCURRENCE = "This meet-up does not occur on %1$s";
     public static final String MESSAGE_MEETUP_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_MEETUP = "This meet-up already exists in the meet-up list.";
     public static final String MESSAGE_INVALID_TO_FROM = "TO (%1$s) must be after FROM (%2$s)";
 
     private final Index targetIndex;
     private final EditMeetUpDescriptor editMeetUpDescriptor;
+    private final LocalDate occurrenceDate;
 
     /**
      * Creates an EditCommand to edit the specified {@code MeetUp} by its index
      */
     public EditCommand(Index editIndex, EditMeetUpDescriptor editMeetUpDescriptor) {
+        this(editIndex, editMeetUpDescriptor, null);
+    }
+
+    /**
+     * Creates an EditCommand to edit the occurrence on {@code occurrenceDate} of the specified repeating
+     * {@code MeetUp} by its index, or the whole meet-up if {@code occurrenceDate} is null.
+     */
+    public EditCommand(Index editIndex, EditMeetUpDescriptor editMeetUpDescriptor, LocalDate occurrenceDate) {
         requireNonNull(editIndex);
         requireNonNull(editMeetUpDescriptor);
 
         this.targetIndex = editIndex;
         this.editMeetUpDescriptor = editMeetUpDescriptor;
+        this.occurrenceDate = occurrenceDate;
     }
 
     @Override
@@ -83,28 +108,64 @@ public class EditCommand extends Command {
         }
 
         MeetUp meetUpToEdit = lastShownList.get(targetIndex.getZeroBased());
+        if (occurrenceDate != null) {
+            return editOccurrence(model, meetUpToEdit);
+        }
         MeetUp editedMeetUp = createEditedMeetUp(meetUpToEdit, editMeetUpDescriptor);
 
         if (!meetUpToEdit.isSameMeetUp(editedMeetUp) && model.hasMeetUp(editedMeetUp)) {
             throw new CommandException(MESSAGE_DUPLICATE_MEETUP);
         }
 
-        if (!editedMeetUp.hasValidToFrom()) {
-            throw new CommandException(String.format(MESSAGE_INVALID_TO_FROM,
-                    editedMeetUp.getTo(), editedMeetUp.getFrom()));
-        }
+        validate(model, editedMeetUp);
 
+        String warnings = ConflictsCommand.getDoubleBookingWarnings(model, editedMeetUp, meetUpToEdit);
         model.setMeetUp(meetUpToEdit, editedMeetUp);
         model.updateFilteredMeetUpList(PREDICATE_SHOW_ALL_MEETUPS);
-        return new CommandResult(String.format(MESSAGE_EDIT_MEETUP_SUCCESS, Messages.format(editedMeetUp)),
+        return new CommandResult(String.format(MESSAGE_EDIT_MEETUP_SUCCESS, Messages.format(editedMeetUp)) + warnings,
                 false, false, true, false, false);
     }
 
+    /**
+     * Cancels the occurrence of {@code series} on the occurrence date, and adds that occurrence, edited, as a
+     * separate meet-up.
+     */
+    private CommandResult editOccurrence(Model model, MeetUp series) throws CommandException {
+        MeetUp occurrence = series.getOccurrenceOn(occurrenceDate).orElseThrow(() ->
+                new CommandException(String.format(MESSAGE_NO_OCCURRENCE, occurrenceDate)));
+        MeetUp editedOccurrence = createEditedMeetUp(occurrence, editMeetUpDescriptor);
+        if (model.hasMeetUp(editedOccurrence)) {
+            throw new CommandException(MESSAGE_DUPLICATE_MEETUP);
+        }
+        validate(model, editedOccurrence);
+
+        model.setMeetUp(series, series.withoutOccurrenceOn(occurrenceDate));
+        String warnings = ConflictsCommand.getDoubleBookingWarnings(model, editedOccurrence, null);
+        model.addMeetUp(editedOccurrence);
+        model.updateFilteredMeetUpList(PREDICATE_SHOW_ALL_MEETUPS);
+        return new CommandResult(String.format(MESSAGE_EDIT_OCCURRENCE_SUCCESS, occurrenceDate,
+                Messages.format(editedOccurrence)) + warnings, false, false, true, false, false);
+    }
+
+    static void validate(Model model, MeetUp editedMeetUp) throws CommandException {
+        if (!editedMeetUp.hasValidToFrom()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_TO_FROM,
+                    editedMeetUp.getTo(), editedMeetUp.getFrom()));
+        }
+        if (!editedMeetUp.hasValidRecurrence()) {
+            throw new CommandException(Recurrence.MESSAGE_CONSTRAINTS_SERIES);
+        }
+        Optional<Address> property = editedMeetUp.getProperty();
+        if (property.isPresent() && model.findPropertyByAddress(property.get()).isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_UNKNOWN_PROPERTY, property.get()));
+        }
+    }
+
     /**
      * Creates and returns a {@code MeetUp} with the details of {@code meetUpToEdit}
-     * edited with {@code editBuyerDescriptor}.
+     * edited with {@code editBuyerDescriptor}. A new repeat rule keeps the cancelled occurrences of the old one.
      */
-    private static MeetUp createEditedMeetUp(MeetUp meetUpToEdit,
+    static MeetUp createEditedMeetUp(MeetUp meetUpToEdit,
                                              EditMeetUpDescriptor editMeetUpDescriptor) {
         requireNonNull(meetUpToEdit);
         requireNonNull(editMeetUpDescriptor);
@@ -115,7 +176,13 @@ public class EditCommand extends Command {
         To updatedTo = editMeetUpDescriptor.getTo().orElse(meetUpToEdit.getTo());
         Set<AddedBuyer> updatedAddedBuyers = editMeetUpDescriptor.getAddedBuyers()
                 .orElse(meetUpToEdit.getAddedBuyers());
-        return new MeetUp(updatedSubject, updatedInfo, updatedFrom, updatedTo, updatedAddedBuyers);
+        Set<LocalDate> exceptions = meetUpToEdit.getRecurrence().map(Recurrence::getExceptions).orElse(Set.of());
+        Recurrence updatedRecurrence = editMeetUpDescriptor.getRecurrence()
+                .map(recurrence -> new Recurrence(recurrence.getFrequency(), recurrence.getUntil(), exceptions))
+                .orElse(meetUpToEdit.getRecurrence().orElse(null));
+        Address updatedProperty = editMeetUpDescriptor.getProperty().orElse(meetUpToEdit.getProperty().orElse(null));
+        return new MeetUp(updatedSubject, updatedInfo, updatedFrom, updatedTo, updatedAddedBuyers, updatedRecurrence,
+                updatedProperty);
     }
 
     @Override
@@ -131,7 +198,8 @@ public class EditCommand extends Command {
 
         EditCommand otherEditCommand = (EditCommand) other;
         return targetIndex.equals(otherEditCommand.targetIndex)
-                && editMeetUpDescriptor.equals(otherEditCommand.editMeetUpDescriptor);
+                && editMeetUpDescriptor.equals(otherEditCommand.editMeetUpDescriptor)
+                && Objects.equals(occurrenceDate, otherEditCommand.occurrenceDate);
 
     }
 
@@ -140,6 +208,7 @@ public class EditCommand extends Command {
         return new ToStringBuilder(this)
                 .add("index", targetIndex)
                 .add("editMeetUpDescriptor", editMeetUpDescriptor)
+                .add("occurrenceDate", occurrenceDate)
                 .toString();
     }
 
@@ -153,6 +222,8 @@ public class EditCommand extends Command {
         private From from;
         private To to;
         private Set<AddedBuyer> addedBuyers;
+        private Recurrence recurrence;
+        private Address property;
 
         public EditMeetUpDescriptor() {
         }
@@ -167,13 +238,15 @@ public class EditCommand extends Command {
             setFrom(toCopy.from);
             setTo(toCopy.to);
             setAddedBuyers(toCopy.addedBuyers);
+            setRecurrence(toCopy.recurrence);
+            setProperty(toCopy.property);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyMeetUpFieldEdited() {
-            return CollectionUtil.isAnyNonNull(subject, info, from, to, addedBuyers);
+            return CollectionUtil.isAnyNonNull(subject, info, from, to, addedBuyers, recurrence, property);
         }
 
         public void setSubject(Subject subject) {
@@ -225,6 +298,22 @@ public class EditCommand extends Command {
             return (addedBuyers != null) ? Optional.of(Collections.unmodifiableSet(addedBuyers)) : Optional.empty();
         }
 
+        public void setRecurrence(Recurrence recurrence) {
+            this.recurrence = recurrence;
+        }
+
+        public Optional<Recurrence> getRecurrence() {
+            return Optional.ofNullable(recurrence);
+        }
+
+        public void setProperty(Address property) {
+            this.property = property;
+        }
+
+        public Optional<Address> getProperty() {
+            return Optional.ofNullable(property);
+        }
+
         @Override
         public boolean equals(Object other) {
             if (other == this) {
@@ -243,7 +332,9 @@ public class EditCommand extends Command {
                     && Objects.equals(info, otherEditMeetUpDescriptor.info)
                     && Objects.equals(from, otherEditMeetUpDescriptor.from)
                     && Objects.equals(to, otherEditMeetUpDescriptor.to)
-                    && Objects.equals(addedBuyers, otherEditMeetUpDescriptor.addedBuyers);
+                    && Objects.equals(addedBuyers, otherEditMeetUpDescriptor.addedBuyers)
+                    && Objects.equals(recurrence, otherEditMeetUpDescriptor.recurrence)
+                    && Objects.equals(property, otherEditMeetUpDescriptor.property);
         }
 
         @Override
@@ -254,6 +345,8 @@ public class EditCommand extends Command {
                     .add("from", from)
                     .add("to", to)
                     .add("addedBuyers", addedBuyers)
+                    .add("recurrence", recurrence)
+                    .add("property", property)
                     .toString();
         }
     }
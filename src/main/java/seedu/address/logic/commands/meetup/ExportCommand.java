@@ -0,0 +1,77 @@
+package seedu.address.logic.commands.meetup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.meetup.IcsMeetUpFile;
+
+/**
+ * Exports every meet-up to an iCalendar file, for use in calendar tools.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String FORMAT_ICS = "ics";
+    public static final Path DEFAULT_FILE = Paths.get("data", "meetups.ics");
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports every meet-up to an iCalendar file. "
+            + "The file is overwritten if it exists.\n"
+            + "Parameters: " + FORMAT_ICS + " [FILE_PATH]\n"
+            + "Example: " + COMMAND_WORD + " " + FORMAT_ICS + " data/viewings.ics";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d meet-ups to %2$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write the meet-ups to %1$s: %2$s";
+
+    private final Path file;
+
+    /**
+     * Creates an ExportCommand to export every meet-up to {@code file}.
+     */
+    public ExportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        int count;
+        try {
+            count = IcsMeetUpFile.write(file, model.getMeetUpList().getMeetUpList(), Instant.now());
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, file, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, file), false, false, true, false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return file.equals(otherExportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
@@ -1,17 +1,27 @@
 package seedu.address.logic.commands.meetup;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTANCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.index.FuzzyQuery;
+import seedu.address.model.meetup.MeetUp;
 import seedu.address.model.meetup.MeetUpContainsKeywordsPredicate;
 
 /**
- * Finds and lists all meet-ups in meet-up list whose meet-up name contains any of the argument keywords.
+ * Finds and lists all meet-ups in meet-up list whose meet-up name contains any of the argument keywords, or
+ * whose added buyers are named by the argument keywords, allowing for typos.
  * Keyword matching is case-insensitive.
  */
 public class FindCommand extends Command {
@@ -21,20 +31,48 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Finds all meet-up whose meet-up subject contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: s/KEYWORD [MORE_KEYWORDS]...\n"
+            + "Use " + PREFIX_ADDED_BUYER + " instead to find meet-ups with an added buyer whose name contains a"
+            + " keyword, allowing a word to differ from a keyword by at most DISTANCE (0 to "
+            + FuzzyQuery.MAX_DISTANCE + ", default 0) letters. Closest matches are listed first.\n"
+            + "Parameters: s/KEYWORD [MORE_KEYWORDS]... OR n/KEYWORD [MORE_KEYWORDS]... [d/DISTANCE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_SUBJECT + "Client Project\n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_SUBJECT + "Client Project ";
+            + PREFIX_ADDED_BUYER + "Jonh " + PREFIX_DISTANCE + "1";
 
     private final MeetUpContainsKeywordsPredicate predicate;
+    private final FuzzyQuery addedBuyerQuery;
 
+    /**
+     * Creates a FindCommand that finds meet-ups whose subject contains any of the keywords of {@code predicate}.
+     */
     public FindCommand(MeetUpContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.addedBuyerQuery = null;
+    }
+
+    /**
+     * Creates a FindCommand that finds meet-ups with an added buyer whose name is within the maximum edit distance
+     * of {@code addedBuyerQuery}, ordered by distance.
+     */
+    public FindCommand(FuzzyQuery addedBuyerQuery) {
+        this.predicate = null;
+        this.addedBuyerQuery = addedBuyerQuery;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredMeetUpList(predicate);
+        if (addedBuyerQuery != null) {
+            Map<MeetUp, Integer> distances = model.findMeetUpsByAddedBuyerFuzzy(addedBuyerQuery);
+            model.updateFilteredMeetUpList(distances::containsKey, Comparator.comparingInt(distances::get));
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_MEETUPS_LISTED_OVERVIEW, model.getFilteredMeetUpList().size()),
+                    false, false, true, false, false);
+        }
+
+        Set<MeetUp> matches = model.findMeetUpsBySubject(predicate.getKeywords());
+        model.updateFilteredMeetUpList(matches::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_MEETUPS_LISTED_OVERVIEW, model.getFilteredMeetUpList().size()),
                 false, false, true, false, false);
@@ -54,11 +92,17 @@ public class FindCommand extends Command {
         seedu.address.logic.commands.meetup.FindCommand otherFindCommand =
                 (seedu.address.logic.commands.meetup.FindCommand) other;
 
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && Objects.equals(addedBuyerQuery, otherFindCommand.addedBuyerQuery);
     }
 
     @Override
     public String toString() {
+        if (addedBuyerQuery != null) {
+            return new ToStringBuilder(this)
+                    .add("addedBuyerQuery", addedBuyerQuery)
+                    .toString();
+        }
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
                 .toString();
@@ -0,0 +1,129 @@
+package seedu.address.logic.commands.meetup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.storage.meetup.IcsMeetUpFile;
+
+/**
+ * Imports the events of an iCalendar file as meet-ups, skipping those already in the meet-up list.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports the events of an iCalendar file as "
+            + "meet-ups. Events that are already meet-ups are skipped.\n"
+            + "Parameters: " + ExportCommand.FORMAT_ICS + " FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + ExportCommand.FORMAT_ICS + " data/viewings.ics";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d meet-ups from %2$s";
+    public static final String MESSAGE_DUPLICATES_SKIPPED = "\nSkipped %1$d meet-ups already in the list";
+    public static final String MESSAGE_INVALID_SKIPPED = "\nSkipped %1$d events that are not valid meet-ups:";
+    public static final String MESSAGE_FILE_NOT_FOUND = "No file found at %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read meet-ups from %1$s: %2$s";
+
+    /** At most this many of the invalid events are described, so a foreign calendar cannot flood the display. */
+    static final int MAX_INVALID_SHOWN = 5;
+
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to import the events of {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(file)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, file));
+        }
+
+        Set<Object> identities = new HashSet<>();
+        for (MeetUp meetUp : model.getMeetUpList().getMeetUpList()) {
+            identities.add(meetUp.getIdentityKey());
+        }
+        List<MeetUp> toAdd = new ArrayList<>();
+        SkippedEvents skipped = new SkippedEvents();
+        try {
+            IcsMeetUpFile.read(file, meetUp -> {
+                if (identities.add(meetUp.getIdentityKey())) {
+                    toAdd.add(meetUp);
+                } else {
+                    skipped.duplicateCount++;
+                }
+            }, skipped::addInvalid);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, file, e.getMessage()), e);
+        }
+        model.addMeetUps(toAdd);
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, toAdd.size(), file));
+        if (skipped.duplicateCount > 0) {
+            builder.append(String.format(MESSAGE_DUPLICATES_SKIPPED, skipped.duplicateCount));
+        }
+        if (skipped.invalidCount > 0) {
+            builder.append(String.format(MESSAGE_INVALID_SKIPPED, skipped.invalidCount));
+            skipped.shownInvalidEvents.forEach(event -> builder.append("\n").append(event));
+            if (skipped.invalidCount > MAX_INVALID_SHOWN) {
+                builder.append("\n...");
+            }
+        }
+        return new CommandResult(builder.toString(), false, false, true, false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return file.equals(otherImportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+
+    /**
+     * Counts the events skipped by an import, keeping only the descriptions of the invalid events that are shown.
+     */
+    private static class SkippedEvents {
+        private final List<String> shownInvalidEvents = new ArrayList<>();
+        private int invalidCount;
+        private int duplicateCount;
+
+        void addInvalid(String event) {
+            invalidCount++;
+            if (shownInvalidEvents.size() < MAX_INVALID_SHOWN) {
+                shownInvalidEvents.add(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.logic.commands.meetup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.index.TimeSlot;
+import seedu.address.model.meetup.AddedBuyer;
+import seedu.address.model.meetup.DateTime;
+
+/**
+ * Lists the earliest slots within a date-time range in which none of the given buyers has a meet-up.
+ */
+public class SlotCommand extends Command {
+
+    public static final String COMMAND_WORD = "slot";
+
+    public static final int DEFAULT_COUNT = 3;
+    public static final int DEFAULT_WINDOW_DAYS = 7;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the earliest free slots of at least the given number of minutes in which none of the given"
+            + " buyers has a meet-up. A date without a time covers the whole day, and the search ends "
+            + DEFAULT_WINDOW_DAYS + " days after its start if no end is given.\n"
+            + "Parameters: "
+            + PREFIX_ADDED_BUYER + "BUYER_NAME [" + PREFIX_ADDED_BUYER + "MORE_BUYER_NAMES]... "
+            + PREFIX_DURATION + "MINUTES "
+            + PREFIX_FROM + "DATE_OR_DATE_TIME [" + PREFIX_TO + "DATE_OR_DATE_TIME] "
+            + "[" + PREFIX_COUNT + "COUNT]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ADDED_BUYER + "Alex Yeoh " + PREFIX_ADDED_BUYER + "Bernice Yu "
+            + PREFIX_DURATION + "60 " + PREFIX_FROM + "2024-10-01 " + PREFIX_TO + "2024-10-04";
+
+    public static final String MESSAGE_SLOTS_FOUND = "Free slots of %1$d minutes for %2$s:";
+    public static final String MESSAGE_SLOT = "\n%1$d. %2$s to %3$s";
+    public static final String MESSAGE_NO_SLOTS = "No free slots of %1$d minutes for %2$s from %3$s to %4$s.";
+
+    private final Set<AddedBuyer> buyers;
+    private final Duration duration;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final int limit;
+
+    /**
+     * Creates a SlotCommand to list up to {@code limit} of the earliest slots of at least {@code duration} from
+     * {@code start} to {@code end} in which none of {@code buyers} has a meet-up.
+     */
+    public SlotCommand(Set<AddedBuyer> buyers, Duration duration, LocalDateTime start, LocalDateTime end, int limit) {
+        requireAllNonNull(buyers, duration, start, end);
+        checkArgument(!buyers.isEmpty(), "At least one buyer must be given");
+        checkArgument(!duration.isNegative() && !duration.isZero(), "duration must be positive");
+        checkArgument(start.isBefore(end), "The start of a search must be before its end");
+        checkArgument(limit > 0, "limit must be positive");
+        this.buyers = Collections.unmodifiableSet(buyers);
+        this.duration = duration;
+        this.start = start;
+        this.end = end;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<TimeSlot> slots = model.findFreeSlots(buyers, start, end, duration, limit);
+        String buyerNames = buyers.stream()
+                .map(buyer -> buyer.fullName)
+                .sorted()
+                .collect(Collectors.joining(", "));
+
+        if (slots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SLOTS, duration.toMinutes(), buyerNames,
+                    start.format(DateTime.FORMATTER), end.format(DateTime.FORMATTER)),
+                    false, false, true, false, false);
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SLOTS_FOUND, duration.toMinutes(),
+                buyerNames));
+        for (int i = 0; i < slots.size(); i++) {
+            TimeSlot slot = slots.get(i);
+            builder.append(String.format(MESSAGE_SLOT, i + 1, slot.getStart().format(DateTime.FORMATTER),
+                    slot.getEnd().format(DateTime.FORMATTER)));
+        }
+        return new CommandResult(builder.toString(), false, false, true, false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SlotCommand)) {
+            return false;
+        }
+
+        SlotCommand otherSlotCommand = (SlotCommand) other;
+        return buyers.equals(otherSlotCommand.buyers)
+                && duration.equals(otherSlotCommand.duration)
+                && start.equals(otherSlotCommand.start)
+                && end.equals(otherSlotCommand.end)
+                && limit == otherSlotCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("buyers", buyers)
+                .add("duration", duration)
+                .add("start", start)
+                .add("end", end)
+                .add("limit", limit)
+                .toString();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands.property;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.property.Property;
+
+/**
+ * Deletes a range of the properties in the displayed property list, all in a single change to the property list.
+ */
+public class DeleteAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "delete-all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Deletes the properties identified by a range of the index numbers used in the displayed property "
+            + "list, or every displayed property. The meet-ups held at them are kept.\n"
+            + "Parameters: INDEX, FIRST_INDEX-LAST_INDEX or " + KEYWORD_ALL_SHOWN + "\n"
+            + "Example: " + COMMAND_WORD + " 3-250";
+
+    public static final String MESSAGE_DELETE_PROPERTIES_SUCCESS = "Deleted %1$d properties";
+
+    private final IndexRange targetRange;
+
+    /**
+     * Creates a DeleteAllCommand to delete the properties in {@code targetRange} of the displayed property list.
+     */
+    public DeleteAllCommand(IndexRange targetRange) {
+        requireNonNull(targetRange);
+        this.targetRange = targetRange;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Property> lastShownList = model.getFilteredPropertyList();
+
+        if (!targetRange.fitsIn(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+        }
+
+        List<Property> propertiesToDelete = targetRange.select(lastShownList);
+        model.deleteProperties(propertiesToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_PROPERTIES_SUCCESS, propertiesToDelete.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeleteAllCommand)) {
+            return false;
+        }
+
+        DeleteAllCommand otherDeleteAllCommand = (DeleteAllCommand) other;
+        return targetRange.equals(otherDeleteAllCommand.targetRange);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetRange", targetRange)
+                .toString();
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.logic.commands.property;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASKING_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.property.EditCommand.EditPropertyDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.property.Property;
+
+/**
+ * Edits the details of a range of the properties in the displayed property list, all in a single change to the
+ * property list.
+ */
+public class EditAllCommand extends Command {
+    public static final String COMMAND_WORD = "edit-all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the properties identified "
+            + "by a range of the index numbers used in the displayed property list, or of every displayed property. "
+            + "Existing values will be overwritten by the input values. Addresses cannot be edited this way.\n"
+            + "Parameters: INDEX, FIRST_INDEX-LAST_INDEX or " + KEYWORD_ALL_SHOWN + " "
+            + "[" + PREFIX_NAME + "LANDLORD NAME] "
+            + "[" + PREFIX_PHONE + "PHONE] "
+            + "[" + PREFIX_ASKING_PRICE + "ASKING PRICE] "
+            + "[" + PREFIX_TYPE + "TYPE]\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_ALL_SHOWN + " "
+            + PREFIX_TYPE + "Condominium";
+
+    public static final String MESSAGE_EDIT_PROPERTIES_SUCCESS = "Edited %1$d properties";
+    public static final String MESSAGE_ADDRESS_NOT_EDITABLE = "Addresses cannot be edited for many properties at once.";
+
+    private final IndexRange range;
+    private final EditPropertyDescriptor editPropertyDescriptor;
+
+    /**
+     * Creates an EditAllCommand to edit the {@code Property}s in {@code targetRange}, with an
+     * {@code editPropertyDescriptor} that does not include an address.
+     */
+    public EditAllCommand(IndexRange targetRange, EditPropertyDescriptor editPropertyDescriptor) {
+        requireNonNull(targetRange);
+        requireNonNull(editPropertyDescriptor);
+        assert editPropertyDescriptor.getAddress().isEmpty();
+        this.range = targetRange;
+        this.editPropertyDescriptor = editPropertyDescriptor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Property> lastShownList = model.getFilteredPropertyList();
+
+        if (!range.fitsIn(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+        }
+
+        List<Property> propertiesToEdit = range.select(lastShownList);
+        Map<Property, Property> editedProperties = new HashMap<>();
+        for (Property propertyToEdit : propertiesToEdit) {
+            editedProperties.put(propertyToEdit,
+                    EditCommand.createEditedProperty(propertyToEdit, editPropertyDescriptor));
+        }
+
+        model.replaceProperties(editedProperties);
+        model.updateFilteredPropertyList(Model.PREDICATE_SHOW_ALL_PROPERTIES);
+        return new CommandResult(String.format(MESSAGE_EDIT_PROPERTIES_SUCCESS, editedProperties.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditAllCommand)) {
+            return false;
+        }
+
+        EditAllCommand otherEditAllCommand = (EditAllCommand) other;
+        return range.equals(otherEditAllCommand.range)
+                && editPropertyDescriptor.equals(otherEditAllCommand.editPropertyDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("range", range)
+                .add("editPropertyDescriptor", editPropertyDescriptor)
+                .toString();
+    }
+}
@@ -85,7 +85,7 @@ public class EditCommand extends Command {
         return new CommandResult(String.format(MESSAGE_EDIT_PROPERTY_SUCCESS, Messages.format(editedProperty)));
     }
 
-    private static Property createEditedProperty(Property propertyToEdit,
+    static Property createEditedProperty(Property propertyToEdit,
                                                  EditPropertyDescriptor editPropertyDescriptor) {
         requireNonNull(propertyToEdit);
         requireNonNull(editPropertyDescriptor);
@@ -2,15 +2,24 @@ package seedu.address.logic.commands.property;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTANCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARTIAL_ADDRESS;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.index.FuzzyQuery;
+import seedu.address.model.property.AddressContainsFragmentPredicate;
 import seedu.address.model.property.AddressContainsKeywordsPredicate;
 import seedu.address.model.property.LandlordNameContainsKeywordsPredicate;
+import seedu.address.model.property.Property;
 
 /**
  * Finds and lists all properties in property list whose name contains any of the argument keywords.
@@ -23,14 +32,24 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all properties whose names or addresses contain"
             + " any of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "You should only find by name or address but not both.\n"
-            + "Parameters: n/KEYWORD [MORE_KEYWORDS]... OR a/KEYWORD [MORE_KEYWORDS]...\n"
+            + "Use " + PREFIX_PARTIAL_ADDRESS + " to find addresses containing a fragment, such as part of a unit"
+            + " number.\n"
+            + "Add " + PREFIX_DISTANCE + "DISTANCE to a name search to also find names with a word that differs from"
+            + " a keyword by at most DISTANCE (0 to " + FuzzyQuery.MAX_DISTANCE + ") letters, closest first.\n"
+            + "Parameters: n/KEYWORD [MORE_KEYWORDS]... [d/DISTANCE] OR a/KEYWORD [MORE_KEYWORDS]... OR pa/FRAGMENT\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "John Jake\n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_ADDRESS + "Sembawang";
+            + PREFIX_NAME + "Jonh " + PREFIX_DISTANCE + "1\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_ADDRESS + "Sembawang\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_PARTIAL_ADDRESS + "#12-";
 
     private final AddressContainsKeywordsPredicate addressPredicate;
     private final LandlordNameContainsKeywordsPredicate landlordPredicate;
+    private final AddressContainsFragmentPredicate fragmentPredicate;
+    private final FuzzyQuery fuzzyQuery;
     private boolean isAddress;
 
     /**
@@ -40,6 +59,8 @@ public class FindCommand extends Command {
     public FindCommand(AddressContainsKeywordsPredicate predicate) {
         this.addressPredicate = predicate;
         this.landlordPredicate = null;
+        this.fragmentPredicate = null;
+        this.fuzzyQuery = null;
         this.isAddress = true;
     }
 
@@ -50,17 +71,54 @@ public class FindCommand extends Command {
     public FindCommand(LandlordNameContainsKeywordsPredicate predicate) {
         this.landlordPredicate = predicate;
         this.addressPredicate = null;
+        this.fragmentPredicate = null;
+        this.fuzzyQuery = null;
+        this.isAddress = false;
+    }
+
+    /**
+     * Creates a find command {@code FindCommand}with a predicate of {@code AddressContainsFragmentPredicate}
+     * @param predicate a predicate that checks if address contains the fragment provided.
+     */
+    public FindCommand(AddressContainsFragmentPredicate predicate) {
+        this.fragmentPredicate = predicate;
+        this.addressPredicate = null;
+        this.landlordPredicate = null;
+        this.fuzzyQuery = null;
+        this.isAddress = true;
+    }
+
+    /**
+     * Creates a find command {@code FindCommand} with a {@code FuzzyQuery} over landlord names
+     * @param fuzzyQuery a query that finds landlord names within a maximum edit distance of the keywords provided.
+     */
+    public FindCommand(FuzzyQuery fuzzyQuery) {
+        this.fuzzyQuery = fuzzyQuery;
+        this.addressPredicate = null;
+        this.landlordPredicate = null;
+        this.fragmentPredicate = null;
         this.isAddress = false;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        if (isAddress) {
-            model.updateFilteredPropertyList(addressPredicate);
+        if (fuzzyQuery != null) {
+            Map<Property, Integer> distances = model.findPropertiesByLandlordNameFuzzy(fuzzyQuery);
+            model.updateFilteredPropertyList(distances::containsKey, Comparator.comparingInt(distances::get));
+            return new CommandResult(String.format(Messages.MESSAGE_PROPERTIES_LISTED_OVERVIEW,
+                    model.getFilteredPropertyList().size()));
+        }
+
+        Set<Property> matches;
+        if (fragmentPredicate != null) {
+            matches = model.findPropertiesByAddressFragment(fragmentPredicate.getFragment());
+        } else if (isAddress) {
+            matches = model.findPropertiesByAddress(addressPredicate.getKeywords());
         } else {
-            model.updateFilteredPropertyList(landlordPredicate);
+            matches = model.findPropertiesByLandlordName(landlordPredicate.getKeywords());
         }
+        model.updateFilteredPropertyList(matches::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PROPERTIES_LISTED_OVERVIEW, model.getFilteredPropertyList().size()));
     }
@@ -77,7 +135,11 @@ public class FindCommand extends Command {
 
         FindCommand e = (FindCommand) other;
 
-        if (e.isAddress && isAddress) {
+        if (fuzzyQuery != null || e.fuzzyQuery != null) {
+            return fuzzyQuery != null && fuzzyQuery.equals(e.fuzzyQuery);
+        } else if (fragmentPredicate != null || e.fragmentPredicate != null) {
+            return fragmentPredicate != null && fragmentPredicate.equals(e.fragmentPredicate);
+        } else if (e.isAddress && isAddress) {
             return addressPredicate.equals(e.addressPredicate);
         } else if (!e.isAddress && !isAddress) {
             return landlordPredicate.equals(e.landlordPredicate);
@@ -88,7 +150,15 @@ public class FindCommand extends Command {
 
     @Override
     public String toString() {
-        if (isAddress) {
+        if (fuzzyQuery != null) {
+            return new ToStringBuilder(this)
+                    .add("fuzzyQuery", fuzzyQuery)
+                    .toString();
+        } else if (fragmentPredicate != null) {
+            return new ToStringBuilder(this)
+                    .add("fragmentPredicate", fragmentPredicate)
+                    .toString();
+        } else if (isAddress) {
             return new ToStringBuilder(this)
                     .add("addressPredicate", addressPredicate)
                     .toString();
@@ -0,0 +1,132 @@
+package seedu.address.logic.commands.property;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.NewMatchesCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.match.BuyerMatchEngine;
+import seedu.address.model.match.Match;
+import seedu.address.model.match.MatchEngine;
+import seedu.address.model.property.Property;
+
+/**
+ * Ranks the buyers that a property, or every displayed property, best suits by budget, property type and location.
+ */
+public class MatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "match";
+
+    public static final String ALL_PROPERTIES = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the buyers that best match the property identified by the index number used in the displayed"
+            + " property list, or every displayed property if \"" + ALL_PROPERTIES + "\" is given.\n"
+            + "Buyers are ranked by how well the asking price fits their budget, and by whether their tags name"
+            + " the property type or a word in the address.\n"
+            + "Parameters: INDEX (must be a positive integer) OR " + ALL_PROPERTIES + " "
+            + "[" + PREFIX_COUNT + "COUNT]\n"
+            + "Use \"" + COMMAND_WORD + " " + NewMatchesCommand.COMMAND_ARGUMENT + "\" to list the matches found"
+            + " since new matches were last listed.\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_COUNT + "3";
+
+    public static final String MESSAGE_MATCH_SUCCESS = "Top %1$d buyers for %2$s:";
+    public static final String MESSAGE_MATCH_ALL_SUCCESS = "Top buyers for %1$d properties:";
+    public static final String MESSAGE_NO_MATCHES = "No buyers match %1$s.";
+
+    private final Index targetIndex;
+    private final int limit;
+
+    /**
+     * Creates a MatchCommand that ranks buyers for the property at {@code targetIndex}, or every displayed property
+     * if {@code targetIndex} is null, keeping at most {@code limit} buyers per property.
+     */
+    public MatchCommand(Index targetIndex, int limit) {
+        checkArgument(limit > 0, "limit must be positive");
+        this.targetIndex = targetIndex;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Property> lastShownList = model.getFilteredPropertyList();
+        List<Buyer> buyers = model.getBuyerList().getBuyerList();
+
+        if (targetIndex == null) {
+            List<List<Match>> matches = new BuyerMatchEngine(buyers).matchAll(lastShownList, limit);
+            StringBuilder builder = new StringBuilder(String.format(MESSAGE_MATCH_ALL_SUCCESS, lastShownList.size()));
+            for (int i = 0; i < lastShownList.size(); i++) {
+                builder.append('\n').append(lastShownList.get(i).getAddress()).append(": ");
+                appendSummary(builder, matches.get(i));
+            }
+            return new CommandResult(builder.toString());
+        }
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+        }
+
+        Property property = lastShownList.get(targetIndex.getZeroBased());
+        List<Match> matches = MatchEngine.matchBuyers(property, buyers, limit);
+        if (matches.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MATCHES, property.getAddress()));
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_MATCH_SUCCESS, matches.size(),
+                property.getAddress()));
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            builder.append('\n').append(i + 1).append(". ").append(match.getScorePercentage()).append("% ")
+                    .append(Messages.format(match.getBuyer()));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    private static void appendSummary(StringBuilder builder, List<Match> matches) {
+        if (matches.isEmpty()) {
+            builder.append("no matches");
+            return;
+        }
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            builder.append(i == 0 ? "" : ", ").append(match.getBuyer().getName())
+                    .append(" (").append(match.getScorePercentage()).append("%)");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchCommand)) {
+            return false;
+        }
+
+        MatchCommand otherMatchCommand = (MatchCommand) other;
+        return Objects.equals(targetIndex, otherMatchCommand.targetIndex)
+                && limit == otherMatchCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .add("limit", limit)
+                .toString();
+    }
+}
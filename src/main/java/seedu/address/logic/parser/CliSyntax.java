@@ -19,9 +19,22 @@ public class CliSyntax {
     public static final Prefix PREFIX_FROM = new Prefix("f/");
     public static final Prefix PREFIX_TO = new Prefix("t/");
     public static final Prefix PREFIX_ADDED_BUYER = new Prefix("n/");
+    public static final Prefix PREFIX_DURATION = new Prefix("l/");
+    public static final Prefix PREFIX_REPEAT = new Prefix("r/");
+    public static final Prefix PREFIX_UNTIL = new Prefix("u/");
+    public static final Prefix PREFIX_OCCURRENCE = new Prefix("o/");
+    public static final Prefix PREFIX_PROPERTY = new Prefix("a/");
 
     /* Prefix definitions for property class */
     public static final Prefix PREFIX_ASKING_PRICE = new Prefix("s/");
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TYPE = new Prefix("t/");
+    public static final Prefix PREFIX_PARTIAL_ADDRESS = new Prefix("pa/");
+
+    /* Prefix definitions shared across modes */
+    public static final Prefix PREFIX_COUNT = new Prefix("k/");
+    public static final Prefix PREFIX_DISTANCE = new Prefix("d/");
+
+    /* Keyword for every entry of the displayed list, in place of a range of indexes */
+    public static final String KEYWORD_ALL_SHOWN = "shown";
 }
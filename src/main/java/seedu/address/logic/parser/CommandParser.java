@@ -1,23 +1,56 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SwitchParserModeCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Abstract class with default commands.
+ * Each command word is dispatched through a table from command words to parsers, built once when the parser is
+ * created, so that parsing a command does not create the parser for its arguments.
  */
 public abstract class CommandParser {
 
     private static final Logger logger = LogsCenter.getLogger(CommandParser.class);
 
+    private final Map<String, Parser<? extends Command>> commandTable = new HashMap<>();
+
+    /**
+     * Creates a parser for the default commands.
+     */
+    protected CommandParser() {
+        register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        register(SwitchParserModeCommand.COMMAND_WORD, new SwitchParserModeCommandParser());
+        register(LookupCommand.COMMAND_WORD, new LookupCommandParser());
+        register(RunCommand.COMMAND_WORD, new RunCommandParser());
+        register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+    }
+
+    /**
+     * Makes {@code commandWord} parse its arguments with {@code parser}, in place of any parser it had.
+     */
+    protected final void register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        commandTable.put(commandWord, parser);
+    }
+
     /**
      * Parses the commandWord and arguments for execution.
      *
@@ -31,22 +64,13 @@ public abstract class CommandParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case SwitchParserModeCommand.COMMAND_WORD:
-            return new SwitchParserModeCommandParser().parse(arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        default:
-            logger.finer("This user input caused a ParseException: " + commandWord);
+        Parser<? extends Command> parser = commandTable.get(commandWord);
+        if (parser == null) {
+            logger.finer(() -> "This user input caused a ParseException: " + commandWord);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
     }
 }
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.buyer.Email;
+import seedu.address.model.buyer.Phone;
+
+/**
+ * Parses input arguments and creates a new LookupCommand object
+ */
+public class LookupCommandParser implements Parser<LookupCommand> {
+
+    /** Phone numbers may be written with spaces, brackets, dashes and a leading plus, which the lookup ignores. */
+    private static final String PHONE_INPUT_REGEX = "\\+?[\\d\\s()-]+";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LookupCommand
+     * and returns a LookupCommand object for execution.
+     * @throws ParseException if the user input is neither a phone number nor an email
+     */
+    public LookupCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+        }
+
+        if (LookupCommand.isEmail(trimmedArgs)) {
+            if (!Email.isValidEmail(trimmedArgs)) {
+                throw new ParseException(Email.MESSAGE_CONSTRAINTS);
+            }
+            return new LookupCommand(trimmedArgs);
+        }
+
+        if (!trimmedArgs.matches(PHONE_INPUT_REGEX) || !Phone.isValidPhone(Phone.toLookupKey(trimmedArgs))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+        }
+        return new LookupCommand(trimmedArgs);
+    }
+}
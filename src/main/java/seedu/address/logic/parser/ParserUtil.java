@@ -1,20 +1,32 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.buyer.Budget;
 import seedu.address.model.buyer.Email;
 import seedu.address.model.buyer.Phone;
+import seedu.address.model.index.FuzzyQuery;
 import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.From;
 import seedu.address.model.meetup.Info;
+import seedu.address.model.meetup.Recurrence;
 import seedu.address.model.meetup.Subject;
 import seedu.address.model.meetup.To;
 import seedu.address.model.property.Address;
@@ -29,6 +41,17 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "Indexes should be a non-zero unsigned integer, "
+            + "a range of them such as 3-250 whose first index is not after its last, or " + KEYWORD_ALL_SHOWN
+            + " for every one shown.";
+    public static final String MESSAGE_INVALID_COUNT = "Count is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE =
+            "Dates should be in the format YYYY-MM-DD or YYYY-MM-DD HH:mm, and must exist";
+    public static final String MESSAGE_INVALID_DURATION = "Duration is not a non-zero number of minutes.";
+
+    private static final Pattern DATE_PATTERN = Pattern.compile("^[0-9]{4}-[0-9]{2}-[0-9]{2}$");
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd").withResolverStyle(ResolverStyle.STRICT);
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -43,6 +66,59 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code indexes} into an {@code IndexRange} and returns it. {@code indexes} is either a one-based index,
+     * two of them joined by a dash such as {@code 3-250}, or {@code shown} for every displayed index. Leading
+     * and trailing whitespaces will be trimmed.
+     * @throws ParseException if {@code indexes} is in none of these forms, or its first index is after its last.
+     */
+    public static IndexRange parseIndexRange(String indexes) throws ParseException {
+        requireNonNull(indexes);
+        String trimmedIndexes = indexes.trim();
+        if (trimmedIndexes.equals(KEYWORD_ALL_SHOWN)) {
+            return IndexRange.all();
+        }
+
+        int dash = trimmedIndexes.indexOf('-');
+        String first = dash == -1 ? trimmedIndexes : trimmedIndexes.substring(0, dash);
+        String last = dash == -1 ? trimmedIndexes : trimmedIndexes.substring(dash + 1);
+        if (!StringUtil.isNonZeroUnsignedInteger(first) || !StringUtil.isNonZeroUnsignedInteger(last)
+                || Integer.parseInt(first) > Integer.parseInt(last)) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        return IndexRange.between(Index.fromOneBased(Integer.parseInt(first)),
+                Index.fromOneBased(Integer.parseInt(last)));
+    }
+
+    /**
+     * Parses {@code count} into a positive {@code int} and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     * @throws ParseException if the specified count is invalid (not non-zero unsigned integer).
+     */
+    public static int parseCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
+    /**
+     * Parses {@code distance} into a maximum edit distance for a {@code FuzzyQuery} and returns it. Leading and
+     * trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified distance is not a whole number within the allowed range.
+     */
+    public static int parseDistance(String distance) throws ParseException {
+        requireNonNull(distance);
+        String trimmedDistance = distance.trim();
+        if (trimmedDistance.length() > 9 || !ValidationUtil.isDigits(trimmedDistance, 1)
+                || !FuzzyQuery.isValidMaxDistance(Integer.parseInt(trimmedDistance))) {
+            throw new ParseException(FuzzyQuery.MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedDistance);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -115,7 +191,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -160,6 +236,65 @@ public class ParserUtil {
         return new Info(trimmedInfo);
     }
 
+    /**
+     * Parses {@code start} into the start of a date-time range, where a date alone starts at the beginning of that
+     * day. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code start} is neither a valid date nor a valid date-time.
+     */
+    public static LocalDateTime parseRangeStart(String start) throws ParseException {
+        requireNonNull(start);
+        String trimmedStart = start.trim();
+        if (DATE_PATTERN.matcher(trimmedStart).matches()) {
+            return parseDate(trimmedStart).atStartOfDay();
+        }
+        return parseDateTime(trimmedStart);
+    }
+
+    /**
+     * Parses {@code end} into the end of a date-time range, where a date alone ends at the end of that day.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code end} is neither a valid date nor a valid date-time.
+     */
+    public static LocalDateTime parseRangeEnd(String end) throws ParseException {
+        requireNonNull(end);
+        String trimmedEnd = end.trim();
+        if (DATE_PATTERN.matcher(trimmedEnd).matches()) {
+            return parseDate(trimmedEnd).plusDays(1).atStartOfDay();
+        }
+        return parseDateTime(trimmedEnd);
+    }
+
+    /**
+     * Parses {@code date} into a {@code LocalDate}. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code date} is not a valid date.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim(), DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String dateTime) throws ParseException {
+        return ValidationUtil.parseDateTime(dateTime).orElseThrow(() -> new ParseException(MESSAGE_INVALID_DATE));
+    }
+
+    /**
+     * Parses {@code minutes} into a positive {@code Duration} of that many minutes. Leading and trailing whitespaces
+     * will be trimmed.
+     * @throws ParseException if the specified duration is not a non-zero unsigned integer.
+     */
+    public static Duration parseDuration(String minutes) throws ParseException {
+        requireNonNull(minutes);
+        String trimmedMinutes = minutes.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedMinutes)) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return Duration.ofMinutes(Integer.parseInt(trimmedMinutes));
+    }
+
     /**
      * Parses a {@code String meetUpFrom} into a {@code From}.
      * Leading and trailing whitespaces will be trimmed.
@@ -172,10 +307,9 @@ public class ParserUtil {
         if (!From.isValidFormat(trimmedFrom)) {
             throw new ParseException(From.MESSAGE_CONSTRAINTS_FORMAT);
         }
-        if (!From.isValidDateTime(trimmedFrom)) {
-            throw new ParseException(From.MESSAGE_CONSTRAINTS_DATETIME);
-        }
-        return new From(meetUpFrom);
+        LocalDateTime from = ValidationUtil.parseDateTime(trimmedFrom)
+                .orElseThrow(() -> new ParseException(From.MESSAGE_CONSTRAINTS_DATETIME));
+        return From.of(from);
     }
 
     /**
@@ -190,10 +324,25 @@ public class ParserUtil {
         if (!To.isValidFormat(trimmedTo)) {
             throw new ParseException(To.MESSAGE_CONSTRAINTS_FORMAT);
         }
-        if (!To.isValidDateTime(trimmedTo)) {
-            throw new ParseException(To.MESSAGE_CONSTRAINTS_DATETIME);
+        LocalDateTime to = ValidationUtil.parseDateTime(trimmedTo)
+                .orElseThrow(() -> new ParseException(To.MESSAGE_CONSTRAINTS_DATETIME));
+        return To.of(to);
+    }
+
+    /**
+     * Parses {@code frequency} and {@code until} into a {@code Recurrence} with no cancelled occurrences.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code frequency} or {@code until} is invalid.
+     */
+    public static Recurrence parseRecurrence(String frequency, String until) throws ParseException {
+        requireNonNull(frequency);
+        requireNonNull(until);
+        String trimmedFrequency = frequency.trim();
+        if (!Recurrence.isValidFrequency(trimmedFrequency)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
         }
-        return new To(meetUpTo);
+        return new Recurrence(Recurrence.parseFrequency(trimmedFrequency), parseDate(until), Set.of());
     }
 
     /**
@@ -208,7 +357,7 @@ public class ParserUtil {
         if (!AddedBuyer.isValidName(trimmedAddedBuyer)) {
             throw new ParseException(AddedBuyer.MESSAGE_CONSTRAINTS);
         }
-        return new AddedBuyer(trimmedAddedBuyer);
+        return AddedBuyer.of(trimmedAddedBuyer);
     }
 
     /**
@@ -295,6 +444,6 @@ public class ParserUtil {
         if (!PropertyType.isValidType(trimmedType)) {
             throw new ParseException(PropertyType.MESSAGE_CONSTRAINTS);
         }
-        return new PropertyType(trimmedType);
+        return PropertyType.of(trimmedType);
     }
 }
@@ -48,6 +48,14 @@ public class EditCommandParser implements Parser<EditCommand> {
                     EditCommand.MESSAGE_USAGE), pe);
         }
 
+        return new EditCommand(index, parseEditBuyerDescriptor(argMultimap));
+    }
+
+    /**
+     * Parses the fields to edit in {@code argMultimap} into an {@code EditBuyerDescriptor}.
+     * @throws ParseException if a field is invalid or given more than once, or no field is given
+     */
+    static EditBuyerDescriptor parseEditBuyerDescriptor(ArgumentMultimap argMultimap) throws ParseException {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_BUDGET);
 
         EditBuyerDescriptor editBuyerDescriptor = new EditBuyerDescriptor();
@@ -69,8 +77,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         if (!editBuyerDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
-
-        return new EditCommand(index, editBuyerDescriptor);
+        return editBuyerDescriptor;
     }
 
     /**
@@ -78,7 +85,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      * If {@code tags} contain only one element which is an empty string, it will be parsed into a
      * {@code Set<Tag>} containing zero tags.
      */
-    private Optional<Set<Tag>> parseTagsForEdit(Collection<String> tags) throws ParseException {
+    private static Optional<Set<Tag>> parseTagsForEdit(Collection<String> tags) throws ParseException {
         assert tags != null;
 
         if (tags.isEmpty()) {
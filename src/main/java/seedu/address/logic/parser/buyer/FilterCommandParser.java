@@ -0,0 +1,62 @@
+package seedu.address.logic.parser.buyer;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.buyer.FilterCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        List<String> groups = argMultimap.getAllValues(PREFIX_TAG);
+
+        if (groups.isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<TagFilter.Clause> clauses = new ArrayList<>();
+        for (String group : groups) {
+            clauses.add(parseClause(group));
+        }
+        return new FilterCommand(new TagFilter(clauses));
+    }
+
+    private static TagFilter.Clause parseClause(String group) throws ParseException {
+        String trimmedGroup = group.trim();
+        if (trimmedGroup.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> present = new HashSet<>();
+        Set<Tag> absent = new HashSet<>();
+        for (String word : trimmedGroup.split("\\s+")) {
+            if (word.startsWith(FilterCommand.NOT_MARKER)) {
+                absent.add(ParserUtil.parseTag(word.substring(FilterCommand.NOT_MARKER.length())));
+            } else {
+                present.add(ParserUtil.parseTag(word));
+            }
+        }
+        return new TagFilter.Clause(present, absent);
+    }
+}
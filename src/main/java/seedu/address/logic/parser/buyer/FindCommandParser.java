@@ -1,6 +1,7 @@
 package seedu.address.logic.parser.buyer;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTANCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import java.util.Arrays;
@@ -15,6 +16,7 @@ import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.buyer.Name;
 import seedu.address.model.buyer.NameContainsKeywordsPredicate;
+import seedu.address.model.index.FuzzyQuery;
 
 
 /**
@@ -28,12 +30,13 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DISTANCE);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DISTANCE);
 
         Name extractedName = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
         String trimmedExtractedName = extractedName.toString().trim();
@@ -43,6 +46,10 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] keywords = trimmedExtractedName.split("\\s+");
+        if (argMultimap.getValue(PREFIX_DISTANCE).isPresent()) {
+            int maxDistance = ParserUtil.parseDistance(argMultimap.getValue(PREFIX_DISTANCE).get());
+            return new FindCommand(new FuzzyQuery(Arrays.asList(keywords), maxDistance));
+        }
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
     }
 
@@ -4,8 +4,11 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import java.util.Set;
 import java.util.stream.Stream;
@@ -21,8 +24,10 @@ import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.From;
 import seedu.address.model.meetup.Info;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
 import seedu.address.model.meetup.Subject;
 import seedu.address.model.meetup.To;
+import seedu.address.model.property.Address;
 
 /**
  * Parses input arguments and creates a new AddCommand object
@@ -37,25 +42,48 @@ public class AddCommandParser implements Parser<AddCommand> {
     public AddCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM, PREFIX_TO,
-                        PREFIX_ADDED_BUYER);
+                        PREFIX_ADDED_BUYER, PREFIX_REPEAT, PREFIX_UNTIL, PREFIX_PROPERTY);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM, PREFIX_TO, PREFIX_ADDED_BUYER)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM, PREFIX_TO);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM, PREFIX_TO, PREFIX_REPEAT,
+                PREFIX_UNTIL, PREFIX_PROPERTY);
         Subject name = ParserUtil.parseMeetUpSubject(argMultimap.getValue(PREFIX_SUBJECT).get());
         Info info = ParserUtil.parseMeetUpInfo(argMultimap.getValue(PREFIX_INFO).get());
         From from = ParserUtil.parseMeetUpFrom(argMultimap.getValue(PREFIX_FROM).get());
         To to = ParserUtil.parseMeetUpTo(argMultimap.getValue(PREFIX_TO).get());
         Set<AddedBuyer> addedBuyersList = ParserUtil.parseAddedBuyers(argMultimap.getAllValues(PREFIX_ADDED_BUYER));
 
-        MeetUp meetUp = new MeetUp(name, info, from, to, addedBuyersList);
+        Recurrence recurrence = parseRecurrence(argMultimap);
+        Address property = argMultimap.getValue(PREFIX_PROPERTY).isPresent()
+                ? ParserUtil.parseAddress(argMultimap.getValue(PREFIX_PROPERTY).get())
+                : null;
+
+        MeetUp meetUp = new MeetUp(name, info, from, to, addedBuyersList, recurrence, property);
 
         return new AddCommand(meetUp);
     }
 
+    /**
+     * Parses the repeat rule in {@code argMultimap}, returning null if the meet-up does not repeat.
+     * @throws ParseException if only one of the frequency and the last date is given, or either is invalid.
+     */
+    static Recurrence parseRecurrence(ArgumentMultimap argMultimap) throws ParseException {
+        boolean hasRepeat = argMultimap.getValue(PREFIX_REPEAT).isPresent();
+        boolean hasUntil = argMultimap.getValue(PREFIX_UNTIL).isPresent();
+        if (!hasRepeat && !hasUntil) {
+            return null;
+        }
+        if (!hasRepeat || !hasUntil) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return ParserUtil.parseRecurrence(argMultimap.getValue(PREFIX_REPEAT).get(),
+                argMultimap.getValue(PREFIX_UNTIL).get());
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
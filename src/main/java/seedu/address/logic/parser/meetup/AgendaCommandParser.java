@@ -0,0 +1,95 @@
+package seedu.address.logic.parser.meetup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+import seedu.address.logic.commands.meetup.AgendaCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AgendaCommand object
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+
+    public static final String TODAY = "today";
+    public static final String TOMORROW = "tomorrow";
+    public static final String WEEK = "week";
+
+    public static final String MESSAGE_INVALID_RANGE = "The end of an agenda must be after its start";
+
+    private final Clock clock;
+
+    /**
+     * Creates a parser that resolves {@code today}, {@code tomorrow} and {@code week} with the system clock.
+     */
+    public AgendaCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a parser that resolves {@code today}, {@code tomorrow} and {@code week} with {@code clock}.
+     */
+    public AgendaCommandParser(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AgendaCommand
+     * and returns an AgendaCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AgendaCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        String preamble = argMultimap.getPreamble();
+        boolean hasFrom = argMultimap.getValue(PREFIX_FROM).isPresent();
+        boolean hasTo = argMultimap.getValue(PREFIX_TO).isPresent();
+
+        if (!preamble.isEmpty()) {
+            if (hasFrom || hasTo) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+            }
+            return parseShortcut(preamble);
+        }
+        if (!hasFrom) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+
+        LocalDateTime start = ParserUtil.parseRangeStart(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDateTime end = hasTo
+                ? ParserUtil.parseRangeEnd(argMultimap.getValue(PREFIX_TO).get())
+                : start.toLocalDate().plusDays(1).atStartOfDay();
+        if (!start.isBefore(end)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new AgendaCommand(start, end);
+    }
+
+    private AgendaCommand parseShortcut(String shortcut) throws ParseException {
+        LocalDate today = LocalDate.now(clock);
+        switch (shortcut) {
+        case TODAY:
+            return new AgendaCommand(today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+        case TOMORROW:
+            return new AgendaCommand(today.plusDays(1).atStartOfDay(), today.plusDays(2).atStartOfDay());
+        case WEEK:
+            LocalDate monday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            return new AgendaCommand(monday.atStartOfDay(), monday.plusWeeks(1).atStartOfDay());
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+    }
+}
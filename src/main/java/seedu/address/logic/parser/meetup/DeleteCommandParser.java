@@ -1,9 +1,14 @@
 package seedu.address.logic.parser.meetup;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCE;
+
+import java.time.LocalDate;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.meetup.DeleteCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -19,13 +24,21 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OCCURRENCE);
+        Index index;
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeleteCommand(index);
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE), pe);
         }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_OCCURRENCE);
+        LocalDate occurrenceDate = null;
+        if (argMultimap.getValue(PREFIX_OCCURRENCE).isPresent()) {
+            occurrenceDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_OCCURRENCE).get());
+        }
+        return new DeleteCommand(index, occurrenceDate);
     }
 
 }
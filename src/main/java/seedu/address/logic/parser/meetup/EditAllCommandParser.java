@@ -0,0 +1,57 @@
+package seedu.address.logic.parser.meetup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
+
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.meetup.EditAllCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new EditAllCommand object
+ */
+public class EditAllCommandParser implements Parser<EditAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EditAllCommand
+     * and returns an EditAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public EditAllCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM, PREFIX_TO,
+                        PREFIX_ADDED_BUYER, PREFIX_REPEAT, PREFIX_UNTIL, PREFIX_OCCURRENCE, PREFIX_PROPERTY);
+
+        IndexRange range;
+
+        try {
+            range = ParserUtil.parseIndexRange(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    EditAllCommand.MESSAGE_USAGE), pe);
+        }
+
+        if (Stream.of(PREFIX_SUBJECT, PREFIX_FROM, PREFIX_TO, PREFIX_REPEAT, PREFIX_UNTIL, PREFIX_OCCURRENCE)
+                .anyMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+            throw new ParseException(EditAllCommand.MESSAGE_IDENTITY_NOT_EDITABLE);
+        }
+
+        return new EditAllCommand(range, EditCommandParser.parseEditMeetUpDescriptor(argMultimap));
+    }
+}
@@ -5,9 +5,14 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
@@ -28,6 +33,8 @@ import seedu.address.model.meetup.AddedBuyer;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    public static final String MESSAGE_OCCURRENCE_REPEAT = "A single occurrence of a meet-up cannot be made to repeat";
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -37,7 +44,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM, PREFIX_TO,
-                        PREFIX_ADDED_BUYER);
+                        PREFIX_ADDED_BUYER, PREFIX_REPEAT, PREFIX_UNTIL, PREFIX_OCCURRENCE, PREFIX_PROPERTY);
 
         Index index;
 
@@ -48,7 +55,30 @@ public class EditCommandParser implements Parser<EditCommand> {
                     EditCommand.MESSAGE_USAGE), pe);
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM, PREFIX_TO);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM, PREFIX_TO, PREFIX_REPEAT,
+                PREFIX_UNTIL, PREFIX_OCCURRENCE, PREFIX_PROPERTY);
+
+        EditCommand.EditMeetUpDescriptor editMeetUpDescriptor = parseEditMeetUpDescriptor(argMultimap);
+
+        LocalDate occurrenceDate = null;
+        if (argMultimap.getValue(PREFIX_OCCURRENCE).isPresent()) {
+            if (editMeetUpDescriptor.getRecurrence().isPresent()) {
+                throw new ParseException(MESSAGE_OCCURRENCE_REPEAT);
+            }
+            occurrenceDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_OCCURRENCE).get());
+        }
+
+        return new EditCommand(index, editMeetUpDescriptor, occurrenceDate);
+    }
+
+    /**
+     * Parses the fields to edit in {@code argMultimap} into an {@code EditMeetUpDescriptor}.
+     * @throws ParseException if a field is invalid or given more than once, or no field is given
+     */
+    static EditCommand.EditMeetUpDescriptor parseEditMeetUpDescriptor(ArgumentMultimap argMultimap)
+            throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM, PREFIX_TO, PREFIX_REPEAT,
+                PREFIX_UNTIL, PREFIX_PROPERTY);
 
         EditCommand.EditMeetUpDescriptor editMeetUpDescriptor = new EditCommand.EditMeetUpDescriptor();
 
@@ -66,12 +96,15 @@ public class EditCommandParser implements Parser<EditCommand> {
         }
         parseAddedBuyersForEdit(argMultimap.getAllValues(PREFIX_ADDED_BUYER))
                 .ifPresent(editMeetUpDescriptor::setAddedBuyers);
+        editMeetUpDescriptor.setRecurrence(AddCommandParser.parseRecurrence(argMultimap));
+        if (argMultimap.getValue(PREFIX_PROPERTY).isPresent()) {
+            editMeetUpDescriptor.setProperty(ParserUtil.parseAddress(argMultimap.getValue(PREFIX_PROPERTY).get()));
+        }
 
         if (!editMeetUpDescriptor.isAnyMeetUpFieldEdited()) {
             throw new ParseException(EditCommand.MESSAGE_MEETUP_NOT_EDITED);
         }
-
-        return new EditCommand(index, editMeetUpDescriptor);
+        return editMeetUpDescriptor;
     }
 
     /**
@@ -79,7 +112,8 @@ public class EditCommandParser implements Parser<EditCommand> {
      * if {@code addedBuyers} is non-empty.
      *
      */
-    private Optional<Set<AddedBuyer>> parseAddedBuyersForEdit(Collection<String> addedBuyers) throws ParseException {
+    private static Optional<Set<AddedBuyer>> parseAddedBuyersForEdit(Collection<String> addedBuyers)
+            throws ParseException {
         assert addedBuyers != null;
 
         if (addedBuyers.isEmpty()) {
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser.meetup;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.meetup.ExportCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "%1$s is not a valid file path";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String path = parseIcsPath(args, ExportCommand.MESSAGE_USAGE);
+        return new ExportCommand(path.isEmpty() ? ExportCommand.DEFAULT_FILE : toPath(path));
+    }
+
+    /**
+     * Returns the file path following the {@code ics} format in {@code args}, which is empty if none is given.
+     * @throws ParseException if {@code args} does not start with the {@code ics} format.
+     */
+    static String parseIcsPath(String args, String usage) throws ParseException {
+        String[] formatAndPath = args.trim().split("\\s+", 2);
+        if (!formatAndPath[0].equalsIgnoreCase(ExportCommand.FORMAT_ICS)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+        }
+        return formatAndPath.length < 2 ? "" : formatAndPath[1].trim();
+    }
+
+    /**
+     * Parses {@code path} into a {@code Path}.
+     * @throws ParseException if {@code path} is not a valid file path.
+     */
+    static Path toPath(String path) throws ParseException {
+        try {
+            return Paths.get(path);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, path));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic.parser.meetup;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTANCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 
 import java.util.Arrays;
@@ -13,6 +15,8 @@ import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.index.FuzzyQuery;
+import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.MeetUpContainsKeywordsPredicate;
 import seedu.address.model.meetup.Subject;
 
@@ -27,9 +31,14 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT, PREFIX_ADDED_BUYER, PREFIX_DISTANCE);
+        if (arePrefixesPresent(argMultimap, PREFIX_ADDED_BUYER)) {
+            return parseAddedBuyer(argMultimap);
+        }
 
         if (!arePrefixesPresent(argMultimap, PREFIX_SUBJECT)
+                || arePrefixesPresent(argMultimap, PREFIX_DISTANCE)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
@@ -45,6 +54,25 @@ public class FindCommandParser implements Parser<FindCommand> {
         return new FindCommand(new MeetUpContainsKeywordsPredicate(Arrays.asList(keywords)));
     }
 
+    private static FindCommand parseAddedBuyer(ArgumentMultimap argMultimap) throws ParseException {
+        if (arePrefixesPresent(argMultimap, PREFIX_SUBJECT) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DISTANCE);
+
+        AddedBuyer extractedName = ParserUtil.parseAddedBuyer(argMultimap.getValue(PREFIX_ADDED_BUYER).get());
+        String trimmedExtractedName = extractedName.fullName.trim();
+        if (trimmedExtractedName.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        int maxDistance = 0;
+        if (arePrefixesPresent(argMultimap, PREFIX_DISTANCE)) {
+            maxDistance = ParserUtil.parseDistance(argMultimap.getValue(PREFIX_DISTANCE).get());
+        }
+        return new FindCommand(new FuzzyQuery(Arrays.asList(trimmedExtractedName.split("\\s+")), maxDistance));
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -1,56 +1,42 @@
 package seedu.address.logic.parser.meetup;
 
-import java.util.logging.Logger;
-
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.meetup.AddCommand;
+import seedu.address.logic.commands.meetup.AgendaCommand;
 import seedu.address.logic.commands.meetup.ClearCommand;
+import seedu.address.logic.commands.meetup.ConflictsCommand;
+import seedu.address.logic.commands.meetup.DeleteAllCommand;
 import seedu.address.logic.commands.meetup.DeleteCommand;
+import seedu.address.logic.commands.meetup.EditAllCommand;
 import seedu.address.logic.commands.meetup.EditCommand;
+import seedu.address.logic.commands.meetup.ExportCommand;
 import seedu.address.logic.commands.meetup.FindCommand;
+import seedu.address.logic.commands.meetup.ImportCommand;
+import seedu.address.logic.commands.meetup.SlotCommand;
 import seedu.address.logic.commands.meetup.ViewCommand;
 import seedu.address.logic.parser.CommandParser;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses commands and arguments for Meetup-type commands.
  */
 public class MeetUpCommandParser extends CommandParser {
 
-    private static final Logger logger = LogsCenter.getLogger(MeetUpCommandParser.class);
-
-    @Override
-    public Command parseCommand(String commandWord, String arguments) throws ParseException {
-
-        // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
-        // log messages such as the one below.
-        // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommand();
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        default:
-            return super.parseCommand(commandWord, arguments);
-        }
+    /**
+     * Creates a parser for the Meetup-type commands and the default commands.
+     */
+    public MeetUpCommandParser() {
+        register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        register(EditAllCommand.COMMAND_WORD, new EditAllCommandParser());
+        register(DeleteAllCommand.COMMAND_WORD, new DeleteAllCommandParser());
+        register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        register(AgendaCommand.COMMAND_WORD, new AgendaCommandParser());
+        register(ConflictsCommand.COMMAND_WORD, arguments -> new ConflictsCommand());
+        register(SlotCommand.COMMAND_WORD, new SlotCommandParser());
+        register(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        register(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        register(ViewCommand.COMMAND_WORD, arguments -> new ViewCommand());
+        register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
     }
 
 }
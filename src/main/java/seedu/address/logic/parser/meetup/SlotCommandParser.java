@@ -0,0 +1,70 @@
+package seedu.address.logic.parser.meetup;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.meetup.SlotCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meetup.AddedBuyer;
+
+/**
+ * Parses input arguments and creates a new SlotCommand object
+ */
+public class SlotCommandParser implements Parser<SlotCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The end of a free slot search must be after its start";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SlotCommand
+     * and returns a SlotCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SlotCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ADDED_BUYER, PREFIX_DURATION,
+                PREFIX_FROM, PREFIX_TO, PREFIX_COUNT);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_ADDED_BUYER, PREFIX_DURATION, PREFIX_FROM)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SlotCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DURATION, PREFIX_FROM, PREFIX_TO, PREFIX_COUNT);
+
+        Set<AddedBuyer> buyers = ParserUtil.parseAddedBuyers(argMultimap.getAllValues(PREFIX_ADDED_BUYER));
+        Duration duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        LocalDateTime start = ParserUtil.parseRangeStart(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDateTime end = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? ParserUtil.parseRangeEnd(argMultimap.getValue(PREFIX_TO).get())
+                : start.plusDays(SlotCommand.DEFAULT_WINDOW_DAYS);
+        if (!start.isBefore(end)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+
+        int limit = SlotCommand.DEFAULT_COUNT;
+        if (argMultimap.getValue(PREFIX_COUNT).isPresent()) {
+            limit = ParserUtil.parseCount(argMultimap.getValue(PREFIX_COUNT).get());
+        }
+        return new SlotCommand(buyers, duration, start, end, limit);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
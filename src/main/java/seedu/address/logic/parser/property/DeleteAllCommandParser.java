@@ -0,0 +1,31 @@
+package seedu.address.logic.parser.property;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.property.DeleteAllCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DeleteAllCommand object
+ */
+public class DeleteAllCommandParser implements Parser<DeleteAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeleteAllCommand
+     * and returns a DeleteAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DeleteAllCommand parse(String args) throws ParseException {
+        try {
+            IndexRange range = ParserUtil.parseIndexRange(args);
+            return new DeleteAllCommand(range);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteAllCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser.property;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASKING_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.property.EditAllCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new EditAllCommand object
+ */
+public class EditAllCommandParser implements Parser<EditAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EditAllCommand
+     * and returns an EditAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public EditAllCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_ASKING_PRICE,
+                        PREFIX_TYPE);
+
+        IndexRange range;
+
+        try {
+            range = ParserUtil.parseIndexRange(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    EditAllCommand.MESSAGE_USAGE), pe);
+        }
+
+        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
+            throw new ParseException(EditAllCommand.MESSAGE_ADDRESS_NOT_EDITABLE);
+        }
+
+        return new EditAllCommand(range, EditCommandParser.parseEditPropertyDescriptor(argMultimap));
+    }
+}
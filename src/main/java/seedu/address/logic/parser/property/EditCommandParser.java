@@ -42,6 +42,14 @@ public class EditCommandParser implements Parser<EditCommand> {
                     EditCommand.MESSAGE_USAGE), pe);
         }
 
+        return new EditCommand(index, parseEditPropertyDescriptor(argMultimap));
+    }
+
+    /**
+     * Parses the fields to edit in {@code argMultimap} into an {@code EditPropertyDescriptor}.
+     * @throws ParseException if a field is invalid or given more than once, or no field is given
+     */
+    static EditPropertyDescriptor parseEditPropertyDescriptor(ArgumentMultimap argMultimap) throws ParseException {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_ASKING_PRICE,
                 PREFIX_TYPE);
 
@@ -69,7 +77,6 @@ public class EditCommandParser implements Parser<EditCommand> {
         if (!editPropertyDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
-
-        return new EditCommand(index, editPropertyDescriptor);
+        return editPropertyDescriptor;
     }
 }
@@ -2,7 +2,9 @@ package seedu.address.logic.parser.property;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISTANCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARTIAL_ADDRESS;
 
 import java.util.Arrays;
 import java.util.stream.Stream;
@@ -14,7 +16,9 @@ import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.index.FuzzyQuery;
 import seedu.address.model.property.Address;
+import seedu.address.model.property.AddressContainsFragmentPredicate;
 import seedu.address.model.property.AddressContainsKeywordsPredicate;
 import seedu.address.model.property.LandlordName;
 import seedu.address.model.property.LandlordNameContainsKeywordsPredicate;
@@ -29,6 +33,15 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimapAll = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ADDRESS,
+                PREFIX_PARTIAL_ADDRESS, PREFIX_DISTANCE);
+        if (arePrefixesPresent(argMultimapAll, PREFIX_DISTANCE)) {
+            return parseFuzzy(argMultimapAll);
+        }
+        if (arePrefixesPresent(argMultimapAll, PREFIX_PARTIAL_ADDRESS)) {
+            return parseFragment(argMultimapAll);
+        }
+
         ArgumentMultimap argMultimapBoth = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ADDRESS);
         ArgumentMultimap argMultimapBothTwo = ArgumentTokenizer.tokenize(args, PREFIX_ADDRESS, PREFIX_NAME);
         ArgumentMultimap argMultimapName = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
@@ -63,6 +76,37 @@ public class FindCommandParser implements Parser<FindCommand> {
         throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    private static FindCommand parseFuzzy(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty() || !arePrefixesPresent(argMultimap, PREFIX_NAME)
+                || arePrefixesPresent(argMultimap, PREFIX_ADDRESS)
+                || arePrefixesPresent(argMultimap, PREFIX_PARTIAL_ADDRESS)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DISTANCE);
+
+        LandlordName extractedName = ParserUtil.parseLandlordName(argMultimap.getValue(PREFIX_NAME).get());
+        String trimmedExtractedName = extractedName.toString().trim();
+        if (trimmedExtractedName.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        int maxDistance = ParserUtil.parseDistance(argMultimap.getValue(PREFIX_DISTANCE).get());
+        return new FindCommand(new FuzzyQuery(Arrays.asList(trimmedExtractedName.split("\\s+")), maxDistance));
+    }
+
+    private static FindCommand parseFragment(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty() || arePrefixesPresent(argMultimap, PREFIX_NAME)
+                || arePrefixesPresent(argMultimap, PREFIX_ADDRESS)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PARTIAL_ADDRESS);
+
+        String fragment = argMultimap.getValue(PREFIX_PARTIAL_ADDRESS).get().trim();
+        if (fragment.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(new AddressContainsFragmentPredicate(fragment));
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
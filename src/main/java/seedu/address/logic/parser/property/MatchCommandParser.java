@@ -0,0 +1,54 @@
+package seedu.address.logic.parser.property;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.NewMatchesCommand;
+import seedu.address.logic.commands.property.MatchCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.match.MatchEngine;
+
+/**
+ * Parses input arguments and creates a new MatchCommand or NewMatchesCommand object
+ */
+public class MatchCommandParser implements Parser<Command> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MatchCommand
+     * and returns a MatchCommand object for execution, or a NewMatchesCommand if the argument is "new".
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parse(String args) throws ParseException {
+        if (args.trim().equalsIgnoreCase(NewMatchesCommand.COMMAND_ARGUMENT)) {
+            return new NewMatchesCommand();
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_COUNT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_COUNT);
+
+        int limit = MatchEngine.DEFAULT_LIMIT;
+        if (argMultimap.getValue(PREFIX_COUNT).isPresent()) {
+            limit = ParserUtil.parseCount(argMultimap.getValue(PREFIX_COUNT).get());
+        }
+
+        String preamble = argMultimap.getPreamble();
+        if (preamble.equalsIgnoreCase(MatchCommand.ALL_PROPERTIES)) {
+            return new MatchCommand(null, limit);
+        }
+
+        try {
+            Index index = ParserUtil.parseIndex(preamble);
+            return new MatchCommand(index, limit);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+package seedu.address.logic.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.meetup.DateTime;
+import seedu.address.model.meetup.MeetUp;
+
+/**
+ * Reminds the user of each meet-up a lead time before it starts.
+ * Every pending reminder is held in a single {@link TimerWheel}, ticked by one background thread, instead of each
+ * meet-up holding a scheduled task of its own. The reminders follow every change to the meet-up list: only the
+ * reminder of a meet-up that is added, edited or deleted is scheduled or cancelled. A repeating meet-up has a
+ * reminder for its next occurrence only, and the one after is scheduled when it fires.
+ */
+public class ReminderService {
+
+    public static final String MESSAGE_REMINDER = "Reminder: %1$s starts at %2$s with %3$s";
+    public static final Duration TICK = Duration.ofSeconds(1);
+
+    /** A turn of the wheel takes about eight and a half minutes at one tick a second. */
+    private static final int WHEEL_SIZE = 512;
+    private static final Logger logger = LogsCenter.getLogger(ReminderService.class);
+
+    private final Duration leadTime;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final TimerWheel<MeetUp> wheel;
+    private final Map<MeetUp, LocalDateTime> occurrenceStarts = new IdentityHashMap<>();
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Creates a service reminding the user of each meet-up in {@code meetUps} {@code leadTime} before it starts, and
+     * keeps the reminders up to date as {@code meetUps} changes. Meet-ups that have started by the time given by
+     * {@code clock} are not reminded of. No reminder is given until the service is started.
+     */
+    public ReminderService(ObservableList<MeetUp> meetUps, Duration leadTime, Clock clock) {
+        requireAllNonNull(meetUps, leadTime, clock);
+        checkArgument(!leadTime.isNegative(), "The lead time of a reminder cannot be negative");
+        this.leadTime = leadTime;
+        this.clock = clock;
+        this.zone = clock.getZone();
+        this.wheel = new TimerWheel<>(WHEEL_SIZE, toTick(clock.instant()));
+        synchronized (this) {
+            meetUps.forEach(this::schedule);
+        }
+        meetUps.addListener((ListChangeListener<MeetUp>) this::onChanged);
+    }
+
+    /**
+     * Starts ticking on a background thread, passing each reminder to {@code notifier} on that thread.
+     */
+    public synchronized void start(Consumer<String> notifier) {
+        requireNonNull(notifier);
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "meet-up reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                tick(clock.instant()).forEach(notifier);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to send meet-up reminders: " + e);
+            }
+        }, TICK.toMillis(), TICK.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops ticking. Pending reminders are kept, and given if the service is started again.
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Returns the number of meet-ups waiting to be reminded of.
+     */
+    public synchronized int getPendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Advances to {@code now}, returning the reminders that have fallen due, in order of when they were due.
+     */
+    synchronized List<String> tick(Instant now) {
+        List<String> reminders = new ArrayList<>();
+        for (MeetUp meetUp : wheel.advanceTo(toTick(now))) {
+            LocalDateTime start = occurrenceStarts.remove(meetUp);
+            reminders.add(String.format(MESSAGE_REMINDER, meetUp.getSubject(), start.format(DateTime.FORMATTER),
+                    meetUp.getAddedBuyers().stream().map(buyer -> buyer.fullName).sorted()
+                            .collect(Collectors.joining(", "))));
+            // starts have minute precision, so the next occurrence starts at least a minute later
+            scheduleFrom(meetUp, start.plusMinutes(1));
+        }
+        return reminders;
+    }
+
+    private synchronized void onChanged(ListChangeListener.Change<? extends MeetUp> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::cancel);
+            change.getAddedSubList().forEach(this::schedule);
+        }
+    }
+
+    private void schedule(MeetUp meetUp) {
+        scheduleFrom(meetUp, LocalDateTime.ofInstant(toInstant(wheel.getCurrentTick() + 1), zone));
+    }
+
+    /**
+     * Schedules the reminder for the first occurrence of {@code meetUp} starting at or after {@code earliest}.
+     */
+    private void scheduleFrom(MeetUp meetUp, LocalDateTime earliest) {
+        meetUp.getFirstStartBetween(earliest, LocalDateTime.MAX).ifPresent(start -> {
+            occurrenceStarts.put(meetUp, start);
+            wheel.schedule(meetUp, toTick(start.minus(leadTime).atZone(zone).toInstant()));
+        });
+    }
+
+    private void cancel(MeetUp meetUp) {
+        wheel.cancel(meetUp);
+        occurrenceStarts.remove(meetUp);
+    }
+
+    private static long toTick(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), TICK.toMillis());
+    }
+
+    private static Instant toInstant(long tick) {
+        return Instant.ofEpochMilli(tick * TICK.toMillis());
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.logic.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hashed timer wheel, holding items until their deadlines, measured in ticks.
+ * Each item is kept in the bucket its deadline hashes to, so scheduling and cancelling an item take constant time,
+ * and advancing the wheel by a tick visits a single bucket, however many items are waiting. Items due more than a
+ * turn of the wheel away share a bucket with nearer ones, and are left in place until their deadline comes round.
+ * Not thread-safe.
+ *
+ * @param <T> the type of the items, which are compared by identity
+ */
+class TimerWheel<T> {
+
+    private final List<Set<T>> buckets;
+    private final Map<T, Long> deadlines = new IdentityHashMap<>();
+    private long currentTick;
+
+    /**
+     * Creates an empty wheel with {@code size} buckets, at tick {@code currentTick}.
+     */
+    TimerWheel(int size, long currentTick) {
+        checkArgument(size > 0, "A timer wheel must have at least one bucket");
+        buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        this.currentTick = currentTick;
+    }
+
+    long getCurrentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return deadlines.size();
+    }
+
+    boolean contains(T item) {
+        return deadlines.containsKey(item);
+    }
+
+    /**
+     * Schedules {@code item} to expire at tick {@code deadline}, replacing any deadline it already has.
+     * A deadline that has already passed expires on the next tick.
+     */
+    void schedule(T item, long deadline) {
+        requireNonNull(item);
+        cancel(item);
+        long tick = Math.max(deadline, currentTick + 1);
+        deadlines.put(item, tick);
+        bucketOf(tick).add(item);
+    }
+
+    /**
+     * Cancels {@code item}, returning true if it was waiting to expire.
+     */
+    boolean cancel(T item) {
+        Long deadline = deadlines.remove(item);
+        if (deadline == null) {
+            return false;
+        }
+        bucketOf(deadline).remove(item);
+        return true;
+    }
+
+    /**
+     * Advances the wheel to tick {@code tick}, returning the items whose deadlines are at or before it, in order of
+     * deadline. A jump of a full turn or more visits each bucket once.
+     */
+    List<T> advanceTo(long tick) {
+        List<T> expired = new ArrayList<>();
+        if (tick <= currentTick) {
+            return expired;
+        }
+        long bucketsToVisit = Math.min(tick - currentTick, buckets.size());
+        for (long i = 1; i <= bucketsToVisit; i++) {
+            Iterator<T> iterator = bucketOf(currentTick + i).iterator();
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                if (deadlines.get(item) <= tick) {
+                    expired.add(item);
+                    iterator.remove();
+                }
+            }
+        }
+        currentTick = tick;
+
+        expired.sort(Comparator.comparing(deadlines::get));
+        expired.forEach(deadlines::remove);
+        return expired;
+    }
+
+    private Set<T> bucketOf(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+}
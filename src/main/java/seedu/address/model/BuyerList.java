@@ -2,14 +2,20 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.buyer.Buyer;
 import seedu.address.model.buyer.UniqueBuyerList;
+import seedu.address.model.index.SnapshotIndex;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * Wraps all data at the address-book level
@@ -100,6 +106,51 @@ public class BuyerList implements ReadOnlyBuyerList {
         buyers.remove(key);
     }
 
+    /**
+     * Replaces each buyer that is a key of {@code replacements} with its value, which must be the same buyer.
+     * Every key must exist in the buyer list.
+     */
+    public void replaceBuyers(Map<Buyer, Buyer> replacements) {
+        requireNonNull(replacements);
+        logger.info(String.format("Replacing %d buyers in buyer list", replacements.size()));
+        buyers.replaceBuyers(replacements);
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code BuyerList}.
+     * Each of them must exist in the buyer list.
+     */
+    public void removeBuyers(Collection<Buyer> keys) {
+        requireNonNull(keys);
+        logger.info(String.format("Removing %d buyers from buyer list", keys.size()));
+        buyers.removeAll(keys);
+    }
+
+    /**
+     * Returns the buyers whose tags satisfy {@code filter}.
+     * The returned set compares buyers by identity.
+     */
+    public Set<Buyer> findBuyersByTags(TagFilter filter) {
+        return buyers.findByTags(filter);
+    }
+
+    /**
+     * Returns the buyers as of the last change to this list, in an immutable list that shares its structure with the
+     * other versions of it, so taking it costs O(1). It can be read from any thread.
+     */
+    public PersistentList<Buyer> getSnapshot() {
+        return buyers.getSnapshot();
+    }
+
+    /**
+     * Restores this list to {@code version}, a snapshot of it, changing only the buyers that differ.
+     * Returns the buyers removed from the list and those added to it.
+     */
+    public SnapshotIndex.Difference<Buyer> restore(PersistentList<Buyer> version) {
+        logger.info("Restoring buyer list to an earlier version");
+        return buyers.restore(version);
+    }
+
     //// util methods
 
     @Override
@@ -2,12 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IntervalIndex;
+import seedu.address.model.index.SnapshotIndex;
+import seedu.address.model.index.TimeSlot;
+import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.MeetUp;
 import seedu.address.model.meetup.UniqueMeetUpList;
 
@@ -81,6 +90,15 @@ public class MeetUpList implements ReadOnlyMeetUpList {
         meetUps.add(m);
     }
 
+    /**
+     * Adds {@code toAdd} to the meet up list at once.
+     * None of them may already exist in the meet up list, or be the same meet-up as another of them.
+     */
+    public void addMeetUps(List<MeetUp> toAdd) {
+        logger.info(String.format("Adding %d meet-ups to meet up list", toAdd.size()));
+        meetUps.addAll(toAdd);
+    }
+
     /**
      * Replaces the given meetUp {@code target} in the list with {@code editedmeetUp}.
      * {@code target} must exist in the meet up list.
@@ -92,6 +110,16 @@ public class MeetUpList implements ReadOnlyMeetUpList {
         meetUps.setMeetUp(target, editedMeetUp);
     }
 
+    /**
+     * Replaces each meet-up that is a key of {@code replacements} with its value, which must be the same meet-up.
+     * Every key must exist in the meet up list.
+     */
+    public void replaceMeetUps(Map<MeetUp, MeetUp> replacements) {
+        requireNonNull(replacements);
+        logger.info(String.format("Replacing %d meet-ups in meet up list", replacements.size()));
+        meetUps.replaceMeetUps(replacements);
+    }
+
     /**
      * Removes {@code key} from this {@code MeetUpList}.
      * {@code key} must exist in the meet up list.
@@ -101,6 +129,64 @@ public class MeetUpList implements ReadOnlyMeetUpList {
         meetUps.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code MeetUpList}.
+     * Each of them must exist in the meet up list.
+     */
+    public void removeMeetUps(Collection<MeetUp> keys) {
+        requireNonNull(keys);
+        logger.info(String.format("Removing %d meet-ups from meet up list", keys.size()));
+        meetUps.removeAll(keys);
+    }
+
+    /**
+     * Returns the meet-ups starting at or after {@code start} and before {@code end}, in order of starting time.
+     */
+    public List<MeetUp> findMeetUpsStartingBetween(LocalDateTime start, LocalDateTime end) {
+        return meetUps.findStartingBetween(start, end);
+    }
+
+    /**
+     * Returns the meet-ups with {@code buyer} that overlap the time from {@code start} to {@code end}, in order of
+     * starting time.
+     */
+    public List<MeetUp> findMeetUpsOverlappingFor(AddedBuyer buyer, LocalDateTime start, LocalDateTime end) {
+        return meetUps.findOverlappingFor(buyer, start, end);
+    }
+
+    /**
+     * Returns every pair of overlapping meet-ups with a buyer in common, once for each such buyer.
+     */
+    public List<IntervalIndex.Overlap<MeetUp>> findDoubleBookings() {
+        return meetUps.findDoubleBookings();
+    }
+
+    /**
+     * Returns up to {@code limit} of the earliest slots of at least {@code duration} from {@code start} to
+     * {@code end} in which none of {@code buyers} has a meet-up.
+     */
+    public List<TimeSlot> findFreeSlots(Collection<AddedBuyer> buyers, LocalDateTime start, LocalDateTime end,
+            Duration duration, int limit) {
+        return meetUps.findFreeSlotsFor(buyers, start, end, duration, limit);
+    }
+
+    /**
+     * Returns the meet-ups as of the last change to this list, in an immutable list that shares its structure with the
+     * other versions of it, so taking it costs O(1). It can be read from any thread.
+     */
+    public PersistentList<MeetUp> getSnapshot() {
+        return meetUps.getSnapshot();
+    }
+
+    /**
+     * Restores this list to {@code version}, a snapshot of it, changing only the meet-ups that differ.
+     * Returns the meet-ups removed from the list and those added to it.
+     */
+    public SnapshotIndex.Difference<MeetUp> restore(PersistentList<MeetUp> version) {
+        logger.info("Restoring meet up list to an earlier version");
+        return meetUps.restore(version);
+    }
+
     //// util methods
 
     @Override
@@ -1,13 +1,28 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.index.FuzzyQuery;
+import seedu.address.model.index.IntervalIndex;
+import seedu.address.model.index.TimeSlot;
+import seedu.address.model.match.Match;
+import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.property.Address;
 import seedu.address.model.property.Property;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * The API of the Model component.
@@ -80,6 +95,18 @@ public interface Model {
      */
     void setBuyer(Buyer target, Buyer editedBuyer);
 
+    /**
+     * Replaces each buyer that is a key of {@code replacements} with its value, in a single change to the buyer list.
+     * Every key must exist in the buyer list, and each value must be the same buyer as its key.
+     */
+    void replaceBuyers(Map<Buyer, Buyer> replacements);
+
+    /**
+     * Deletes all of the given buyers, in a single change to the buyer list.
+     * Each of them must exist in the buyer list.
+     */
+    void deleteBuyers(Collection<Buyer> targets);
+
     /** Returns an unmodifiable view of the unfiltered buyer list */
     ObservableList<Buyer> getUnfilteredBuyerList();
 
@@ -87,11 +114,48 @@ public interface Model {
     ObservableList<Buyer> getFilteredBuyerList();
 
     /**
-     * Updates the filter of the filtered buyer list to filter by the given {@code predicate}.
+     * Returns the buyers whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares buyers by identity, so it can back a filter of the buyer list.
+     */
+    Set<Buyer> findBuyersByName(Collection<String> keywords);
+
+    /**
+     * Returns the buyers with a name word within {@code query}'s maximum edit distance of any of its keywords,
+     * mapped to the smallest such distance. The returned map compares buyers by identity.
+     */
+    Map<Buyer, Integer> findBuyersByNameFuzzy(FuzzyQuery query);
+
+    /**
+     * Returns the buyers whose tags satisfy {@code filter}.
+     * The returned set compares buyers by identity, so it can back a filter of the buyer list.
+     */
+    Set<Buyer> findBuyersByTags(TagFilter filter);
+
+    /**
+     * Returns the buyers whose phone number has the same digits as {@code phone}.
+     * The returned set compares buyers by identity.
+     */
+    Set<Buyer> findBuyersByPhone(String phone);
+
+    /**
+     * Returns the buyers whose email is {@code email}, ignoring case.
+     * The returned set compares buyers by identity.
+     */
+    Set<Buyer> findBuyersByEmail(String email);
+
+    /**
+     * Updates the filter of the filtered buyer list to filter by the given {@code predicate}, in list order.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredBuyerList(Predicate<Buyer> predicate);
 
+    /**
+     * Updates the filter of the filtered buyer list to filter by the given {@code predicate}, and orders it by
+     * {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredBuyerList(Predicate<Buyer> predicate, Comparator<Buyer> comparator);
+
     // ============================ MeetUp Model  ==========================
 
     /**
@@ -118,12 +182,62 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered meetup list */
     ObservableList<MeetUp> getFilteredMeetUpList();
 
+    /**
+     * Returns the meet-ups whose subject contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares meet-ups by identity, so it can back a filter of the meet-up list.
+     */
+    Set<MeetUp> findMeetUpsBySubject(Collection<String> keywords);
+
+    /**
+     * Returns the meet-ups with an added buyer name word within {@code query}'s maximum edit distance of any of its
+     * keywords, mapped to the smallest such distance. The returned map compares meet-ups by identity.
+     */
+    Map<MeetUp, Integer> findMeetUpsByAddedBuyerFuzzy(FuzzyQuery query);
+
+    /**
+     * Returns the meet-ups with an occurrence starting at or after {@code start} and before {@code end}, in order of
+     * the first such occurrence.
+     */
+    List<MeetUp> findMeetUpsStartingBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the meet-ups with {@code buyer} that overlap the time from {@code start} to {@code end}, in order of
+     * starting time. Meet-ups ending exactly at {@code start} or starting exactly at {@code end} do not overlap it.
+     */
+    List<MeetUp> findMeetUpsOverlappingFor(AddedBuyer buyer, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the meet-ups held at the property with address {@code property} that have an occurrence starting at or
+     * after {@code now}, in order of the next such occurrence.
+     */
+    List<MeetUp> findUpcomingMeetUpsAt(Address property, LocalDateTime now);
+
+    /**
+     * Returns every pair of overlapping meet-ups with a buyer in common, keyed by the buyer's name, once for each
+     * such buyer. Pairs are ordered by buyer name and then by starting time.
+     */
+    List<IntervalIndex.Overlap<MeetUp>> findDoubleBookings();
+
+    /**
+     * Returns up to {@code limit} of the earliest slots of at least {@code duration} from {@code start} to
+     * {@code end} in which none of {@code buyers} has a meet-up, in order of starting time.
+     * Each slot runs until the next meet-up of any of the buyers, or until {@code end}.
+     */
+    List<TimeSlot> findFreeSlots(Collection<AddedBuyer> buyers, LocalDateTime start, LocalDateTime end,
+            Duration duration, int limit);
+
     /**
      * Adds the given MeetUp.
      * {@code MeetUp} must not already exist in the buyer list.
      */
     void addMeetUp(MeetUp meetUp);
 
+    /**
+     * Adds the given meet-ups in a single change to the meet-up list.
+     * None of them may already exist in the meet-up list, or be the same meet-up as another of them.
+     */
+    void addMeetUps(List<MeetUp> meetUps);
+
     /**
      * Updates the given schedule's meetup in the schedule list.
      * The schedule must exist in the schedule list.
@@ -135,12 +249,31 @@ public interface Model {
      */
     void deleteMeetUp(MeetUp target);
 
+    /**
+     * Replaces each meet-up that is a key of {@code replacements} with its value, in a single change to the meet-up
+     * list. Every key must exist in the meet-up list, and each value must be the same meet-up as its key.
+     */
+    void replaceMeetUps(Map<MeetUp, MeetUp> replacements);
+
+    /**
+     * Deletes all of the given meet-ups, in a single change to the meet-up list.
+     * Each of them must exist in the meet-up list.
+     */
+    void deleteMeetUps(Collection<MeetUp> targets);
+
     /*
      * Updates the filter of the meetup list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredMeetUpList(Predicate<MeetUp> predicate);
 
+    /**
+     * Updates the filter of the meetup list to filter by the given {@code predicate}, and orders it by
+     * {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredMeetUpList(Predicate<MeetUp> predicate, Comparator<MeetUp> comparator);
+
     /**
      * Returns true if a MeetUp with the same identity as {@code MeetUp} exists in the MeetUp list.
      */
@@ -172,6 +305,41 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered property list */
     ObservableList<Property> getFilteredPropertyList();
 
+    /**
+     * Returns the properties whose landlord name contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares properties by identity, so it can back a filter of the property list.
+     */
+    Set<Property> findPropertiesByLandlordName(Collection<String> keywords);
+
+    /**
+     * Returns the properties with a landlord name word within {@code query}'s maximum edit distance of any of its
+     * keywords, mapped to the smallest such distance. The returned map compares properties by identity.
+     */
+    Map<Property, Integer> findPropertiesByLandlordNameFuzzy(FuzzyQuery query);
+
+    /**
+     * Returns the properties whose landlord phone number has the same digits as {@code phone}.
+     * The returned set compares properties by identity.
+     */
+    Set<Property> findPropertiesByLandlordPhone(String phone);
+
+    /**
+     * Returns the properties whose address contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares properties by identity, so it can back a filter of the property list.
+     */
+    Set<Property> findPropertiesByAddress(Collection<String> keywords);
+
+    /**
+     * Returns the properties whose address contains {@code fragment} anywhere, ignoring case.
+     * The returned set compares properties by identity, so it can back a filter of the property list.
+     */
+    Set<Property> findPropertiesByAddressFragment(String fragment);
+
+    /**
+     * Returns the property with address {@code address}, if any.
+     */
+    Optional<Property> findPropertyByAddress(Address address);
+
     /**
      * Adds the given property.
      * {@code property} must not already exist in the property list.
@@ -181,22 +349,127 @@ public interface Model {
     /**
      * Updates the given schedule's Property in the schedule list.
      * The schedule must exist in the schedule list.
+     * If the address of the property is edited, the meet-ups held at it are moved to the new address.
      */
     void setProperty(Property target, Property editedProperty);
 
     /**
-     * Deletes the given schedule in the schedule list
+     * Deletes the given schedule in the schedule list.
+     * The meet-ups held at the property are kept, but are no longer held at any property.
      */
     void deleteProperty(Property target);
 
+    /**
+     * Replaces each property that is a key of {@code replacements} with its value, in a single change to the property
+     * list. Every key must exist in the property list, and each value must be the same property as its key, so no
+     * meet-up is moved.
+     */
+    void replaceProperties(Map<Property, Property> replacements);
+
+    /**
+     * Deletes all of the given properties, in a single change to the property list.
+     * Each of them must exist in the property list. The meet-ups held at them are kept, but are no longer held at any
+     * property.
+     */
+    void deleteProperties(Collection<Property> targets);
+
     /*
      * Updates the filter of the property list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPropertyList(Predicate<Property> predicate);
 
+    /**
+     * Updates the filter of the property list to filter by the given {@code predicate}, and orders it by
+     * {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPropertyList(Predicate<Property> predicate, Comparator<Property> comparator);
+
     /**
      * Returns true if a Property with the same identity as {@code Property} exists in the Property list.
      */
     boolean hasProperty(Property meetUp);
+
+    // ============================ Match Model  ==========================
+
+    /**
+     * Returns an unmodifiable view of the matches found by adding or editing buyers and properties since the
+     * matches were last cleared, oldest first.
+     */
+    ObservableList<Match> getNewMatchList();
+
+    /**
+     * Clears the new matches.
+     */
+    void clearNewMatches();
+
+    // ============================ Transactions  ==========================
+
+    /**
+     * Starts a transaction. Until it is committed or rolled back, the changes made to the buyers, meet-ups and
+     * properties can be undone together by {@link #rollbackTransaction()}.
+     *
+     * @throws IllegalStateException if a transaction has already started.
+     */
+    void startTransaction();
+
+    /**
+     * Keeps the changes made since the transaction started, and ends the transaction.
+     *
+     * @throws IllegalStateException if no transaction has started.
+     */
+    void commitTransaction();
+
+    /**
+     * Undoes the changes made to the buyers, meet-ups, properties, new matches and shown lists since the transaction
+     * started, and ends the transaction.
+     *
+     * @throws IllegalStateException if no transaction has started.
+     */
+    void rollbackTransaction();
+
+    // ============================ Undo and redo  =========================
+
+    /**
+     * Records the buyers, meet-ups and properties as they are now as a version that {@link #undo()} can return to,
+     * if they changed since the last version recorded. The versions that could have been redone are forgotten, and
+     * so are the oldest versions once there are more than the undo limit of the user prefs.
+     */
+    void commitVersion();
+
+    /**
+     * Returns true if there is a change to undo.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone change to redo, as no change was made since it was undone.
+     */
+    boolean canRedo();
+
+    /**
+     * Restores the buyers, meet-ups and properties to the version recorded before the current one, recording the
+     * current one first if they changed since the last version recorded. Only the entities that differ between the
+     * versions are changed, so the filtered lists update as little as for the change undone.
+     *
+     * @throws IllegalStateException if there is no change to undo.
+     */
+    void undo();
+
+    /**
+     * Restores the buyers, meet-ups and properties to the version undone last.
+     *
+     * @throws IllegalStateException if there is no change to redo.
+     */
+    void redo();
+
+    // ============================ Snapshots  =============================
+
+    /**
+     * Returns the buyers, meet-ups and properties as of the last completed change to them. A new snapshot is
+     * published after each change, or when a transaction ends, so a snapshot never shows part of a change.
+     * Unlike the rest of the model, this can be called from any thread, and never waits for a change to complete.
+     */
+    ModelSnapshot getSnapshot();
 }
@@ -4,16 +4,48 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.buyer.Email;
+import seedu.address.model.buyer.Phone;
+import seedu.address.model.index.BkTreeIndex;
+import seedu.address.model.index.FuzzyQuery;
+import seedu.address.model.index.HashIndex;
+import seedu.address.model.index.IntervalIndex;
+import seedu.address.model.index.InvertedIndex;
+import seedu.address.model.index.JoinIndex;
+import seedu.address.model.index.SnapshotIndex;
+import seedu.address.model.index.TimeSlot;
+import seedu.address.model.match.IncrementalMatcher;
+import seedu.address.model.match.Match;
+import seedu.address.model.match.MatchScorer;
+import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.property.Address;
 import seedu.address.model.property.Property;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * Represents the in-memory model of the buyer list data.
@@ -21,6 +53,9 @@ import seedu.address.model.property.Property;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** Maximum number of new matches kept; the oldest are dropped first. */
+    private static final int MAX_NEW_MATCHES = 100;
+
     private final BuyerList buyerList;
     private final MeetUpList meetUpList;
     private final PropertyList propertyList;
@@ -28,6 +63,30 @@ public class ModelManager implements Model {
     private final FilteredList<Buyer> filteredBuyers;
     private final FilteredList<MeetUp> filteredMeetUps;
     private final FilteredList<Property> filteredProperties;
+    private final SortedList<Buyer> sortedBuyers;
+    private final SortedList<MeetUp> sortedMeetUps;
+    private final SortedList<Property> sortedProperties;
+    private final InvertedIndex<Buyer> buyerNameIndex;
+    private final InvertedIndex<MeetUp> meetUpSubjectIndex;
+    private final InvertedIndex<Property> landlordNameIndex;
+    private final InvertedIndex<Property> addressIndex;
+    private final HashIndex<Buyer> buyerPhoneIndex;
+    private final HashIndex<Buyer> buyerEmailIndex;
+    private final HashIndex<Property> landlordPhoneIndex;
+    private final BkTreeIndex<Buyer> buyerNameTree;
+    private final BkTreeIndex<MeetUp> addedBuyerTree;
+    private final BkTreeIndex<Property> landlordNameTree;
+    private final JoinIndex<Property, MeetUp> meetUpPropertyIndex;
+    private final IncrementalMatcher matcher = new IncrementalMatcher();
+    private final ObservableList<Match> newMatches = FXCollections.observableArrayList();
+    private final ObservableList<Match> unmodifiableNewMatches = FXCollections.unmodifiableObservableList(newMatches);
+    private Transaction transaction;
+    /** The last published snapshot, read by other threads. Only replaced on the thread changing the model. */
+    private volatile ModelSnapshot snapshot;
+    /** The recorded versions of the lists, oldest first, which share all but their changes with each other. */
+    private final List<ModelSnapshot> versions = new ArrayList<>();
+    /** The index in {@code versions} of the version the lists were last recorded or restored at. */
+    private int currentVersion;
 
     /**
      * Initializes a ModelManager with the given buyerList, meetUpList, propertyList and userPrefs.
@@ -43,7 +102,34 @@ public class ModelManager implements Model {
         filteredBuyers = new FilteredList<>(this.buyerList.getBuyerList());
         filteredMeetUps = new FilteredList<>(this.meetUpList.getMeetUpList());
         filteredProperties = new FilteredList<>(this.propertyList.getPropertyList());
-
+        sortedBuyers = new SortedList<>(filteredBuyers);
+        sortedMeetUps = new SortedList<>(filteredMeetUps);
+        sortedProperties = new SortedList<>(filteredProperties);
+        buyerNameIndex = new InvertedIndex<>(this.buyerList.getBuyerList(), buyer -> buyer.getName().fullName);
+        meetUpSubjectIndex = new InvertedIndex<>(this.meetUpList.getMeetUpList(),
+                meetUp -> meetUp.getSubject().meetUpFullSubject);
+        landlordNameIndex = new InvertedIndex<>(this.propertyList.getPropertyList(),
+                property -> property.getLandlordName().fullName);
+        addressIndex = new InvertedIndex<>(this.propertyList.getPropertyList(),
+                property -> property.getAddress().value);
+        buyerPhoneIndex = new HashIndex<>(this.buyerList.getBuyerList(),
+                buyer -> Phone.toLookupKey(buyer.getPhone().value));
+        buyerEmailIndex = new HashIndex<>(this.buyerList.getBuyerList(),
+                buyer -> Email.toLookupKey(buyer.getEmail().value));
+        landlordPhoneIndex = new HashIndex<>(this.propertyList.getPropertyList(),
+                property -> seedu.address.model.property.Phone.toLookupKey(property.getPhone().value));
+        buyerNameTree = new BkTreeIndex<>(this.buyerList.getBuyerList(), buyer -> List.of(buyer.getName().fullName));
+        addedBuyerTree = new BkTreeIndex<>(this.meetUpList.getMeetUpList(), meetUp -> meetUp.getAddedBuyers().stream()
+                .map(addedBuyer -> addedBuyer.fullName).collect(Collectors.toList()));
+        landlordNameTree = new BkTreeIndex<>(this.propertyList.getPropertyList(),
+                property -> List.of(property.getLandlordName().fullName));
+        meetUpPropertyIndex = new JoinIndex<>(this.propertyList.getPropertyList(),
+                property -> property.getAddress().value, this.meetUpList.getMeetUpList(),
+                meetUp -> meetUp.getProperty().map(address -> address.value));
+        matcher.reset(this.buyerList.getBuyerList(), this.propertyList.getPropertyList());
+        snapshot = new ModelSnapshot(0, this.buyerList.getSnapshot(), this.meetUpList.getSnapshot(),
+                this.propertyList.getSnapshot());
+        versions.add(snapshot);
     }
 
     public ModelManager() {
@@ -64,9 +150,9 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return buyerList.equals(otherModelManager.buyerList)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredBuyers.equals(otherModelManager.filteredBuyers)
-                && filteredMeetUps.equals(otherModelManager.filteredMeetUps)
-                && filteredProperties.equals(otherModelManager.filteredProperties);
+                && sortedBuyers.equals(otherModelManager.sortedBuyers)
+                && sortedMeetUps.equals(otherModelManager.sortedMeetUps)
+                && sortedProperties.equals(otherModelManager.sortedProperties);
     }
 
     //=========== UserPrefs ==================================================================================
@@ -131,6 +217,8 @@ public class ModelManager implements Model {
     @Override
     public void setBuyerList(ReadOnlyBuyerList buyerList) {
         this.buyerList.resetData(buyerList);
+        resetMatches();
+        publishSnapshot();
     }
 
     @Override
@@ -147,12 +235,17 @@ public class ModelManager implements Model {
     @Override
     public void deleteBuyer(Buyer target) {
         buyerList.removeBuyer(target);
+        matcher.removeBuyer(target);
+        newMatches.removeIf(match -> match.getBuyer().equals(target));
+        publishSnapshot();
     }
 
     @Override
     public void addBuyer(Buyer buyer) {
         buyerList.addBuyer(buyer);
         updateFilteredBuyerList(PREDICATE_SHOW_ALL_BUYERS);
+        addNewMatches(matcher.addBuyer(buyer));
+        publishSnapshot();
     }
 
     @Override
@@ -160,6 +253,41 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedBuyer);
 
         buyerList.setBuyer(target, editedBuyer);
+        newMatches.replaceAll(match -> match.getBuyer().equals(target)
+                ? new Match(editedBuyer, match.getProperty(), MatchScorer.score(editedBuyer, match.getProperty()))
+                : match);
+        newMatches.removeIf(match -> match.getScore() <= 0);
+        addNewMatches(matcher.setBuyer(target, editedBuyer));
+        publishSnapshot();
+    }
+
+    @Override
+    public void replaceBuyers(Map<Buyer, Buyer> replacements) {
+        requireNonNull(replacements);
+
+        buyerList.replaceBuyers(replacements);
+        newMatches.replaceAll(match -> {
+            Buyer editedBuyer = replacements.get(match.getBuyer());
+            return editedBuyer == null
+                    ? match
+                    : new Match(editedBuyer, match.getProperty(), MatchScorer.score(editedBuyer, match.getProperty()));
+        });
+        newMatches.removeIf(match -> match.getScore() <= 0);
+        List<Match> found = new ArrayList<>();
+        replacements.forEach((target, editedBuyer) -> found.addAll(matcher.setBuyer(target, editedBuyer)));
+        addNewMatches(bestFirst(found));
+        publishSnapshot();
+    }
+
+    @Override
+    public void deleteBuyers(Collection<Buyer> targets) {
+        requireNonNull(targets);
+        Set<Buyer> deleted = new HashSet<>(targets);
+
+        buyerList.removeBuyers(deleted);
+        deleted.forEach(matcher::removeBuyer);
+        newMatches.removeIf(match -> deleted.contains(match.getBuyer()));
+        publishSnapshot();
     }
 
     //=========== Filtered Buyer List Accessors =============================================================
@@ -178,13 +306,47 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Buyer> getFilteredBuyerList() {
-        return filteredBuyers;
+        return sortedBuyers;
+    }
+
+    @Override
+    public Set<Buyer> findBuyersByName(Collection<String> keywords) {
+        return buyerNameIndex.find(keywords);
+    }
+
+    @Override
+    public Map<Buyer, Integer> findBuyersByNameFuzzy(FuzzyQuery query) {
+        return buyerNameTree.find(query);
+    }
+
+    @Override
+    public Set<Buyer> findBuyersByTags(TagFilter filter) {
+        requireNonNull(filter);
+        return buyerList.findBuyersByTags(filter);
+    }
+
+    @Override
+    public Set<Buyer> findBuyersByPhone(String phone) {
+        return buyerPhoneIndex.find(Phone.toLookupKey(phone));
+    }
+
+    @Override
+    public Set<Buyer> findBuyersByEmail(String email) {
+        return buyerEmailIndex.find(Email.toLookupKey(email));
     }
 
     @Override
     public void updateFilteredBuyerList(Predicate<Buyer> predicate) {
         requireNonNull(predicate);
         filteredBuyers.setPredicate(predicate);
+        sortedBuyers.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredBuyerList(Predicate<Buyer> predicate, Comparator<Buyer> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredBuyers.setPredicate(predicate);
+        sortedBuyers.setComparator(comparator);
     }
 
     //=========== MeetUp List ================================================================================
@@ -192,6 +354,7 @@ public class ModelManager implements Model {
     @Override
     public void setMeetUpList(ReadOnlyMeetUpList meetUpList) {
         this.meetUpList.resetData(meetUpList);
+        publishSnapshot();
     }
 
     @Override
@@ -208,12 +371,22 @@ public class ModelManager implements Model {
     @Override
     public void deleteMeetUp(MeetUp target) {
         meetUpList.removeMeetUp(target);
+        publishSnapshot();
     }
 
     @Override
     public void addMeetUp(MeetUp meetUp) {
         meetUpList.addMeetUp(meetUp);
         updateFilteredMeetUpList(PREDICATE_SHOW_ALL_MEETUPS);
+        publishSnapshot();
+    }
+
+    @Override
+    public void addMeetUps(List<MeetUp> meetUps) {
+        requireNonNull(meetUps);
+        meetUpList.addMeetUps(meetUps);
+        updateFilteredMeetUpList(PREDICATE_SHOW_ALL_MEETUPS);
+        publishSnapshot();
     }
 
     @Override
@@ -221,6 +394,21 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedMeetUp);
 
         meetUpList.setMeetUp(target, editedMeetUp);
+        publishSnapshot();
+    }
+
+    @Override
+    public void replaceMeetUps(Map<MeetUp, MeetUp> replacements) {
+        requireNonNull(replacements);
+        meetUpList.replaceMeetUps(replacements);
+        publishSnapshot();
+    }
+
+    @Override
+    public void deleteMeetUps(Collection<MeetUp> targets) {
+        requireNonNull(targets);
+        meetUpList.removeMeetUps(targets);
+        publishSnapshot();
     }
 
     //=========== Filtered MeetUp List Accessors =============================================================
@@ -239,19 +427,76 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<MeetUp> getFilteredMeetUpList() {
-        return filteredMeetUps;
+        return sortedMeetUps;
+    }
+
+    @Override
+    public Set<MeetUp> findMeetUpsBySubject(Collection<String> keywords) {
+        return meetUpSubjectIndex.find(keywords);
+    }
+
+    @Override
+    public Map<MeetUp, Integer> findMeetUpsByAddedBuyerFuzzy(FuzzyQuery query) {
+        return addedBuyerTree.find(query);
+    }
+
+    @Override
+    public List<MeetUp> findMeetUpsStartingBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return meetUpList.findMeetUpsStartingBetween(start, end);
+    }
+
+    @Override
+    public List<MeetUp> findMeetUpsOverlappingFor(AddedBuyer buyer, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(buyer, start, end);
+        return meetUpList.findMeetUpsOverlappingFor(buyer, start, end);
+    }
+
+    @Override
+    public List<MeetUp> findUpcomingMeetUpsAt(Address property, LocalDateTime now) {
+        requireAllNonNull(property, now);
+        Map<MeetUp, LocalDateTime> nextStarts = new IdentityHashMap<>();
+        for (MeetUp meetUp : meetUpPropertyIndex.findReferencing(property.value)) {
+            meetUp.getFirstStartBetween(now, LocalDateTime.MAX).ifPresent(next -> nextStarts.put(meetUp, next));
+        }
+        List<MeetUp> meetUps = new ArrayList<>(nextStarts.keySet());
+        meetUps.sort(Comparator.comparing(nextStarts::get));
+        return meetUps;
+    }
+
+    @Override
+    public List<IntervalIndex.Overlap<MeetUp>> findDoubleBookings() {
+        return meetUpList.findDoubleBookings();
+    }
+
+    @Override
+    public List<TimeSlot> findFreeSlots(Collection<AddedBuyer> buyers, LocalDateTime start, LocalDateTime end,
+            Duration duration, int limit) {
+        requireAllNonNull(buyers, start, end, duration);
+        return meetUpList.findFreeSlots(buyers, start, end, duration, limit);
     }
 
     @Override
     public void updateFilteredMeetUpList(Predicate <MeetUp> predicate) {
         requireNonNull(predicate);
         filteredMeetUps.setPredicate(predicate);
+        sortedMeetUps.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredMeetUpList(Predicate<MeetUp> predicate, Comparator<MeetUp> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredMeetUps.setPredicate(predicate);
+        sortedMeetUps.setComparator(comparator);
     }
 
     //=========== Property List ================================================================================
     @Override
     public void setPropertyList(ReadOnlyPropertyList propertyList) {
         this.propertyList.resetData(propertyList);
+        resetMatches();
+        moveMeetUps(meetUpPropertyIndex.findDangling(), null);
+        publishSnapshot();
     }
 
     @Override
@@ -268,18 +513,85 @@ public class ModelManager implements Model {
     @Override
     public void deleteProperty(Property property) {
         propertyList.removeProperty(property);
+        matcher.removeProperty(property);
+        newMatches.removeIf(match -> match.getProperty().equals(property));
+        moveMeetUps(meetUpPropertyIndex.findReferencing(property.getAddress().value), null);
+        publishSnapshot();
+    }
+
+    @Override
+    public Optional<Property> findPropertyByAddress(Address address) {
+        requireNonNull(address);
+        return meetUpPropertyIndex.findReferenced(address.value);
     }
 
     @Override
     public void addProperty(Property property) {
         propertyList.addProperty(property);
         updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
+        addNewMatches(matcher.addProperty(property));
+        publishSnapshot();
     }
 
     @Override
     public void setProperty(Property target, Property editedProperty) {
         requireAllNonNull(target, editedProperty);
         propertyList.setProperty(target, editedProperty);
+        newMatches.replaceAll(match -> match.getProperty().equals(target)
+                ? new Match(match.getBuyer(), editedProperty, MatchScorer.score(match.getBuyer(), editedProperty))
+                : match);
+        newMatches.removeIf(match -> match.getScore() <= 0);
+        addNewMatches(matcher.setProperty(target, editedProperty));
+        if (!target.getAddress().equals(editedProperty.getAddress())) {
+            moveMeetUps(meetUpPropertyIndex.findReferencing(target.getAddress().value), editedProperty.getAddress());
+        }
+        publishSnapshot();
+    }
+
+    @Override
+    public void replaceProperties(Map<Property, Property> replacements) {
+        requireNonNull(replacements);
+
+        propertyList.replaceProperties(replacements);
+        newMatches.replaceAll(match -> {
+            Property editedProperty = replacements.get(match.getProperty());
+            return editedProperty == null
+                    ? match
+                    : new Match(match.getBuyer(), editedProperty, MatchScorer.score(match.getBuyer(), editedProperty));
+        });
+        newMatches.removeIf(match -> match.getScore() <= 0);
+        List<Match> found = new ArrayList<>();
+        replacements.forEach((target, editedProperty) -> found.addAll(matcher.setProperty(target, editedProperty)));
+        addNewMatches(bestFirst(found));
+        publishSnapshot();
+    }
+
+    @Override
+    public void deleteProperties(Collection<Property> targets) {
+        requireNonNull(targets);
+        Set<Property> deleted = new HashSet<>(targets);
+
+        propertyList.removeProperties(deleted);
+        deleted.forEach(matcher::removeProperty);
+        newMatches.removeIf(match -> deleted.contains(match.getProperty()));
+        Set<MeetUp> heldAtDeleted = new HashSet<>();
+        deleted.forEach(property -> heldAtDeleted.addAll(
+                meetUpPropertyIndex.findReferencing(property.getAddress().value)));
+        moveMeetUps(heldAtDeleted, null);
+        publishSnapshot();
+    }
+
+    /**
+     * Moves {@code meetUps} to the property with address {@code property}, or to no property if it is null, in one
+     * batch replacement of the meet-up list.
+     */
+    private void moveMeetUps(Set<MeetUp> meetUps, Address property) {
+        if (meetUps.isEmpty()) {
+            return;
+        }
+        Map<MeetUp, MeetUp> replacements = new IdentityHashMap<>();
+        meetUps.forEach(meetUp -> replacements.put(meetUp, meetUp.withProperty(property)));
+        meetUpList.replaceMeetUps(replacements);
     }
 
     //=========== Filtered Property List Accessors =============================================================
@@ -298,12 +610,254 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Property> getFilteredPropertyList() {
-        return filteredProperties;
+        return sortedProperties;
+    }
+
+    @Override
+    public Set<Property> findPropertiesByLandlordName(Collection<String> keywords) {
+        return landlordNameIndex.find(keywords);
+    }
+
+    @Override
+    public Map<Property, Integer> findPropertiesByLandlordNameFuzzy(FuzzyQuery query) {
+        return landlordNameTree.find(query);
+    }
+
+    @Override
+    public Set<Property> findPropertiesByLandlordPhone(String phone) {
+        return landlordPhoneIndex.find(seedu.address.model.property.Phone.toLookupKey(phone));
+    }
+
+    @Override
+    public Set<Property> findPropertiesByAddress(Collection<String> keywords) {
+        return addressIndex.find(keywords);
+    }
+
+    @Override
+    public Set<Property> findPropertiesByAddressFragment(String fragment) {
+        requireNonNull(fragment);
+        return propertyList.findPropertiesByAddressFragment(fragment);
     }
 
     @Override
     public void updateFilteredPropertyList(Predicate<Property> predicate) {
         requireNonNull(predicate);
         filteredProperties.setPredicate(predicate);
+        sortedProperties.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPropertyList(Predicate<Property> predicate, Comparator<Property> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredProperties.setPredicate(predicate);
+        sortedProperties.setComparator(comparator);
+    }
+
+    //=========== New Matches ==================================================================================
+
+    @Override
+    public ObservableList<Match> getNewMatchList() {
+        return unmodifiableNewMatches;
+    }
+
+    @Override
+    public void clearNewMatches() {
+        newMatches.clear();
+    }
+
+    private void addNewMatches(List<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        logger.fine(matches.size() + " new matches found");
+        List<Match> kept = matches.subList(0, Math.min(matches.size(), MAX_NEW_MATCHES));
+        int overflow = newMatches.size() + kept.size() - MAX_NEW_MATCHES;
+        if (overflow > 0) {
+            newMatches.remove(0, overflow);
+        }
+        newMatches.addAll(kept);
+    }
+
+    private void resetMatches() {
+        matcher.reset(buyerList.getBuyerList(), propertyList.getPropertyList());
+        newMatches.clear();
+    }
+
+    private static List<Match> bestFirst(List<Match> matches) {
+        matches.sort(Comparator.comparingDouble(Match::getScore).reversed());
+        return matches;
+    }
+
+    //=========== Transactions ================================================================================
+
+    @Override
+    public void startTransaction() {
+        if (transaction != null) {
+            throw new IllegalStateException("A transaction has already started");
+        }
+        transaction = new Transaction();
+    }
+
+    @Override
+    public void commitTransaction() {
+        requireTransaction();
+        transaction = null;
+        publishSnapshot();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        requireTransaction();
+        Transaction rolledBack = transaction;
+
+        // The transaction only ends once all the lists are restored, so that no snapshot is published in between.
+        restoreLists(rolledBack.lists);
+        versions.clear();
+        versions.addAll(rolledBack.versions);
+        currentVersion = rolledBack.currentVersion;
+        newMatches.setAll(rolledBack.newMatches);
+        filteredBuyers.setPredicate(rolledBack.buyerPredicate);
+        filteredMeetUps.setPredicate(rolledBack.meetUpPredicate);
+        filteredProperties.setPredicate(rolledBack.propertyPredicate);
+        sortedBuyers.setComparator(rolledBack.buyerComparator);
+        sortedMeetUps.setComparator(rolledBack.meetUpComparator);
+        sortedProperties.setComparator(rolledBack.propertyComparator);
+        transaction = null;
+        publishSnapshot();
+        logger.fine("Rolled back transaction");
+    }
+
+    private void requireTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction has started");
+        }
+    }
+
+    //=========== Undo and redo ===============================================================================
+
+    @Override
+    public void commitVersion() {
+        ModelSnapshot current = currentLists();
+        if (isCurrentVersion(current)) {
+            return;
+        }
+        versions.subList(currentVersion + 1, versions.size()).clear();
+        versions.add(current);
+        int overflow = versions.size() - 1 - userPrefs.getUndoLimit();
+        if (overflow > 0) {
+            versions.subList(0, overflow).clear();
+        }
+        currentVersion = versions.size() - 1;
+    }
+
+    @Override
+    public boolean canUndo() {
+        return currentVersion > 0 || (userPrefs.getUndoLimit() > 0 && !isCurrentVersion(currentLists()));
+    }
+
+    @Override
+    public boolean canRedo() {
+        return currentVersion < versions.size() - 1 && isCurrentVersion(currentLists());
+    }
+
+    @Override
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no change to undo");
+        }
+        commitVersion();
+        currentVersion--;
+        restoreLists(versions.get(currentVersion));
+        logger.fine("Undid to version " + currentVersion + " of " + versions.size());
+    }
+
+    @Override
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no change to redo");
+        }
+        currentVersion++;
+        restoreLists(versions.get(currentVersion));
+        logger.fine("Redid to version " + currentVersion + " of " + versions.size());
+    }
+
+    private boolean isCurrentVersion(ModelSnapshot lists) {
+        return versions.get(currentVersion).hasLists(lists.getBuyers(), lists.getMeetUps(), lists.getProperties());
+    }
+
+    /**
+     * Restores the lists to those of {@code version}, changing only the entities that differ, and updates the
+     * matches to the entities removed and added.
+     */
+    private void restoreLists(ModelSnapshot version) {
+        SnapshotIndex.Difference<Buyer> buyers = buyerList.restore(version.getBuyers());
+        meetUpList.restore(version.getMeetUps());
+        SnapshotIndex.Difference<Property> properties = propertyList.restore(version.getProperties());
+
+        buyers.getRemoved().forEach(matcher::removeBuyer);
+        properties.getRemoved().forEach(matcher::removeProperty);
+        buyers.getAdded().forEach(matcher::addBuyer);
+        properties.getAdded().forEach(matcher::addProperty);
+        Set<Object> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(buyers.getRemoved());
+        removed.addAll(properties.getRemoved());
+        buyers.getAdded().forEach(removed::remove);
+        properties.getAdded().forEach(removed::remove);
+        newMatches.removeIf(match -> removed.contains(match.getBuyer()) || removed.contains(match.getProperty()));
+        publishSnapshot();
+    }
+
+    //=========== Snapshots ===================================================================================
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publishes a snapshot of the lists as they are now, with the next version, unless a transaction is open or
+     * the lists have not changed since the last snapshot.
+     */
+    private void publishSnapshot() {
+        if (transaction != null) {
+            return;
+        }
+        PersistentList<Buyer> buyers = buyerList.getSnapshot();
+        PersistentList<MeetUp> meetUps = meetUpList.getSnapshot();
+        PersistentList<Property> properties = propertyList.getSnapshot();
+        if (!snapshot.hasLists(buyers, meetUps, properties)) {
+            snapshot = new ModelSnapshot(snapshot.getVersion() + 1, buyers, meetUps, properties);
+        }
+    }
+
+    /**
+     * Returns the lists as they are now, as the last published snapshot if they have not changed since. Otherwise,
+     * as during a transaction, the returned snapshot is not published, and has the version of the last one that was.
+     */
+    private ModelSnapshot currentLists() {
+        PersistentList<Buyer> buyers = buyerList.getSnapshot();
+        PersistentList<MeetUp> meetUps = meetUpList.getSnapshot();
+        PersistentList<Property> properties = propertyList.getSnapshot();
+        ModelSnapshot published = snapshot;
+        return published.hasLists(buyers, meetUps, properties)
+                ? published
+                : new ModelSnapshot(published.getVersion(), buyers, meetUps, properties);
+    }
+
+    /**
+     * The state of the model when a transaction started. The lists are kept as snapshots, so starting a transaction
+     * costs O(1) whatever their size.
+     */
+    private class Transaction {
+        private final ModelSnapshot lists = currentLists();
+        private final List<ModelSnapshot> versions = new ArrayList<>(ModelManager.this.versions);
+        private final int currentVersion = ModelManager.this.currentVersion;
+        private final List<Match> newMatches = new ArrayList<>(ModelManager.this.newMatches);
+        private final Predicate<? super Buyer> buyerPredicate = filteredBuyers.getPredicate();
+        private final Predicate<? super MeetUp> meetUpPredicate = filteredMeetUps.getPredicate();
+        private final Predicate<? super Property> propertyPredicate = filteredProperties.getPredicate();
+        private final Comparator<? super Buyer> buyerComparator = sortedBuyers.getComparator();
+        private final Comparator<? super MeetUp> meetUpComparator = sortedMeetUps.getComparator();
+        private final Comparator<? super Property> propertyComparator = sortedProperties.getComparator();
     }
 }
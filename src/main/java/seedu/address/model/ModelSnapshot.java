@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.property.Property;
+
+/**
+ * The buyers, meet-ups and properties of the model at one version of it.
+ * A snapshot never changes, so it can be read from any thread without locking while the model goes on changing, for
+ * example to export the lists or serve them. Its lists share their structure with those of the model, so a snapshot
+ * costs O(1) to take, whatever the size of the lists.
+ *
+ * @see Model#getSnapshot()
+ */
+public class ModelSnapshot implements ReadOnlyBuyerList, ReadOnlyMeetUpList, ReadOnlyPropertyList {
+
+    private final long version;
+    private final PersistentList<Buyer> buyers;
+    private final PersistentList<MeetUp> meetUps;
+    private final PersistentList<Property> properties;
+    private final ObservableList<Buyer> buyerView;
+    private final ObservableList<MeetUp> meetUpView;
+    private final ObservableList<Property> propertyView;
+
+    /**
+     * Creates a snapshot of the given lists, which is version {@code version} of the model.
+     */
+    public ModelSnapshot(long version, PersistentList<Buyer> buyers, PersistentList<MeetUp> meetUps,
+            PersistentList<Property> properties) {
+        requireAllNonNull(buyers, meetUps, properties);
+        this.version = version;
+        this.buyers = buyers;
+        this.meetUps = meetUps;
+        this.properties = properties;
+        buyerView = FXCollections.unmodifiableObservableList(FXCollections.observableList(buyers));
+        meetUpView = FXCollections.unmodifiableObservableList(FXCollections.observableList(meetUps));
+        propertyView = FXCollections.unmodifiableObservableList(FXCollections.observableList(properties));
+    }
+
+    /**
+     * Returns the version of the model this is a snapshot of. Each change to the model publishes a snapshot with a
+     * higher version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if this snapshot has exactly the lists given, so that no change was made since it was taken.
+     */
+    boolean hasLists(PersistentList<Buyer> buyers, PersistentList<MeetUp> meetUps,
+            PersistentList<Property> properties) {
+        return this.buyers == buyers && this.meetUps == meetUps && this.properties == properties;
+    }
+
+    PersistentList<Buyer> getBuyers() {
+        return buyers;
+    }
+
+    PersistentList<MeetUp> getMeetUps() {
+        return meetUps;
+    }
+
+    PersistentList<Property> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public ObservableList<Buyer> getBuyerList() {
+        return buyerView;
+    }
+
+    @Override
+    public ObservableList<MeetUp> getMeetUpList() {
+        return meetUpView;
+    }
+
+    @Override
+    public ObservableList<Property> getPropertyList() {
+        return propertyView;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModelSnapshot)) {
+            return false;
+        }
+
+        ModelSnapshot otherSnapshot = (ModelSnapshot) other;
+        return version == otherSnapshot.version
+                && buyers.equals(otherSnapshot.buyers)
+                && meetUps.equals(otherSnapshot.meetUps)
+                && properties.equals(otherSnapshot.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(version);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("buyers", buyers.size())
+                .add("meetUps", meetUps.size())
+                .add("properties", properties.size())
+                .toString();
+    }
+}
@@ -2,12 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.SnapshotIndex;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.UniquePropertyList;
 
@@ -100,6 +105,51 @@ public class PropertyList implements ReadOnlyPropertyList {
         properties.remove(key);
     }
 
+    /**
+     * Replaces each property that is a key of {@code replacements} with its value, which must be the same property.
+     * Every key must exist in the property list.
+     */
+    public void replaceProperties(Map<Property, Property> replacements) {
+        requireNonNull(replacements);
+        logger.info(String.format("Replacing %d properties in property list", replacements.size()));
+        properties.replaceProperties(replacements);
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code PropertyList}.
+     * Each of them must exist in the property list.
+     */
+    public void removeProperties(Collection<Property> keys) {
+        requireNonNull(keys);
+        logger.info(String.format("Removing %d properties from property list", keys.size()));
+        properties.removeAll(keys);
+    }
+
+    /**
+     * Returns the properties whose address contains {@code fragment}, ignoring case.
+     * The returned set compares properties by identity.
+     */
+    public Set<Property> findPropertiesByAddressFragment(String fragment) {
+        return properties.findByAddressFragment(fragment);
+    }
+
+    /**
+     * Returns the properties as of the last change to this list, in an immutable list that shares its structure with
+     * the other versions of it, so taking it costs O(1). It can be read from any thread.
+     */
+    public PersistentList<Property> getSnapshot() {
+        return properties.getSnapshot();
+    }
+
+    /**
+     * Restores this list to {@code version}, a snapshot of it, changing only the properties that differ.
+     * Returns the properties removed from the list and those added to it.
+     */
+    public SnapshotIndex.Difference<Property> restore(PersistentList<Property> version) {
+        logger.info("Restoring property list to an earlier version");
+        return properties.restore(version);
+    }
+
     //// util methods
 
     @Override
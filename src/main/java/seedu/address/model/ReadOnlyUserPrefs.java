@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Duration;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -17,4 +18,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getPropertyListFilePath();
 
+    Duration getReminderLeadTime();
+
+    int getUndoLimit();
+
 }
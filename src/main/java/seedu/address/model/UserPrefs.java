@@ -1,9 +1,11 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -17,6 +19,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path buyerListFilePath = Paths.get("data" , "buyerlist.json");
     private Path meetUpListFilePath = Paths.get("data", "meetuplist.json");
     private Path propertyListFilePath = Paths.get("data", "propertylist.json");
+    private int reminderLeadMinutes = 30;
+    private int undoLimit = 100;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +44,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setBuyerListFilePath(newUserPrefs.getBuyerListFilePath());
         setMeetUpListFilePath(newUserPrefs.getMeetUpListFilePath());
         setPropertyListFilePath(newUserPrefs.getPropertyListFilePath());
+        setReminderLeadMinutes((int) newUserPrefs.getReminderLeadTime().toMinutes());
+        setUndoLimit(newUserPrefs.getUndoLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +84,32 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.propertyListFilePath = propertyListFilePath;
     }
 
+    /**
+     * Returns how long before a meet-up starts the user is reminded of it.
+     * A negative lead time in the preferences file is treated as none.
+     */
+    public Duration getReminderLeadTime() {
+        return Duration.ofMinutes(Math.max(0, reminderLeadMinutes));
+    }
+
+    public void setReminderLeadMinutes(int reminderLeadMinutes) {
+        checkArgument(reminderLeadMinutes >= 0, "The reminder lead time cannot be negative");
+        this.reminderLeadMinutes = reminderLeadMinutes;
+    }
+
+    /**
+     * Returns how many changes can be undone, the most recent first.
+     * A negative limit in the preferences file is treated as none.
+     */
+    public int getUndoLimit() {
+        return Math.max(0, undoLimit);
+    }
+
+    public void setUndoLimit(int undoLimit) {
+        checkArgument(undoLimit >= 0, "The undo limit cannot be negative");
+        this.undoLimit = undoLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,8 +3,8 @@ package seedu.address.model.buyer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.NumberFormat;
-import java.util.Locale;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Buyer's budget in the buyer list.
@@ -26,6 +26,8 @@ public class Budget {
 
     public final String value;
 
+    private final long amount;
+
     /**
      * Constructs an {@code Budget}. Budget will automatically be rounded to nearest whole number
      *
@@ -34,33 +36,29 @@ public class Budget {
     public Budget(String budget) {
         requireNonNull(budget);
         checkArgument(isValidBudget(budget), MESSAGE_CONSTRAINTS);
-        value = formatNumber(budget);
+        amount = ValidationUtil.parseAmount(budget);
+        value = StringUtil.formatWithCommas(amount);
     }
 
     /**
      * Returns true if a given string is a valid budget.
      */
     public static boolean isValidBudget(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAmount(test);
     }
 
-    private static String formatNumber(String input) {
-        // Remove any existing commas
-        String numberWithoutCommas = input.replaceAll(",", "");
-
-        // Parse the string as a long to handle larger numbers
-        long number = Long.parseLong(numberWithoutCommas);
-
-        // Format the number with commas
-        NumberFormat numberFormat = NumberFormat.getNumberInstance(Locale.US);
-        return numberFormat.format(number);
+    /**
+     * Returns the amount in whole SGD.
+     */
+    public long getAmount() {
+        return amount;
     }
 
     /**
      * Returns pretty formatted String
      */
     public String toPrettyString() {
-        return String.format("$%s", value);
+        return "$" + value;
     }
 
     @Override
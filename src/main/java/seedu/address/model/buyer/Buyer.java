@@ -2,11 +2,10 @@ package seedu.address.model.buyer;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.CompactSet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
@@ -23,7 +22,7 @@ public class Buyer {
 
     // Data fields
     private final Budget budget;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     /**
      * Every field must be present and not null.
@@ -34,7 +33,7 @@ public class Buyer {
         this.phone = phone;
         this.email = email;
         this.budget = budget;
-        this.tags.addAll(tags);
+        this.tags = CompactSet.copyOf(tags);
     }
 
     public Name getName() {
@@ -58,7 +57,7 @@ public class Buyer {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -16,6 +16,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Buyer> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Buyer buyer) {
         return keywords.stream()
@@ -3,13 +3,22 @@ package seedu.address.model.buyer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.buyer.exceptions.BuyerNotFoundException;
 import seedu.address.model.buyer.exceptions.DuplicateBuyerException;
+import seedu.address.model.index.SnapshotIndex;
+import seedu.address.model.index.TagBitmapIndex;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * A list of buyers that enforces uniqueness between its elements and does not allow nulls.
@@ -26,6 +35,8 @@ public class UniqueBuyerList implements Iterable<Buyer> {
     private final ObservableList<Buyer> internalList = FXCollections.observableArrayList();
     private final ObservableList<Buyer> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final SnapshotIndex<Buyer> snapshotIndex = new SnapshotIndex<>(internalList);
+    private final TagBitmapIndex<Buyer> tagIndex = new TagBitmapIndex<>(internalList, Buyer::getTags);
 
     /**
      * Returns true if the list contains an equivalent buyer as the given argument.
@@ -78,6 +89,53 @@ public class UniqueBuyerList implements Iterable<Buyer> {
         }
     }
 
+    /**
+     * Replaces each buyer in the list that is a key of {@code replacements} with its value, in one pass over the
+     * list and a single change to it. Every key must be in the list, and each value must be the same buyer as its
+     * key, so that no replacement can duplicate another buyer.
+     */
+    public void replaceBuyers(Map<Buyer, Buyer> replacements) {
+        requireNonNull(replacements);
+        for (Map.Entry<Buyer, Buyer> replacement : replacements.entrySet()) {
+            if (!replacement.getKey().isSameBuyer(replacement.getValue())) {
+                throw new DuplicateBuyerException();
+            }
+        }
+
+        List<Buyer> replaced = new ArrayList<>(internalList.size());
+        int found = 0;
+        for (Buyer element : internalList) {
+            Buyer replacement = replacements.get(element);
+            if (replacement != null) {
+                found++;
+            }
+            replaced.add(replacement == null ? element : replacement);
+        }
+        if (found != replacements.size()) {
+            throw new BuyerNotFoundException();
+        }
+        internalList.setAll(replaced);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list, in one pass over the list and a single change to it.
+     * Each of them must be in the list.
+     */
+    public void removeAll(Collection<Buyer> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Buyer> remaining = new HashSet<>(toRemove);
+        List<Buyer> kept = new ArrayList<>(internalList.size());
+        for (Buyer element : internalList) {
+            if (!remaining.remove(element)) {
+                kept.add(element);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            throw new BuyerNotFoundException();
+        }
+        internalList.setAll(kept);
+    }
+
     public void setBuyers(UniqueBuyerList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -96,6 +154,31 @@ public class UniqueBuyerList implements Iterable<Buyer> {
         internalList.setAll(buyers);
     }
 
+    /**
+     * Returns the buyers whose tags satisfy {@code filter}.
+     * The returned set compares buyers by identity.
+     */
+    public Set<Buyer> findByTags(TagFilter filter) {
+        requireNonNull(filter);
+        return tagIndex.find(filter);
+    }
+
+    /**
+     * Returns the buyers in the list as of its last change, in an immutable list that can be read from any thread.
+     */
+    public PersistentList<Buyer> getSnapshot() {
+        return snapshotIndex.getSnapshot();
+    }
+
+    /**
+     * Changes the list to hold the buyers of {@code version}, a snapshot of it, changing only those that differ.
+     * Returns the buyers removed from the list and those added to it.
+     */
+    public SnapshotIndex.Difference<Buyer> restore(PersistentList<Buyer> version) {
+        requireNonNull(version);
+        return snapshotIndex.restore(version);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
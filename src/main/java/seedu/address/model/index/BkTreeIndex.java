@@ -0,0 +1,172 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.index.InvertedIndex.foldCase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Supports typo-tolerant search over the words of a text field of the entities of an {@code ObservableList}.
+ * The distinct case-folded words are kept in a BK-tree under the edit distance, so a search only computes the
+ * distance to the words whose subtrees can hold a match, instead of to every word.
+ * The index follows every change to the list. Words no longer used by any entity are left in the tree until they
+ * outnumber the words in use, when the tree is rebuilt.
+ *
+ * @param <T> the type of the indexed entities, which must be immutable
+ */
+public class BkTreeIndex<T> {
+
+    private final Function<? super T, Collection<String>> wordsExtractor;
+    private final Map<String, Node<T>> nodes = new HashMap<>();
+    private Node<T> root;
+    private int unusedNodes;
+
+    /**
+     * Creates an index over the words returned by {@code wordsExtractor} for each entity in {@code source}, and keeps
+     * it up to date as {@code source} changes. The words are split further on whitespace.
+     */
+    public BkTreeIndex(ObservableList<? extends T> source, Function<? super T, Collection<String>> wordsExtractor) {
+        requireNonNull(source);
+        requireNonNull(wordsExtractor);
+        this.wordsExtractor = wordsExtractor;
+        SourceListener.follow(source, this::add, this::remove);
+    }
+
+    /**
+     * Returns the entities having a word within {@code query}'s maximum edit distance of any of its keywords,
+     * ignoring case, mapped to the smallest such distance. The returned map compares entities by identity.
+     */
+    public Map<T, Integer> find(FuzzyQuery query) {
+        requireNonNull(query);
+        Map<T, Integer> distances = new IdentityHashMap<>();
+        if (root == null) {
+            return distances;
+        }
+
+        int maxDistance = query.getMaxDistance();
+        for (String keyword : query.getKeywords()) {
+            String foldedKeyword = foldCase(keyword.trim());
+            Deque<Node<T>> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node<T> node = pending.pop();
+                int distance = StringUtil.getEditDistance(foldedKeyword, node.word);
+                if (distance <= maxDistance) {
+                    for (T entity : node.entities) {
+                        distances.merge(entity, distance, Math::min);
+                    }
+                }
+                for (int childDistance = Math.max(1, distance - maxDistance);
+                        childDistance <= distance + maxDistance; childDistance++) {
+                    Node<T> child = node.children.get(childDistance);
+                    if (child != null) {
+                        pending.push(child);
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    private void add(T entity) {
+        for (String word : words(entity)) {
+            Node<T> node = nodes.get(word);
+            if (node == null) {
+                node = new Node<>(word);
+                nodes.put(word, node);
+                insert(node);
+            } else if (node.entities.isEmpty()) {
+                unusedNodes--;
+            }
+            node.entities.add(entity);
+        }
+    }
+
+    private void remove(T entity) {
+        for (String word : words(entity)) {
+            Node<T> node = nodes.get(word);
+            if (node != null && node.entities.remove(entity) && node.entities.isEmpty()) {
+                unusedNodes++;
+            }
+        }
+        if (unusedNodes > nodes.size() - unusedNodes) {
+            rebuild();
+        }
+    }
+
+    private void insert(Node<T> node) {
+        if (root == null) {
+            root = node;
+            return;
+        }
+        Node<T> current = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(node.word, current.word);
+            Node<T> child = current.children.get(distance);
+            if (child == null) {
+                current.children.put(distance, node);
+                return;
+            }
+            current = child;
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the words still in use.
+     */
+    private void rebuild() {
+        List<Node<T>> used = new ArrayList<>();
+        for (Node<T> node : nodes.values()) {
+            if (!node.entities.isEmpty()) {
+                used.add(node);
+            }
+        }
+        nodes.clear();
+        root = null;
+        unusedNodes = 0;
+        for (Node<T> node : used) {
+            node.children.clear();
+            nodes.put(node.word, node);
+            insert(node);
+        }
+    }
+
+    private Set<String> words(T entity) {
+        Set<String> words = new HashSet<>();
+        for (String text : wordsExtractor.apply(entity)) {
+            for (String word : text.split("\\s+")) {
+                if (!word.isEmpty()) {
+                    words.add(foldCase(word));
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A distinct word in the tree, with the entities using it and its children keyed by their distance to it.
+     */
+    private static class Node<T> {
+        private final String word;
+        private final Set<T> entities = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A typo-tolerant keyword search: a word matches a keyword if their edit distance, ignoring case, is at most
+ * {@code maxDistance}.
+ * Guarantees: immutable; max distance is between 0 and {@link #MAX_DISTANCE} inclusive.
+ */
+public class FuzzyQuery {
+
+    public static final int MAX_DISTANCE = 3;
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Maximum distance should be a whole number from 0 to " + MAX_DISTANCE;
+
+    private final List<String> keywords;
+    private final int maxDistance;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public FuzzyQuery(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        checkArgument(isValidMaxDistance(maxDistance), MESSAGE_CONSTRAINTS);
+        this.keywords = keywords;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Returns true if {@code maxDistance} is a valid maximum distance.
+     */
+    public static boolean isValidMaxDistance(int maxDistance) {
+        return maxDistance >= 0 && maxDistance <= MAX_DISTANCE;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyQuery)) {
+            return false;
+        }
+
+        FuzzyQuery otherQuery = (FuzzyQuery) other;
+        return keywords.equals(otherQuery.keywords) && maxDistance == otherQuery.maxDistance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, maxDistance);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .add("maxDistance", maxDistance)
+                .toString();
+    }
+}
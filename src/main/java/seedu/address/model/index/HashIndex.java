@@ -0,0 +1,63 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Maps a key of each entity of an {@code ObservableList} to the entities having it, so an exact-match lookup costs
+ * one hash probe instead of a scan of the list. The index follows every change to the list.
+ * Keys should be normalized by the key extractor, e.g. case-folded, so that equal keys are equal strings.
+ *
+ * @param <T> the type of the indexed entities, which must be immutable
+ */
+public class HashIndex<T> {
+
+    private final Map<String, Set<T>> entries = new HashMap<>();
+    private final Function<? super T, String> keyExtractor;
+
+    /**
+     * Creates an index over the key returned by {@code keyExtractor} for each entity in {@code source}, and keeps it
+     * up to date as {@code source} changes.
+     */
+    public HashIndex(ObservableList<? extends T> source, Function<? super T, String> keyExtractor) {
+        requireNonNull(source);
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+        SourceListener.follow(source, this::add, this::remove);
+    }
+
+    /**
+     * Returns the entities whose key is {@code key}.
+     * The returned set compares entities by identity.
+     */
+    public Set<T> find(String key) {
+        requireNonNull(key);
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<T> entities = entries.get(key);
+        if (entities != null) {
+            matches.addAll(entities);
+        }
+        return matches;
+    }
+
+    private void add(T entity) {
+        entries.computeIfAbsent(keyExtractor.apply(entity), unused ->
+                Collections.newSetFromMap(new IdentityHashMap<>())).add(entity);
+    }
+
+    private void remove(T entity) {
+        String key = keyExtractor.apply(entity);
+        Set<T> entities = entries.get(key);
+        if (entities != null && entities.remove(entity) && entities.isEmpty()) {
+            entries.remove(key);
+        }
+    }
+}
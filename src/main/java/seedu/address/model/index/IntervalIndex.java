@@ -0,0 +1,319 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Finds overlapping time intervals among the entities of an {@code ObservableList} that share a key, such as the
+ * meet-ups of a buyer. Each key has its own interval tree, so checking an interval against a key's entities costs
+ * {@code O(log n + k)} for {@code k} overlaps, instead of a scan of every entity.
+ * Intervals are half-open, so an interval ending when another starts does not overlap it.
+ * An entity may instead stand for a series of separate occurrences, such as a repeating meet-up. The index then
+ * holds the span from its first start to its last end, and only computes the occurrences within that span when a
+ * query reaches the entity.
+ * The index follows every change to the list.
+ *
+ * @param <T> the type of the indexed entities, which must be immutable
+ */
+public class IntervalIndex<T> {
+
+    private final Function<? super T, ? extends Collection<String>> keysExtractor;
+    private final Function<? super T, LocalDateTime> startExtractor;
+    private final Function<? super T, LocalDateTime> endExtractor;
+    private final OccurrenceExtractor<? super T> occurrenceExtractor;
+    private final Map<String, IntervalTree<T>> trees = new HashMap<>();
+
+    /**
+     * Creates an index over the keys returned by {@code keysExtractor} and the intervals from
+     * {@code startExtractor} to {@code endExtractor} for each entity in {@code source}, and keeps it up to date as
+     * {@code source} changes.
+     */
+    public IntervalIndex(ObservableList<? extends T> source,
+            Function<? super T, ? extends Collection<String>> keysExtractor,
+            Function<? super T, LocalDateTime> startExtractor, Function<? super T, LocalDateTime> endExtractor) {
+        this(source, keysExtractor, startExtractor, endExtractor, null);
+    }
+
+    /**
+     * Creates an index as above, where the interval of each entity only bounds the occurrences returned by
+     * {@code occurrenceExtractor}, and keeps it up to date as {@code source} changes.
+     */
+    public IntervalIndex(ObservableList<? extends T> source,
+            Function<? super T, ? extends Collection<String>> keysExtractor,
+            Function<? super T, LocalDateTime> startExtractor, Function<? super T, LocalDateTime> endExtractor,
+            OccurrenceExtractor<? super T> occurrenceExtractor) {
+        requireAllNonNull(source, keysExtractor, startExtractor, endExtractor);
+        this.keysExtractor = keysExtractor;
+        this.startExtractor = startExtractor;
+        this.endExtractor = endExtractor;
+        this.occurrenceExtractor = occurrenceExtractor;
+        SourceListener.follow(source, this::add, this::remove);
+    }
+
+    /**
+     * Returns the entities with {@code key} whose interval, or one of whose occurrences, overlaps the one from
+     * {@code start} to {@code end}, in order of start.
+     */
+    public List<T> findOverlapping(String key, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(key, start, end);
+        List<T> overlaps = new ArrayList<>();
+        IntervalTree<T> tree = trees.get(key);
+        if (tree != null) {
+            tree.findOverlapping(start, end, overlaps);
+        }
+        if (occurrenceExtractor != null) {
+            overlaps.removeIf(entity -> occurrenceExtractor.getOccurrencesOverlapping(entity, start, end).isEmpty());
+        }
+        return overlaps;
+    }
+
+    /**
+     * Returns every pair of entities sharing a key whose intervals overlap, ordered by key and then by the starts
+     * of the pair. A pair sharing several keys is returned once for each of them.
+     */
+    public List<Overlap<T>> findAllOverlaps() {
+        List<Overlap<T>> overlaps = new ArrayList<>();
+        for (Map.Entry<String, IntervalTree<T>> entry : new TreeMap<>(trees).entrySet()) {
+            List<IntervalTree.Node<T>> nodes = new ArrayList<>();
+            entry.getValue().inOrder(nodes);
+            List<IntervalTree.Node<T>> active = new ArrayList<>();
+            for (IntervalTree.Node<T> node : nodes) {
+                if (!node.getEnd().isAfter(node.getStart())) {
+                    continue;
+                }
+                active.removeIf(earlier -> !earlier.getEnd().isAfter(node.getStart()));
+                for (IntervalTree.Node<T> earlier : active) {
+                    if (haveOverlappingOccurrences(earlier, node)) {
+                        overlaps.add(new Overlap<>(entry.getKey(), earlier.getEntity(), node.getEntity()));
+                    }
+                }
+                active.add(node);
+            }
+        }
+        return overlaps;
+    }
+
+    /**
+     * Returns up to {@code limit} of the earliest gaps of at least {@code minLength} between {@code start} and
+     * {@code end} in which no entity with any of {@code keys} has an interval.
+     * The busy intervals of the keys are merged in order of start with a sweep line, which stops once enough gaps
+     * are found, and only intervals overlapping the window are visited.
+     */
+    public List<TimeSlot> findGaps(Collection<String> keys, LocalDateTime start, LocalDateTime end,
+            Duration minLength, int limit) {
+        requireAllNonNull(keys, start, end, minLength);
+        checkArgument(!end.isBefore(start), "The end of a window must not be before its start");
+        checkArgument(!minLength.isNegative() && !minLength.isZero(), "A gap must have a positive length");
+        checkArgument(limit > 0, "At least one gap must be asked for");
+
+        PriorityQueue<BusyCursor> sweep = new PriorityQueue<>();
+        for (String key : new HashSet<>(keys)) {
+            List<TimeSlot> busy = findBusy(key, start, end);
+            if (!busy.isEmpty()) {
+                sweep.add(new BusyCursor(busy));
+            }
+        }
+
+        List<TimeSlot> gaps = new ArrayList<>();
+        LocalDateTime freeFrom = start;
+        while (!sweep.isEmpty() && gaps.size() < limit) {
+            BusyCursor cursor = sweep.poll();
+            LocalDateTime busyStart = cursor.current().getStart();
+            LocalDateTime busyEnd = cursor.current().getEnd();
+            if (!Duration.between(freeFrom, busyStart).minus(minLength).isNegative()) {
+                gaps.add(new TimeSlot(freeFrom, busyStart));
+            }
+            if (busyEnd.isAfter(freeFrom)) {
+                freeFrom = busyEnd;
+            }
+            if (cursor.advance()) {
+                sweep.add(cursor);
+            }
+        }
+        if (gaps.size() < limit && !Duration.between(freeFrom, end).minus(minLength).isNegative()) {
+            gaps.add(new TimeSlot(freeFrom, end));
+        }
+        return gaps;
+    }
+
+    /**
+     * Returns the intervals from {@code start} to {@code end} occupied by the entities with {@code key}, in order
+     * of start.
+     */
+    private List<TimeSlot> findBusy(String key, LocalDateTime start, LocalDateTime end) {
+        List<TimeSlot> busy = new ArrayList<>();
+        for (T entity : findOverlapping(key, start, end)) {
+            if (occurrenceExtractor != null) {
+                busy.addAll(occurrenceExtractor.getOccurrencesOverlapping(entity, start, end));
+                continue;
+            }
+            LocalDateTime entityStart = startExtractor.apply(entity);
+            LocalDateTime entityEnd = endExtractor.apply(entity);
+            if (entityStart.isBefore(entityEnd)) {
+                busy.add(new TimeSlot(entityStart, entityEnd));
+            }
+        }
+        if (occurrenceExtractor != null) {
+            busy.sort(Comparator.comparing(TimeSlot::getStart));
+        }
+        return busy;
+    }
+
+    /**
+     * Returns true if the intervals of {@code first} and {@code second}, which overlap, have overlapping occurrences.
+     */
+    private boolean haveOverlappingOccurrences(IntervalTree.Node<T> first, IntervalTree.Node<T> second) {
+        if (occurrenceExtractor == null) {
+            return true;
+        }
+        LocalDateTime start = second.getStart();
+        LocalDateTime end = first.getEnd().isBefore(second.getEnd()) ? first.getEnd() : second.getEnd();
+        for (TimeSlot occurrence : occurrenceExtractor.getOccurrencesOverlapping(first.getEntity(), start, end)) {
+            if (!occurrenceExtractor.getOccurrencesOverlapping(second.getEntity(), occurrence.getStart(),
+                    occurrence.getEnd()).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(T entity) {
+        LocalDateTime start = startExtractor.apply(entity);
+        LocalDateTime end = endExtractor.apply(entity);
+        for (String key : keysExtractor.apply(entity)) {
+            trees.computeIfAbsent(key, unused -> new IntervalTree<>()).add(entity, start, end);
+        }
+    }
+
+    private void remove(T entity) {
+        for (String key : keysExtractor.apply(entity)) {
+            IntervalTree<T> tree = trees.get(key);
+            if (tree != null) {
+                tree.remove(entity);
+                if (tree.isEmpty()) {
+                    trees.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the occurrences of an entity that overlap a window.
+     *
+     * @param <T> the type of the indexed entities
+     */
+    @FunctionalInterface
+    public interface OccurrenceExtractor<T> {
+        /**
+         * Returns the occurrences of {@code entity} that overlap the time from {@code start} to {@code end}, in
+         * order of start.
+         */
+        List<TimeSlot> getOccurrencesOverlapping(T entity, LocalDateTime start, LocalDateTime end);
+    }
+
+    /**
+     * The next interval of a list sorted by start, ordered by that interval's start.
+     */
+    private static class BusyCursor implements Comparable<BusyCursor> {
+        private final List<TimeSlot> intervals;
+        private int position;
+
+        BusyCursor(List<TimeSlot> intervals) {
+            this.intervals = intervals;
+        }
+
+        TimeSlot current() {
+            return intervals.get(position);
+        }
+
+        /**
+         * Moves to the next interval, returning false if there is none.
+         */
+        boolean advance() {
+            return ++position < intervals.size();
+        }
+
+        @Override
+        public int compareTo(BusyCursor other) {
+            return current().getStart().compareTo(other.current().getStart());
+        }
+    }
+
+    /**
+     * Two entities sharing a key whose intervals overlap, the first starting no later than the second.
+     */
+    public static class Overlap<T> {
+        private final String key;
+        private final T first;
+        private final T second;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Overlap(String key, T first, T second) {
+            requireAllNonNull(key, first, second);
+            this.key = key;
+            this.first = first;
+            this.second = second;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public T getFirst() {
+            return first;
+        }
+
+        public T getSecond() {
+            return second;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Overlap)) {
+                return false;
+            }
+
+            Overlap<?> otherOverlap = (Overlap<?>) other;
+            return key.equals(otherOverlap.key) && first.equals(otherOverlap.first)
+                    && second.equals(otherOverlap.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, first, second);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("key", key)
+                    .add("first", first)
+                    .add("second", second)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.model.index;
+
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A set of entities with half-open time intervals, kept in a treap ordered by interval start where every node also
+ * knows the latest end in its subtree. Finding the intervals overlapping a given one then skips every subtree that
+ * ends too early or starts too late, costing {@code O(log n + k)} expected time for {@code k} overlaps.
+ *
+ * @param <T> the type of the entities
+ */
+class IntervalTree<T> {
+
+    private final Random priorities = new Random(0);
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private Node<T> root;
+    private long nextSequence;
+
+    /**
+     * Adds {@code entity} with the interval from {@code start} to {@code end}.
+     * Adding an entity already in the tree does nothing.
+     */
+    void add(T entity, LocalDateTime start, LocalDateTime end) {
+        if (nodes.containsKey(entity)) {
+            return;
+        }
+        Node<T> node = new Node<>(entity, start, end, nextSequence++, priorities.nextInt());
+        nodes.put(entity, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes {@code entity}, comparing by identity.
+     */
+    void remove(T entity) {
+        Node<T> node = nodes.remove(entity);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Adds to {@code overlaps}, in order of start, the entities whose interval starts before {@code end} and ends
+     * after {@code start}.
+     */
+    void findOverlapping(LocalDateTime start, LocalDateTime end, List<T> overlaps) {
+        collect(root, start, end, overlaps);
+    }
+
+    /**
+     * Adds to {@code entities} every entity in order of start.
+     */
+    void inOrder(List<Node<T>> entities) {
+        walk(root, entities);
+    }
+
+    private static <T> void collect(Node<T> node, LocalDateTime start, LocalDateTime end, List<T> overlaps) {
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+        collect(node.left, start, end, overlaps);
+        if (!node.start.isBefore(end)) {
+            return;
+        }
+        if (node.end.isAfter(start)) {
+            overlaps.add(node.entity);
+        }
+        collect(node.right, start, end, overlaps);
+    }
+
+    private static <T> void walk(Node<T> node, List<Node<T>> entities) {
+        if (node == null) {
+            return;
+        }
+        walk(node.left, entities);
+        entities.add(node);
+        walk(node.right, entities);
+    }
+
+    private Node<T> insert(Node<T> subtree, Node<T> node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (node.compareTo(subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private Node<T> delete(Node<T> subtree, Node<T> node) {
+        if (subtree == node) {
+            return merge(subtree.left, subtree.right);
+        }
+        if (node.compareTo(subtree) < 0) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        node.update();
+        left.right = node;
+        left.update();
+        return left;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        node.update();
+        right.left = node;
+        right.update();
+        return right;
+    }
+
+    /**
+     * An entity and its interval, ordered by start and then by when it was added.
+     */
+    static class Node<T> implements Comparable<Node<T>> {
+        private final T entity;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long sequence;
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(T entity, LocalDateTime start, LocalDateTime end, long sequence, int priority) {
+            this.entity = entity;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        T getEntity() {
+            return entity;
+        }
+
+        LocalDateTime getStart() {
+            return start;
+        }
+
+        LocalDateTime getEnd() {
+            return end;
+        }
+
+        private void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+
+        @Override
+        public int compareTo(Node<T> other) {
+            int byStart = start.compareTo(other.start);
+            return byStart != 0 ? byStart : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Maps each case-folded word in a text field of the entities of an {@code ObservableList} to the entities
+ * containing it. The index follows every change to the list, so a keyword search costs one lookup per keyword
+ * instead of a scan of the list.
+ * Words are matched the same way as {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase}: the text
+ * is split on whitespace and a keyword must equal a whole word, ignoring case.
+ *
+ * @param <T> the type of the indexed entities, which must be immutable
+ */
+public class InvertedIndex<T> {
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+    private final Function<? super T, String> textExtractor;
+
+    /**
+     * Creates an index over the text returned by {@code textExtractor} for each entity in {@code source}, and keeps
+     * it up to date as {@code source} changes.
+     */
+    public InvertedIndex(ObservableList<? extends T> source, Function<? super T, String> textExtractor) {
+        requireNonNull(source);
+        requireNonNull(textExtractor);
+        this.textExtractor = textExtractor;
+        SourceListener.follow(source, this::add, this::remove);
+    }
+
+    /**
+     * Returns the entities whose text contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares entities by identity.
+     */
+    public Set<T> find(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<T> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            Set<T> posting = postings.get(foldCase(keyword.trim()));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns {@code word} in the form used as an index key. Two words have the same key if and only if they are
+     * equal ignoring case, as defined by {@link String#equalsIgnoreCase}.
+     */
+    public static String foldCase(String word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        word.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    private void add(T entity) {
+        for (String word : words(entity)) {
+            postings.computeIfAbsent(word, unused -> newIdentitySet()).add(entity);
+        }
+    }
+
+    private void remove(T entity) {
+        for (String word : words(entity)) {
+            Set<T> posting = postings.get(word);
+            if (posting != null && posting.remove(entity) && posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    private Set<String> words(T entity) {
+        Set<String> words = new HashSet<>();
+        for (String word : textExtractor.apply(entity).split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
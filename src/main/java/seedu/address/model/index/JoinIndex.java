@@ -0,0 +1,123 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Joins the entities of two {@code ObservableList}s on a key: each entity of the referenced list has a unique key,
+ * and each entity of the referencing list may hold the key of the entity it refers to.
+ * The referencing entities of a key, and the referenced entity having a key, are then found with one hash probe
+ * instead of a scan of either list. The index follows every change to both lists, so a reference to a key no
+ * entity has any longer is kept, and can be found as dangling.
+ *
+ * @param <L> the type of the referenced entities, which must be immutable
+ * @param <R> the type of the referencing entities, which must be immutable
+ */
+public class JoinIndex<L, R> {
+
+    private final Map<String, Entry<L, R>> entries = new HashMap<>();
+    private final Function<? super L, String> keyExtractor;
+    private final Function<? super R, Optional<String>> referenceExtractor;
+
+    /**
+     * Creates an index joining each entity in {@code referencing} to the entity in {@code referenced} whose key,
+     * returned by {@code keyExtractor}, is the reference returned by {@code referenceExtractor}, and keeps it up to
+     * date as either list changes. Keys should be normalized by both extractors in the same way.
+     */
+    public JoinIndex(ObservableList<? extends L> referenced, Function<? super L, String> keyExtractor,
+            ObservableList<? extends R> referencing, Function<? super R, Optional<String>> referenceExtractor) {
+        requireNonNull(referenced);
+        requireNonNull(keyExtractor);
+        requireNonNull(referencing);
+        requireNonNull(referenceExtractor);
+        this.keyExtractor = keyExtractor;
+        this.referenceExtractor = referenceExtractor;
+        SourceListener.follow(referenced, this::addReferenced, this::removeReferenced);
+        SourceListener.follow(referencing, this::addReferencing, this::removeReferencing);
+    }
+
+    /**
+     * Returns the referenced entity whose key is {@code key}, if any.
+     */
+    public Optional<L> findReferenced(String key) {
+        requireNonNull(key);
+        Entry<L, R> entry = entries.get(key);
+        return entry == null ? Optional.empty() : Optional.ofNullable(entry.referenced);
+    }
+
+    /**
+     * Returns the entities referring to {@code key}, whether or not an entity has that key.
+     * The returned set compares entities by identity.
+     */
+    public Set<R> findReferencing(String key) {
+        requireNonNull(key);
+        Set<R> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        Entry<L, R> entry = entries.get(key);
+        if (entry != null) {
+            matches.addAll(entry.referencing);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the entities referring to a key that no referenced entity has.
+     * The returned set compares entities by identity.
+     */
+    public Set<R> findDangling() {
+        Set<R> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Entry<L, R> entry : entries.values()) {
+            if (entry.referenced == null) {
+                matches.addAll(entry.referencing);
+            }
+        }
+        return matches;
+    }
+
+    private void addReferenced(L entity) {
+        entries.computeIfAbsent(keyExtractor.apply(entity), unused -> new Entry<>()).referenced = entity;
+    }
+
+    private void removeReferenced(L entity) {
+        String key = keyExtractor.apply(entity);
+        Entry<L, R> entry = entries.get(key);
+        if (entry == null || entry.referenced != entity) {
+            return;
+        }
+        entry.referenced = null;
+        if (entry.referencing.isEmpty()) {
+            entries.remove(key);
+        }
+    }
+
+    private void addReferencing(R entity) {
+        referenceExtractor.apply(entity).ifPresent(key ->
+                entries.computeIfAbsent(key, unused -> new Entry<>()).referencing.add(entity));
+    }
+
+    private void removeReferencing(R entity) {
+        referenceExtractor.apply(entity).ifPresent(key -> {
+            Entry<L, R> entry = entries.get(key);
+            if (entry != null && entry.referencing.remove(entity)
+                    && entry.referencing.isEmpty() && entry.referenced == null) {
+                entries.remove(key);
+            }
+        });
+    }
+
+    /**
+     * The referenced entity having a key, if any, and the entities referring to that key.
+     */
+    private static class Entry<L, R> {
+        private L referenced;
+        private final Set<R> referencing = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
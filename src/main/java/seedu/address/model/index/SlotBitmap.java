@@ -0,0 +1,120 @@
+package seedu.address.model.index;
+
+import java.util.Arrays;
+
+/**
+ * A set of non-negative slots, stored as a sorted array while it is sparse and as a bitmap once it is dense.
+ * A set with few slots then costs a few bytes per slot, instead of a bit for every slot in use by the index.
+ */
+class SlotBitmap {
+
+    /** A sparse set becomes a bitmap once it holds more than one slot per this many slots of capacity. */
+    private static final int DENSE_RATIO = 32;
+    /** Sets this small stay sparse, as the sorted array is then no larger than a cache line or two. */
+    private static final int MIN_DENSE_SIZE = 32;
+
+    private int[] sparse = new int[2];
+    private long[] words;
+    private int size;
+
+    /**
+     * Adds {@code slot} to the set, given that the index holds fewer than {@code capacity} slots.
+     */
+    void add(int slot, int capacity) {
+        if (words != null) {
+            ensureWords(slot);
+            long bit = 1L << slot;
+            if ((words[slot >>> 6] & bit) == 0) {
+                words[slot >>> 6] |= bit;
+                size++;
+            }
+            return;
+        }
+
+        int position = Arrays.binarySearch(sparse, 0, size, slot);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        if (size == sparse.length) {
+            sparse = Arrays.copyOf(sparse, size * 2);
+        }
+        System.arraycopy(sparse, position, sparse, position + 1, size - position);
+        sparse[position] = slot;
+        size++;
+        if (size > MIN_DENSE_SIZE && (long) size * DENSE_RATIO > capacity) {
+            toDense();
+        }
+    }
+
+    /**
+     * Removes {@code slot} from the set.
+     */
+    void remove(int slot) {
+        if (words != null) {
+            int word = slot >>> 6;
+            long bit = 1L << slot;
+            if (word < words.length && (words[word] & bit) != 0) {
+                words[word] &= ~bit;
+                size--;
+            }
+            return;
+        }
+
+        int position = Arrays.binarySearch(sparse, 0, size, slot);
+        if (position >= 0) {
+            System.arraycopy(sparse, position + 1, sparse, position, size - position - 1);
+            size--;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Sets the bits of this set's slots in {@code target}, which must cover every slot in use by the index.
+     */
+    void orInto(long[] target) {
+        if (words != null) {
+            for (int i = Math.min(words.length, target.length) - 1; i >= 0; i--) {
+                target[i] |= words[i];
+            }
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            target[sparse[i] >>> 6] |= 1L << sparse[i];
+        }
+    }
+
+    /**
+     * Clears the bits of this set's slots in {@code target}.
+     */
+    void clearFrom(long[] target) {
+        if (words != null) {
+            for (int i = Math.min(words.length, target.length) - 1; i >= 0; i--) {
+                target[i] &= ~words[i];
+            }
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            target[sparse[i] >>> 6] &= ~(1L << sparse[i]);
+        }
+    }
+
+    private void toDense() {
+        words = new long[0];
+        for (int i = 0; i < size; i++) {
+            ensureWords(sparse[i]);
+            words[sparse[i] >>> 6] |= 1L << sparse[i];
+        }
+        sparse = null;
+    }
+
+    private void ensureWords(int slot) {
+        int word = slot >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+
+/**
+ * Keeps a {@link PersistentList} of the entities of an {@code ObservableList}, so a snapshot of the list costs O(1)
+ * instead of a copy of it. The index follows every change to the list, sharing all but the changed part of the
+ * previous snapshot: a change is replayed at O(log n) per entity, and a change reported for much of the list, such as
+ * a {@code setAll}, is first narrowed down to the entities that differ. Only a change to much of the list is copied
+ * whole.
+ * <p>
+ * The list can also be {@link #restore(PersistentList) restored} to an earlier snapshot, changing only the entities
+ * that differ, so that the views and other indexes of the list update as little as they did for the change undone.
+ *
+ * @param <T> the type of the indexed entities, which must be immutable
+ */
+public class SnapshotIndex<T> {
+
+    /** More edits than 1/EDIT_LIMIT_DIVISOR of the list are made by copying or replacing the list whole. */
+    private static final int EDIT_LIMIT_DIVISOR = 16;
+    /** Up to this many edits are always made one by one, however short the list. */
+    private static final int MIN_EDIT_LIMIT = 16;
+
+    private final ObservableList<T> source;
+    private PersistentList<T> snapshot;
+    private boolean isRestoring;
+
+    /**
+     * Creates an index of the entities of {@code source}, and keeps it up to date as {@code source} changes.
+     */
+    public SnapshotIndex(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        snapshot = PersistentList.copyOf(source);
+        source.addListener((ListChangeListener<T>) this::onChanged);
+    }
+
+    /**
+     * Returns the entities of the list as of its last change. The returned list never changes, and can be read
+     * from any thread.
+     */
+    public PersistentList<T> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Changes the list to hold the entities of {@code version}, a snapshot of it, which becomes its snapshot again.
+     * Entities are compared by identity, and only those that differ are set, inserted or removed, unless they are
+     * too many, in which case the list is replaced whole.
+     *
+     * @return the entities removed from the list and those added to it.
+     */
+    public Difference<T> restore(PersistentList<T> version) {
+        requireNonNull(version);
+        SourceEditor editor = new SourceEditor();
+        if (version == snapshot) {
+            return editor.difference;
+        }
+
+        Object[] from = snapshot.toArray();
+        Object[] to = version.toArray();
+        isRestoring = true;
+        try {
+            if (edit(from, to, editLimit(to.length), new Editor<>()) >= 0) {
+                edit(from, to, Integer.MAX_VALUE, editor);
+            } else {
+                editor.difference.removed.addAll(source);
+                editor.difference.added.addAll(version);
+                source.setAll(version);
+            }
+        } finally {
+            isRestoring = false;
+        }
+        snapshot = version;
+        return editor.difference;
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends T> change) {
+        if (isRestoring) {
+            return;
+        }
+        int changedCount = 0;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                changedCount += change.getTo() - change.getFrom();
+            } else if (!change.wasUpdated()) {
+                changedCount += change.getRemovedSize() + change.getAddedSize();
+            }
+        }
+        if (changedCount == 0) {
+            return;
+        }
+        if (changedCount > editLimit(change.getList().size())) {
+            snapshot = updatedSnapshot(change.getList());
+            return;
+        }
+
+        change.reset();
+        PersistentList<T> updated = snapshot;
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    updated = updated.with(i, change.getList().get(i));
+                }
+            } else if (!change.wasUpdated()) {
+                // entities replaced one for one keep their place in the tree
+                int replacedCount = Math.min(change.getRemovedSize(), change.getAddedSize());
+                for (int i = 0; i < replacedCount; i++) {
+                    updated = updated.with(from + i, change.getList().get(from + i));
+                }
+                for (int i = replacedCount; i < change.getRemovedSize(); i++) {
+                    updated = updated.minus(from + replacedCount);
+                }
+                for (int i = replacedCount; i < change.getAddedSize(); i++) {
+                    updated = updated.plus(from + i, change.getList().get(from + i));
+                }
+            }
+        }
+        snapshot = updated;
+    }
+
+    /**
+     * Returns the snapshot edited to hold the entities of {@code list}, sharing the structure of the entities that
+     * are the same, or a copy of {@code list} if too many differ.
+     */
+    private PersistentList<T> updatedSnapshot(List<? extends T> list) {
+        Object[] from = snapshot.toArray();
+        Object[] to = list.toArray();
+        if (edit(from, to, editLimit(to.length), new Editor<>()) < 0) {
+            return PersistentList.copyOf(list);
+        }
+
+        SnapshotEditor editor = new SnapshotEditor();
+        edit(from, to, Integer.MAX_VALUE, editor);
+        return editor.edited;
+    }
+
+    private static int editLimit(int size) {
+        return Math.max(MIN_EDIT_LIMIT, size / EDIT_LIMIT_DIVISOR);
+    }
+
+    /**
+     * Passes to {@code editor} the edits that turn {@code from} into {@code to}, in order, comparing entities by
+     * identity. At each entity that differs, an entity of {@code from} that is not further on in {@code to} is
+     * removed, an entity of {@code to} that is not further on in {@code from} is inserted, and an entity is set if
+     * both are, or neither is. This finds the fewest edits for a change that sets, inserts and removes entities, and
+     * a few more for a change that moves them.
+     *
+     * @return the number of edits, or -1 if there are more than {@code limit}, in which case only the first
+     *     {@code limit} are passed.
+     */
+    private static <T> int edit(Object[] from, Object[] to, int limit, Editor<T> editor) {
+        int prefix = 0;
+        while (prefix < from.length && prefix < to.length && from[prefix] == to[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < from.length - prefix && suffix < to.length - prefix
+                && from[from.length - 1 - suffix] == to[to.length - 1 - suffix]) {
+            suffix++;
+        }
+        Map<Object, Integer> fromIndices = indicesOf(from, prefix, from.length - suffix);
+        Map<Object, Integer> toIndices = indicesOf(to, prefix, to.length - suffix);
+        int editCount = 0;
+        int i = prefix;
+        int j = prefix;
+        while (i < from.length || j < to.length) {
+            if (i < from.length && j < to.length && from[i] == to[j]) {
+                i++;
+                j++;
+                continue;
+            }
+            if (++editCount > limit) {
+                return -1;
+            }
+            boolean isRemoved = i < from.length && toIndices.getOrDefault(from[i], -1) <= j;
+            boolean isInserted = j < to.length && fromIndices.getOrDefault(to[j], -1) <= i;
+            if (j == to.length || (isRemoved && !isInserted)) {
+                editor.remove(j);
+                i++;
+            } else if (i == from.length || (isInserted && !isRemoved)) {
+                editor.insert(j, entityAt(to, j));
+                j++;
+            } else {
+                editor.set(j, entityAt(to, j));
+                i++;
+                j++;
+            }
+        }
+        return editCount;
+    }
+
+    private static Map<Object, Integer> indicesOf(Object[] entities, int from, int to) {
+        Map<Object, Integer> indices = new IdentityHashMap<>(to - from);
+        for (int i = from; i < to; i++) {
+            indices.put(entities[i], i);
+        }
+        return indices;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T entityAt(Object[] entities, int index) {
+        return (T) entities[index];
+    }
+
+    /**
+     * Receives the edits that turn one list into another. Indices are those of the list as edited so far.
+     * Edits are ignored unless overridden.
+     */
+    private static class Editor<T> {
+        void set(int index, T entity) {}
+
+        void insert(int index, T entity) {}
+
+        void remove(int index) {}
+    }
+
+    /**
+     * Makes the edits to the snapshot, keeping the edited snapshot.
+     */
+    private class SnapshotEditor extends Editor<T> {
+        private PersistentList<T> edited = snapshot;
+
+        @Override
+        void set(int index, T entity) {
+            edited = edited.with(index, entity);
+        }
+
+        @Override
+        void insert(int index, T entity) {
+            edited = edited.plus(index, entity);
+        }
+
+        @Override
+        void remove(int index) {
+            edited = edited.minus(index);
+        }
+    }
+
+    /**
+     * Makes the edits to the source list, keeping the entities removed from it and added to it.
+     */
+    private class SourceEditor extends Editor<T> {
+        private final Difference<T> difference = new Difference<>(new ArrayList<>(), new ArrayList<>());
+
+        @Override
+        void set(int index, T entity) {
+            difference.removed.add(source.set(index, entity));
+            difference.added.add(entity);
+        }
+
+        @Override
+        void insert(int index, T entity) {
+            source.add(index, entity);
+            difference.added.add(entity);
+        }
+
+        @Override
+        void remove(int index) {
+            difference.removed.add(source.remove(index));
+        }
+    }
+
+    /**
+     * The entities removed from a list and those added to it by a change. An entity that was moved is in both.
+     */
+    public static class Difference<T> {
+        private final List<T> removed;
+        private final List<T> added;
+
+        Difference(List<T> removed, List<T> added) {
+            this.removed = removed;
+            this.added = added;
+        }
+
+        public List<T> getRemoved() {
+            return removed;
+        }
+
+        public List<T> getAdded() {
+            return added;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.model.index;
+
+import java.util.function.Consumer;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps an index in step with the set of entities in its source list.
+ * The indexes only care which entities are in the list, not where, so permutations and updates are skipped.
+ */
+class SourceListener {
+
+    private SourceListener() {} // prevents instantiation
+
+    /**
+     * Passes every entity in {@code source} to {@code onAdded}, then follows the changes to {@code source}: the
+     * entities removed by each change are passed to {@code onRemoved} before those it added are passed to
+     * {@code onAdded}, so an entity replaced by an equal one stays indexed.
+     */
+    static <T> void follow(ObservableList<? extends T> source, Consumer<? super T> onAdded,
+            Consumer<? super T> onRemoved) {
+        source.forEach(onAdded);
+        source.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(onRemoved);
+                change.getAddedSubList().forEach(onAdded);
+            }
+        });
+    }
+}
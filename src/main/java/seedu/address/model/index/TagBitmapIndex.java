@@ -0,0 +1,127 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * Supports boolean tag filters over the entities of an {@code ObservableList}.
+ * Each entity is given a slot, and each distinct tag maps to a bitmap of the slots of the entities having it.
+ * A filter is answered with word-wide unions, complements and intersections of those bitmaps, instead of by
+ * testing the tags of every entity. The index follows every change to the list.
+ *
+ * @param <T> the type of the indexed entities, which must be immutable
+ */
+public class TagBitmapIndex<T> {
+
+    private final Function<? super T, Set<Tag>> tagsExtractor;
+    private final List<T> entities = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<T, Integer> slots = new IdentityHashMap<>();
+    private final Map<Tag, SlotBitmap> postings = new HashMap<>();
+    private long[] used = new long[0];
+
+    /**
+     * Creates an index over the tags returned by {@code tagsExtractor} for each entity in {@code source}, and keeps
+     * it up to date as {@code source} changes.
+     */
+    public TagBitmapIndex(ObservableList<? extends T> source, Function<? super T, Set<Tag>> tagsExtractor) {
+        requireNonNull(source);
+        requireNonNull(tagsExtractor);
+        this.tagsExtractor = tagsExtractor;
+        SourceListener.follow(source, this::add, this::remove);
+    }
+
+    /**
+     * Returns the entities whose tags satisfy {@code filter}.
+     * The returned set compares entities by identity.
+     */
+    public Set<T> find(TagFilter filter) {
+        requireNonNull(filter);
+        long[] result = Arrays.copyOf(used, used.length);
+        long[] clauseBits = new long[used.length];
+        long[] absentBits = new long[used.length];
+        for (TagFilter.Clause clause : filter.getClauses()) {
+            Arrays.fill(clauseBits, 0);
+            for (Tag tag : clause.getPresent()) {
+                SlotBitmap posting = postings.get(tag);
+                if (posting != null) {
+                    posting.orInto(clauseBits);
+                }
+            }
+            for (Tag tag : clause.getAbsent()) {
+                System.arraycopy(used, 0, absentBits, 0, used.length);
+                SlotBitmap posting = postings.get(tag);
+                if (posting != null) {
+                    posting.clearFrom(absentBits);
+                }
+                for (int i = 0; i < clauseBits.length; i++) {
+                    clauseBits[i] |= absentBits[i];
+                }
+            }
+            for (int i = 0; i < result.length; i++) {
+                result[i] &= clauseBits[i];
+            }
+        }
+
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < result.length; i++) {
+            long word = result[i];
+            while (word != 0) {
+                matches.add(entities.get((i << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return matches;
+    }
+
+    private void add(T entity) {
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = entities.size();
+            entities.add(entity);
+            if ((slot >>> 6) >= used.length) {
+                used = Arrays.copyOf(used, Math.max(1, used.length * 2));
+            }
+        } else {
+            slot = freeSlots.pop();
+            entities.set(slot, entity);
+        }
+        used[slot >>> 6] |= 1L << slot;
+        slots.put(entity, slot);
+        for (Tag tag : tagsExtractor.apply(entity)) {
+            postings.computeIfAbsent(tag, unused -> new SlotBitmap()).add(slot, entities.size());
+        }
+    }
+
+    private void remove(T entity) {
+        Integer slot = slots.remove(entity);
+        if (slot == null) {
+            return;
+        }
+        for (Tag tag : tagsExtractor.apply(entity)) {
+            SlotBitmap posting = postings.get(tag);
+            posting.remove(slot);
+            if (posting.size() == 0) {
+                postings.remove(tag);
+            }
+        }
+        used[slot >>> 6] &= ~(1L << slot);
+        entities.set(slot, null);
+        freeSlots.push(slot);
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Supports date-time range queries over a date-time field of the entities of an {@code ObservableList}.
+ * The entities are bucketed by date in a skip-list map, and each bucket keeps its entities in time order, so a range
+ * query costs a logarithmic search for its first day plus the entities it returns, instead of a scan of every entity.
+ * The index follows every change to the list.
+ *
+ * @param <T> the type of the indexed entities, which must be immutable
+ */
+public class TimeIndex<T> {
+
+    private final Function<? super T, LocalDateTime> timeExtractor;
+    private final NavigableMap<LocalDate, DayBucket<T>> days = new ConcurrentSkipListMap<>();
+
+    /**
+     * Creates an index over the date-time returned by {@code timeExtractor} for each entity in {@code source}, and
+     * keeps it up to date as {@code source} changes.
+     */
+    public TimeIndex(ObservableList<? extends T> source, Function<? super T, LocalDateTime> timeExtractor) {
+        requireNonNull(source);
+        requireNonNull(timeExtractor);
+        this.timeExtractor = timeExtractor;
+        SourceListener.follow(source, this::add, this::remove);
+    }
+
+    /**
+     * Returns the entities whose date-time is at or after {@code start} and before {@code end}, in time order.
+     * Entities with the same date-time are returned in the order they were added.
+     */
+    public List<T> findBetween(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        checkArgument(!end.isBefore(start), "The end of a range must not be before its start");
+        List<T> matches = new ArrayList<>();
+        for (DayBucket<T> bucket : days.subMap(start.toLocalDate(), true, end.toLocalDate(), true).values()) {
+            bucket.addBetween(start, end, matches);
+        }
+        return matches;
+    }
+
+    private void add(T entity) {
+        LocalDateTime time = timeExtractor.apply(entity);
+        days.computeIfAbsent(time.toLocalDate(), unused -> new DayBucket<>()).add(time, entity);
+    }
+
+    private void remove(T entity) {
+        LocalDateTime time = timeExtractor.apply(entity);
+        DayBucket<T> bucket = days.get(time.toLocalDate());
+        if (bucket != null && bucket.remove(time, entity) && bucket.isEmpty()) {
+            days.remove(time.toLocalDate());
+        }
+    }
+
+    /**
+     * The entities of a single day, in time order.
+     */
+    private static class DayBucket<T> {
+        private final List<LocalDateTime> times = new ArrayList<>();
+        private final List<T> entities = new ArrayList<>();
+
+        void add(LocalDateTime time, T entity) {
+            int position = firstAfter(time);
+            times.add(position, time);
+            entities.add(position, entity);
+        }
+
+        boolean remove(LocalDateTime time, T entity) {
+            for (int i = firstAtOrAfter(time); i < times.size() && times.get(i).equals(time); i++) {
+                if (entities.get(i) == entity) {
+                    times.remove(i);
+                    entities.remove(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return times.isEmpty();
+        }
+
+        void addBetween(LocalDateTime start, LocalDateTime end, List<T> matches) {
+            for (int i = firstAtOrAfter(start); i < times.size() && times.get(i).isBefore(end); i++) {
+                matches.add(entities.get(i));
+            }
+        }
+
+        /**
+         * Returns the position of the first entity at or after {@code time}.
+         */
+        private int firstAtOrAfter(LocalDateTime time) {
+            int low = 0;
+            int high = times.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (times.get(middle).isBefore(time)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the position of the first entity after {@code time}.
+         */
+        private int firstAfter(LocalDateTime time) {
+            int low = 0;
+            int high = times.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (times.get(middle).isAfter(time)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A half-open span of time, from its start up to but excluding its end.
+ * Guarantees: immutable; the start is before the end.
+ */
+public class TimeSlot {
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Every field must be present and not null, and {@code start} must be before {@code end}.
+     */
+    public TimeSlot(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(start.isBefore(end), "A time slot must start before it ends");
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public Duration getDuration() {
+        return Duration.between(start, end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TimeSlot)) {
+            return false;
+        }
+
+        TimeSlot otherSlot = (TimeSlot) other;
+        return start.equals(otherSlot.start) && end.equals(otherSlot.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.index.InvertedIndex.foldCase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Supports case-insensitive substring search over a text field of the entities of an {@code ObservableList}.
+ * Each entity is given a slot, and every three-character sequence (trigram) of its case-folded text maps to the
+ * slots containing it. A query only verifies the entities in the shortest posting list of its trigrams, instead of
+ * every entity. Queries shorter than three characters fall back to checking every entity.
+ * The index follows every change to the list. Each slot remembers where it sits in the posting list of each of its
+ * trigrams, so removing an entity takes constant time per trigram, however long the posting lists are.
+ *
+ * @param <T> the type of the indexed entities, which must be immutable
+ */
+public class TrigramIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<? super T, String> textExtractor;
+    private final List<T> entities = new ArrayList<>();
+    private final List<String> foldedTexts = new ArrayList<>();
+    /** The sorted trigrams of the text in each slot. */
+    private final List<long[]> slotGrams = new ArrayList<>();
+    /** For each slot, its position in the posting list of each of its trigrams, in the order of its trigrams. */
+    private final List<int[]> postingPositions = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<T, Integer> slots = new IdentityHashMap<>();
+    private final Map<Long, SlotList> postings = new HashMap<>();
+
+    /**
+     * Creates an index over the text returned by {@code textExtractor} for each entity in {@code source}, and keeps
+     * it up to date as {@code source} changes.
+     */
+    public TrigramIndex(ObservableList<? extends T> source, Function<? super T, String> textExtractor) {
+        requireNonNull(source);
+        requireNonNull(textExtractor);
+        this.textExtractor = textExtractor;
+        SourceListener.follow(source, this::add, this::remove);
+    }
+
+    /**
+     * Returns the entities whose text contains {@code fragment}, ignoring case.
+     * The returned set compares entities by identity.
+     */
+    public Set<T> find(String fragment) {
+        requireNonNull(fragment);
+        String foldedFragment = foldCase(fragment);
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (foldedFragment.length() < GRAM_LENGTH) {
+            for (int slot = 0; slot < entities.size(); slot++) {
+                addIfContains(matches, slot, foldedFragment);
+            }
+            return matches;
+        }
+
+        SlotList shortlist = null;
+        for (long gram : grams(foldedFragment)) {
+            SlotList posting = postings.get(gram);
+            if (posting == null) {
+                return matches;
+            }
+            if (shortlist == null || posting.size() < shortlist.size()) {
+                shortlist = posting;
+            }
+        }
+        for (int i = 0; i < shortlist.size(); i++) {
+            addIfContains(matches, shortlist.get(i), foldedFragment);
+        }
+        return matches;
+    }
+
+    private void addIfContains(Set<T> matches, int slot, String foldedFragment) {
+        T entity = entities.get(slot);
+        if (entity != null && foldedTexts.get(slot).contains(foldedFragment)) {
+            matches.add(entity);
+        }
+    }
+
+    private void add(T entity) {
+        String foldedText = foldCase(textExtractor.apply(entity));
+        long[] grams = grams(foldedText);
+        int[] positions = new int[grams.length];
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = entities.size();
+            entities.add(entity);
+            foldedTexts.add(foldedText);
+            slotGrams.add(grams);
+            postingPositions.add(positions);
+        } else {
+            slot = freeSlots.pop();
+            entities.set(slot, entity);
+            foldedTexts.set(slot, foldedText);
+            slotGrams.set(slot, grams);
+            postingPositions.set(slot, positions);
+        }
+        slots.put(entity, slot);
+        for (int i = 0; i < grams.length; i++) {
+            SlotList posting = postings.computeIfAbsent(grams[i], unused -> new SlotList());
+            positions[i] = posting.size();
+            posting.add(slot);
+        }
+    }
+
+    private void remove(T entity) {
+        Integer slot = slots.remove(entity);
+        if (slot == null) {
+            return;
+        }
+        long[] grams = slotGrams.get(slot);
+        int[] positions = postingPositions.get(slot);
+        for (int i = 0; i < grams.length; i++) {
+            SlotList posting = postings.get(grams[i]);
+            int movedSlot = posting.removeAt(positions[i]);
+            if (movedSlot != SlotList.NONE) {
+                // the slot moved into the gap must know its new position in this posting list
+                int gramIndex = Arrays.binarySearch(slotGrams.get(movedSlot), grams[i]);
+                postingPositions.get(movedSlot)[gramIndex] = positions[i];
+            }
+            if (posting.size() == 0) {
+                postings.remove(grams[i]);
+            }
+        }
+        entities.set(slot, null);
+        foldedTexts.set(slot, null);
+        slotGrams.set(slot, null);
+        postingPositions.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}, each packed into a {@code long}.
+     */
+    private static long[] grams(String text) {
+        int count = Math.max(0, text.length() - GRAM_LENGTH + 1);
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * An unordered, growable list of slots.
+     */
+    private static class SlotList {
+        static final int NONE = -1;
+
+        private int[] slots = new int[2];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        /**
+         * Removes the slot at {@code position} by moving the last slot into its place, and returns the moved slot,
+         * or {@link #NONE} if the removed slot was the last one.
+         */
+        int removeAt(int position) {
+            size--;
+            if (position == size) {
+                return NONE;
+            }
+            slots[position] = slots[size];
+            return slots[position];
+        }
+
+        int get(int i) {
+            return slots[i];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
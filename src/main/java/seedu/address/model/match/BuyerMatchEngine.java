@@ -0,0 +1,105 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.match.TokenIds.contains;
+import static seedu.address.model.match.TokenIds.containsAny;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * Ranks buyers for properties by {@link MatchScorer} score, the counterpart of {@link MatchEngine}.
+ * Buyers are prepared once into primitive arrays sorted by budget, so each property only scans the buyers whose
+ * budget reaches its asking price, and only the best {@code limit} candidates are kept in a bounded heap.
+ * Matching every property against every buyer is split across the common fork-join pool.
+ */
+public class BuyerMatchEngine {
+
+    /** The buyers in their original list order. The other arrays are in budget order. */
+    private final Buyer[] buyers;
+    private final int[] listPositions;
+    private final long[] budgets;
+    private final int[][] tagIds;
+    private final TokenIds tokenIds = new TokenIds();
+
+    /**
+     * Prepares {@code buyers} for matching. Later changes to the list are not seen by this engine.
+     */
+    public BuyerMatchEngine(List<Buyer> buyers) {
+        requireNonNull(buyers);
+        int size = buyers.size();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> buyers.get(i).getBudget().getAmount()));
+
+        this.buyers = new Buyer[size];
+        listPositions = new int[size];
+        budgets = new long[size];
+        tagIds = new int[size][];
+        for (int i = 0; i < size; i++) {
+            Buyer buyer = buyers.get(order[i]);
+            this.buyers[order[i]] = buyer;
+            listPositions[i] = order[i];
+            budgets[i] = buyer.getBudget().getAmount();
+            tagIds[i] = tokenIds.internAll(buyer.getTags().stream().map(tag -> tag.tagName));
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} buyers that {@code property} matches, best first.
+     * Among equal scores, buyers earlier in the prepared list come first.
+     */
+    public List<Match> matchBuyers(Property property, int limit) {
+        requireNonNull(property);
+        checkArgument(limit > 0, "limit must be positive");
+        long price = property.getAskingPrice().getAmount();
+        int typeId = tokenIds.lookUp(property.getPropertyType().value);
+        int[] addressWordIds = tokenIds.lookUpAll(TokenIds.words(property.getAddress().value));
+
+        TopK topK = new TopK(limit);
+        for (int i = lowerBound(MatchScorer.getMinMatchingBudget(price)); i < budgets.length; i++) {
+            double affordability = MatchScorer.getAffordability(budgets[i], price);
+            if (affordability <= 0) {
+                continue;
+            }
+            boolean isTypeMatch = typeId != TokenIds.UNKNOWN && contains(tagIds[i], typeId);
+            boolean isLocationMatch = containsAny(tagIds[i], addressWordIds);
+            topK.offer(MatchScorer.combine(affordability, isTypeMatch, isLocationMatch), listPositions[i]);
+        }
+        return topK.drain((position, score) -> new Match(buyers[position], property, score));
+    }
+
+    /**
+     * Returns the best {@code limit} buyer matches of every property in {@code properties}, in the same order as
+     * {@code properties}. The properties are matched in parallel.
+     */
+    public List<List<Match>> matchAll(List<Property> properties, int limit) {
+        requireNonNull(properties);
+        checkArgument(limit > 0, "limit must be positive");
+        return MatchAllTask.matchAll(properties, property -> matchBuyers(property, limit));
+    }
+
+    /**
+     * Returns the number of prepared buyers with a budget below {@code minBudget}.
+     */
+    private int lowerBound(long minBudget) {
+        int low = 0;
+        int high = budgets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (budgets[mid] < minBudget) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
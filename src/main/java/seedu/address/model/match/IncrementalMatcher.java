@@ -0,0 +1,272 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.match.MatchScorer.fold;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Finds the best matches created by a single change to the buyer or property list, without rescanning either list.
+ * Buyers are indexed by budget and properties by asking price, so a changed entity is only scored against the
+ * other side's entries priced near its budget: from {@value #MIN_PRICE_PERCENT_OF_BUDGET}% of a budget up to the
+ * highest price that still matches it. Only the best {@value #MAX_MATCHES_PER_CHANGE} of those are kept, in a
+ * bounded heap, so a change costs O(log n) plus the number of entries in that band, whatever the size of the lists.
+ * Tags, property types and address words are case-folded once, when an entity is indexed.
+ */
+public class IncrementalMatcher {
+
+    /** The most matches reported for a single change. */
+    public static final int MAX_MATCHES_PER_CHANGE = 5;
+
+    /** Properties priced below this percentage of a budget are too far from it to be reported as new matches. */
+    public static final long MIN_PRICE_PERCENT_OF_BUDGET = 80;
+
+    private final TreeMap<Long, List<IndexedBuyer>> buyersByBudget = new TreeMap<>();
+    private final TreeMap<Long, List<IndexedProperty>> propertiesByPrice = new TreeMap<>();
+
+    /**
+     * Replaces the indexed buyers and properties with {@code buyers} and {@code properties}.
+     */
+    public void reset(Collection<Buyer> buyers, Collection<Property> properties) {
+        requireNonNull(buyers);
+        requireNonNull(properties);
+        buyersByBudget.clear();
+        propertiesByPrice.clear();
+        buyers.forEach(this::indexBuyer);
+        properties.forEach(this::indexProperty);
+    }
+
+    /**
+     * Indexes {@code buyer} and returns the best properties priced near its budget that it matches, best first.
+     */
+    public List<Match> addBuyer(Buyer buyer) {
+        return findMatches(indexBuyer(buyer), null);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedBuyer} and returns the best properties priced near its budget that
+     * {@code editedBuyer} matches but {@code target} did not, best first.
+     */
+    public List<Match> setBuyer(Buyer target, Buyer editedBuyer) {
+        requireNonNull(target);
+        IndexedBuyer removed = removeFrom(buyersByBudget, target.getBudget().getAmount(), target);
+        return findMatches(indexBuyer(editedBuyer), removed);
+    }
+
+    /**
+     * Removes {@code buyer} from the index.
+     */
+    public void removeBuyer(Buyer buyer) {
+        requireNonNull(buyer);
+        removeFrom(buyersByBudget, buyer.getBudget().getAmount(), buyer);
+    }
+
+    /**
+     * Indexes {@code property} and returns the best buyers with a budget near its price that it matches, best first.
+     */
+    public List<Match> addProperty(Property property) {
+        return findMatches(indexProperty(property), null);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedProperty} and returns the best buyers with a budget near its price
+     * that {@code editedProperty} matches but {@code target} did not, best first.
+     */
+    public List<Match> setProperty(Property target, Property editedProperty) {
+        requireNonNull(target);
+        IndexedProperty removed = removeFrom(propertiesByPrice, target.getAskingPrice().getAmount(), target);
+        return findMatches(indexProperty(editedProperty), removed);
+    }
+
+    /**
+     * Removes {@code property} from the index.
+     */
+    public void removeProperty(Property property) {
+        requireNonNull(property);
+        removeFrom(propertiesByPrice, property.getAskingPrice().getAmount(), property);
+    }
+
+    private IndexedBuyer indexBuyer(Buyer buyer) {
+        requireNonNull(buyer);
+        IndexedBuyer indexed = new IndexedBuyer(buyer);
+        buyersByBudget.computeIfAbsent(indexed.budget, unused -> new ArrayList<>(1)).add(indexed);
+        return indexed;
+    }
+
+    private IndexedProperty indexProperty(Property property) {
+        requireNonNull(property);
+        IndexedProperty indexed = new IndexedProperty(property);
+        propertiesByPrice.computeIfAbsent(indexed.price, unused -> new ArrayList<>(1)).add(indexed);
+        return indexed;
+    }
+
+    /**
+     * Returns the best properties priced near the budget of {@code buyer} that it matches, and that
+     * {@code previous}, the buyer it replaced if any, did not.
+     */
+    private List<Match> findMatches(IndexedBuyer buyer, IndexedBuyer previous) {
+        long minPrice = getMinReportedPrice(buyer.budget);
+        long maxPrice = MatchScorer.getMaxMatchingPrice(buyer.budget);
+        if (minPrice > maxPrice) {
+            return List.of();
+        }
+
+        List<IndexedProperty> candidates = new ArrayList<>();
+        TopK topK = new TopK(MAX_MATCHES_PER_CHANGE);
+        for (List<IndexedProperty> bucket : propertiesByPrice.subMap(minPrice, true, maxPrice, true).values()) {
+            for (IndexedProperty property : bucket) {
+                double score = score(buyer, property);
+                if (score > 0 && score(previous, property) <= 0) {
+                    topK.offer(score, candidates.size());
+                    candidates.add(property);
+                }
+            }
+        }
+        return topK.drain((i, score) -> new Match(buyer.buyer, candidates.get(i).property, score));
+    }
+
+    /**
+     * Returns the best buyers with a budget near the price of {@code property} that it matches, and that
+     * {@code previous}, the property it replaced if any, did not.
+     */
+    private List<Match> findMatches(IndexedProperty property, IndexedProperty previous) {
+        long minBudget = MatchScorer.getMinMatchingBudget(property.price);
+        long maxBudget = getMaxReportedBudget(property.price);
+        if (minBudget > maxBudget) {
+            return List.of();
+        }
+
+        List<IndexedBuyer> candidates = new ArrayList<>();
+        TopK topK = new TopK(MAX_MATCHES_PER_CHANGE);
+        for (List<IndexedBuyer> bucket : buyersByBudget.subMap(minBudget, true, maxBudget, true).values()) {
+            for (IndexedBuyer buyer : bucket) {
+                double score = score(buyer, property);
+                if (score > 0 && score(buyer, previous) <= 0) {
+                    topK.offer(score, candidates.size());
+                    candidates.add(buyer);
+                }
+            }
+        }
+        return topK.drain((i, score) -> new Match(candidates.get(i).buyer, property.property, score));
+    }
+
+    /**
+     * Returns the lowest price reported for {@code budget}, {@value #MIN_PRICE_PERCENT_OF_BUDGET}% of it rounded up.
+     * Divides before multiplying, so large budgets do not overflow.
+     */
+    static long getMinReportedPrice(long budget) {
+        return budget / 100 * MIN_PRICE_PERCENT_OF_BUDGET + (budget % 100 * MIN_PRICE_PERCENT_OF_BUDGET + 99) / 100;
+    }
+
+    /**
+     * Returns the highest budget reported for {@code price}, the budget {@code price} is
+     * {@value #MIN_PRICE_PERCENT_OF_BUDGET}% of rounded down, or {@code Long.MAX_VALUE} if that is too large for a
+     * {@code long}.
+     */
+    static long getMaxReportedBudget(long price) {
+        long quotient = price / MIN_PRICE_PERCENT_OF_BUDGET;
+        if (quotient > (Long.MAX_VALUE - 99) / 100) {
+            return Long.MAX_VALUE;
+        }
+        return quotient * 100 + price % MIN_PRICE_PERCENT_OF_BUDGET * 100 / MIN_PRICE_PERCENT_OF_BUDGET;
+    }
+
+    private static double score(IndexedBuyer buyer, IndexedProperty property) {
+        if (buyer == null || property == null) {
+            return 0;
+        }
+        return MatchScorer.combine(MatchScorer.getAffordability(buyer.budget, property.price),
+                buyer.tags.contains(property.type),
+                !Collections.disjoint(buyer.tags, property.addressWords));
+    }
+
+    private static <T extends Indexed<?>> T find(Map<Long, List<T>> index, long key, Object entity) {
+        List<T> bucket = index.get(key);
+        if (bucket == null) {
+            return null;
+        }
+        return bucket.stream().filter(indexed -> indexed.get().equals(entity)).findFirst().orElse(null);
+    }
+
+    private static <T extends Indexed<?>> T removeFrom(Map<Long, List<T>> index, long key, Object entity) {
+        T indexed = find(index, key, entity);
+        if (indexed != null) {
+            List<T> bucket = index.get(key);
+            bucket.remove(indexed);
+            if (bucket.isEmpty()) {
+                index.remove(key);
+            }
+        }
+        return indexed;
+    }
+
+    private static Set<String> foldAll(Collection<String> words) {
+        Set<String> folded = new HashSet<>();
+        words.forEach(word -> folded.add(fold(word)));
+        return folded;
+    }
+
+    /**
+     * An indexed entity together with its pre-computed match keys.
+     */
+    private interface Indexed<T> {
+        T get();
+    }
+
+    /**
+     * A {@code Buyer} with its budget and case-folded tags.
+     */
+    private static class IndexedBuyer implements Indexed<Buyer> {
+        private final Buyer buyer;
+        private final long budget;
+        private final Set<String> tags;
+
+        private IndexedBuyer(Buyer buyer) {
+            this.buyer = buyer;
+            budget = buyer.getBudget().getAmount();
+            List<String> tagNames = new ArrayList<>();
+            for (Tag tag : buyer.getTags()) {
+                tagNames.add(tag.tagName);
+            }
+            tags = foldAll(tagNames);
+        }
+
+        @Override
+        public Buyer get() {
+            return buyer;
+        }
+    }
+
+    /**
+     * A {@code Property} with its asking price, case-folded type and case-folded address words.
+     */
+    private static class IndexedProperty implements Indexed<Property> {
+        private final Property property;
+        private final long price;
+        private final String type;
+        private final Set<String> addressWords;
+
+        private IndexedProperty(Property property) {
+            this.property = property;
+            price = property.getAskingPrice().getAmount();
+            type = fold(property.getPropertyType().value);
+            addressWords = foldAll(List.of(property.getAddress().value.split("\\s+")));
+        }
+
+        @Override
+        public Property get() {
+            return property;
+        }
+    }
+}
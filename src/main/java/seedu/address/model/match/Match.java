@@ -0,0 +1,83 @@
+package seedu.address.model.match;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * Represents a scored pairing of a {@code Buyer} with a {@code Property}.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class Match {
+
+    private final Buyer buyer;
+    private final Property property;
+    private final double score;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Match(Buyer buyer, Property property, double score) {
+        requireAllNonNull(buyer, property);
+        this.buyer = buyer;
+        this.property = property;
+        this.score = score;
+    }
+
+    public Buyer getBuyer() {
+        return buyer;
+    }
+
+    public Property getProperty() {
+        return property;
+    }
+
+    /**
+     * Returns the match score, between 0 (exclusive) and 1 (inclusive).
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the match score as a whole percentage.
+     */
+    public int getScorePercentage() {
+        return (int) Math.round(score * 100);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Match)) {
+            return false;
+        }
+
+        Match otherMatch = (Match) other;
+        return buyer.equals(otherMatch.buyer)
+                && property.equals(otherMatch.property)
+                && Double.compare(score, otherMatch.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(buyer, property, score);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("buyer", buyer.getName())
+                .add("property", property.getAddress())
+                .add("score", score)
+                .toString();
+    }
+}
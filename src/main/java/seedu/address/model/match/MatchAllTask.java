@@ -0,0 +1,59 @@
+package seedu.address.model.match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Matches a range of items, splitting it in half until it is small enough to match directly.
+ * Used by {@link MatchEngine} and {@link BuyerMatchEngine} to match every buyer or property on the common fork-join
+ * pool.
+ */
+class MatchAllTask<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Number of items below which a range is matched on the current thread instead of being split. */
+    private static final int BATCH_THRESHOLD = 256;
+
+    private final List<T> items;
+    private final Function<? super T, List<Match>> matcher;
+    private final List<List<Match>> results;
+    private final int start;
+    private final int end;
+
+    private MatchAllTask(List<T> items, Function<? super T, List<Match>> matcher, List<List<Match>> results,
+            int start, int end) {
+        this.items = items;
+        this.matcher = matcher;
+        this.results = results;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the matches of every item in {@code items} found by {@code matcher}, in the same order as
+     * {@code items}. The items are matched in parallel, so {@code matcher} must be safe to call from several threads.
+     */
+    static <T> List<List<Match>> matchAll(List<T> items, Function<? super T, List<Match>> matcher) {
+        List<List<Match>> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        ForkJoinPool.commonPool().invoke(new MatchAllTask<>(items, matcher, results, 0, items.size()));
+        return results;
+    }
+
+    @Override
+    protected void compute() {
+        if (end - start <= BATCH_THRESHOLD) {
+            for (int i = start; i < end; i++) {
+                results.set(i, matcher.apply(items.get(i)));
+            }
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        invokeAll(new MatchAllTask<>(items, matcher, results, start, mid),
+                new MatchAllTask<>(items, matcher, results, mid, end));
+    }
+}
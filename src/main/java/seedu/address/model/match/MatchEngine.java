@@ -0,0 +1,160 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.match.TokenIds.contains;
+import static seedu.address.model.match.TokenIds.containsAny;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * Ranks properties for buyers (and buyers for properties) by {@link MatchScorer} score.
+ * Properties are prepared once into primitive arrays sorted by asking price, so each buyer only scans the
+ * properties within reach of its budget, and only the best {@code limit} candidates are kept in a bounded heap.
+ * Matching every buyer against every property is split across the common fork-join pool.
+ */
+public class MatchEngine {
+
+    public static final int DEFAULT_LIMIT = 5;
+
+    /** The properties in their original list order. The other arrays are in asking price order. */
+    private final Property[] properties;
+    private final int[] listPositions;
+    private final long[] prices;
+    private final int[] typeIds;
+    private final int[][] addressWordIds;
+    private final TokenIds tokenIds = new TokenIds();
+
+    /**
+     * Prepares {@code properties} for matching. Later changes to the list are not seen by this engine.
+     */
+    public MatchEngine(List<Property> properties) {
+        requireNonNull(properties);
+        int size = properties.size();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> properties.get(i).getAskingPrice().getAmount()));
+
+        this.properties = new Property[size];
+        listPositions = new int[size];
+        prices = new long[size];
+        typeIds = new int[size];
+        addressWordIds = new int[size][];
+        for (int i = 0; i < size; i++) {
+            Property property = properties.get(order[i]);
+            this.properties[order[i]] = property;
+            listPositions[i] = order[i];
+            prices[i] = property.getAskingPrice().getAmount();
+            typeIds[i] = tokenIds.intern(property.getPropertyType().value);
+            addressWordIds[i] = tokenIds.internAll(TokenIds.words(property.getAddress().value));
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} properties that match {@code buyer}, best first.
+     * Among equal scores, properties earlier in the prepared list come first.
+     */
+    public List<Match> matchProperties(Buyer buyer, int limit) {
+        requireNonNull(buyer);
+        checkArgument(limit > 0, "limit must be positive");
+        long budget = buyer.getBudget().getAmount();
+        // tags that never occur in any property cannot match, so they are left out
+        int[] tagIds = tokenIds.lookUpAll(buyer.getTags().stream().map(tag -> tag.tagName));
+        int end = upperBound(MatchScorer.getMaxMatchingPrice(budget));
+
+        TopK topK = new TopK(limit);
+        for (int i = 0; i < end; i++) {
+            double affordability = MatchScorer.getAffordability(budget, prices[i]);
+            if (affordability <= 0) {
+                continue;
+            }
+            boolean isTypeMatch = contains(tagIds, typeIds[i]);
+            boolean isLocationMatch = containsAny(addressWordIds[i], tagIds);
+            topK.offer(MatchScorer.combine(affordability, isTypeMatch, isLocationMatch), listPositions[i]);
+        }
+        return topK.drain((position, score) -> new Match(buyer, properties[position], score));
+    }
+
+    /**
+     * Returns up to {@code limit} properties in {@code properties} that match {@code buyer}, best first, as
+     * {@link #matchProperties(Buyer, int)} does without preparing the properties, which is quicker for one buyer.
+     * Among equal scores, properties earlier in {@code properties} come first.
+     */
+    public static List<Match> matchProperties(Buyer buyer, List<Property> properties, int limit) {
+        requireNonNull(buyer);
+        requireNonNull(properties);
+        checkArgument(limit > 0, "limit must be positive");
+        long maxPrice = MatchScorer.getMaxMatchingPrice(buyer.getBudget().getAmount());
+
+        TopK topK = new TopK(limit);
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            if (property.getAskingPrice().getAmount() > maxPrice) {
+                continue;
+            }
+            double score = MatchScorer.score(buyer, property);
+            if (score > 0) {
+                topK.offer(score, i);
+            }
+        }
+        return topK.drain((i, score) -> new Match(buyer, properties.get(i), score));
+    }
+
+    /**
+     * Returns the best {@code limit} property matches of every buyer in {@code buyers}, in the same order as
+     * {@code buyers}. The buyers are matched in parallel.
+     */
+    public List<List<Match>> matchAll(List<Buyer> buyers, int limit) {
+        requireNonNull(buyers);
+        checkArgument(limit > 0, "limit must be positive");
+        return MatchAllTask.matchAll(buyers, buyer -> matchProperties(buyer, limit));
+    }
+
+    /**
+     * Returns up to {@code limit} buyers that {@code property} matches, best first.
+     * Among equal scores, buyers earlier in {@code buyers} come first.
+     */
+    public static List<Match> matchBuyers(Property property, List<Buyer> buyers, int limit) {
+        requireNonNull(property);
+        requireNonNull(buyers);
+        checkArgument(limit > 0, "limit must be positive");
+        long minBudget = MatchScorer.getMinMatchingBudget(property.getAskingPrice().getAmount());
+
+        TopK topK = new TopK(limit);
+        for (int i = 0; i < buyers.size(); i++) {
+            Buyer buyer = buyers.get(i);
+            if (buyer.getBudget().getAmount() < minBudget) {
+                continue;
+            }
+            double score = MatchScorer.score(buyer, property);
+            if (score > 0) {
+                topK.offer(score, i);
+            }
+        }
+        return topK.drain((i, score) -> new Match(buyers.get(i), property, score));
+    }
+
+    /**
+     * Returns the number of prepared properties priced at most {@code maxPrice}.
+     */
+    private int upperBound(long maxPrice) {
+        int low = 0;
+        int high = prices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] <= maxPrice) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
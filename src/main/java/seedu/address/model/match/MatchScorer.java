@@ -0,0 +1,103 @@
+package seedu.address.model.match;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Locale;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Scores how well a {@code Property} suits a {@code Buyer}.
+ * The score combines how well the asking price fits the buyer's budget, whether one of the buyer's tags names the
+ * property type (e.g. {@code t/HDB}), and whether one of the buyer's tags appears as a word in the property's
+ * address (e.g. {@code t/Jurong}). Tags and property fields are compared case-insensitively.
+ */
+public class MatchScorer {
+
+    public static final double AFFORDABILITY_WEIGHT = 0.6;
+    public static final double TYPE_WEIGHT = 0.3;
+    public static final double LOCATION_WEIGHT = 0.1;
+
+    /** Properties priced up to this fraction above a buyer's budget are still considered, at a penalty. */
+    public static final double STRETCH_RATIO = 0.1;
+
+    private MatchScorer() {} // prevents instantiation
+
+    /**
+     * Returns the match score of {@code property} for {@code buyer}, between 0 and 1.
+     * A score of 0 means the property is out of the buyer's reach and is not a match.
+     */
+    public static double score(Buyer buyer, Property property) {
+        requireAllNonNull(buyer, property);
+        double affordability = getAffordability(buyer.getBudget().getAmount(), property.getAskingPrice().getAmount());
+        if (affordability <= 0) {
+            return 0;
+        }
+
+        String type = fold(property.getPropertyType().value);
+        String[] addressWords = fold(property.getAddress().value).split("\\s+");
+        boolean isTypeMatch = false;
+        boolean isLocationMatch = false;
+        for (Tag tag : buyer.getTags()) {
+            String tagName = fold(tag.tagName);
+            isTypeMatch |= tagName.equals(type);
+            for (String word : addressWords) {
+                isLocationMatch |= tagName.equals(word);
+            }
+        }
+        return combine(affordability, isTypeMatch, isLocationMatch);
+    }
+
+    /**
+     * Returns how well {@code price} fits {@code budget}, between 0 and 1.
+     * Prices within budget score at least 0.5, rising to 1 as the price approaches the budget. Prices above budget
+     * score below 0.5, falling to 0 at {@link #STRETCH_RATIO} above budget.
+     */
+    public static double getAffordability(long budget, long price) {
+        if (budget <= 0) {
+            return 0;
+        }
+        if (price <= budget) {
+            return 0.5 + 0.5 * price / budget;
+        }
+        double overRatio = (double) (price - budget) / budget;
+        return overRatio >= STRETCH_RATIO ? 0 : 0.5 * (1 - overRatio / STRETCH_RATIO);
+    }
+
+    /**
+     * Returns the highest asking price that can still be a match for {@code budget}, or {@code Long.MAX_VALUE} if
+     * that price is too large for a {@code long}.
+     */
+    public static long getMaxMatchingPrice(long budget) {
+        long stretch = (long) Math.ceil(budget * STRETCH_RATIO);
+        return budget > Long.MAX_VALUE - stretch ? Long.MAX_VALUE : budget + stretch;
+    }
+
+    /**
+     * Returns the lowest budget for which {@code price} can still be a match.
+     */
+    public static long getMinMatchingBudget(long price) {
+        return (long) Math.floor(price / (1 + STRETCH_RATIO));
+    }
+
+    /**
+     * Combines the individual criteria into a single score.
+     */
+    static double combine(double affordability, boolean isTypeMatch, boolean isLocationMatch) {
+        if (affordability <= 0) {
+            return 0;
+        }
+        return AFFORDABILITY_WEIGHT * affordability
+                + (isTypeMatch ? TYPE_WEIGHT : 0)
+                + (isLocationMatch ? LOCATION_WEIGHT : 0);
+    }
+
+    /**
+     * Returns the case-folded form of {@code text} used for comparisons.
+     */
+    static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.match;
+
+import static seedu.address.model.match.MatchScorer.fold;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Numbers the case-folded words that matching compares, so that tags, property types and address words are
+ * compared as sorted arrays of ints instead of strings.
+ */
+class TokenIds {
+
+    static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    /**
+     * Returns the id of {@code token}, numbering it if it is new.
+     */
+    int intern(String token) {
+        return ids.computeIfAbsent(fold(token), unused -> ids.size());
+    }
+
+    /**
+     * Returns the id of {@code token}, or {@link #UNKNOWN} if it was never interned.
+     */
+    int lookUp(String token) {
+        return ids.getOrDefault(fold(token), UNKNOWN);
+    }
+
+    /**
+     * Returns the sorted ids of {@code tokens}, numbering the new ones.
+     */
+    int[] internAll(Stream<String> tokens) {
+        return tokens.mapToInt(this::intern).distinct().sorted().toArray();
+    }
+
+    /**
+     * Returns the sorted ids of {@code tokens}. Tokens that were never interned are left out.
+     */
+    int[] lookUpAll(Stream<String> tokens) {
+        return tokens.mapToInt(this::lookUp).filter(id -> id != UNKNOWN).distinct().sorted().toArray();
+    }
+
+    /**
+     * Returns the words of {@code text}, split as {@link MatchScorer#score} splits an address.
+     */
+    static Stream<String> words(String text) {
+        return Arrays.stream(text.split("\\s+"));
+    }
+
+    static boolean contains(int[] sortedIds, int id) {
+        return Arrays.binarySearch(sortedIds, id) >= 0;
+    }
+
+    static boolean containsAny(int[] sortedIds, int[] ids) {
+        for (int id : ids) {
+            if (contains(sortedIds, id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
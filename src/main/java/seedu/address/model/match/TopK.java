@@ -0,0 +1,129 @@
+package seedu.address.model.match;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps the {@code k} best-scoring candidates offered to it, using a bounded min-heap over primitive arrays.
+ * Candidates are identified by an index; among equal scores, the lower index ranks higher.
+ * The heap grows with the candidates kept, so a {@code k} far above the number of candidates costs nothing.
+ */
+class TopK {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int k;
+    private double[] scores;
+    private int[] indices;
+    private int size;
+
+    /**
+     * Creates a {@code TopK} holding at most {@code k} candidates.
+     */
+    TopK(int k) {
+        checkArgument(k > 0, "k must be positive");
+        this.k = k;
+        scores = new double[Math.min(k, INITIAL_CAPACITY)];
+        indices = new int[scores.length];
+    }
+
+    /**
+     * Offers the candidate at {@code index} with the given {@code score}.
+     * It is kept only if it ranks among the best {@code k} seen so far.
+     */
+    void offer(double score, int index) {
+        if (size < k) {
+            if (size == scores.length) {
+                int capacity = (int) Math.min(k, 2L * size);
+                scores = Arrays.copyOf(scores, capacity);
+                indices = Arrays.copyOf(indices, capacity);
+            }
+            scores[size] = score;
+            indices[size] = index;
+            siftUp(size++);
+        } else if (ranksBelow(scores[0], indices[0], score, index)) {
+            scores[0] = score;
+            indices[0] = index;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Returns the kept candidates, best first, converted with {@code mapper}. The heap is emptied.
+     */
+    <T> List<T> drain(ScoredIndexMapper<T> mapper) {
+        List<T> result = new ArrayList<>(Collections.nCopies(size, null));
+        for (int i = size - 1; i >= 0; i--) {
+            result.set(i, mapper.map(indices[0], scores[0]));
+            swap(0, --size);
+            siftDown(0);
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if candidate {@code (scoreA, indexA)} ranks below candidate {@code (scoreB, indexB)}.
+     */
+    private static boolean ranksBelow(double scoreA, int indexA, double scoreB, int indexB) {
+        return scoreA < scoreB || (scoreA == scoreB && indexA > indexB);
+    }
+
+    private boolean ranksBelow(int i, int j) {
+        return ranksBelow(scores[i], indices[i], scores[j], indices[j]);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!ranksBelow(i, parent)) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < size && ranksBelow(right, left)) {
+                worst = right;
+            }
+            if (!ranksBelow(worst, i)) {
+                return;
+            }
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+        int index = indices[i];
+        indices[i] = indices[j];
+        indices[j] = index;
+    }
+
+    /**
+     * Converts a kept candidate into a result.
+     */
+    @FunctionalInterface
+    interface ScoredIndexMapper<T> {
+        T map(int index, double score);
+    }
+}
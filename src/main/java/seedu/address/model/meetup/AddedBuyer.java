@@ -1,5 +1,6 @@
 package seedu.address.model.meetup;
 
+import seedu.address.commons.util.Interner;
 import seedu.address.model.buyer.Name;
 
 /**
@@ -11,6 +12,8 @@ public class AddedBuyer extends Name {
     public static final String MESSAGE_CONSTRAINTS =
             "Name of buyer added should only contain alphanumeric characters and spaces, and it should not be blank";
 
+    private static final Interner<AddedBuyer> INTERNER = new Interner<>();
+
     /**
      * Constructs a {@code AddedBuyer}.
      *
@@ -20,6 +23,15 @@ public class AddedBuyer extends Name {
         super(fullName);
     }
 
+    /**
+     * Returns the shared {@code AddedBuyer} named {@code fullName}, so that meet-ups with the same buyer hold one
+     * instance of it.
+     *
+     * @param fullName A valid added buyer name.
+     */
+    public static AddedBuyer of(String fullName) {
+        return INTERNER.intern(new AddedBuyer(fullName));
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -5,7 +5,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a date time attribute
@@ -26,35 +29,44 @@ public abstract class DateTime {
 
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    private static final DateTimeFormatter PRETTY_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy (h:mma)");
+
     public final LocalDateTime value;
 
+    /** The pretty formatted date-time, formatted the first time it is shown. */
+    private String prettyString;
+
     /**
      * Constructs a {@code MeetUpFromType}.
      */
     public DateTime(String dateTime) {
         requireNonNull(dateTime);
         checkArgument(isValidFormat(dateTime), MESSAGE_CONSTRAINTS_FORMAT);
-        checkArgument(isValidDateTime(dateTime), MESSAGE_CONSTRAINTS_DATETIME);
-        this.value = LocalDateTime.parse(dateTime, FORMATTER);
+        Optional<LocalDateTime> parsed = ValidationUtil.parseDateTime(dateTime);
+        checkArgument(parsed.isPresent(), MESSAGE_CONSTRAINTS_DATETIME);
+        this.value = parsed.get();
+    }
+
+    /**
+     * Constructs a date time attribute of {@code dateTime}, without its seconds.
+     */
+    protected DateTime(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        this.value = dateTime.truncatedTo(ChronoUnit.MINUTES);
     }
 
     /**
      * Returns true if a given string is a valid format.
      */
     public static boolean isValidFormat(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDateTimeShape(test);
     }
 
     /**
      * Returns true if a given string is a valid dateTime.
      */
     public static boolean isValidDateTime(String test) {
-        try {
-            LocalDateTime.parse(test, FORMATTER);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return ValidationUtil.parseDateTime(test).isPresent();
     }
 
 
@@ -62,15 +74,11 @@ public abstract class DateTime {
      * Returns pretty formatted LocalDateTime String
      */
     public String toPrettyString() {
-        // Define the formatter with the desired pattern
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy (h:mma)");
-
-        // Format the LocalDateTime object
-        String formattedDateTime = value.format(formatter);
-
-        // Convert "AM"/"PM" to lowercase
-        formattedDateTime = formattedDateTime.replace("AM", "am").replace("PM", "pm");
-        return formattedDateTime;
+        if (prettyString == null) {
+            // Convert "AM"/"PM" to lowercase
+            prettyString = value.format(PRETTY_FORMATTER).replace("AM", "am").replace("PM", "pm");
+        }
+        return prettyString;
     }
 
     @Override
@@ -1,5 +1,7 @@
 package seedu.address.model.meetup;
 
+import java.time.LocalDateTime;
+
 /**
  * Represents a meetup's starting time in the meet up list.
  * Guarantees: immutable;
@@ -21,6 +23,17 @@ public class From extends DateTime {
         super(from);
     }
 
+    private From(LocalDateTime from) {
+        super(from);
+    }
+
+    /**
+     * Returns a {@code From} at {@code from}, without its seconds.
+     */
+    public static From of(LocalDateTime from) {
+        return new From(from);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
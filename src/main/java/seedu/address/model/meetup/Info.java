@@ -3,6 +3,8 @@ package seedu.address.model.meetup;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a meetup's details in the meetup list.
  */
@@ -33,14 +35,14 @@ public class Info {
      * Returns true if a given string is a valid info.
      */
     public static boolean isValidInfo(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNotBlank(test);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidMeetUpInfo(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isNotBlank(test);
     }
 
     @Override
@@ -1,16 +1,29 @@
 package seedu.address.model.meetup;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
+import seedu.address.commons.util.CompactSet;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.TimeSlot;
+import seedu.address.model.property.Address;
 
 /**
- * Represents a MeetUp in the meet-up list.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Represents a MeetUp in the meet-up list. A meet-up with a {@code Recurrence} stands for a whole series, whose
+ * first occurrence runs from {@code from} to {@code to} and whose later occurrences are computed from the rule.
+ * A meet-up may refer to the property it is held at by the property's address.
+ * Guarantees: details are present and not null except the optional recurrence and property, field values are
+ * validated, immutable.
  */
 public class MeetUp {
 
@@ -19,22 +32,44 @@ public class MeetUp {
     private final Info info;
     private final From from;
     private final To to;
-    private final Set<AddedBuyer> addedBuyers = new HashSet<>();
+    private final Set<AddedBuyer> addedBuyers;
+
+    // Data fields
+    private final Recurrence recurrence;
+    private final Address property;
 
     /**
      * Every field must be present and not null.
      */
     public MeetUp(Subject subject, Info info, From from, To to, Set<AddedBuyer> addedBuyers) {
+        this(subject, info, from, to, addedBuyers, null);
+    }
+
+    /**
+     * Every field must be present and not null, except {@code recurrence}, which is null for a one-off meet-up.
+     */
+    public MeetUp(Subject subject, Info info, From from, To to, Set<AddedBuyer> addedBuyers, Recurrence recurrence) {
+        this(subject, info, from, to, addedBuyers, recurrence, null);
+    }
+
+    /**
+     * Every field must be present and not null, except {@code recurrence}, which is null for a one-off meet-up, and
+     * {@code property}, the address of the property the meet-up is held at, which is null if there is none.
+     */
+    public MeetUp(Subject subject, Info info, From from, To to, Set<AddedBuyer> addedBuyers, Recurrence recurrence,
+            Address property) {
         requireAllNonNull(subject, info, from, to, addedBuyers);
         this.subject = subject;
         this.info = info;
         this.from = from;
         this.to = to;
-        this.addedBuyers.addAll(addedBuyers);
+        this.addedBuyers = CompactSet.copyOf(addedBuyers);
+        this.recurrence = recurrence;
+        this.property = property;
     }
 
     /**
-     * Returns true if both meetups have the same name, from and to.
+     * Returns true if both meetups have the same name, from and to, and either both or neither repeat.
      * This defines a weaker notion of equality between two meet-ups.
      */
     public boolean isSameMeetUp(MeetUp otherMeetUp) {
@@ -45,7 +80,16 @@ public class MeetUp {
         return otherMeetUp != null
                 && otherMeetUp.getSubject().equals(getSubject())
                 && otherMeetUp.getFrom().equals(getFrom())
-                && otherMeetUp.getTo().equals(getTo());
+                && otherMeetUp.getTo().equals(getTo())
+                && otherMeetUp.isRecurring() == isRecurring();
+    }
+
+    /**
+     * Returns a key that is equal for two meet-ups exactly when they are the same meet-up as defined by
+     * {@link #isSameMeetUp(MeetUp)}, so that duplicates can be found by hashing.
+     */
+    public Object getIdentityKey() {
+        return List.of(subject, from, to, isRecurring());
     }
 
     /**
@@ -55,6 +99,139 @@ public class MeetUp {
         return to.isValidToFrom(from);
     }
 
+    /**
+     * Returns true if the meet-up does not repeat, or if each occurrence ends before the next starts and the last
+     * date of the series is not before its first.
+     */
+    public boolean hasValidRecurrence() {
+        if (recurrence == null) {
+            return true;
+        }
+        return !recurrence.getUntil().isBefore(from.getDateTime().toLocalDate())
+                && getDuration().compareTo(Duration.ofDays(recurrence.getFrequency().getDays())) <= 0;
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the time from the start to the end of each occurrence.
+     */
+    public Duration getDuration() {
+        return Duration.between(from.getDateTime(), to.getDateTime());
+    }
+
+    /**
+     * Returns the end of the last occurrence, which is the end of the meet-up if it does not repeat.
+     */
+    public LocalDateTime getLastEnd() {
+        if (recurrence == null) {
+            return to.getDateTime();
+        }
+        return recurrence.getLastStart(from.getDateTime()).plus(getDuration());
+    }
+
+    /**
+     * Returns the times of the occurrences that overlap the time from {@code start} to {@code end}, in order.
+     * Occurrences ending exactly at {@code start} or starting exactly at {@code end} do not overlap it.
+     */
+    public List<TimeSlot> getOccurrencesOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        Duration duration = getDuration();
+        List<TimeSlot> occurrences = new ArrayList<>();
+        if (duration.isZero() || duration.isNegative()) {
+            return occurrences;
+        }
+        List<LocalDateTime> starts = recurrence == null
+                ? List.of(from.getDateTime())
+                : recurrence.getStartsBetween(from.getDateTime(), start.minus(duration), end);
+        for (LocalDateTime occurrenceStart : starts) {
+            LocalDateTime occurrenceEnd = occurrenceStart.plus(duration);
+            if (occurrenceStart.isBefore(end) && occurrenceEnd.isAfter(start)) {
+                occurrences.add(new TimeSlot(occurrenceStart, occurrenceEnd));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the start of the first occurrence starting at or after {@code start} and before {@code end}, if any.
+     */
+    public Optional<LocalDateTime> getFirstStartBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        if (recurrence == null) {
+            LocalDateTime first = from.getDateTime();
+            return !first.isBefore(start) && first.isBefore(end) ? Optional.of(first) : Optional.empty();
+        }
+        return recurrence.getStartsBetween(from.getDateTime(), start, end, 1).stream().findFirst();
+    }
+
+    /**
+     * Returns true if an occurrence of this meet-up overlaps an occurrence of {@code other}.
+     */
+    public boolean overlapsWith(MeetUp other) {
+        requireNonNull(other);
+        LocalDateTime start = max(from.getDateTime(), other.from.getDateTime());
+        LocalDateTime end = min(getLastEnd(), other.getLastEnd());
+        if (!start.isBefore(end)) {
+            return false;
+        }
+        for (TimeSlot occurrence : getOccurrencesOverlapping(start, end)) {
+            if (!other.getOccurrencesOverlapping(occurrence.getStart(), occurrence.getEnd()).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the occurrence on {@code date} as a one-off meet-up, if the meet-up occurs on that date.
+     */
+    public Optional<MeetUp> getOccurrenceOn(LocalDate date) {
+        requireNonNull(date);
+        if (recurrence == null || !recurrence.occursOn(from.getDateTime(), date)) {
+            return Optional.empty();
+        }
+        LocalDateTime start = date.atTime(from.getDateTime().toLocalTime());
+        return Optional.of(new MeetUp(subject, info, From.of(start), To.of(start.plus(getDuration())),
+                addedBuyers, null, property));
+    }
+
+    /**
+     * Returns a copy of this meet-up with its occurrence on {@code date} cancelled.
+     * The meet-up must repeat.
+     */
+    public MeetUp withoutOccurrenceOn(LocalDate date) {
+        requireNonNull(date);
+        checkArgument(recurrence != null, "Only a repeating meet-up has occurrences to cancel");
+        return new MeetUp(subject, info, from, to, addedBuyers, recurrence.withException(date), property);
+    }
+
+    /**
+     * Returns a copy of this meet-up held at the property with address {@code property}, or at no property if
+     * {@code property} is null.
+     */
+    public MeetUp withProperty(Address property) {
+        return new MeetUp(subject, info, from, to, addedBuyers, recurrence, property);
+    }
+
+    /**
+     * Returns true if the meet-up repeats and has no occurrence left.
+     */
+    public boolean hasNoOccurrences() {
+        return recurrence != null && !recurrence.occursOn(from.getDateTime(),
+                recurrence.getLastStart(from.getDateTime()).toLocalDate());
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
     /**
      * Returns true if both meetups have the same identity and data fields.
      * This defines a stronger notion of equality between two meetUps.
@@ -75,13 +252,15 @@ public class MeetUp {
                 && info.equals(otherMeetUp.info)
                 && from.equals(otherMeetUp.from)
                 && to.equals(otherMeetUp.to)
-                && addedBuyers.equals(otherMeetUp.addedBuyers);
+                && addedBuyers.equals(otherMeetUp.addedBuyers)
+                && Objects.equals(recurrence, otherMeetUp.recurrence)
+                && Objects.equals(property, otherMeetUp.property);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(subject, info, from, to, addedBuyers);
+        return Objects.hash(subject, info, from, to, addedBuyers, recurrence, property);
     }
 
     @Override
@@ -92,6 +271,8 @@ public class MeetUp {
                 .add("from", from)
                 .add("to", to)
                 .add("addedBuyers", addedBuyers)
+                .add("recurrence", recurrence)
+                .add("property", property)
                 .toString();
     }
 
@@ -115,4 +296,12 @@ public class MeetUp {
         return this.addedBuyers;
     }
 
+    public Optional<Recurrence> getRecurrence() {
+        return Optional.ofNullable(recurrence);
+    }
+
+    public Optional<Address> getProperty() {
+        return Optional.ofNullable(property);
+    }
+
 }
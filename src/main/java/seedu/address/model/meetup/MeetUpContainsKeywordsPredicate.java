@@ -23,6 +23,10 @@ public class MeetUpContainsKeywordsPredicate implements Predicate<MeetUp> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(MeetUp meetUp) {
         return keywords.stream()
@@ -0,0 +1,206 @@
+package seedu.address.model.meetup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Represents the rule by which a meet-up repeats: how often, the last date it may fall on, and the dates on which
+ * it has been cancelled. Occurrences are computed from the rule on demand, within the range asked for, instead of
+ * being stored.
+ * Guarantees: immutable; the frequency is valid as declared in {@link #isValidFrequency(String)}
+ */
+public class Recurrence {
+
+    public static final String MESSAGE_CONSTRAINTS = "Meet-ups can only repeat daily or weekly, and a repeating"
+            + " meet-up needs both a frequency and a last date";
+    public static final String MESSAGE_CONSTRAINTS_SERIES = "A repeating meet-up must end before its next occurrence"
+            + " starts, and its last date must not be before its first";
+
+    /**
+     * How often a meet-up repeats.
+     */
+    public enum Frequency {
+        DAILY(1), WEEKLY(7);
+
+        private final int days;
+
+        Frequency(int days) {
+            this.days = days;
+        }
+
+        public int getDays() {
+            return days;
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Frequency frequency;
+    private final LocalDate until;
+    private final Set<LocalDate> exceptions;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param until the last date an occurrence may fall on.
+     * @param exceptions the dates of the occurrences that have been cancelled.
+     */
+    public Recurrence(Frequency frequency, LocalDate until, Set<LocalDate> exceptions) {
+        requireAllNonNull(frequency, until, exceptions);
+        this.frequency = frequency;
+        this.until = until;
+        this.exceptions = Collections.unmodifiableSet(new TreeSet<>(exceptions));
+    }
+
+    /**
+     * Returns true if a given string names a valid frequency, ignoring case.
+     */
+    public static boolean isValidFrequency(String test) {
+        requireNonNull(test);
+        for (Frequency frequency : Frequency.values()) {
+            if (frequency.toString().equalsIgnoreCase(test)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the frequency named by {@code frequency}, ignoring case.
+     */
+    public static Frequency parseFrequency(String frequency) {
+        checkArgument(isValidFrequency(frequency), MESSAGE_CONSTRAINTS);
+        return Frequency.valueOf(frequency.toUpperCase(Locale.ROOT));
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    public Set<LocalDate> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Returns a copy of this rule with the occurrence on {@code date} cancelled.
+     */
+    public Recurrence withException(LocalDate date) {
+        requireNonNull(date);
+        Set<LocalDate> updatedExceptions = new TreeSet<>(exceptions);
+        updatedExceptions.add(date);
+        return new Recurrence(frequency, until, updatedExceptions);
+    }
+
+    /**
+     * Returns true if a series whose first occurrence starts at {@code first} has an occurrence on {@code date}.
+     */
+    public boolean occursOn(LocalDateTime first, LocalDate date) {
+        requireAllNonNull(first, date);
+        long days = ChronoUnit.DAYS.between(first.toLocalDate(), date);
+        return days >= 0 && days % frequency.getDays() == 0 && !date.isAfter(until) && !exceptions.contains(date);
+    }
+
+    /**
+     * Returns the starts of the occurrences of a series whose first occurrence starts at {@code first}, that are at
+     * or after {@code start} and before {@code end}, in order.
+     * Only the occurrences within the range are visited.
+     */
+    public List<LocalDateTime> getStartsBetween(LocalDateTime first, LocalDateTime start, LocalDateTime end) {
+        return getStartsBetween(first, start, end, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns up to {@code limit} of the earliest starts of the occurrences described above.
+     */
+    public List<LocalDateTime> getStartsBetween(LocalDateTime first, LocalDateTime start, LocalDateTime end,
+            int limit) {
+        requireAllNonNull(first, start, end);
+        List<LocalDateTime> starts = new ArrayList<>();
+        long occurrence = 0;
+        if (first.isBefore(start)) {
+            occurrence = ChronoUnit.DAYS.between(first, start) / frequency.getDays();
+        }
+        LocalDateTime next = startOf(first, occurrence);
+        while (next.isBefore(start)) {
+            next = startOf(first, ++occurrence);
+        }
+        while (next.isBefore(end) && !next.toLocalDate().isAfter(until) && starts.size() < limit) {
+            if (!exceptions.contains(next.toLocalDate())) {
+                starts.add(next);
+            }
+            next = startOf(first, ++occurrence);
+        }
+        return starts;
+    }
+
+    /**
+     * Returns the start of the last occurrence of a series whose first occurrence starts at {@code first}, or
+     * {@code first} if every occurrence has been cancelled.
+     */
+    public LocalDateTime getLastStart(LocalDateTime first) {
+        requireNonNull(first);
+        long occurrence = Math.max(0, ChronoUnit.DAYS.between(first.toLocalDate(), until) / frequency.getDays());
+        for (; occurrence >= 0; occurrence--) {
+            LocalDateTime start = startOf(first, occurrence);
+            if (!exceptions.contains(start.toLocalDate())) {
+                return start;
+            }
+        }
+        return first;
+    }
+
+    private LocalDateTime startOf(LocalDateTime first, long occurrence) {
+        return first.plusDays(occurrence * frequency.getDays());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+
+        Recurrence otherRecurrence = (Recurrence) other;
+        return frequency.equals(otherRecurrence.frequency)
+                && until.equals(otherRecurrence.until)
+                && exceptions.equals(otherRecurrence.exceptions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, until, exceptions);
+    }
+
+    @Override
+    public String toString() {
+        String rule = frequency + " until " + until;
+        if (exceptions.isEmpty()) {
+            return rule;
+        }
+        return rule + " except " + exceptions.stream().map(LocalDate::toString).collect(Collectors.joining(", "));
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.meetup;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Buyer's subject in the meetup list.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
@@ -35,7 +37,7 @@ public class Subject {
      * Returns true if a given string is a valid subject.
      */
     public static boolean isValidSubject(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
     @Override
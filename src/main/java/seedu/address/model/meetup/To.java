@@ -1,5 +1,7 @@
 package seedu.address.model.meetup;
 
+import java.time.LocalDateTime;
+
 /**
  * Represents a meetup's starting time in the meet up list.
  * Guarantees: immutable;
@@ -23,6 +25,17 @@ public class To extends DateTime {
         super(to);
     }
 
+    private To(LocalDateTime to) {
+        super(to);
+    }
+
+    /**
+     * Returns a {@code To} at {@code to}, without its seconds.
+     */
+    public static To of(LocalDateTime to) {
+        return new To(to);
+    }
+
     /**
      * Ret
      */
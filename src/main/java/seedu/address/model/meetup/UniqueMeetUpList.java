@@ -3,14 +3,29 @@ package seedu.address.model.meetup;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.ModelManager;
+import seedu.address.model.index.IntervalIndex;
+import seedu.address.model.index.SnapshotIndex;
+import seedu.address.model.index.TimeIndex;
+import seedu.address.model.index.TimeSlot;
 import seedu.address.model.meetup.exceptions.DuplicateMeetUpException;
 import seedu.address.model.meetup.exceptions.MeetUpNotFoundException;
 
@@ -32,6 +47,13 @@ public class UniqueMeetUpList implements Iterable<MeetUp> {
     private final ObservableList<MeetUp> internalList = FXCollections.observableArrayList();
     private final ObservableList<MeetUp> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final SnapshotIndex<MeetUp> snapshotIndex = new SnapshotIndex<>(internalList);
+    private final TimeIndex<MeetUp> fromIndex =
+            new TimeIndex<>(internalList, meetUp -> meetUp.getFrom().getDateTime());
+    private final ObservableList<MeetUp> recurringMeetUps = internalList.filtered(MeetUp::isRecurring);
+    private final IntervalIndex<MeetUp> bookingIndex = new IntervalIndex<>(internalList,
+            meetUp -> meetUp.getAddedBuyers().stream().map(buyer -> buyer.fullName).collect(Collectors.toSet()),
+            meetUp -> meetUp.getFrom().getDateTime(), MeetUp::getLastEnd, MeetUp::getOccurrencesOverlapping);
 
     /**
      * Returns true if the list contains an equivalent MeetUp as the given argument.
@@ -53,6 +75,24 @@ public class UniqueMeetUpList implements Iterable<MeetUp> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the list in a single change.
+     * None of them may already exist in the list, or be the same meet-up as another of them.
+     */
+    public void addAll(List<MeetUp> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Object> identities = new HashSet<>();
+        for (MeetUp meetUp : internalList) {
+            identities.add(meetUp.getIdentityKey());
+        }
+        for (MeetUp meetUp : toAdd) {
+            if (!identities.add(meetUp.getIdentityKey())) {
+                throw new DuplicateMeetUpException();
+            }
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the meetUp {@code target} in the list with {@code editedMeetUp}.
      * {@code target} must exist in the list.
@@ -73,6 +113,34 @@ public class UniqueMeetUpList implements Iterable<MeetUp> {
         internalList.set(index, editedMeetUp);
     }
 
+    /**
+     * Replaces each meet-up in the list that is a key of {@code replacements} with its value, in one pass over the
+     * list and a single change to it. Every key must be in the list, and each value must be the same meet-up as its
+     * key, so that no replacement can duplicate another meet-up.
+     */
+    public void replaceMeetUps(Map<MeetUp, MeetUp> replacements) {
+        requireNonNull(replacements);
+        for (Map.Entry<MeetUp, MeetUp> replacement : replacements.entrySet()) {
+            if (!replacement.getKey().isSameMeetUp(replacement.getValue())) {
+                throw new DuplicateMeetUpException();
+            }
+        }
+
+        List<MeetUp> replaced = new ArrayList<>(internalList.size());
+        int found = 0;
+        for (MeetUp element : internalList) {
+            MeetUp replacement = replacements.get(element);
+            if (replacement != null) {
+                found++;
+            }
+            replaced.add(replacement == null ? element : replacement);
+        }
+        if (found != replacements.size()) {
+            throw new MeetUpNotFoundException();
+        }
+        internalList.setAll(replaced);
+    }
+
     /**
      * Removes the equivalent meet-up from the list.
      * The meet-up must exist in the list.
@@ -84,6 +152,25 @@ public class UniqueMeetUpList implements Iterable<MeetUp> {
         }
     }
 
+    /**
+     * Removes all of {@code toRemove} from the list, in one pass over the list and a single change to it.
+     * Each of them must be in the list.
+     */
+    public void removeAll(Collection<MeetUp> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<MeetUp> remaining = new HashSet<>(toRemove);
+        List<MeetUp> kept = new ArrayList<>(internalList.size());
+        for (MeetUp element : internalList) {
+            if (!remaining.remove(element)) {
+                kept.add(element);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            throw new MeetUpNotFoundException();
+        }
+        internalList.setAll(kept);
+    }
+
     public void setMeetUps(UniqueMeetUpList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -102,6 +189,72 @@ public class UniqueMeetUpList implements Iterable<MeetUp> {
         internalList.setAll(meetUps);
     }
 
+    /**
+     * Returns the meet-ups with an occurrence starting at or after {@code start} and before {@code end}, in order of
+     * the first such occurrence. One-off meet-ups are found through the time index, while each repeating meet-up
+     * is checked against its rule, which only visits its occurrences within the range.
+     */
+    public List<MeetUp> findStartingBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<MeetUp> meetUps = fromIndex.findBetween(start, end);
+        if (recurringMeetUps.isEmpty()) {
+            return meetUps;
+        }
+        meetUps.removeIf(MeetUp::isRecurring);
+        Map<MeetUp, LocalDateTime> firstStarts = new IdentityHashMap<>();
+        for (MeetUp meetUp : recurringMeetUps) {
+            meetUp.getFirstStartBetween(start, end).ifPresent(first -> firstStarts.put(meetUp, first));
+        }
+        meetUps.addAll(firstStarts.keySet());
+        meetUps.sort(Comparator.comparing(meetUp -> firstStarts.getOrDefault(meetUp, meetUp.getFrom().getDateTime())));
+        return meetUps;
+    }
+
+    /**
+     * Returns the meet-ups with {@code buyer} that have an occurrence overlapping the time from {@code start} to
+     * {@code end}, in order of starting time. Occurrences ending exactly at {@code start} or starting exactly at
+     * {@code end} do not overlap it.
+     */
+    public List<MeetUp> findOverlappingFor(AddedBuyer buyer, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(buyer, start, end);
+        return bookingIndex.findOverlapping(buyer.fullName, start, end);
+    }
+
+    /**
+     * Returns every pair of overlapping meet-ups with a buyer in common, once for each such buyer, ordered by buyer
+     * name and then by starting time.
+     */
+    public List<IntervalIndex.Overlap<MeetUp>> findDoubleBookings() {
+        return bookingIndex.findAllOverlaps();
+    }
+
+    /**
+     * Returns up to {@code limit} of the earliest slots of at least {@code duration} from {@code start} to
+     * {@code end} in which none of {@code buyers} has a meet-up, in order of starting time.
+     */
+    public List<TimeSlot> findFreeSlotsFor(Collection<AddedBuyer> buyers, LocalDateTime start, LocalDateTime end,
+            Duration duration, int limit) {
+        requireAllNonNull(buyers, start, end, duration);
+        List<String> names = buyers.stream().map(buyer -> buyer.fullName).collect(Collectors.toList());
+        return bookingIndex.findGaps(names, start, end, duration, limit);
+    }
+
+    /**
+     * Returns the meet-ups in the list as of its last change, in an immutable list that can be read from any thread.
+     */
+    public PersistentList<MeetUp> getSnapshot() {
+        return snapshotIndex.getSnapshot();
+    }
+
+    /**
+     * Changes the list to hold the meet-ups of {@code version}, a snapshot of it, changing only those that differ.
+     * Returns the meet-ups removed from the list and those added to it.
+     */
+    public SnapshotIndex.Difference<MeetUp> restore(PersistentList<MeetUp> version) {
+        requireNonNull(version);
+        return snapshotIndex.restore(version);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -0,0 +1,51 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.InvertedIndex;
+
+/**
+ * Tests that a {@code Property}'s {@code Address} contains the given fragment anywhere, ignoring case.
+ */
+public class AddressContainsFragmentPredicate implements Predicate<Property> {
+    private final String fragment;
+
+    /**
+     * Fragment must be present and not null.
+     */
+    public AddressContainsFragmentPredicate(String fragment) {
+        requireNonNull(fragment);
+        this.fragment = fragment;
+    }
+
+    public String getFragment() {
+        return fragment;
+    }
+
+    @Override
+    public boolean test(Property property) {
+        return InvertedIndex.foldCase(property.getAddress().value).contains(InvertedIndex.foldCase(fragment));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AddressContainsFragmentPredicate)) {
+            return false;
+        }
+
+        AddressContainsFragmentPredicate otherPredicate = (AddressContainsFragmentPredicate) other;
+        return fragment.equals(otherPredicate.fragment);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("fragment", fragment).toString();
+    }
+}
@@ -3,8 +3,8 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.NumberFormat;
-import java.util.Locale;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Property's asking price in the address book.
@@ -21,6 +21,8 @@ public class AskingPrice {
 
     public final String value;
 
+    private final long amount;
+
     /**
      * Constructs a {@code AskingPrice}.
      *
@@ -29,33 +31,29 @@ public class AskingPrice {
     public AskingPrice(String askingPrice) {
         requireNonNull(askingPrice);
         checkArgument(isValidPrice(askingPrice), MESSAGE_CONSTRAINTS);
-        value = formatNumber(askingPrice);
+        amount = ValidationUtil.parseAmount(askingPrice);
+        value = StringUtil.formatWithCommas(amount);
     }
 
     /**
      * Returns true if a given string is a valid asking price.
      */
     public static boolean isValidPrice(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAmount(test);
     }
 
-    private static String formatNumber(String input) {
-        // Remove any existing commas
-        String numberWithoutCommas = input.replaceAll(",", "");
-
-        // Parse the string as a long to handle larger numbers
-        long number = Long.parseLong(numberWithoutCommas);
-
-        // Format the number with commas
-        NumberFormat numberFormat = NumberFormat.getNumberInstance(Locale.US);
-        return numberFormat.format(number);
+    /**
+     * Returns the amount in whole SGD.
+     */
+    public long getAmount() {
+        return amount;
     }
 
     /**
      * Returns pretty formatted String
      */
     public String toPrettyString() {
-        return String.format("$%s", value);
+        return "$" + value;
     }
 
     @Override
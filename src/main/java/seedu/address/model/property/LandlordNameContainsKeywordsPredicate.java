@@ -22,6 +22,10 @@ public class LandlordNameContainsKeywordsPredicate implements Predicate<Property
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Property property) {
         return keywords.stream()
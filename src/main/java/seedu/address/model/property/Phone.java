@@ -3,6 +3,8 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Property's landlord's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -30,7 +32,17 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, 3);
+    }
+
+    /**
+     * Returns the digits of {@code phone}. A valid phone number is digits only and is its own key; this only changes
+     * a number typed into {@code lookup} with spaces, brackets or dashes, such as {@code 9123-4567}, so that it finds
+     * the stored {@code 91234567}.
+     */
+    public static String toLookupKey(String phone) {
+        requireNonNull(phone);
+        return phone.replaceAll("\\D", "");
     }
 
     @Override
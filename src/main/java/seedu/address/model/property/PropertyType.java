@@ -3,6 +3,9 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Property's type in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidType(String)}
@@ -17,6 +20,8 @@ public class PropertyType {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<PropertyType> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -30,11 +35,21 @@ public class PropertyType {
         value = propertyType;
     }
 
+    /**
+     * Returns the shared {@code PropertyType} of {@code propertyType}, so that properties of the same type hold one
+     * instance of it.
+     *
+     * @param propertyType A valid property type.
+     */
+    public static PropertyType of(String propertyType) {
+        return INTERNER.intern(new PropertyType(propertyType));
+    }
+
     /**
      * Returns true if a given string is a valid property type.
      */
     public static boolean isValidType(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isSingleLineNotBlank(test);
     }
 
     @Override
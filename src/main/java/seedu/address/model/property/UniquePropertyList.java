@@ -3,11 +3,19 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.index.SnapshotIndex;
+import seedu.address.model.index.TrigramIndex;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
 import seedu.address.model.property.exceptions.PropertyNotFoundException;
 
@@ -27,6 +35,9 @@ public class UniquePropertyList implements Iterable<Property> {
     private final ObservableList<Property> internalList = FXCollections.observableArrayList();
     private final ObservableList<Property> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final SnapshotIndex<Property> snapshotIndex = new SnapshotIndex<>(internalList);
+    private final TrigramIndex<Property> addressIndex =
+            new TrigramIndex<>(internalList, property -> property.getAddress().value);
 
     /**
      * Returns true if the list contains an equivalent property as the given argument.
@@ -79,6 +90,53 @@ public class UniquePropertyList implements Iterable<Property> {
         }
     }
 
+    /**
+     * Replaces each property in the list that is a key of {@code replacements} with its value, in one pass over the
+     * list and a single change to it. Every key must be in the list, and each value must be the same property as its
+     * key, so that no replacement can duplicate another property.
+     */
+    public void replaceProperties(Map<Property, Property> replacements) {
+        requireNonNull(replacements);
+        for (Map.Entry<Property, Property> replacement : replacements.entrySet()) {
+            if (!replacement.getKey().isSameProperty(replacement.getValue())) {
+                throw new DuplicatePropertyException();
+            }
+        }
+
+        List<Property> replaced = new ArrayList<>(internalList.size());
+        int found = 0;
+        for (Property element : internalList) {
+            Property replacement = replacements.get(element);
+            if (replacement != null) {
+                found++;
+            }
+            replaced.add(replacement == null ? element : replacement);
+        }
+        if (found != replacements.size()) {
+            throw new PropertyNotFoundException();
+        }
+        internalList.setAll(replaced);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list, in one pass over the list and a single change to it.
+     * Each of them must be in the list.
+     */
+    public void removeAll(Collection<Property> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Property> remaining = new HashSet<>(toRemove);
+        List<Property> kept = new ArrayList<>(internalList.size());
+        for (Property element : internalList) {
+            if (!remaining.remove(element)) {
+                kept.add(element);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            throw new PropertyNotFoundException();
+        }
+        internalList.setAll(kept);
+    }
+
     public void setProperties(UniquePropertyList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -97,6 +155,31 @@ public class UniquePropertyList implements Iterable<Property> {
         internalList.setAll(properties);
     }
 
+    /**
+     * Returns the properties whose address contains {@code fragment}, ignoring case.
+     * The returned set compares properties by identity.
+     */
+    public Set<Property> findByAddressFragment(String fragment) {
+        requireNonNull(fragment);
+        return addressIndex.find(fragment);
+    }
+
+    /**
+     * Returns the properties in the list as of its last change, in an immutable list that can be read from any thread.
+     */
+    public PersistentList<Property> getSnapshot() {
+        return snapshotIndex.getSnapshot();
+    }
+
+    /**
+     * Changes the list to hold the properties of {@code version}, a snapshot of it, changing only those that differ.
+     * Returns the properties removed from the list and those added to it.
+     */
+    public SnapshotIndex.Difference<Property> restore(PersistentList<Property> version) {
+        requireNonNull(version);
+        return snapshotIndex.restore(version);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
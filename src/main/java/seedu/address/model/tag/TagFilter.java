@@ -0,0 +1,130 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A boolean combination of tags, written as an AND of clauses where each clause is an OR of tags that must be present
+ * and tags that must be absent. For example, {@code (friends OR family) AND (NOT owesMoney)} has two clauses.
+ * Guarantees: immutable; has at least one clause, and every clause names at least one tag.
+ */
+public class TagFilter {
+
+    private final List<Clause> clauses;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public TagFilter(List<Clause> clauses) {
+        requireNonNull(clauses);
+        checkArgument(!clauses.isEmpty(), "A tag filter must have at least one clause");
+        this.clauses = Collections.unmodifiableList(clauses);
+    }
+
+    public List<Clause> getClauses() {
+        return clauses;
+    }
+
+    /**
+     * Returns true if {@code tags} satisfies every clause.
+     */
+    public boolean test(Set<Tag> tags) {
+        return clauses.stream().allMatch(clause -> clause.test(tags));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagFilter)) {
+            return false;
+        }
+
+        TagFilter otherFilter = (TagFilter) other;
+        return clauses.equals(otherFilter.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clauses", clauses)
+                .toString();
+    }
+
+    /**
+     * An OR of tags that must be present and tags that must be absent.
+     */
+    public static class Clause {
+        private final Set<Tag> present;
+        private final Set<Tag> absent;
+
+        /**
+         * Every field must be present and not null, and at least one tag must be given.
+         */
+        public Clause(Set<Tag> present, Set<Tag> absent) {
+            requireNonNull(present);
+            requireNonNull(absent);
+            checkArgument(!present.isEmpty() || !absent.isEmpty(), "A tag filter clause must name a tag");
+            this.present = Collections.unmodifiableSet(present);
+            this.absent = Collections.unmodifiableSet(absent);
+        }
+
+        public Set<Tag> getPresent() {
+            return present;
+        }
+
+        public Set<Tag> getAbsent() {
+            return absent;
+        }
+
+        /**
+         * Returns true if {@code tags} has any of the present tags or lacks any of the absent tags.
+         */
+        public boolean test(Set<Tag> tags) {
+            return present.stream().anyMatch(tags::contains) || !tags.containsAll(absent);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Clause)) {
+                return false;
+            }
+
+            Clause otherClause = (Clause) other;
+            return present.equals(otherClause.present) && absent.equals(otherClause.absent);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(present, absent);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("present", present)
+                    .add("absent", absent)
+                    .toString();
+        }
+    }
+}
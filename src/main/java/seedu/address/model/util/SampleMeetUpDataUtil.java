@@ -39,7 +39,7 @@ public class SampleMeetUpDataUtil {
      */
     public static Set<AddedBuyer> getAddedBuyerSet(String... strings) {
         return Arrays.stream(strings)
-                .map(AddedBuyer::new)
+                .map(AddedBuyer::of)
                 .collect(Collectors.toSet());
     }
 }
@@ -17,10 +17,10 @@ public class SamplePropertyDataUtil {
         return new Property[] {
             new Property(new LandlordName("Bob"), new Phone("98222256"),
                     new Address("Bishan"), new AskingPrice("500000"),
-                    new PropertyType("House")),
+                    PropertyType.of("House")),
             new Property(new LandlordName("John"), new Phone("82932832"),
                     new Address("Botanic Gardens"), new AskingPrice("1000000"),
-                    new PropertyType("Landed Property")),
+                    PropertyType.of("Landed Property")),
         };
     }
 
@@ -0,0 +1,507 @@
+package seedu.address.storage.meetup;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.meetup.AddedBuyer;
+import seedu.address.model.meetup.From;
+import seedu.address.model.meetup.Info;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
+import seedu.address.model.meetup.Subject;
+import seedu.address.model.meetup.To;
+
+/**
+ * Reads and writes meet-ups as the events of an iCalendar (RFC 5545) file.
+ * Both directions stream through the file: each meet-up is written as it is visited, and each event is read
+ * holding only its own lines, so the size of a calendar is limited by the meet-ups kept, not by the file.
+ * Subjects and buyer names are reduced to the letters, digits and spaces they may hold when read.
+ */
+public class IcsMeetUpFile {
+
+    public static final String MESSAGE_NO_SUBJECT = "has no summary usable as a subject";
+    public static final String MESSAGE_NO_TIME = "has no valid start and end";
+    public static final String MESSAGE_NO_BUYER = "has no attendee usable as a buyer";
+    public static final String MESSAGE_UNSUPPORTED_RULE = "repeats in a way other than daily or weekly until a date";
+    public static final String MESSAGE_INVALID_EVENT = "Event at line %1$d %2$s";
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String CRLF = "\r\n";
+    /** Attendees are written without an address, as buyers have none, in the form calendar tools use for this. */
+    private static final String NO_ADDRESS = "invalid:nomail";
+    private static final String UID_SUFFIX = "@abcli";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private IcsMeetUpFile() {}
+
+    /**
+     * Writes {@code meetUps} to {@code file} as an iCalendar, stamped with {@code stamp}, and returns how many were
+     * written. The file is created if it does not exist, and overwritten if it does.
+     */
+    public static int write(Path file, Iterable<MeetUp> meetUps, Instant stamp) throws IOException {
+        requireAllNonNull(file, meetUps, stamp);
+        FileUtil.createParentDirsOfFile(file);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            return write(writer, meetUps, stamp);
+        }
+    }
+
+    /**
+     * Writes {@code meetUps} to {@code writer} as an iCalendar, stamped with {@code stamp}, and returns how many were
+     * written. Times are written as local times, without a time zone, as they are kept.
+     */
+    public static int write(Writer writer, Iterable<MeetUp> meetUps, Instant stamp) throws IOException {
+        requireAllNonNull(writer, meetUps, stamp);
+        String dtStamp = DATE_TIME_FORMATTER.format(stamp.atOffset(ZoneOffset.UTC)) + "Z";
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//ABCLI//Meet-ups//EN");
+        int count = 0;
+        for (MeetUp meetUp : meetUps) {
+            writeEvent(writer, meetUp, dtStamp);
+            count++;
+        }
+        writeLine(writer, "END:VCALENDAR");
+        return count;
+    }
+
+    private static void writeEvent(Writer writer, MeetUp meetUp, String dtStamp) throws IOException {
+        LocalDateTime start = meetUp.getFrom().getDateTime();
+        UUID uid = UUID.nameUUIDFromBytes(meetUp.getIdentityKey().toString().getBytes(StandardCharsets.UTF_8));
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:" + uid + UID_SUFFIX);
+        writeLine(writer, "DTSTAMP:" + dtStamp);
+        writeLine(writer, "DTSTART:" + DATE_TIME_FORMATTER.format(start));
+        writeLine(writer, "DTEND:" + DATE_TIME_FORMATTER.format(meetUp.getTo().getDateTime()));
+        writeLine(writer, "SUMMARY:" + escape(meetUp.getSubject().toString()));
+        writeLine(writer, "DESCRIPTION:" + escape(meetUp.getInfo().toString()));
+        List<String> buyers = meetUp.getAddedBuyers().stream().map(buyer -> buyer.fullName).sorted()
+                .collect(Collectors.toList());
+        for (String buyer : buyers) {
+            writeLine(writer, "ATTENDEE;CN=\"" + buyer + "\":" + NO_ADDRESS);
+        }
+        if (meetUp.getRecurrence().isPresent()) {
+            Recurrence recurrence = meetUp.getRecurrence().get();
+            writeLine(writer, "RRULE:FREQ=" + recurrence.getFrequency().name() + ";UNTIL="
+                    + DATE_TIME_FORMATTER.format(recurrence.getUntil().atTime(23, 59, 59)));
+            for (LocalDate exception : recurrence.getExceptions()) {
+                writeLine(writer, "EXDATE:" + DATE_TIME_FORMATTER.format(exception.atTime(start.toLocalTime())));
+            }
+        }
+        writeLine(writer, "END:VEVENT");
+    }
+
+    /**
+     * Writes {@code line}, folded so that no line is longer than 75 octets, without splitting a character.
+     */
+    private static void writeLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int length = utf8Length(codePoint);
+            if (octets + length > MAX_LINE_OCTETS) {
+                writer.write(CRLF);
+                writer.write(' ');
+                octets = 1;
+            }
+            writer.write(line, i, Character.charCount(codePoint));
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        }
+        return 4;
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n");
+    }
+
+    /**
+     * Reads the events of the iCalendar {@code file}, passing each that describes a valid meet-up to
+     * {@code meetUps}, and a description of each that does not to {@code invalidEvents}. Times with a time zone are
+     * converted to the system's.
+     */
+    public static void read(Path file, Consumer<MeetUp> meetUps, Consumer<String> invalidEvents)
+            throws IOException {
+        requireAllNonNull(file, meetUps, invalidEvents);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            read(reader, ZoneId.systemDefault(), meetUps, invalidEvents);
+        }
+    }
+
+    /**
+     * Reads the events of the iCalendar in {@code reader} as described above, converting times with a time zone to
+     * {@code zone}.
+     */
+    public static void read(BufferedReader reader, ZoneId zone, Consumer<MeetUp> meetUps,
+            Consumer<String> invalidEvents) throws IOException {
+        requireAllNonNull(reader, zone, meetUps, invalidEvents);
+        EventReader eventReader = new EventReader(zone, meetUps, invalidEvents);
+        StringBuilder unfolded = null;
+        int unfoldedLineNumber = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (unfolded != null && (line.startsWith(" ") || line.startsWith("\t"))) {
+                unfolded.append(line, 1, line.length());
+                continue;
+            }
+            if (unfolded != null) {
+                eventReader.accept(unfolded.toString(), unfoldedLineNumber);
+            }
+            unfolded = new StringBuilder(line);
+            unfoldedLineNumber = lineNumber;
+        }
+        if (unfolded != null) {
+            eventReader.accept(unfolded.toString(), unfoldedLineNumber);
+        }
+    }
+
+    private static MeetUp toMeetUp(List<ContentLine> event, ZoneId zone) throws IllegalValueException {
+        String summary = null;
+        String description = null;
+        ContentLine start = null;
+        ContentLine end = null;
+        ContentLine duration = null;
+        ContentLine rule = null;
+        Set<AddedBuyer> buyers = new HashSet<>();
+        List<ContentLine> exceptions = new ArrayList<>();
+        for (ContentLine contentLine : event) {
+            switch (contentLine.name) {
+            case "SUMMARY":
+                summary = unescape(contentLine.value);
+                break;
+            case "DESCRIPTION":
+                description = unescape(contentLine.value);
+                break;
+            case "DTSTART":
+                start = contentLine;
+                break;
+            case "DTEND":
+                end = contentLine;
+                break;
+            case "DURATION":
+                duration = contentLine;
+                break;
+            case "RRULE":
+                rule = contentLine;
+                break;
+            case "EXDATE":
+                exceptions.add(contentLine);
+                break;
+            case "ATTENDEE":
+                String name = contentLine.params.get("CN");
+                if (name == null && contentLine.value.toLowerCase(Locale.ROOT).startsWith("mailto:")) {
+                    name = contentLine.value.substring("mailto:".length()).split("@")[0];
+                }
+                String buyerName = name == null ? "" : toAlphanumeric(unescape(name));
+                if (AddedBuyer.isValidName(buyerName)) {
+                    buyers.add(AddedBuyer.of(buyerName));
+                }
+                break;
+            default:
+                break;
+            }
+        }
+
+        String subject = summary == null ? "" : toAlphanumeric(summary);
+        if (!Subject.isValidSubject(subject)) {
+            throw new IllegalValueException(MESSAGE_NO_SUBJECT);
+        }
+        String info = description != null && Info.isValidInfo(description) ? description : summary;
+        if (buyers.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_NO_BUYER);
+        }
+
+        if (start == null) {
+            throw new IllegalValueException(MESSAGE_NO_TIME);
+        }
+        LocalDateTime from = toLocalDateTime(start, zone);
+        LocalDateTime to;
+        if (end != null) {
+            to = toLocalDateTime(end, zone);
+        } else if (duration != null) {
+            to = from.plus(parseDuration(duration.value));
+        } else if (isDate(start)) {
+            to = from.plusDays(1);
+        } else {
+            throw new IllegalValueException(MESSAGE_NO_TIME);
+        }
+
+        Recurrence recurrence = rule == null ? null : toRecurrence(rule, from, exceptions, zone);
+        MeetUp meetUp = new MeetUp(new Subject(subject), new Info(info),
+                From.of(from), To.of(to), buyers, recurrence);
+        if (!meetUp.hasValidToFrom()) {
+            throw new IllegalValueException(MESSAGE_NO_TIME);
+        }
+        if (!meetUp.hasValidRecurrence()) {
+            throw new IllegalValueException(MESSAGE_UNSUPPORTED_RULE);
+        }
+        return meetUp;
+    }
+
+    private static Recurrence toRecurrence(ContentLine rule, LocalDateTime from, List<ContentLine> exceptions,
+            ZoneId zone) throws IllegalValueException {
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rule.value.split(";")) {
+            String[] keyAndValue = part.split("=", 2);
+            if (keyAndValue.length == 2) {
+                parts.put(keyAndValue[0].trim().toUpperCase(Locale.ROOT), keyAndValue[1].trim());
+            }
+        }
+        String frequency = parts.remove("FREQ");
+        if (frequency == null || !Recurrence.isValidFrequency(frequency)
+                || !"1".equals(parts.getOrDefault("INTERVAL", "1"))) {
+            throw new IllegalValueException(MESSAGE_UNSUPPORTED_RULE);
+        }
+        parts.remove("INTERVAL");
+        Recurrence.Frequency parsedFrequency = Recurrence.parseFrequency(frequency);
+
+        LocalDate until;
+        String untilValue = parts.remove("UNTIL");
+        String countValue = parts.remove("COUNT");
+        parts.remove("WKST");
+        if (!parts.isEmpty() || (untilValue == null) == (countValue == null)) {
+            throw new IllegalValueException(MESSAGE_UNSUPPORTED_RULE);
+        }
+        try {
+            if (untilValue != null) {
+                until = parseDateTime(untilValue, null, zone).toLocalDate();
+            } else {
+                long count = Long.parseLong(countValue);
+                if (count < 1) {
+                    throw new IllegalValueException(MESSAGE_UNSUPPORTED_RULE);
+                }
+                until = from.toLocalDate().plusDays((count - 1) * parsedFrequency.getDays());
+            }
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_UNSUPPORTED_RULE);
+        }
+
+        Set<LocalDate> exceptionDates = new HashSet<>();
+        for (ContentLine exception : exceptions) {
+            for (String value : exception.value.split(",")) {
+                try {
+                    exceptionDates.add(parseDateTime(value.trim(), exception.params, zone).toLocalDate());
+                } catch (DateTimeException e) {
+                    throw new IllegalValueException(MESSAGE_UNSUPPORTED_RULE);
+                }
+            }
+        }
+        return new Recurrence(parsedFrequency, until, exceptionDates);
+    }
+
+    private static boolean isDate(ContentLine contentLine) {
+        return "DATE".equalsIgnoreCase(contentLine.params.get("VALUE")) || contentLine.value.length() == 8;
+    }
+
+    private static LocalDateTime toLocalDateTime(ContentLine contentLine, ZoneId zone) throws IllegalValueException {
+        try {
+            return parseDateTime(contentLine.value, contentLine.params, zone);
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_NO_TIME);
+        }
+    }
+
+    /**
+     * Parses a date, a floating date-time, a UTC date-time or a date-time in the time zone named by the TZID
+     * parameter, as a local date-time in {@code zone} to the minute.
+     */
+    private static LocalDateTime parseDateTime(String value, Map<String, String> params, ZoneId zone) {
+        if (value.length() == 8) {
+            return LocalDate.parse(value, DATE_FORMATTER).atStartOfDay();
+        }
+        LocalDateTime dateTime;
+        if (value.endsWith("Z") || value.endsWith("z")) {
+            dateTime = LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME_FORMATTER)
+                    .atOffset(ZoneOffset.UTC).atZoneSameInstant(zone).toLocalDateTime();
+        } else if (params != null && params.containsKey("TZID")) {
+            dateTime = LocalDateTime.parse(value, DATE_TIME_FORMATTER)
+                    .atZone(ZoneId.of(params.get("TZID"))).withZoneSameInstant(zone).toLocalDateTime();
+        } else {
+            dateTime = LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+        }
+        return dateTime.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private static Duration parseDuration(String value) throws IllegalValueException {
+        String trimmed = value.trim().toUpperCase(Locale.ROOT);
+        try {
+            if (trimmed.matches("[+-]?P\\d+W")) {
+                int weeks = Integer.parseInt(trimmed.replaceAll("[^\\d]", ""));
+                return Duration.ofDays(7L * weeks);
+            }
+            return Duration.parse(trimmed);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalValueException(MESSAGE_NO_TIME);
+        }
+    }
+
+    private static String unescape(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                builder.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns {@code text} with each run of characters other than letters and digits replaced by a space, trimmed.
+     */
+    private static String toAlphanumeric(String text) {
+        return text.replaceAll("[^\\p{Alnum}]+", " ").trim();
+    }
+
+    /**
+     * Collects the properties of each event from the unfolded lines of a calendar, skipping those of the components
+     * nested in it, and reads the event when it ends.
+     */
+    private static class EventReader {
+        private final ZoneId zone;
+        private final Consumer<MeetUp> meetUps;
+        private final Consumer<String> invalidEvents;
+        private List<ContentLine> event;
+        private int eventLineNumber;
+        private int nestedComponents;
+
+        EventReader(ZoneId zone, Consumer<MeetUp> meetUps, Consumer<String> invalidEvents) {
+            this.zone = zone;
+            this.meetUps = meetUps;
+            this.invalidEvents = invalidEvents;
+        }
+
+        /**
+         * Accepts the unfolded line starting at line {@code lineNumber}. A malformed line is skipped.
+         */
+        void accept(String line, int lineNumber) {
+            ContentLine contentLine = ContentLine.parse(line);
+            if (contentLine == null) {
+                return;
+            }
+            if (contentLine.name.equals("BEGIN")) {
+                if (event != null) {
+                    nestedComponents++;
+                } else if (contentLine.value.equalsIgnoreCase("VEVENT")) {
+                    event = new ArrayList<>();
+                    eventLineNumber = lineNumber;
+                }
+            } else if (event == null) {
+                return;
+            } else if (contentLine.name.equals("END")) {
+                if (nestedComponents > 0) {
+                    nestedComponents--;
+                    return;
+                }
+                try {
+                    meetUps.accept(toMeetUp(event, zone));
+                } catch (IllegalValueException e) {
+                    invalidEvents.accept(String.format(MESSAGE_INVALID_EVENT, eventLineNumber, e.getMessage()));
+                }
+                event = null;
+            } else if (nestedComponents == 0) {
+                event.add(contentLine);
+            }
+        }
+    }
+
+    /**
+     * A property of a component, with its upper-case name, its parameters and its raw value.
+     */
+    private static class ContentLine {
+        private final String name;
+        private final Map<String, String> params;
+        private final String value;
+
+        private ContentLine(String name, Map<String, String> params, String value) {
+            this.name = name;
+            this.params = params;
+            this.value = value;
+        }
+
+        /**
+         * Parses an unfolded content line, returning null if it has no value.
+         */
+        static ContentLine parse(String line) {
+            int colon = -1;
+            List<Integer> semicolons = new ArrayList<>();
+            boolean quoted = false;
+            for (int i = 0; i < line.length() && colon < 0; i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (!quoted && c == ';') {
+                    semicolons.add(i);
+                } else if (!quoted && c == ':') {
+                    colon = i;
+                }
+            }
+            if (colon <= 0) {
+                return null;
+            }
+
+            semicolons.add(colon);
+            String name = line.substring(0, semicolons.get(0)).trim().toUpperCase(Locale.ROOT);
+            Map<String, String> params = new HashMap<>();
+            for (int i = 0; i + 1 < semicolons.size(); i++) {
+                String param = line.substring(semicolons.get(i) + 1, semicolons.get(i + 1));
+                int equals = param.indexOf('=');
+                if (equals > 0) {
+                    String paramValue = param.substring(equals + 1);
+                    if (paramValue.length() >= 2 && paramValue.startsWith("\"") && paramValue.endsWith("\"")) {
+                        paramValue = paramValue.substring(1, paramValue.length() - 1);
+                    }
+                    params.put(param.substring(0, equals).trim().toUpperCase(Locale.ROOT), paramValue);
+                }
+            }
+            return new ContentLine(name, params, line.substring(colon + 1));
+        }
+    }
+}
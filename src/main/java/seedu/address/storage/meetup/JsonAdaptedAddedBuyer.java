@@ -42,7 +42,7 @@ public class JsonAdaptedAddedBuyer {
         if (!AddedBuyer.isValidName(fullName)) {
             throw new IllegalValueException(AddedBuyer.MESSAGE_CONSTRAINTS);
         }
-        return new AddedBuyer(fullName);
+        return AddedBuyer.of(fullName);
     }
 
 }
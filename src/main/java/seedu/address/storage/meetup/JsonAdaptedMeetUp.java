@@ -1,21 +1,28 @@
 package seedu.address.storage.meetup;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ValidationUtil;
 import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.From;
 import seedu.address.model.meetup.Info;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
 import seedu.address.model.meetup.Subject;
 import seedu.address.model.meetup.To;
+import seedu.address.model.property.Address;
 
 /**
  * Jackson-friendly version of {@link MeetUp}.
@@ -28,14 +35,47 @@ public class JsonAdaptedMeetUp {
     private final String from;
     private final String to;
     private final List<JsonAdaptedAddedBuyer> addedBuyers = new ArrayList<>();
+    // Left out of the saved file for a meet up that does not repeat
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String repeat;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String until;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> exceptions = new ArrayList<>();
+    // Left out of the saved file for a meet up not held at a property
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String property;
+
+    /**
+     * Constructs a {@code JsonAdaptedMeetUp} with the given details of a meet up that does not repeat.
+     */
+    public JsonAdaptedMeetUp(String name, String info, String from, String to,
+                             List<JsonAdaptedAddedBuyer> addedBuyers) {
+        this(name, info, from, to, addedBuyers, null, null, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedMeetUp} with the given details of a meet up not held at a property.
+     * {@code repeat}, {@code until} and {@code exceptions} are absent for a meet up that does not repeat.
+     */
+    public JsonAdaptedMeetUp(String name, String info, String from, String to,
+                             List<JsonAdaptedAddedBuyer> addedBuyers, String repeat, String until,
+                             List<String> exceptions) {
+        this(name, info, from, to, addedBuyers, repeat, until, exceptions, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedMeetUp} with the given meet up details.
+     * {@code repeat}, {@code until} and {@code exceptions} are absent for a meet up that does not repeat, and
+     * {@code property} for a meet up not held at a property.
      */
     @JsonCreator
     public JsonAdaptedMeetUp(@JsonProperty("name") String name, @JsonProperty("info") String info,
                              @JsonProperty("from") String from, @JsonProperty("to") String to,
-                             @JsonProperty("addedBuyers") List<JsonAdaptedAddedBuyer> addedBuyers) {
+                             @JsonProperty("addedBuyers") List<JsonAdaptedAddedBuyer> addedBuyers,
+                             @JsonProperty("repeat") String repeat, @JsonProperty("until") String until,
+                             @JsonProperty("exceptions") List<String> exceptions,
+                             @JsonProperty("property") String property) {
 
         this.name = name;
         this.info = info;
@@ -44,6 +84,12 @@ public class JsonAdaptedMeetUp {
         if (addedBuyers != null) {
             this.addedBuyers.addAll(addedBuyers);
         }
+        this.repeat = repeat;
+        this.until = until;
+        if (exceptions != null) {
+            this.exceptions.addAll(exceptions);
+        }
+        this.property = property;
     }
 
     /**
@@ -57,6 +103,13 @@ public class JsonAdaptedMeetUp {
         addedBuyers.addAll(source.getAddedBuyers().stream()
                 .map(JsonAdaptedAddedBuyer::new)
                 .collect(Collectors.toList()));
+        Optional<Recurrence> recurrence = source.getRecurrence();
+        repeat = recurrence.map(rule -> rule.getFrequency().toString()).orElse(null);
+        until = recurrence.map(rule -> rule.getUntil().toString()).orElse(null);
+        recurrence.ifPresent(rule -> exceptions.addAll(rule.getExceptions().stream()
+                .map(LocalDate::toString)
+                .collect(Collectors.toList())));
+        property = source.getProperty().map(address -> address.value).orElse(null);
     }
 
     /**
@@ -95,10 +148,8 @@ public class JsonAdaptedMeetUp {
         if (!From.isValidFormat(from)) {
             throw new IllegalValueException(From.MESSAGE_CONSTRAINTS_FORMAT);
         }
-        if (!From.isValidDateTime(from)) {
-            throw new IllegalValueException(From.MESSAGE_CONSTRAINTS_DATETIME);
-        }
-        final From modelFrom = new From(from);
+        final From modelFrom = From.of(ValidationUtil.parseDateTime(from)
+                .orElseThrow(() -> new IllegalValueException(From.MESSAGE_CONSTRAINTS_DATETIME)));
 
         if (to == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -107,16 +158,49 @@ public class JsonAdaptedMeetUp {
         if (!To.isValidFormat(to)) {
             throw new IllegalValueException(To.MESSAGE_CONSTRAINTS_FORMAT);
         }
-        if (!To.isValidDateTime(to)) {
-            throw new IllegalValueException(To.MESSAGE_CONSTRAINTS_DATETIME);
-        }
-        final To modelTo = new To(to);
+        final To modelTo = To.of(ValidationUtil.parseDateTime(to)
+                .orElseThrow(() -> new IllegalValueException(To.MESSAGE_CONSTRAINTS_DATETIME)));
 
         if (!modelTo.isValidToFrom(modelFrom)) {
             throw new IllegalValueException(To.MESSAGE_CONSTRAINTS_TO_FROM);
         }
 
         final Set<AddedBuyer> modelAddedBuyers = new HashSet<>(meetUpAddedBuyers);
-        return new MeetUp(modelName, modelInfo, modelFrom, modelTo, modelAddedBuyers);
+        final Recurrence modelRecurrence = toModelRecurrence();
+
+        if (property != null && !Address.isValidAddress(property)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        final Address modelProperty = property == null ? null : new Address(property);
+
+        final MeetUp meetUp = new MeetUp(modelName, modelInfo, modelFrom, modelTo, modelAddedBuyers, modelRecurrence,
+                modelProperty);
+        if (!meetUp.hasValidRecurrence()) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS_SERIES);
+        }
+        return meetUp;
+    }
+
+    /**
+     * Returns the repeat rule of this meet up, or null if it does not repeat.
+     *
+     * @throws IllegalValueException if the rule is incomplete or invalid.
+     */
+    private Recurrence toModelRecurrence() throws IllegalValueException {
+        if (repeat == null && until == null && exceptions.isEmpty()) {
+            return null;
+        }
+        if (repeat == null || until == null || !Recurrence.isValidFrequency(repeat)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        try {
+            Set<LocalDate> modelExceptions = new HashSet<>();
+            for (String exception : exceptions) {
+                modelExceptions.add(LocalDate.parse(exception));
+            }
+            return new Recurrence(Recurrence.parseFrequency(repeat), LocalDate.parse(until), modelExceptions);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
     }
 }
@@ -99,7 +99,7 @@ public class JsonAdaptedProperty {
         if (!PropertyType.isValidType(propertyType)) {
             throw new IllegalValueException(PropertyType.MESSAGE_CONSTRAINTS);
         }
-        final PropertyType modelpropertyType = new PropertyType(propertyType);
+        final PropertyType modelpropertyType = PropertyType.of(propertyType);
 
         return new Property(modelName, modelPhone, modelAddress, modelAskingPrice, modelpropertyType);
     }
@@ -1,26 +1,37 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
+import javafx.scene.control.TextFormatter;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands run in the background: while one is running, the command box shows that it is busy and takes no input.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
 
     private final CommandExecutor commandExecutor;
 
+    private boolean isBusy;
+
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -29,6 +40,22 @@ public class CommandBox extends UiPart<Region> {
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.setTextFormatter(new TextFormatter<>(this::handleMultiLineInput));
+    }
+
+    /**
+     * Runs text of more than one line, such as a pasted script, as a batch with one command per line, rather than
+     * letting the text field join its lines. Other changes to the text are kept as they are.
+     */
+    private TextFormatter.Change handleMultiLineInput(TextFormatter.Change change) {
+        if (!LINE_BREAK.matcher(change.getText()).find()) {
+            return change;
+        }
+
+        String commandText = change.getControlNewText();
+        // The batch is run after the text field has finished handling the change, since running it edits the text.
+        Platform.runLater(() -> runCommand(commandText));
+        return null;
     }
 
     /**
@@ -41,12 +68,35 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        runCommand(commandText);
+    }
+
+    /**
+     * Executes {@code commandText}, clearing the command box if it succeeds. Does nothing if a command is running.
+     */
+    private void runCommand(String commandText) {
+        if (isBusy) {
+            return;
         }
+
+        setBusy(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setBusy(false);
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows whether a command is running, taking no input while one is.
+     */
+    private void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        commandTextField.setEditable(!isBusy);
+        busyIndicator.setVisible(isBusy);
     }
 
     /**
@@ -75,11 +125,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, completed on the JavaFX application thread, or
+         * completed exceptionally if the command fails.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
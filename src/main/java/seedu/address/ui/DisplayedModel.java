@@ -0,0 +1,260 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.Logic;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.property.Property;
+
+/**
+ * The parts of the model shown by the UI, kept as copies that are only changed on the JavaFX application thread,
+ * while the model itself is only changed on the model thread.
+ * The copies are brought up to date in pulses. A pulse is published on the model thread once the model has changed:
+ * it copies only the lists that changed, and works out the meet-ups and viewings shown with them. The JavaFX
+ * application thread then replaces the shown lists with the copies in a single task. Pulses published before that
+ * task runs are merged into it, so a burst of changes is shown at once.
+ */
+public class DisplayedModel {
+
+    private final Logic logic;
+    private final Executor modelThread;
+    private final Executor fxThread;
+
+    private final ListCopy<Buyer> filteredBuyers;
+    private final ListCopy<Buyer> unfilteredBuyers;
+    private final ListCopy<MeetUp> filteredMeetUps;
+    private final ListCopy<MeetUp> unfilteredMeetUps;
+    private final ListCopy<Property> filteredProperties;
+    private final List<ListCopy<?>> listCopies;
+
+    /** Whether a pulse is waiting to be published. Only used on the model thread. */
+    private boolean isPublishQueued;
+
+    private final Object pendingLock = new Object();
+    /** Whether the pending pulse is waiting to be shown. Guarded by {@code pendingLock}, like the pending data. */
+    private boolean isShowQueued;
+    private Set<MeetUp> pendingDoubleBookedMeetUps;
+    private Map<Property, List<MeetUp>> pendingUpcomingViewings;
+
+    private Set<MeetUp> doubleBookedMeetUps;
+    private Map<Property, List<MeetUp>> upcomingViewings;
+
+    /**
+     * Creates the copies of the parts of {@code logic} shown by the UI, and keeps them up to date as the model
+     * changes. Must be called on {@code modelThread}, where the model is changed. The copies are changed on
+     * {@code fxThread}.
+     */
+    public DisplayedModel(Logic logic, Executor modelThread, Executor fxThread) {
+        requireAllNonNull(logic, modelThread, fxThread);
+        this.logic = logic;
+        this.modelThread = modelThread;
+        this.fxThread = fxThread;
+
+        filteredBuyers = new ListCopy<>(logic.getFilteredBuyerList());
+        unfilteredBuyers = new ListCopy<>(logic.getUnfilteredBuyerList());
+        filteredMeetUps = new ListCopy<>(logic.getFilteredMeetUpList());
+        unfilteredMeetUps = new ListCopy<>(logic.getUnfilteredMeetUpList());
+        filteredProperties = new ListCopy<>(logic.getFilteredPropertyList());
+        listCopies = List.of(filteredBuyers, unfilteredBuyers, filteredMeetUps, unfilteredMeetUps,
+                filteredProperties);
+
+        doubleBookedMeetUps = logic.getDoubleBookedMeetUps();
+        upcomingViewings = findUpcomingViewings();
+    }
+
+    /**
+     * Publishes the changes made to the model since the last pulse, to be shown on the JavaFX application thread.
+     * Does nothing if the model has not changed. Must be called on the model thread.
+     */
+    public void publish() {
+        isPublishQueued = false;
+        List<ListCopy<?>> changedCopies = listCopies.stream().filter(listCopy -> listCopy.isChanged)
+                .collect(Collectors.toList());
+        if (changedCopies.isEmpty()) {
+            return;
+        }
+
+        boolean isMeetUpListChanged = unfilteredMeetUps.isChanged;
+        Set<MeetUp> doubleBooked = isMeetUpListChanged ? logic.getDoubleBookedMeetUps() : null;
+        Map<Property, List<MeetUp>> upcoming = isMeetUpListChanged || filteredProperties.isChanged
+                ? findUpcomingViewings()
+                : null;
+        changedCopies.forEach(ListCopy::copySource);
+
+        boolean shouldQueueShow;
+        synchronized (pendingLock) {
+            changedCopies.forEach(ListCopy::makeCopyPending);
+            if (doubleBooked != null) {
+                pendingDoubleBookedMeetUps = doubleBooked;
+            }
+            if (upcoming != null) {
+                pendingUpcomingViewings = upcoming;
+            }
+            shouldQueueShow = !isShowQueued;
+            isShowQueued = true;
+        }
+        if (shouldQueueShow) {
+            fxThread.execute(this::show);
+        }
+    }
+
+    /**
+     * Replaces the shown parts of the model with those of the pending pulse. Runs on the JavaFX application thread.
+     */
+    private void show() {
+        List<Runnable> listUpdates = new ArrayList<>();
+        synchronized (pendingLock) {
+            isShowQueued = false;
+            for (ListCopy<?> listCopy : listCopies) {
+                listCopy.takePending().ifPresent(listUpdates::add);
+            }
+            if (pendingDoubleBookedMeetUps != null) {
+                doubleBookedMeetUps = pendingDoubleBookedMeetUps;
+                pendingDoubleBookedMeetUps = null;
+            }
+            if (pendingUpcomingViewings != null) {
+                upcomingViewings = pendingUpcomingViewings;
+                pendingUpcomingViewings = null;
+            }
+        }
+        // the lists are replaced last, so the cells they redraw see the meet-ups and viewings of the same pulse
+        listUpdates.forEach(Runnable::run);
+    }
+
+    /**
+     * Returns the upcoming viewings of each property in the filtered property list that has any.
+     */
+    private Map<Property, List<MeetUp>> findUpcomingViewings() {
+        Map<Property, List<MeetUp>> viewings = new IdentityHashMap<>();
+        for (Property property : logic.getFilteredPropertyList()) {
+            List<MeetUp> upcoming = logic.getUpcomingMeetUpsAt(property);
+            if (!upcoming.isEmpty()) {
+                viewings.put(property, upcoming);
+            }
+        }
+        return viewings;
+    }
+
+    /**
+     * Queues a pulse on the model thread, unless one is already queued.
+     */
+    private void queuePublish() {
+        if (!isPublishQueued) {
+            isPublishQueued = true;
+            modelThread.execute(this::publish);
+        }
+    }
+
+    /** Returns an unmodifiable view of the shown filtered list of buyers */
+    public ObservableList<Buyer> getFilteredBuyerList() {
+        return filteredBuyers.view;
+    }
+
+    /** Returns an unmodifiable view of the shown unfiltered list of buyers */
+    public ObservableList<Buyer> getUnfilteredBuyerList() {
+        return unfilteredBuyers.view;
+    }
+
+    /** Returns an unmodifiable view of the shown filtered list of meet-ups */
+    public ObservableList<MeetUp> getFilteredMeetUpList() {
+        return filteredMeetUps.view;
+    }
+
+    /** Returns an unmodifiable view of the shown unfiltered list of meet-ups */
+    public ObservableList<MeetUp> getUnfilteredMeetUpList() {
+        return unfilteredMeetUps.view;
+    }
+
+    /** Returns an unmodifiable view of the shown filtered list of properties */
+    public ObservableList<Property> getFilteredPropertyList() {
+        return filteredProperties.view;
+    }
+
+    /**
+     * Returns the shown meet-ups that overlap another meet-up with a buyer in common, compared by identity.
+     *
+     * @see Logic#getDoubleBookedMeetUps()
+     */
+    public Set<MeetUp> getDoubleBookedMeetUps() {
+        return doubleBookedMeetUps;
+    }
+
+    /**
+     * Returns the meet-ups held at {@code property} that had not started when the shown lists were copied, in
+     * order of their next start. Only the properties in the shown filtered property list have any.
+     *
+     * @see Logic#getUpcomingMeetUpsAt(Property)
+     */
+    public List<MeetUp> getUpcomingMeetUpsAt(Property property) {
+        return upcomingViewings.getOrDefault(property, List.of());
+    }
+
+    /**
+     * A copy of a list of the model, and the copy of it waiting to be shown.
+     */
+    private class ListCopy<T> {
+        private final ObservableList<T> source;
+        private final ObservableList<T> copy;
+        private final ObservableList<T> view;
+
+        /** Whether the source changed since it was last copied. Only used on the model thread. */
+        private boolean isChanged;
+        /** The copy of the source taken in the pulse being published. Only used on the model thread. */
+        private List<T> sourceCopy;
+        /** The copy of the source waiting to be shown. Guarded by {@code pendingLock}. */
+        private List<T> pending;
+
+        ListCopy(ObservableList<T> source) {
+            this.source = source;
+            copy = FXCollections.observableArrayList(source);
+            view = FXCollections.unmodifiableObservableList(copy);
+            source.addListener((ListChangeListener<T>) change -> {
+                isChanged = true;
+                queuePublish();
+            });
+        }
+
+        /**
+         * Copies the source, to be made pending by {@link #makeCopyPending()}. Must be called on the model thread.
+         */
+        void copySource() {
+            isChanged = false;
+            sourceCopy = List.copyOf(source);
+        }
+
+        /**
+         * Makes the copy taken by {@link #copySource()} the one waiting to be shown, replacing any older one.
+         * Must be called on the model thread, holding {@code pendingLock}.
+         */
+        void makeCopyPending() {
+            pending = sourceCopy;
+            sourceCopy = null;
+        }
+
+        /**
+         * Returns the task that replaces the shown copy with the pending one, if there is one, and clears it.
+         * Must be called holding {@code pendingLock}.
+         */
+        Optional<Runnable> takePending() {
+            if (pending == null) {
+                return Optional.empty();
+            }
+            List<T> shown = pending;
+            pending = null;
+            return Optional.of(() -> copy.setAll(shown));
+        }
+    }
+}
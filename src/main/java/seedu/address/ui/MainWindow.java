@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -14,7 +17,10 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.Session;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -34,6 +40,8 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private Executor modelThread;
+    private DisplayedModel displayedModel;
 
     // Independent Ui parts residing in this Ui container
     private BuyerListPanel buyerListPanel;
@@ -77,14 +85,17 @@ public class MainWindow extends UiPart<Stage> {
     private Label modeLabel;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, executing commands on
+     * {@code modelThread} and showing the parts of the model in {@code displayedModel}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, Executor modelThread, DisplayedModel displayedModel) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.modelThread = modelThread;
+        this.displayedModel = displayedModel;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -136,18 +147,19 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        buyerListPanel = new BuyerListPanel(logic.getFilteredBuyerList());
+        buyerListPanel = new BuyerListPanel(displayedModel.getFilteredBuyerList());
         buyerListPanelPlaceholder.getChildren().add(buyerListPanel.getRoot());
         buyerListPanel.getRoot().setVisible(true);
         buyerListPane.setVisible(true);
 
-        meetUpListPanel = new MeetUpListPanel(logic.getFilteredMeetUpList(),
-                logic.getMeetUpList().getMeetUpList(), logic.getBuyerList().getBuyerList());
+        meetUpListPanel = new MeetUpListPanel(displayedModel.getFilteredMeetUpList(),
+                displayedModel.getDoubleBookedMeetUps(), displayedModel.getUnfilteredBuyerList());
         meetUpListPanelPlaceholder.getChildren().add(meetUpListPanel.getRoot());
         meetUpListPanel.getRoot().setVisible(false);
         meetUpListPane.setVisible(false);
 
-        propertyListPanel = new PropertyListPanel(logic.getFilteredPropertyList());
+        propertyListPanel = new PropertyListPanel(displayedModel.getFilteredPropertyList(),
+                displayedModel.getUnfilteredMeetUpList(), displayedModel::getUpcomingMeetUpsAt);
         propertyListPanelPlaceholder.getChildren().add(propertyListPanel.getRoot());
         propertyListPanel.getRoot().setVisible(false);
         propertyListPane.setVisible(false);
@@ -197,7 +209,7 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        modelThread.execute(() -> logic.setGuiSettings(guiSettings));
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -218,8 +230,8 @@ public class MainWindow extends UiPart<Stage> {
 
     @FXML
     private void handleMeetUpList() {
-        meetUpListPanel = new MeetUpListPanel(logic.getFilteredMeetUpList(),
-                logic.getUnfilteredMeetUpList(), logic.getUnfilteredBuyerList());
+        meetUpListPanel = new MeetUpListPanel(displayedModel.getFilteredMeetUpList(),
+                displayedModel.getDoubleBookedMeetUps(), displayedModel.getUnfilteredBuyerList());
         meetUpListPanelPlaceholder.getChildren().clear();
         meetUpListPanelPlaceholder.getChildren().add(meetUpListPanel.getRoot());
 
@@ -258,41 +270,75 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows {@code reminder} in the result display. Must be called on the JavaFX application thread.
+     */
+    void showReminder(String reminder) {
+        resultDisplay.setFeedbackToUser(reminder);
+    }
+
+    /**
+     * Parses the command on the JavaFX application thread, then starts executing it on the model thread, and returns
+     * its result once the result and the changes the command made to the model are shown.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        Session session = logic.getSession();
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            Command command = logic.parse(commandText, session);
+            modelThread.execute(() -> {
+                // the changes are published before the result, so they are shown by the time the result is
+                try {
+                    CommandResult commandResult = logic.execute(command, session);
+                    displayedModel.publish();
+                    result.complete(commandResult);
+                } catch (Exception e) {
+                    displayedModel.publish();
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (ParseException e) {
+            result.completeExceptionally(e);
+        }
+        return result.whenCompleteAsync((commandResult, error) -> showResult(commandText, commandResult, error),
+                Platform::runLater);
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    /**
+     * Shows the result of the command, or the error it failed with.
+     */
+    private void showResult(String commandText, CommandResult commandResult, Throwable error) {
+        if (error != null) {
+            logger.info("An error occurred while executing command: " + commandText);
+            if (!(error instanceof CommandException || error instanceof ParseException)) {
+                logger.warning(StringUtil.getDetails(error));
             }
+            resultDisplay.setFeedbackToUser(error.getMessage());
+            return;
+        }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isShowBuyerList()) {
-                handleBuyerList();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            if (commandResult.isShowMeetUpList()) {
-                handleMeetUpList();
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            if (commandResult.isShowPropertyList()) {
-                handlePropertyList();
-            }
+        if (commandResult.isShowBuyerList()) {
+            handleBuyerList();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowMeetUpList()) {
+            handleMeetUpList();
+        }
+
+        if (commandResult.isShowPropertyList()) {
+            handlePropertyList();
         }
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -23,13 +25,15 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private Executor modelThread;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose model is only changed on {@code modelThread}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, Executor modelThread) {
         this.logic = logic;
+        this.modelThread = modelThread;
     }
 
     @Override
@@ -40,7 +44,9 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            DisplayedModel displayedModel = CompletableFuture.supplyAsync(() ->
+                    new DisplayedModel(logic, modelThread, Platform::runLater), modelThread).join();
+            mainWindow = new MainWindow(primaryStage, logic, modelThread, displayedModel);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -50,6 +56,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showReminder(String reminder) {
+        logger.info("Reminder: " + reminder);
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showReminder(reminder);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -38,6 +38,10 @@ public class MeetUpCard extends UiPart<Region> {
     @FXML
     private Label to;
     @FXML
+    private Label recurrence;
+    @FXML
+    private Label property;
+    @FXML
     private FlowPane addedBuyers;
 
     /**
@@ -52,6 +56,14 @@ public class MeetUpCard extends UiPart<Region> {
         from.setText(meetUp.getFrom().toPrettyString());
         to.setText(meetUp.getTo().toPrettyString());
         addedBuyers.getChildren().addAll(styledBuyerLabels);
+        meetUp.getRecurrence().ifPresentOrElse(rule -> recurrence.setText("Repeats " + rule), () -> {
+            recurrence.setVisible(false);
+            recurrence.setManaged(false);
+        });
+        meetUp.getProperty().ifPresentOrElse(address -> property.setText("At " + address), () -> {
+            property.setVisible(false);
+            property.setManaged(false);
+        });
 
         if (doesTimeOverlap) {
             from.setStyle("-fx-text-fill: red;");
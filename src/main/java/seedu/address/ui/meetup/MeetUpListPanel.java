@@ -2,11 +2,9 @@ package seedu.address.ui.meetup;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDateTime;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -24,7 +22,7 @@ import seedu.address.ui.UiPart;
  */
 public class MeetUpListPanel extends UiPart<Region> {
     private static final String FXML = "MeetUpListPanel.fxml";
-    private final Map<MeetUp, Boolean> hasOverlapMap;
+    private final Set<MeetUp> doubleBookedMeetUps;
     private final ObservableList<Buyer> buyerList;
 
 
@@ -32,49 +30,22 @@ public class MeetUpListPanel extends UiPart<Region> {
     private ListView<MeetUp> meetUpListView;
 
     /**
-     * Creates a {@code MeetUpListPanel} with the given {@code ObservableList}.
+     * Creates a {@code MeetUpListPanel} with the given {@code ObservableList}, where the meet-ups in
+     * {@code doubleBookedMeetUps} share a buyer with an overlapping meet-up.
      */
-    public MeetUpListPanel(ObservableList<MeetUp> meetUpList, ObservableList<MeetUp> originalMeetUpList,
+    public MeetUpListPanel(ObservableList<MeetUp> meetUpList, Set<MeetUp> doubleBookedMeetUps,
                            ObservableList<Buyer> buyerList) {
         super(FXML);
-        requireNonNull(originalMeetUpList);
+        requireNonNull(doubleBookedMeetUps);
         requireNonNull(meetUpList);
         requireNonNull(buyerList);
 
-        Map<MeetUp, Boolean> hasOverlapMap = new HashMap<>();
-        for (int i = 0; i < meetUpList.size(); i++) {
-            boolean foundOverlap = false;
-            MeetUp meetUp = meetUpList.get(i);
-            for (MeetUp meetUp2 : originalMeetUpList) {
-                if (!meetUp.isSameMeetUp(meetUp2) && doDateRangesOverlap(meetUp, meetUp2)) {
-                    foundOverlap = true;
-                    break;
-                }
-            }
-            hasOverlapMap.put(meetUp, foundOverlap);
-        }
-
-        this.hasOverlapMap = hasOverlapMap;
+        this.doubleBookedMeetUps = doubleBookedMeetUps;
         this.buyerList = buyerList;
         meetUpListView.setItems(meetUpList);
         meetUpListView.setCellFactory(x -> new MeetUpListViewCell());
     }
 
-    /**
-     * Checks for overlaps between two meetups
-     */
-    private boolean doDateRangesOverlap(MeetUp meetUp1, MeetUp meetUp2) {
-        requireNonNull(meetUp1);
-        requireNonNull(meetUp2);
-        LocalDateTime start1 = meetUp1.getFrom().getDateTime();
-        LocalDateTime end1 = meetUp1.getTo().getDateTime();
-        LocalDateTime start2 = meetUp2.getFrom().getDateTime();
-        LocalDateTime end2 = meetUp2.getTo().getDateTime();
-
-        // Check if the date ranges overlap
-        return start1.isBefore(end2) && end1.isAfter(start2);
-    }
-
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Buyer} using a {@code BuyerCard}.
      */
@@ -88,7 +59,7 @@ public class MeetUpListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                Boolean doesTimeOverlap = hasOverlapMap.getOrDefault(meetUp, false);
+                boolean doesTimeOverlap = doubleBookedMeetUps.contains(meetUp);
 
                 // Create styled labels for each buyer here
                 List<Label> styledBuyerLabels = meetUp.getAddedBuyers().stream()
@@ -1,9 +1,15 @@
 package seedu.address.ui.property;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.meetup.DateTime;
+import seedu.address.model.meetup.MeetUp;
 import seedu.address.model.property.Property;
 import seedu.address.ui.UiPart;
 
@@ -37,11 +43,14 @@ public class PropertyCard extends UiPart<Region> {
     private Label askingPrice;
     @FXML
     private Label propertyType;
+    @FXML
+    private Label viewings;
 
     /**
-     * Creates a {@code BuyerCode} with the given {@code Buyer} and index to display.
+     * Creates a {@code BuyerCode} with the given {@code Buyer} and index to display, listing the upcoming meet-ups
+     * held at the property, in order.
      */
-    public PropertyCard(Property property, int displayedIndex) {
+    public PropertyCard(Property property, int displayedIndex, List<MeetUp> upcomingViewings) {
         super(FXML);
         this.property = property;
         id.setText(displayedIndex + ". ");
@@ -50,5 +59,15 @@ public class PropertyCard extends UiPart<Region> {
         address.setText(property.getAddress().toString());
         askingPrice.setText(property.getAskingPrice().toPrettyString());
         propertyType.setText(property.getPropertyType().toString());
+        if (upcomingViewings.isEmpty()) {
+            viewings.setVisible(false);
+            viewings.setManaged(false);
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            viewings.setText("Upcoming viewings: " + upcomingViewings.stream()
+                    .map(meetUp -> meetUp.getSubject() + " at " + meetUp.getFirstStartBetween(now, LocalDateTime.MAX)
+                            .orElse(meetUp.getFrom().getDateTime()).format(DateTime.FORMATTER))
+                    .collect(Collectors.joining(", ")));
+        }
     }
 }
@@ -1,13 +1,17 @@
 package seedu.address.ui.property;
 
+import java.util.List;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.meetup.MeetUp;
 import seedu.address.model.property.Property;
 import seedu.address.ui.UiPart;
 
@@ -18,16 +22,22 @@ public class PropertyListPanel extends UiPart<Region> {
     private static final String FXML = "PropertyListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PropertyListPanel.class);
 
+    private final Function<Property, List<MeetUp>> upcomingViewings;
+
     @FXML
     private ListView<Property> propertyListView;
 
     /**
-     * Creates a {@code BuyerListPanel} with the given {@code ObservableList}.
+     * Creates a {@code BuyerListPanel} with the given {@code ObservableList}, showing the meet-ups returned by
+     * {@code upcomingViewings} for each property. The properties shown are redrawn when {@code meetUpList} changes.
      */
-    public PropertyListPanel(ObservableList<Property> propertyList) {
+    public PropertyListPanel(ObservableList<Property> propertyList, ObservableList<MeetUp> meetUpList,
+                             Function<Property, List<MeetUp>> upcomingViewings) {
         super(FXML);
+        this.upcomingViewings = upcomingViewings;
         propertyListView.setItems(propertyList);
         propertyListView.setCellFactory(listView -> new PropertyListViewCell());
+        meetUpList.addListener((ListChangeListener<MeetUp>) change -> propertyListView.refresh());
     }
 
     /**
@@ -42,7 +52,7 @@ public class PropertyListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PropertyCard(property, getIndex() + 1).getRoot());
+                setGraphic(new PropertyCard(property, getIndex() + 1, upcomingViewings.apply(property)).getRoot());
             }
         }
     }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -39,10 +40,55 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_headlessParameter_success() {
+        parametersStub.unnamedParameters.add(AppParameters.HEADLESS_PARAMETER);
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        // no arguments
+        assertEquals(expected, AppParameters.parse(new String[0]));
+
+        // headless, reading the standard input
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--headless"}));
+
+        // headless, reading a script, with a config path
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("data", "edits.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--script=data/edits.txt"}));
+
+        // invalid script path -> headless, reading the standard input
+        expected.setScriptPath(null);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--script=a\0"}));
+    }
+
+    @Test
+    public void parse_apiPort_success() {
+        parametersStub.namedParameters.put(AppParameters.API_PORT_PARAMETER, "8765");
+        expected.setApiPort(8765);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidApiPort_success() {
+        // not a number -> API not served
+        parametersStub.namedParameters.put(AppParameters.API_PORT_PARAMETER, "http");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        // past the last port -> API not served
+        parametersStub.namedParameters.put(AppParameters.API_PORT_PARAMETER, "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", isHeadless=false, scriptPath=null, apiPort=null}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,10 +112,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // headless -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setHeadless(true);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
+        private List<String> unnamedParameters = new ArrayList<>();
 
         @Override
         public List<String> getRaw() {
@@ -78,7 +130,7 @@ public class AppParametersTest {
 
         @Override
         public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
+            return Collections.unmodifiableList(unnamedParameters);
         }
 
         @Override
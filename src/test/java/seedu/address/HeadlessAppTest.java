@@ -0,0 +1,81 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.buyer.ViewCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.buyer.JsonBuyerListStorage;
+import seedu.address.storage.meetup.JsonMeetUpListStorage;
+import seedu.address.storage.property.JsonPropertyListStorage;
+import seedu.address.ui.HelpWindow;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final HeadlessApp app = new HeadlessApp();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonBuyerListStorage(temporaryFolder.resolve("buyerList.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonMeetUpListStorage(temporaryFolder.resolve("meetUpList.json")),
+                new JsonPropertyListStorage(temporaryFolder.resolve("propertyList.json")));
+        app.logic = new LogicManager(new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+                getTypicalPropertyList()), storage);
+    }
+
+    @Test
+    public void run_commandsUntilExit_feedbackPrinted() throws Exception {
+        String commands = "# list every buyer\n\n  view  \nhelp\nexit\nview\n";
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(commands));
+        assertEquals(lines(ViewCommand.MESSAGE_SUCCESS, HelpWindow.HELP_MESSAGE,
+                ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), output(out));
+        assertEquals("", output(err));
+    }
+
+    @Test
+    public void run_failedCommand_errorPrintedAndLaterCommandsRun() throws Exception {
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, run("view\n\nunknown\nview"));
+        assertEquals(lines(ViewCommand.MESSAGE_SUCCESS, ViewCommand.MESSAGE_SUCCESS), output(out));
+        assertEquals(lines(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 3, Messages.MESSAGE_UNKNOWN_COMMAND)),
+                output(err));
+    }
+
+    private int run(String commands) throws Exception {
+        return app.run(new BufferedReader(new StringReader(commands)),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private static String output(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String lines(String... lines) {
+        return String.join(System.lineSeparator(), lines) + System.lineSeparator();
+    }
+}
@@ -0,0 +1,308 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.buyer.TypicalBuyers.AMY;
+import static seedu.address.testutil.buyer.TypicalBuyers.BENSON;
+import static seedu.address.testutil.buyer.TypicalBuyers.DANIEL;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyers;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.buyer.AddCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyBuyerList;
+import seedu.address.model.ReadOnlyMeetUpList;
+import seedu.address.model.ReadOnlyPropertyList;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.buyer.JsonBuyerListStorage;
+import seedu.address.storage.meetup.JsonMeetUpListStorage;
+import seedu.address.storage.property.JsonPropertyListStorage;
+import seedu.address.testutil.buyer.BuyerUtil;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService modelThread = Executors.newSingleThreadExecutor();
+    private LogicManager logic;
+    private ApiServer apiServer;
+    private String token;
+    /** Run by the storage before each save, on the model thread. */
+    private volatile Runnable beforeSave = () -> {};
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonBuyerListStorage(temporaryFolder.resolve("buyerList.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonMeetUpListStorage(temporaryFolder.resolve("meetUpList.json")),
+                new JsonPropertyListStorage(temporaryFolder.resolve("propertyList.json"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyBuyerList buyerList, ReadOnlyMeetUpList meetUpList,
+                    ReadOnlyPropertyList propertyList) throws IOException {
+                beforeSave.run();
+                super.saveAddressBook(buyerList, meetUpList, propertyList);
+            }
+        };
+        logic = new LogicManager(new ModelManager(getTypicalBuyerList(), new UserPrefs(),
+                getTypicalMeetUpList(), getTypicalPropertyList()), storage);
+        token = ApiServer.createToken(temporaryFolder.resolve(ApiServer.TOKEN_FILE_NAME));
+        apiServer = new ApiServer(logic, modelThread, 0, token);
+        modelThread.submit(apiServer::start).get();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        apiServer.stop();
+        modelThread.shutdownNow();
+    }
+
+    @Test
+    public void get_buyers_pagedAndFiltered() throws Exception {
+        // first page
+        JsonNode page = getJson(ApiServer.BUYERS_PATH + "?limit=2", 200);
+        assertEquals(getTypicalBuyers().size(), page.get("total").asInt());
+        assertEquals(2, page.get("items").size());
+        assertEquals(getTypicalBuyers().get(0).getName().fullName, page.get("items").get(0).get("name").asText());
+
+        // filtered, past the first match
+        page = getJson(ApiServer.BUYERS_PATH + "?name=MEIER&offset=1", 200);
+        assertEquals(2, page.get("total").asInt());
+        assertEquals(1, page.get("items").size());
+        assertEquals(DANIEL.getName().fullName, page.get("items").get(0).get("name").asText());
+        assertEquals(BENSON.getName().fullName, getJson(ApiServer.BUYERS_PATH + "?name=meier&limit=1", 200)
+                .get("items").get(0).get("name").asText());
+    }
+
+    @Test
+    public void get_invalidParameters_badRequest() throws Exception {
+        assertEquals(ApiServer.MESSAGE_INVALID_PAGE,
+                getJson(ApiServer.PROPERTIES_PATH + "?limit=0", 400).get("error").asText());
+        assertEquals(ApiServer.MESSAGE_INVALID_PAGE,
+                getJson(ApiServer.MEETUPS_PATH + "?offset=-1", 400).get("error").asText());
+        assertEquals(String.format(ApiServer.MESSAGE_UNKNOWN_PARAMETER, "email", "name, tag"),
+                getJson(ApiServer.BUYERS_PATH + "?email=a", 400).get("error").asText());
+    }
+
+    @Test
+    public void post_command_runThroughLogicAndServedAfter() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, BuyerUtil.getAddBuyerCommand(AMY));
+        assertEquals(200, response.statusCode());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)),
+                JsonUtil.fromJsonString(response.body(), JsonNode.class).get("feedback").asText());
+
+        assertEquals(getTypicalBuyers().size() + 1, getJson(ApiServer.BUYERS_PATH, 200).get("total").asInt());
+    }
+
+    @Test
+    public void post_commandsInNamedSessions_modesKeptApart() throws Exception {
+        assertEquals(200, post(ApiServer.COMMANDS_PATH + "?session=agent", "switch p").statusCode());
+
+        // the default session is still in buyer mode
+        assertEquals(200, post(ApiServer.COMMANDS_PATH, BuyerUtil.getAddBuyerCommand(AMY)).statusCode());
+        assertEquals(getTypicalBuyers().size() + 1, getJson(ApiServer.BUYERS_PATH, 200).get("total").asInt());
+
+        // while the named session parses property commands
+        assertEquals(200, post(ApiServer.COMMANDS_PATH + "?session=agent", "delete 1").statusCode());
+        assertEquals(getTypicalPropertyList().getPropertyList().size() - 1,
+                getJson(ApiServer.PROPERTIES_PATH, 200).get("total").asInt());
+        assertEquals(getTypicalBuyers().size() + 1, getJson(ApiServer.BUYERS_PATH, 200).get("total").asInt());
+    }
+
+    @Test
+    public void post_invalidCommand_badRequest() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "unknown");
+        assertEquals(400, response.statusCode());
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND,
+                JsonUtil.fromJsonString(response.body(), JsonNode.class).get("error").asText());
+    }
+
+    @Test
+    public void post_commandFailsUnexpectedly_internalError() throws Exception {
+        beforeSave = () -> {
+            throw new IllegalStateException("disk on fire");
+        };
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "view");
+        assertEquals(500, response.statusCode());
+        assertTrue(JsonUtil.fromJsonString(response.body(), JsonNode.class).get("error").asText()
+                .contains("disk on fire"));
+    }
+
+    @Test
+    public void post_modelThreadBusy_commandCancelled() throws Exception {
+        ExecutorService busyThread = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        ApiServer impatientServer = new ApiServer(logic, busyThread, 0, token, 200);
+        try {
+            impatientServer.start();
+            busyThread.execute(() -> awaitQuietly(release));
+
+            HttpResponse<String> response = post(impatientServer, ApiServer.COMMANDS_PATH,
+                    BuyerUtil.getAddBuyerCommand(AMY));
+            assertEquals(503, response.statusCode());
+            assertEquals(ApiServer.MESSAGE_NOT_RUN,
+                    JsonUtil.fromJsonString(response.body(), JsonNode.class).get("error").asText());
+
+            // the cancelled command is not run once the model thread is free
+            release.countDown();
+            busyThread.submit(() -> {}).get();
+            assertEquals(getTypicalBuyers().size(), getJson(ApiServer.BUYERS_PATH, 200).get("total").asInt());
+        } finally {
+            release.countDown();
+            impatientServer.stop();
+            busyThread.shutdownNow();
+        }
+    }
+
+    @Test
+    public void post_commandStillRunning_outcomeUnknown() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        beforeSave = () -> awaitQuietly(release);
+        ApiServer impatientServer = new ApiServer(logic, modelThread, 0, token, 200);
+        try {
+            impatientServer.start();
+            HttpResponse<String> response = post(impatientServer, ApiServer.COMMANDS_PATH,
+                    BuyerUtil.getAddBuyerCommand(AMY));
+            assertEquals(504, response.statusCode());
+            assertEquals(ApiServer.MESSAGE_OUTCOME_UNKNOWN,
+                    JsonUtil.fromJsonString(response.body(), JsonNode.class).get("error").asText());
+
+            // the command started, so it is still applied
+            release.countDown();
+            modelThread.submit(() -> {}).get();
+            assertEquals(getTypicalBuyers().size() + 1, getJson(ApiServer.BUYERS_PATH, 200).get("total").asInt());
+        } finally {
+            release.countDown();
+            impatientServer.stop();
+        }
+    }
+
+    @Test
+    public void post_manySessions_leastRecentlyUsedForgotten() throws Exception {
+        assertEquals(200, post(ApiServer.COMMANDS_PATH + "?session=old", "switch p").statusCode());
+        for (int i = 0; i < ApiServer.MAX_SESSIONS; i++) {
+            assertEquals(200, post(ApiServer.COMMANDS_PATH + "?session=s" + i, "view").statusCode());
+        }
+
+        // the forgotten session starts over in buyer mode
+        assertEquals(200, post(ApiServer.COMMANDS_PATH + "?session=old", BuyerUtil.getAddBuyerCommand(AMY))
+                .statusCode());
+        assertEquals(getTypicalBuyers().size() + 1, getJson(ApiServer.BUYERS_PATH, 200).get("total").asInt());
+    }
+
+    @Test
+    public void request_wrongMethodOrPath_rejected() throws Exception {
+        assertEquals(405, post(ApiServer.BUYERS_PATH, "").statusCode());
+        getJson(ApiServer.COMMANDS_PATH, 405);
+        getJson("/api/agents", 404);
+    }
+
+    @Test
+    public void createToken_writtenToFile() throws Exception {
+        Path tokenFile = temporaryFolder.resolve("data").resolve(ApiServer.TOKEN_FILE_NAME);
+        String newToken = ApiServer.createToken(tokenFile);
+
+        assertEquals(newToken, FileUtil.readFromFile(tokenFile));
+        assertNotEquals(token, newToken);
+    }
+
+    @Test
+    public void request_missingOrWrongToken_unauthorized() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString("clear")).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_INVALID_TOKEN,
+                JsonUtil.fromJsonString(response.body(), JsonNode.class).get("error").asText());
+
+        response = client.send(HttpRequest.newBuilder(uri(ApiServer.BUYERS_PATH))
+                .header(ApiServer.TOKEN_HEADER, token + "x").GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, response.statusCode());
+        assertEquals(getTypicalBuyers().size(), getJson(ApiServer.BUYERS_PATH, 200).get("total").asInt());
+    }
+
+    @Test
+    public void request_fromWebPage_forbidden() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH))
+                .header(ApiServer.TOKEN_HEADER, token).header("Origin", "http://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString("clear")).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(getTypicalBuyers().size(), getJson(ApiServer.BUYERS_PATH, 200).get("total").asInt());
+    }
+
+    @Test
+    public void request_toOtherHost_forbidden() throws Exception {
+        // the HTTP client does not let the Host header be set, so the request is written by hand
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), apiServer.getPort())) {
+            socket.getOutputStream().write(("GET " + ApiServer.BUYERS_PATH + " HTTP/1.1\r\n"
+                    + "Host: attacker.example:" + apiServer.getPort() + "\r\n"
+                    + ApiServer.TOKEN_HEADER + ": " + token + "\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            String response = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(response.startsWith("HTTP/1.1 403"));
+            assertTrue(response.contains(ApiServer.MESSAGE_FORBIDDEN_HOST));
+        }
+    }
+
+    private JsonNode getJson(String path, int expectedStatus) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path))
+                .header(ApiServer.TOKEN_HEADER, token).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(expectedStatus, response.statusCode());
+        return JsonUtil.fromJsonString(response.body(), JsonNode.class);
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return post(apiServer, path, body);
+    }
+
+    private HttpResponse<String> post(ApiServer server, String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(server, path)).header(ApiServer.TOKEN_HEADER, token)
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return uri(apiServer, path);
+    }
+
+    private static URI uri(ApiServer server, String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
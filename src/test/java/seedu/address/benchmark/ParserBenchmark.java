@@ -0,0 +1,161 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SwitchParserModeCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.buyer.FilterCommand;
+import seedu.address.logic.commands.meetup.AgendaCommand;
+import seedu.address.logic.commands.meetup.ConflictsCommand;
+import seedu.address.logic.commands.meetup.ExportCommand;
+import seedu.address.logic.commands.meetup.ImportCommand;
+import seedu.address.logic.commands.meetup.SlotCommand;
+import seedu.address.logic.parser.AbcliParser;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.ParserMode;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Times the parsing of commands: parses the usage example of every command in its mode, plus the commands without
+ * arguments, {@value #PASSES} times, then tokenizes the arguments of the same inputs with seven prefixes.
+ * Prints the time per command and per tokenized input for every round.
+ * Not a test: run its {@code main} method with the test classpath, for example from the IDE.
+ */
+public class ParserBenchmark {
+
+    private static final Pattern EXAMPLE_FORMAT = Pattern.compile("Example: (.*)");
+    private static final Prefix[] TOKENIZED_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_BUDGET,
+        PREFIX_SUBJECT, PREFIX_INFO, PREFIX_FROM};
+
+    private static final int PASSES = 20_000;
+    private static final int PARSE_ROUNDS = 8;
+    private static final int TOKENIZE_ROUNDS = 6;
+
+    /**
+     * Runs the benchmark. The arguments are ignored.
+     */
+    public static void main(String[] args) throws ParseException {
+        Map<ParserMode, List<String>> corpus = createCorpus();
+        List<String> arguments = new ArrayList<>();
+        int inputCount = 0;
+        for (List<String> inputs : corpus.values()) {
+            inputCount += inputs.size();
+            for (String input : inputs) {
+                int space = input.indexOf(' ');
+                arguments.add(space < 0 ? "" : input.substring(space));
+            }
+        }
+        System.out.println("inputs: " + inputCount);
+
+        // the hashes and lengths are printed so that the parsing cannot be optimised away
+        for (int round = 0; round < PARSE_ROUNDS; round++) {
+            long hash = 0;
+            long start = System.nanoTime();
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (Map.Entry<ParserMode, List<String>> entry : corpus.entrySet()) {
+                    for (String input : entry.getValue()) {
+                        hash += AbcliParser.parseCommand(input, entry.getKey()).hashCode();
+                    }
+                }
+            }
+            System.out.printf("parse round %d: %.0f ns per command (%d)%n", round,
+                    (double) (System.nanoTime() - start) / PASSES / inputCount, hash & 1);
+        }
+
+        for (int round = 0; round < TOKENIZE_ROUNDS; round++) {
+            long length = 0;
+            long start = System.nanoTime();
+            for (int pass = 0; pass < PASSES; pass++) {
+                for (String argument : arguments) {
+                    length += ArgumentTokenizer.tokenize(argument, TOKENIZED_PREFIXES).getPreamble().length();
+                }
+            }
+            System.out.printf("tokenize round %d: %.0f ns per input (%d)%n", round,
+                    (double) (System.nanoTime() - start) / PASSES / arguments.size(), length & 1);
+        }
+    }
+
+    /**
+     * Returns the inputs to parse in each mode: the usage examples of the commands of that mode and of the commands
+     * common to all modes, and the command words of the commands that take no arguments.
+     */
+    private static Map<ParserMode, List<String>> createCorpus() {
+        Map<ParserMode, List<String>> corpus = new EnumMap<>(ParserMode.class);
+        for (ParserMode mode : ParserMode.values()) {
+            List<String> inputs = new ArrayList<>();
+            addExamples(inputs, HelpCommand.MESSAGE_USAGE);
+            addExamples(inputs, LookupCommand.MESSAGE_USAGE);
+            addExamples(inputs, RunCommand.MESSAGE_USAGE);
+            addExamples(inputs, SwitchParserModeCommand.MESSAGE_USAGE);
+            inputs.add(ExitCommand.COMMAND_WORD);
+            inputs.add(UndoCommand.COMMAND_WORD);
+            inputs.add(RedoCommand.COMMAND_WORD);
+            corpus.put(mode, inputs);
+        }
+
+        List<String> buyerInputs = corpus.get(ParserMode.BUYER);
+        addExamples(buyerInputs, seedu.address.logic.commands.buyer.AddCommand.MESSAGE_USAGE);
+        addExamples(buyerInputs, seedu.address.logic.commands.buyer.EditCommand.MESSAGE_USAGE);
+        addExamples(buyerInputs, seedu.address.logic.commands.buyer.EditAllCommand.MESSAGE_USAGE);
+        addExamples(buyerInputs, seedu.address.logic.commands.buyer.DeleteCommand.MESSAGE_USAGE);
+        addExamples(buyerInputs, seedu.address.logic.commands.buyer.DeleteAllCommand.MESSAGE_USAGE);
+        addExamples(buyerInputs, seedu.address.logic.commands.buyer.FindCommand.MESSAGE_USAGE);
+        addExamples(buyerInputs, FilterCommand.MESSAGE_USAGE);
+        addExamples(buyerInputs, seedu.address.logic.commands.buyer.MatchCommand.MESSAGE_USAGE);
+        buyerInputs.add(seedu.address.logic.commands.buyer.ViewCommand.COMMAND_WORD);
+        buyerInputs.add(seedu.address.logic.commands.buyer.ClearCommand.COMMAND_WORD);
+
+        List<String> meetUpInputs = corpus.get(ParserMode.MEETUP);
+        addExamples(meetUpInputs, seedu.address.logic.commands.meetup.AddCommand.MESSAGE_USAGE);
+        addExamples(meetUpInputs, seedu.address.logic.commands.meetup.EditCommand.MESSAGE_USAGE);
+        addExamples(meetUpInputs, seedu.address.logic.commands.meetup.EditAllCommand.MESSAGE_USAGE);
+        addExamples(meetUpInputs, seedu.address.logic.commands.meetup.DeleteCommand.MESSAGE_USAGE);
+        addExamples(meetUpInputs, seedu.address.logic.commands.meetup.DeleteAllCommand.MESSAGE_USAGE);
+        addExamples(meetUpInputs, seedu.address.logic.commands.meetup.FindCommand.MESSAGE_USAGE);
+        addExamples(meetUpInputs, AgendaCommand.MESSAGE_USAGE);
+        addExamples(meetUpInputs, SlotCommand.MESSAGE_USAGE);
+        addExamples(meetUpInputs, ExportCommand.MESSAGE_USAGE);
+        addExamples(meetUpInputs, ImportCommand.MESSAGE_USAGE);
+        meetUpInputs.add(ConflictsCommand.COMMAND_WORD);
+        meetUpInputs.add(seedu.address.logic.commands.meetup.ViewCommand.COMMAND_WORD);
+        meetUpInputs.add(seedu.address.logic.commands.meetup.ClearCommand.COMMAND_WORD);
+
+        List<String> propertyInputs = corpus.get(ParserMode.PROPERTY);
+        addExamples(propertyInputs, seedu.address.logic.commands.property.AddCommand.MESSAGE_USAGE);
+        addExamples(propertyInputs, seedu.address.logic.commands.property.EditCommand.MESSAGE_USAGE);
+        addExamples(propertyInputs, seedu.address.logic.commands.property.EditAllCommand.MESSAGE_USAGE);
+        addExamples(propertyInputs, seedu.address.logic.commands.property.DeleteCommand.MESSAGE_USAGE);
+        addExamples(propertyInputs, seedu.address.logic.commands.property.DeleteAllCommand.MESSAGE_USAGE);
+        addExamples(propertyInputs, seedu.address.logic.commands.property.FindCommand.MESSAGE_USAGE);
+        addExamples(propertyInputs, seedu.address.logic.commands.property.MatchCommand.MESSAGE_USAGE);
+        propertyInputs.add(seedu.address.logic.commands.property.ViewCommand.COMMAND_WORD);
+        propertyInputs.add(seedu.address.logic.commands.property.ClearCommand.COMMAND_WORD);
+        return corpus;
+    }
+
+    private static void addExamples(List<String> inputs, String usage) {
+        Matcher matcher = EXAMPLE_FORMAT.matcher(usage);
+        while (matcher.find()) {
+            inputs.add(matcher.group(1));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.property.Property;
+import seedu.address.storage.buyer.JsonAdaptedBuyer;
+import seedu.address.storage.buyer.JsonAdaptedTag;
+import seedu.address.storage.meetup.JsonAdaptedAddedBuyer;
+import seedu.address.storage.meetup.JsonAdaptedMeetUp;
+import seedu.address.storage.property.JsonAdaptedProperty;
+
+/**
+ * Times the validation of loaded data: converts {@value #ENTITIES} buyers, meet-ups and properties from their JSON
+ * adapters to the model, then renders the dates of every meet-up and the budget of every buyer once.
+ * Prints the time per entity of each step for every round after the warm-up rounds.
+ * Not a test: run its {@code main} method with the test classpath, for example from the IDE.
+ */
+public class ValidationBenchmark {
+
+    private static final int ENTITIES = 100_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int ROUNDS = 8;
+
+    /**
+     * Runs the benchmark. The arguments are ignored.
+     */
+    public static void main(String[] args) throws IllegalValueException {
+        List<JsonAdaptedBuyer> jsonBuyers = new ArrayList<>();
+        List<JsonAdaptedMeetUp> jsonMeetUps = new ArrayList<>();
+        List<JsonAdaptedProperty> jsonProperties = new ArrayList<>();
+        for (int i = 0; i < ENTITIES; i++) {
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int t = 0; t < i % 4; t++) {
+                tags.add(new JsonAdaptedTag("tag" + (i + t) % 8));
+            }
+            jsonBuyers.add(new JsonAdaptedBuyer("Buyer Name " + i, "9" + (1000000 + i),
+                    "buyer." + i + "@example.com", String.valueOf(100000 + i), tags));
+
+            List<JsonAdaptedAddedBuyer> addedBuyers = new ArrayList<>();
+            for (int b = 0; b <= i % 3; b++) {
+                addedBuyers.add(new JsonAdaptedAddedBuyer("Buyer Name " + (i * 7 + b) % 1000));
+            }
+            String day = String.format("2024-%02d-%02d", 1 + i % 12, 1 + i % 28);
+            jsonMeetUps.add(new JsonAdaptedMeetUp("Meet up " + i, "Discuss the unit at block " + i, day + " 10:00",
+                    day + " 11:30", addedBuyers));
+
+            jsonProperties.add(new JsonAdaptedProperty("Owner " + i, "9" + (1000000 + i), "Street " + i + " #01-01",
+                    "1,250,000", "HDB"));
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<Buyer> buyers = new ArrayList<>(ENTITIES);
+            for (JsonAdaptedBuyer jsonBuyer : jsonBuyers) {
+                buyers.add(jsonBuyer.toModelType());
+            }
+            long buyersLoaded = System.nanoTime();
+            List<MeetUp> meetUps = new ArrayList<>(ENTITIES);
+            for (JsonAdaptedMeetUp jsonMeetUp : jsonMeetUps) {
+                meetUps.add(jsonMeetUp.toModelType());
+            }
+            long meetUpsLoaded = System.nanoTime();
+            List<Property> properties = new ArrayList<>(ENTITIES);
+            for (JsonAdaptedProperty jsonProperty : jsonProperties) {
+                properties.add(jsonProperty.toModelType());
+            }
+            long propertiesLoaded = System.nanoTime();
+            // the lengths are printed so that the rendering cannot be optimised away
+            long renderedLength = 0;
+            for (MeetUp meetUp : meetUps) {
+                renderedLength += meetUp.getFrom().toPrettyString().length() + meetUp.getTo().toPrettyString().length();
+            }
+            for (Buyer buyer : buyers) {
+                renderedLength += buyer.getBudget().toPrettyString().length();
+            }
+            long rendered = System.nanoTime();
+
+            if (round >= WARM_UP_ROUNDS) {
+                System.out.printf("load ns per entity: buyer %.0f, meet-up %.0f, property %.0f;"
+                        + " render ns per meet-up and buyer %.0f (%d chars)%n",
+                        perEntity(buyersLoaded - start), perEntity(meetUpsLoaded - buyersLoaded),
+                        perEntity(propertiesLoaded - meetUpsLoaded), perEntity(rendered - propertiesLoaded),
+                        renderedLength);
+            }
+        }
+    }
+
+    private static double perEntity(long nanos) {
+        return (double) nanos / ENTITIES;
+    }
+}
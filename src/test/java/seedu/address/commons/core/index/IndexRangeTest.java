@@ -0,0 +1,62 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeTest {
+
+    private static final List<String> LIST = List.of("a", "b", "c", "d");
+
+    @Test
+    public void between_firstAfterLast_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () ->
+                IndexRange.between(Index.fromOneBased(3), Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void fitsIn() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(4));
+        assertTrue(range.fitsIn(4));
+        assertFalse(range.fitsIn(3));
+
+        // every position fits in any list, even an empty one
+        assertTrue(IndexRange.all().fitsIn(0));
+    }
+
+    @Test
+    public void select() {
+        assertEquals(List.of("b", "c"), IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(3)).select(LIST));
+        assertEquals(List.of("d"), IndexRange.of(Index.fromOneBased(4)).select(LIST));
+        assertEquals(LIST, IndexRange.all().select(LIST));
+        assertThrows(IndexOutOfBoundsException.class, () -> IndexRange.of(Index.fromOneBased(5)).select(LIST));
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(5));
+
+        // same values -> returns true
+        assertTrue(range.equals(IndexRange.between(Index.fromZeroBased(0), Index.fromZeroBased(4))));
+        assertTrue(IndexRange.all().equals(IndexRange.all()));
+
+        // same object -> returns true
+        assertTrue(range.equals(range));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different types -> returns false
+        assertFalse(range.equals(5.0f));
+
+        // different range -> returns false
+        assertFalse(range.equals(IndexRange.of(Index.fromOneBased(1))));
+        assertFalse(range.equals(IndexRange.all()));
+        assertFalse(IndexRange.all().equals(range));
+    }
+}
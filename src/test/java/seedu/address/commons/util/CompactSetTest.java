@@ -0,0 +1,72 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactSetTest {
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_anySize_equalsSource() {
+        for (int size : new int[] {0, 1, 2, 8, 9, 100}) {
+            Set<String> source = IntStream.range(0, size).mapToObj(i -> "e" + i).collect(Collectors.toSet());
+            Set<String> copy = CompactSet.copyOf(source);
+
+            assertEquals(source, copy);
+            assertEquals(copy, source);
+            assertEquals(source.hashCode(), copy.hashCode());
+            source.forEach(element -> assertTrue(copy.contains(element)));
+            assertFalse(copy.contains("e" + size));
+            assertFalse(copy.contains(null));
+        }
+    }
+
+    @Test
+    public void copyOf_duplicateElements_keptOnce() {
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), CompactSet.copyOf(Arrays.asList("a", "b", "a")));
+    }
+
+    @Test
+    public void copyOf_compactSet_returnsSameSet() {
+        Set<String> copy = CompactSet.copyOf(Arrays.asList("a", "b", "c"));
+        assertSame(copy, CompactSet.copyOf(copy));
+    }
+
+    @Test
+    public void contains_equalHashCodes_comparesByEquals() {
+        // "Aa" and "BB" have the same hash code
+        Set<String> set = CompactSet.copyOf(IntStream.range(0, 20).mapToObj(i -> i % 2 == 0 ? "Aa" + i : "BB" + i)
+                .collect(Collectors.toSet()));
+        assertTrue(set.contains("Aa0"));
+        assertTrue(set.contains("BB19"));
+        assertFalse(set.contains("Aa1"));
+    }
+
+    @Test
+    public void modify_anySize_throwsUnsupportedOperationException() {
+        for (Set<String> set : Arrays.asList(CompactSet.copyOf(Collections.<String>emptySet()),
+                CompactSet.copyOf(Arrays.asList("a")), CompactSet.copyOf(Arrays.asList("a", "b")))) {
+            assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+            assertThrows(UnsupportedOperationException.class, () -> set.remove("a"));
+            assertThrows(UnsupportedOperationException.class, () -> set.clear());
+            assertThrows(UnsupportedOperationException.class, () -> set.removeIf(element -> true));
+        }
+    }
+}
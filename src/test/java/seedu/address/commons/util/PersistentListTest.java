@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(null));
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+        assertThrows(NullPointerException.class, () -> PersistentList.empty().plus(null));
+    }
+
+    @Test
+    public void copyOf_anySize_equalsSource() {
+        for (int size : new int[] {0, 1, 2, 3, 100}) {
+            List<String> source = IntStream.range(0, size).mapToObj(i -> "e" + i).collect(Collectors.toList());
+            PersistentList<String> copy = PersistentList.copyOf(source);
+
+            assertEquals(source, copy);
+            assertEquals(source.hashCode(), copy.hashCode());
+            assertSame(copy, PersistentList.copyOf(copy));
+        }
+        assertSame(PersistentList.empty(), PersistentList.copyOf(List.of()));
+    }
+
+    @Test
+    public void changes_randomOperations_matchArrayListAndKeepOldVersions() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+            if (i % 100 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                versions.add(list);
+            }
+        }
+
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expectedVersions, versions);
+    }
+
+    @Test
+    public void changes_emptiedList_isEmpty() {
+        PersistentList<String> list = PersistentList.<String>empty().plus("a").plus("b").minus(0).minus(0);
+        assertTrue(list.isEmpty());
+        assertSame(PersistentList.empty(), list);
+    }
+
+    @Test
+    public void changes_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(2));
+        assertEquals(List.of("a", "b", "c"), list.plus(2, "c"));
+    }
+
+    @Test
+    public void mutators_unsupported() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+}
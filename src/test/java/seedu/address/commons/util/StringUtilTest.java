@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,40 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullInput_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc"));
+        assertEquals(0, StringUtil.getEditDistance("john", "john"));
+        assertEquals(2, StringUtil.getEditDistance("jonh", "john")); // transposition
+        assertEquals(1, StringUtil.getEditDistance("tan", "tang")); // insertion
+        assertEquals(1, StringUtil.getEditDistance("tang", "tan")); // deletion
+        assertEquals(1, StringUtil.getEditDistance("tan", "tin")); // substitution
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.getEditDistance("John", "john")); // case-sensitive
+    }
+
+    //---------------- Tests for formatWithCommas --------------------------------------
+
+    @Test
+    public void formatWithCommas() {
+        assertEquals("0", StringUtil.formatWithCommas(0));
+        assertEquals("999", StringUtil.formatWithCommas(999));
+        assertEquals("1,000", StringUtil.formatWithCommas(1000));
+        assertEquals("12,345", StringUtil.formatWithCommas(12345));
+        assertEquals("1,250,000", StringUtil.formatWithCommas(1250000));
+        assertEquals("-1,250,000", StringUtil.formatWithCommas(-1250000));
+        assertEquals("9,223,372,036,854,775,807", StringUtil.formatWithCommas(Long.MAX_VALUE));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
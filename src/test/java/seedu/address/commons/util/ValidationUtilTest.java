@@ -0,0 +1,128 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.buyer.Budget;
+import seedu.address.model.buyer.Name;
+import seedu.address.model.buyer.Phone;
+import seedu.address.model.meetup.DateTime;
+import seedu.address.model.meetup.Info;
+import seedu.address.model.meetup.Subject;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.AskingPrice;
+import seedu.address.model.property.LandlordName;
+import seedu.address.model.property.PropertyType;
+import seedu.address.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    private static final List<String> SAMPLES = Arrays.asList("", " ", "a", "A1", "Alex Yeoh", " Alex", "Alex ",
+            "Alex  Yeoh", "Alex-Yeoh", "-", "friends", "r\u00e9sum\u00e9", "Blk 30 #06-40", "line\nbreak", "tab\there",
+            "\u00a0", "x\u2028y", "\n", "\t", "123", "12", "0", "000", "0123", "1,000", "1,0000", "10,000", "1000,000",
+            ",100", "100,", "1,000,000", "001,000", "0,000", "1,00", "12,345,678", "1234567", "+123", "12a3",
+            "\u0661\u0662\u0663", "2024-10-01 10:00", "2024-10-01  10:00", "2024-1-01 10:00", "2024-10-01T10:00");
+
+    @Test
+    public void isAlphanumericWords_matchesRegex() {
+        assertMatchesRegex(Name.VALIDATION_REGEX, ValidationUtil::isAlphanumericWords);
+        assertMatchesRegex(Name.VALIDATION_REGEX, Name::isValidName);
+        assertMatchesRegex(LandlordName.VALIDATION_REGEX, LandlordName::isValidName);
+        assertMatchesRegex(Subject.VALIDATION_REGEX, Subject::isValidSubject);
+    }
+
+    @Test
+    public void isAlphanumericOrDash_matchesRegex() {
+        assertMatchesRegex(Tag.VALIDATION_REGEX, ValidationUtil::isAlphanumericOrDash);
+        assertMatchesRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName);
+    }
+
+    @Test
+    public void isDigits_matchesRegex() {
+        assertMatchesRegex(Phone.VALIDATION_REGEX, test -> ValidationUtil.isDigits(test, 3));
+        assertMatchesRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone);
+        assertMatchesRegex(seedu.address.model.property.Phone.VALIDATION_REGEX,
+                seedu.address.model.property.Phone::isValidPhone);
+        assertMatchesRegex("\\d{1,}", test -> ValidationUtil.isDigits(test, 1));
+    }
+
+    @Test
+    public void isSingleLineNotBlank_matchesRegex() {
+        assertMatchesRegex(Address.VALIDATION_REGEX, ValidationUtil::isSingleLineNotBlank);
+        assertMatchesRegex(Address.VALIDATION_REGEX, Address::isValidAddress);
+        assertMatchesRegex(PropertyType.VALIDATION_REGEX, PropertyType::isValidType);
+    }
+
+    @Test
+    public void isNotBlank_matchesRegex() {
+        assertMatchesRegex(Info.VALIDATION_REGEX, ValidationUtil::isNotBlank);
+        assertMatchesRegex(Info.VALIDATION_REGEX, Info::isValidInfo);
+    }
+
+    @Test
+    public void isAmount_matchesRegex() {
+        assertMatchesRegex(Budget.VALIDATION_REGEX, ValidationUtil::isAmount);
+        assertMatchesRegex(Budget.VALIDATION_REGEX, Budget::isValidBudget);
+        assertMatchesRegex(AskingPrice.VALIDATION_REGEX, AskingPrice::isValidPrice);
+    }
+
+    @Test
+    public void isDateTimeShape_matchesRegex() {
+        assertMatchesRegex(DateTime.VALIDATION_REGEX, ValidationUtil::isDateTimeShape);
+        assertMatchesRegex(DateTime.VALIDATION_REGEX, DateTime::isValidFormat);
+    }
+
+    @Test
+    public void parseAmount() {
+        assertEquals(1, ValidationUtil.parseAmount("0001"));
+        assertEquals(1250000, ValidationUtil.parseAmount("1,250,000"));
+        assertEquals(Long.MAX_VALUE, ValidationUtil.parseAmount("9223372036854775807"));
+        assertThrows(NumberFormatException.class, () -> ValidationUtil.parseAmount("9223372036854775808"));
+    }
+
+    @Test
+    public void parseDateTime_sameAsDateTimeFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+        for (String date : Arrays.asList("0000-01-01", "0001-01-01", "2023-02-28", "2023-02-29", "2024-02-29",
+                "2024-02-30", "2024-04-31", "2024-12-31", "2024-01-32", "2024-00-10", "2024-13-10", "2024-06-00",
+                "1900-02-29", "2000-02-30", "9999-12-31")) {
+            for (String time : Arrays.asList("00:00", "09:05", "23:59", "24:00", "24:01", "23:60", "25:00")) {
+                String test = date + " " + time;
+                Optional<LocalDateTime> expected;
+                try {
+                    expected = Optional.of(LocalDateTime.parse(test, formatter));
+                } catch (DateTimeParseException e) {
+                    expected = Optional.empty();
+                }
+                assertEquals(expected, ValidationUtil.parseDateTime(test), test);
+            }
+        }
+
+        // not in the format
+        assertEquals(Optional.empty(), ValidationUtil.parseDateTime("2024-10-01"));
+        assertEquals(Optional.empty(), ValidationUtil.parseDateTime("20245-10-01 10:00"));
+    }
+
+    @Test
+    public void nullTest_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAmount(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.parseDateTime(null));
+    }
+
+    private void assertMatchesRegex(String regex, Predicate<String> scanner) {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches(regex), scanner.test(sample), () -> "\"" + sample + "\" against " + regex);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.BUDGET_DESC_AMY;
@@ -9,19 +10,30 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.buyer.TypicalBuyers.AMY;
+import static seedu.address.testutil.buyer.TypicalBuyers.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.buyer.AddCommand;
 import seedu.address.logic.commands.buyer.ViewCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserMode;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -34,6 +46,7 @@ import seedu.address.storage.buyer.JsonBuyerListStorage;
 import seedu.address.storage.meetup.JsonMeetUpListStorage;
 import seedu.address.storage.property.JsonPropertyListStorage;
 import seedu.address.testutil.buyer.BuyerBuilder;
+import seedu.address.testutil.buyer.BuyerUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -89,6 +102,110 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_multipleLines_runAsOneBatchSavedOnce() throws Exception {
+        int[] saveCount = {0};
+        JsonBuyerListStorage buyerListStorage = new JsonBuyerListStorage(temporaryFolder.resolve("buyerList.json")) {
+            @Override
+            public void saveBuyerList(ReadOnlyBuyerList buyerList, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveBuyerList(buyerList, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(buyerListStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonMeetUpListStorage(temporaryFolder.resolve("meetUpList.json")),
+                new JsonPropertyListStorage(temporaryFolder.resolve("propertyList.json")));
+        logic = new LogicManager(model, storage);
+
+        CommandResult result = logic.execute(BuyerUtil.getAddBuyerCommand(AMY) + "\n"
+                + BuyerUtil.getAddBuyerCommand(BOB) + "\r\n" + ViewCommand.COMMAND_WORD);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 3 commands in "));
+        assertEquals(1, saveCount[0]);
+        assertEquals(List.of(AMY, BOB), storage.readBuyerList().get().getBuyerList());
+    }
+
+    @Test
+    public void execute_multipleLinesWithFailure_noneApplied() {
+        String failingBatch = BuyerUtil.getAddBuyerCommand(AMY) + "\ndelete 9";
+        assertCommandException(failingBatch, String.format(BatchCommand.MESSAGE_FAILED, 2, 2, "delete 9",
+                MESSAGE_INVALID_BUYER_DISPLAYED_INDEX));
+    }
+
+    @Test
+    public void execute_undoAfterBatch_undoesWholeBatch() throws Exception {
+        logic.execute(BuyerUtil.getAddBuyerCommand(AMY) + "\n" + BuyerUtil.getAddBuyerCommand(BOB));
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_switchInOneSession_otherSessionsKeepTheirMode() throws Exception {
+        Session apiSession = new Session();
+        logic.execute("switch m", apiSession);
+
+        assertEquals(ParserMode.MEETUP, apiSession.getMode());
+        assertEquals(ParserMode.BUYER, logic.getSession().getMode());
+        assertCommandSuccess(BuyerUtil.getAddBuyerCommand(AMY), String.format(AddCommand.MESSAGE_SUCCESS,
+                Messages.format(AMY)), model);
+        assertEquals(List.of("switch m"), apiSession.getHistory());
+        assertEquals(List.of(BuyerUtil.getAddBuyerCommand(AMY)), logic.getSession().getHistory());
+    }
+
+    @Test
+    public void parse_doesNotChangeModel() throws Exception {
+        Session session = new Session();
+        Command command = logic.parse(BuyerUtil.getAddBuyerCommand(AMY), session);
+
+        assertTrue(command instanceof AddCommand);
+        assertEquals(List.of(BuyerUtil.getAddBuyerCommand(AMY)), session.getHistory());
+        assertEquals(new ModelManager(), model);
+
+        logic.execute(command, session);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addBuyer(AMY);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void parse_invalidCommand_throwsParseException() {
+        Session session = new Session();
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> logic.parse("uicfhmowqewca", session));
+        assertEquals(List.of("uicfhmowqewca"), session.getHistory());
+    }
+
+    @Test
+    public void execute_sessionsOnSeveralThreads_allCommandsApplied() throws Exception {
+        int threadCount = 4;
+        int buyersPerThread = 25;
+        ExecutorService threads = Executors.newFixedThreadPool(threadCount);
+        List<Future<Session>> sessions = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int thread = t;
+            sessions.add(threads.submit(() -> {
+                Session session = new Session();
+                for (int i = 0; i < buyersPerThread; i++) {
+                    Buyer buyer = new BuyerBuilder().withName("Buyer " + thread + " " + i)
+                            .withPhone(String.valueOf(1000 * (thread + 1) + i))
+                            .withEmail("buyer" + thread + "x" + i + "@example.com").build();
+                    logic.execute("switch m", session);
+                    logic.execute("switch b", session);
+                    logic.execute(BuyerUtil.getAddBuyerCommand(buyer), session);
+                }
+                return session;
+            }));
+        }
+        threads.shutdown();
+        assertTrue(threads.awaitTermination(1, TimeUnit.MINUTES));
+
+        for (Future<Session> session : sessions) {
+            assertEquals(ParserMode.BUYER, session.get().getMode());
+            assertEquals(3 * buyersPerThread, session.get().getHistory().size());
+        }
+        assertEquals(threadCount * buyersPerThread, model.getBuyerList().getBuyerList().size());
+    }
+
     @Test
     public void getFilteredBuyerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredBuyerList().remove(0));
@@ -0,0 +1,44 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.ParserMode;
+
+public class SessionTest {
+
+    private final Session session = new Session();
+
+    @Test
+    public void getMode_newSession_buyerMode() {
+        assertEquals(ParserMode.BUYER, session.getMode());
+    }
+
+    @Test
+    public void switchMode_validMode_switched() throws Exception {
+        session.switchMode(ParserMode.PROPERTY);
+        assertEquals(ParserMode.PROPERTY, session.getMode());
+        assertEquals(ParserMode.BUYER, new Session().getMode());
+    }
+
+    @Test
+    public void switchMode_nullInput_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> session.switchMode(null));
+    }
+
+    @Test
+    public void addToHistory_pastCapacity_oldestForgotten() {
+        for (int i = 0; i <= Session.HISTORY_CAPACITY; i++) {
+            session.addToHistory("view " + i);
+        }
+
+        List<String> history = session.getHistory();
+        assertEquals(Session.HISTORY_CAPACITY, history.size());
+        assertEquals("view 1", history.get(0));
+        assertEquals("view " + Session.HISTORY_CAPACITY, history.get(history.size() - 1));
+    }
+}
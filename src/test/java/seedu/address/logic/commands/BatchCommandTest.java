@@ -0,0 +1,127 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.buyer.TypicalBuyers.AMY;
+import static seedu.address.testutil.buyer.TypicalBuyers.BOB;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.Session;
+import seedu.address.logic.commands.buyer.AddCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserMode;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.buyer.BuyerUtil;
+
+/**
+ * Contains integration tests (interaction with the Model and the parser) for {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+
+    private final Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+    private final Model expectedModel = new ModelManager(getTypicalBuyerList(), new UserPrefs(),
+            getTypicalMeetUpList(), getTypicalPropertyList());
+
+    private final Session session = new Session();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchCommand(null));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_allApplied() throws Exception {
+        String addAmy = BuyerUtil.getAddBuyerCommand(AMY).trim();
+        String addBob = BuyerUtil.getAddBuyerCommand(BOB).trim();
+
+        CommandResult result = new BatchCommand(List.of(addAmy, "# a comment", "", addBob)).execute(model);
+
+        expectedModel.addBuyer(AMY);
+        expectedModel.addBuyer(BOB);
+        assertEquals(expectedModel, model);
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith("Ran 2 commands in "));
+        assertTrue(feedback.endsWith(String.format(BatchCommand.MESSAGE_COMMAND_RESULT, 1, addAmy,
+                String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)))
+                + String.format(BatchCommand.MESSAGE_COMMAND_RESULT, 2, addBob,
+                String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(BOB)))));
+    }
+
+    @Test
+    public void execute_lastCommandSwitchesMode_showsListOfMode() throws Exception {
+        CommandResult result = new BatchCommand(List.of("view", "switch p")).execute(model, session);
+
+        assertTrue(result.isShowPropertyList());
+        assertFalse(result.isShowBuyerList());
+        assertEquals(ParserMode.PROPERTY, session.getMode());
+    }
+
+    @Test
+    public void execute_commandFails_noneApplied() {
+        String addAmy = BuyerUtil.getAddBuyerCommand(AMY).trim();
+        BatchCommand batchCommand = new BatchCommand(List.of(addAmy, "delete 99"));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_FAILED, 2, 2, "delete 99",
+                MESSAGE_INVALID_BUYER_DISPLAYED_INDEX));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_commandFailsAfterModeSwitch_modeRestored() throws Exception {
+        session.switchMode(ParserMode.PROPERTY);
+        BatchCommand batchCommand = new BatchCommand(List.of("switch m", "unknownCommand"));
+
+        assertThrows(CommandException.class, String.format(BatchCommand.MESSAGE_FAILED, 2, 2, "unknownCommand",
+                MESSAGE_UNKNOWN_COMMAND), () -> batchCommand.execute(model, session));
+        assertEquals(ParserMode.PROPERTY, session.getMode());
+    }
+
+    @Test
+    public void execute_nestedRun_throwsCommandException() {
+        BatchCommand batchCommand = new BatchCommand(List.of("view", "run script.txt"));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_FAILED, 2, 2, "run script.txt",
+                BatchCommand.MESSAGE_NESTED_RUN));
+    }
+
+    @Test
+    public void execute_noCommands_throwsCommandException() {
+        assertCommandFailure(new BatchCommand(List.of(" ", "# only a comment")), model,
+                BatchCommand.MESSAGE_NO_COMMANDS);
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand viewCommands = new BatchCommand(List.of("view", "view"));
+
+        // same object -> returns true
+        assertTrue(viewCommands.equals(viewCommands));
+
+        // same commands, ignoring blank lines, comments and surrounding spaces -> returns true
+        assertTrue(viewCommands.equals(new BatchCommand(List.of(" view", "", "# comment", "view "))));
+
+        // different types -> returns false
+        assertFalse(viewCommands.equals(1));
+
+        // null -> returns false
+        assertFalse(viewCommands.equals(null));
+
+        // different commands -> returns false
+        assertFalse(viewCommands.equals(new BatchCommand(List.of("view"))));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.buyer.TypicalBuyers.ALICE;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.property.TypicalProperties;
+
+public class LookupCommandTest {
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+    private Model expectedModel = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_phone_buyersAndLandlordsFound() {
+        String expectedMessage = String.format(LookupCommand.MESSAGE_CONTACTS_FOUND, 2, "9435 1253")
+                + "\n" + LookupCommand.BUYER_LABEL + Messages.format(ALICE)
+                + "\n" + LookupCommand.LANDLORD_LABEL + Messages.format(TypicalProperties.ALICE);
+        assertCommandSuccess(new LookupCommand("9435 1253"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_email_buyersFound() {
+        String expectedMessage = String.format(LookupCommand.MESSAGE_CONTACTS_FOUND, 1, "Alice@Example.com")
+                + "\n" + LookupCommand.BUYER_LABEL + Messages.format(ALICE);
+        assertCommandSuccess(new LookupCommand("Alice@Example.com"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownContact_noContactsFound() {
+        String expectedMessage = String.format(LookupCommand.MESSAGE_NO_CONTACTS_FOUND, "12345678");
+        assertCommandSuccess(new LookupCommand("12345678"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        LookupCommand lookupFirstCommand = new LookupCommand("94351253");
+        LookupCommand lookupSecondCommand = new LookupCommand("alice@example.com");
+
+        // same object -> returns true
+        assertTrue(lookupFirstCommand.equals(lookupFirstCommand));
+
+        // same values -> returns true
+        assertTrue(lookupFirstCommand.equals(new LookupCommand("94351253")));
+
+        // different types -> returns false
+        assertFalse(lookupFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(lookupFirstCommand.equals(null));
+
+        // different contact -> returns false
+        assertFalse(lookupFirstCommand.equals(lookupSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        LookupCommand lookupCommand = new LookupCommand("94351253");
+        String expected = LookupCommand.class.getCanonicalName() + "{contact=94351253}";
+        assertEquals(expected, lookupCommand.toString());
+    }
+}
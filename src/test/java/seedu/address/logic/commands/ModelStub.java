@@ -1,18 +1,34 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyBuyerList;
 import seedu.address.model.ReadOnlyMeetUpList;
 import seedu.address.model.ReadOnlyPropertyList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.index.FuzzyQuery;
+import seedu.address.model.index.IntervalIndex;
+import seedu.address.model.index.TimeSlot;
+import seedu.address.model.match.Match;
+import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.property.Address;
 import seedu.address.model.property.Property;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -73,6 +89,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void replaceBuyers(Map<Buyer, Buyer> replacements) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteBuyers(Collection<Buyer> targets) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setBuyer(Buyer target, Buyer editedBuyer) {
         throw new AssertionError("This method should not be called.");
@@ -93,6 +119,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredBuyerList(Predicate<Buyer> predicate, Comparator<Buyer> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Path getMeetUpListFilePath() {
         throw new AssertionError("This method should not be called.");
@@ -128,6 +159,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addMeetUps(List<MeetUp> meetUps) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setMeetUp(MeetUp target, MeetUp editedMeetUp) {
         throw new AssertionError("This method should not be called.");
@@ -138,11 +174,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void replaceMeetUps(Map<MeetUp, MeetUp> replacements) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteMeetUps(Collection<MeetUp> targets) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredMeetUpList(Predicate<MeetUp> meetUp) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredMeetUpList(Predicate<MeetUp> predicate, Comparator<MeetUp> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasMeetUp(MeetUp meetUp) {
         throw new AssertionError("This method should not be called.");
@@ -183,6 +234,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void replaceProperties(Map<Property, Property> replacements) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteProperties(Collection<Property> targets) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setProperty(Property property, Property editedProperty) {
         throw new AssertionError("This method should not be called.");
@@ -202,4 +263,155 @@ public class ModelStub implements Model {
     public void updateFilteredPropertyList(Predicate<Property> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void updateFilteredPropertyList(Predicate<Property> predicate, Comparator<Property> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Match> getNewMatchList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void clearNewMatches() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<Buyer, Integer> findBuyersByNameFuzzy(FuzzyQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<MeetUp, Integer> findMeetUpsByAddedBuyerFuzzy(FuzzyQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<MeetUp> findMeetUpsStartingBetween(LocalDateTime start, LocalDateTime end) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<MeetUp> findMeetUpsOverlappingFor(AddedBuyer buyer, LocalDateTime start, LocalDateTime end) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<IntervalIndex.Overlap<MeetUp>> findDoubleBookings() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<MeetUp> findUpcomingMeetUpsAt(Address property, LocalDateTime now) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<TimeSlot> findFreeSlots(Collection<AddedBuyer> buyers, LocalDateTime start, LocalDateTime end,
+            Duration duration, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<Property, Integer> findPropertiesByLandlordNameFuzzy(FuzzyQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Buyer> findBuyersByTags(TagFilter filter) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Buyer> findBuyersByPhone(String phone) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Buyer> findBuyersByEmail(String email) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Property> findPropertiesByLandlordPhone(String phone) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Buyer> findBuyersByName(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<MeetUp> findMeetUpsBySubject(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Property> findPropertiesByLandlordName(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Property> findPropertiesByAddress(Collection<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Property> findPropertiesByAddressFragment(String fragment) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Property> findPropertyByAddress(Address address) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void startTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
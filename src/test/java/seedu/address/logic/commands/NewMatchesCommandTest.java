@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.buyer.TypicalBuyers.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.match.Match;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.property.PropertyBuilder;
+
+public class NewMatchesCommandTest {
+
+    @Test
+    public void execute_noNewMatches_success() {
+        Model model = new ModelManager();
+        assertCommandSuccess(new NewMatchesCommand(), model, NewMatchesCommand.MESSAGE_NO_NEW_MATCHES,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_newMatches_listedAndCleared() {
+        Model model = new ModelManager();
+        model.addBuyer(ALICE);
+        Property property = new PropertyBuilder().withAskingPrice("800000").build();
+        model.addProperty(property);
+        Match match = model.getNewMatchList().get(0);
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addBuyer(ALICE);
+        expectedModel.addProperty(property);
+        expectedModel.clearNewMatches();
+
+        String expectedMessage = String.format(NewMatchesCommand.MESSAGE_NEW_MATCHES, 1)
+                + "\n1. " + ALICE.getName() + " - " + property.getAddress()
+                + " (" + match.getScorePercentage() + "%)";
+        assertCommandSuccess(new NewMatchesCommand(), model, expectedMessage, expectedModel);
+        assertTrue(model.getNewMatchList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        NewMatchesCommand command = new NewMatchesCommand();
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new NewMatchesCommand()));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
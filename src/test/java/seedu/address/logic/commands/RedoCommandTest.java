@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.buyer.TypicalBuyers.ALICE;
+import static seedu.address.testutil.buyer.TypicalBuyers.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class RedoCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        model.addBuyer(ALICE);
+        model.commitVersion();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_changeUndone_redoesIt() {
+        model.addBuyer(ALICE);
+        model.commitVersion();
+        model.undo();
+        expectedModel.addBuyer(ALICE);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_changeMadeAfterUndo_throwsCommandException() {
+        model.addBuyer(ALICE);
+        model.commitVersion();
+        model.undo();
+        model.addBuyer(BENSON);
+        model.commitVersion();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand();
+
+        assertTrue(redoCommand.equals(redoCommand));
+        assertTrue(redoCommand.equals(new RedoCommand()));
+        assertFalse(redoCommand.equals(null));
+        assertFalse(redoCommand.equals(new UndoCommand()));
+    }
+}
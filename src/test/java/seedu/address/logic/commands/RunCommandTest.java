@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.buyer.TypicalBuyers.AMY;
+import static seedu.address.testutil.buyer.TypicalBuyers.BOB;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.buyer.BuyerUtil;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) for {@code RunCommand}.
+ */
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null));
+    }
+
+    @Test
+    public void execute_fileOfCommands_allApplied() throws Exception {
+        Path file = testFolder.resolve("script.txt");
+        Files.write(file, List.of(SwitchParserModeCommand.COMMAND_WORD + " b", BuyerUtil.getAddBuyerCommand(AMY),
+                BuyerUtil.getAddBuyerCommand(BOB)), StandardCharsets.UTF_8);
+
+        String feedback = new RunCommand(file).execute(model).getFeedbackToUser();
+
+        Model expectedModel = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+                getTypicalPropertyList());
+        expectedModel.addBuyer(AMY);
+        expectedModel.addBuyer(BOB);
+        assertEquals(expectedModel, model);
+        assertTrue(feedback.startsWith("Ran 3 commands in "));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(file), model, String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirst = new RunCommand(Paths.get("first.txt"));
+
+        // same object -> returns true
+        assertTrue(runFirst.equals(runFirst));
+
+        // same values -> returns true
+        assertTrue(runFirst.equals(new RunCommand(Paths.get("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(runFirst.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirst.equals(null));
+
+        // different file -> returns false
+        assertFalse(runFirst.equals(new RunCommand(Paths.get("second.txt"))));
+    }
+}
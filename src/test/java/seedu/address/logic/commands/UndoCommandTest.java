@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.buyer.TypicalBuyers.ALICE;
+import static seedu.address.testutil.buyer.TypicalBuyers.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class UndoCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noChange_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_changesMade_undoesLastChange() {
+        model.addBuyer(ALICE);
+        model.commitVersion();
+        model.addBuyer(BENSON);
+        model.commitVersion();
+        expectedModel.addBuyer(ALICE);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        expectedModel.deleteBuyer(ALICE);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoCommand = new UndoCommand();
+
+        assertTrue(undoCommand.equals(undoCommand));
+        assertTrue(undoCommand.equals(new UndoCommand()));
+        assertFalse(undoCommand.equals(null));
+        assertFalse(undoCommand.equals(new RedoCommand()));
+    }
+}
@@ -9,6 +9,9 @@ import static seedu.address.testutil.buyer.TypicalBuyers.ALICE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +22,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.BuyerList;
 import seedu.address.model.ReadOnlyBuyerList;
 import seedu.address.model.buyer.Buyer;
+import seedu.address.model.buyer.Email;
+import seedu.address.model.buyer.Phone;
 import seedu.address.testutil.buyer.BuyerBuilder;
 
 public class AddCommandTest {
@@ -50,6 +55,26 @@ public class AddCommandTest {
                 AddCommand.MESSAGE_DUPLICATE_BUYER, () -> addCommand.execute(modelStub));
     }
 
+    @Test
+    public void execute_duplicatePhone_throwsCommandException() {
+        ModelStubAcceptingBuyerAdded modelStub = new ModelStubAcceptingBuyerAdded();
+        modelStub.addBuyer(ALICE);
+        Buyer samePhone = new BuyerBuilder().withName("Bob").withPhone(ALICE.getPhone().value).build();
+
+        assertThrows(CommandException.class, String.format(AddCommand.MESSAGE_DUPLICATE_PHONE, ALICE.getName()), ()
+                -> new AddCommand(samePhone).execute(modelStub));
+    }
+
+    @Test
+    public void execute_duplicateEmail_throwsCommandException() {
+        ModelStubAcceptingBuyerAdded modelStub = new ModelStubAcceptingBuyerAdded();
+        modelStub.addBuyer(ALICE);
+        Buyer sameEmail = new BuyerBuilder().withName("Bob").withEmail(ALICE.getEmail().value.toUpperCase()).build();
+
+        assertThrows(CommandException.class, String.format(AddCommand.MESSAGE_DUPLICATE_EMAIL, ALICE.getName()), ()
+                -> new AddCommand(sameEmail).execute(modelStub));
+    }
+
     @Test
     public void equals() {
         Buyer alice = new BuyerBuilder().withName("Alice").build();
@@ -117,6 +142,24 @@ public class AddCommandTest {
             buyersAdded.add(buyer);
         }
 
+        @Override
+        public Set<Buyer> findBuyersByPhone(String phone) {
+            Set<Buyer> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            buyersAdded.stream()
+                    .filter(buyer -> Phone.toLookupKey(buyer.getPhone().value).equals(Phone.toLookupKey(phone)))
+                    .forEach(matches::add);
+            return matches;
+        }
+
+        @Override
+        public Set<Buyer> findBuyersByEmail(String email) {
+            Set<Buyer> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            buyersAdded.stream()
+                    .filter(buyer -> Email.toLookupKey(buyer.getEmail().value).equals(Email.toLookupKey(email)))
+                    .forEach(matches::add);
+            return matches;
+        }
+
         @Override
         public ReadOnlyBuyerList getBuyerList() {
             return new BuyerList();
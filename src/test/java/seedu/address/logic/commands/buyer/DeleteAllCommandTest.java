@@ -0,0 +1,104 @@
+package seedu.address.logic.commands.buyer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showBuyerAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.buyer.Buyer;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code DeleteAllCommand}.
+ */
+public class DeleteAllCommandTest {
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        List<Buyer> buyersToDelete = model.getFilteredBuyerList().subList(1, 3);
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(IndexRange.between(INDEX_SECOND, INDEX_THIRD));
+
+        String expectedMessage = String.format(DeleteAllCommand.MESSAGE_DELETE_BUYERS_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        expectedModel.deleteBuyers(buyersToDelete);
+
+        assertCommandSuccess(deleteAllCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allShownFilteredList_success() {
+        showBuyerAtIndex(model, INDEX_FIRST);
+        List<Buyer> buyersToDelete = List.copyOf(model.getFilteredBuyerList());
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(IndexRange.all());
+
+        String expectedMessage = String.format(DeleteAllCommand.MESSAGE_DELETE_BUYERS_SUCCESS, 1);
+
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        showBuyerAtIndex(expectedModel, INDEX_FIRST);
+        expectedModel.deleteBuyers(buyersToDelete);
+
+        assertCommandSuccess(deleteAllCommand, model, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredBuyerList().isEmpty());
+    }
+
+    @Test
+    public void execute_rangePastDisplayedList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredBuyerList().size() + 1);
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(IndexRange.between(INDEX_FIRST, outOfBoundIndex));
+
+        assertCommandFailure(deleteAllCommand, model, Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        DeleteAllCommand deleteFirstCommand = new DeleteAllCommand(IndexRange.of(INDEX_FIRST));
+        DeleteAllCommand deleteAllShownCommand = new DeleteAllCommand(IndexRange.all());
+
+        // same object -> returns true
+        assertTrue(deleteFirstCommand.equals(deleteFirstCommand));
+
+        // same values -> returns true
+        assertTrue(deleteFirstCommand.equals(new DeleteAllCommand(IndexRange.between(INDEX_FIRST, INDEX_FIRST))));
+
+        // different types -> returns false
+        assertFalse(deleteFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(deleteFirstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(deleteFirstCommand.equals(deleteAllShownCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IndexRange targetRange = IndexRange.of(INDEX_FIRST);
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(targetRange);
+        String expected = DeleteAllCommand.class.getCanonicalName() + "{targetRange=" + targetRange + "}";
+        assertEquals(expected, deleteAllCommand.toString());
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.logic.commands.buyer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_BUDGET_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showBuyerAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.buyer.EditCommand.EditBuyerDescriptor;
+import seedu.address.model.BuyerList;
+import seedu.address.model.MeetUpList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PropertyList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.testutil.buyer.BuyerBuilder;
+import seedu.address.testutil.buyer.EditBuyerDescriptorBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for EditAllCommand.
+ */
+public class EditAllCommandTest {
+
+    private static final EditBuyerDescriptor RETAG = new EditBuyerDescriptorBuilder().withTags(VALID_TAG_HUSBAND)
+            .build();
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.between(INDEX_SECOND, INDEX_THIRD), RETAG);
+
+        Map<Buyer, Buyer> editedBuyers = new HashMap<>();
+        for (Buyer buyer : model.getFilteredBuyerList().subList(1, 3)) {
+            editedBuyers.put(buyer, new BuyerBuilder(buyer).withTags(VALID_TAG_HUSBAND).build());
+        }
+        String expectedMessage = String.format(EditAllCommand.MESSAGE_EDIT_BUYERS_SUCCESS, 2);
+
+        Model expectedModel = new ModelManager(new BuyerList(model.getBuyerList()), new UserPrefs(),
+                new MeetUpList(model.getMeetUpList()), new PropertyList(model.getPropertyList()));
+        expectedModel.replaceBuyers(editedBuyers);
+
+        assertCommandSuccess(editAllCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allShownFilteredList_success() {
+        showBuyerAtIndex(model, INDEX_FIRST);
+        Buyer buyerInFilteredList = model.getFilteredBuyerList().get(INDEX_FIRST.getZeroBased());
+        Buyer editedBuyer = new BuyerBuilder(buyerInFilteredList).withBudget(VALID_BUDGET_BOB).build();
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.all(),
+                new EditBuyerDescriptorBuilder().withBudget(VALID_BUDGET_BOB).build());
+
+        String expectedMessage = String.format(EditAllCommand.MESSAGE_EDIT_BUYERS_SUCCESS, 1);
+
+        Model expectedModel = new ModelManager(new BuyerList(model.getBuyerList()), new UserPrefs(),
+                new MeetUpList(model.getMeetUpList()), new PropertyList(model.getPropertyList()));
+        expectedModel.setBuyer(buyerInFilteredList, editedBuyer);
+
+        assertCommandSuccess(editAllCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_phoneForManyBuyers_failure() {
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.between(INDEX_SECOND, INDEX_THIRD),
+                new EditBuyerDescriptorBuilder().withPhone("91234567").build());
+
+        assertCommandFailure(editAllCommand, model, EditAllCommand.MESSAGE_CONTACTS_NOT_SHAREABLE);
+    }
+
+    @Test
+    public void execute_emailOfAnotherBuyer_failure() {
+        Buyer firstBuyer = model.getFilteredBuyerList().get(0);
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.between(INDEX_SECOND, INDEX_SECOND),
+                new EditBuyerDescriptorBuilder().withEmail(firstBuyer.getEmail().value).build());
+
+        assertCommandFailure(editAllCommand, model,
+                String.format(EditCommand.MESSAGE_DUPLICATE_EMAIL, firstBuyer.getName()));
+    }
+
+    @Test
+    public void execute_sharedContactsUntouched_success() {
+        // buyers saved before contacts were checked may share a phone number and email
+        Buyer husband = new BuyerBuilder().withName("Tan Ah Kow").withPhone("91234567")
+                .withEmail("tans@example.com").build();
+        Buyer wife = new BuyerBuilder().withName("Lim Mei Ling").withPhone("91234567")
+                .withEmail("tans@example.com").build();
+        BuyerList buyerList = new BuyerList();
+        buyerList.addBuyer(husband);
+        buyerList.addBuyer(wife);
+        Model sharedModel = new ModelManager(buyerList, new UserPrefs(), new MeetUpList(), new PropertyList());
+
+        Map<Buyer, Buyer> editedBuyers = new HashMap<>();
+        editedBuyers.put(husband, new BuyerBuilder(husband).withTags(VALID_TAG_HUSBAND).build());
+        editedBuyers.put(wife, new BuyerBuilder(wife).withTags(VALID_TAG_HUSBAND).build());
+        String expectedMessage = String.format(EditAllCommand.MESSAGE_EDIT_BUYERS_SUCCESS, 2);
+
+        Model expectedModel = new ModelManager(new BuyerList(buyerList), new UserPrefs(), new MeetUpList(),
+                new PropertyList());
+        expectedModel.replaceBuyers(editedBuyers);
+
+        assertCommandSuccess(new EditAllCommand(IndexRange.all(), RETAG), sharedModel, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_rangePastFilteredList_failure() {
+        showBuyerAtIndex(model, INDEX_FIRST);
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.between(INDEX_FIRST, INDEX_SECOND), RETAG);
+
+        assertCommandFailure(editAllCommand, model, Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        final EditAllCommand standardCommand = new EditAllCommand(IndexRange.all(), RETAG);
+
+        // same values -> returns true
+        EditBuyerDescriptor copyDescriptor = new EditBuyerDescriptor(RETAG);
+        assertTrue(standardCommand.equals(new EditAllCommand(IndexRange.all(), copyDescriptor)));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+
+        // different range -> returns false
+        assertFalse(standardCommand.equals(new EditAllCommand(IndexRange.of(Index.fromOneBased(1)), RETAG)));
+
+        // different descriptor -> returns false
+        assertFalse(standardCommand.equals(new EditAllCommand(IndexRange.all(),
+                new EditBuyerDescriptorBuilder().withBudget(VALID_BUDGET_BOB).build())));
+    }
+}
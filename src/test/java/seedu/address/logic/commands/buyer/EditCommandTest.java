@@ -121,6 +121,65 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_BUYER);
     }
 
+    @Test
+    public void execute_phoneOfAnotherBuyer_failure() {
+        Buyer secondBuyer = model.getFilteredBuyerList().get(INDEX_SECOND.getZeroBased());
+        EditCommand editCommand = new EditCommand(INDEX_FIRST,
+                new EditBuyerDescriptorBuilder().withPhone(secondBuyer.getPhone().value).build());
+
+        assertCommandFailure(editCommand, model,
+                String.format(EditCommand.MESSAGE_DUPLICATE_PHONE, secondBuyer.getName()));
+    }
+
+    @Test
+    public void execute_emailOfAnotherBuyer_failure() {
+        Buyer secondBuyer = model.getFilteredBuyerList().get(INDEX_SECOND.getZeroBased());
+        EditCommand editCommand = new EditCommand(INDEX_FIRST,
+                new EditBuyerDescriptorBuilder().withEmail(secondBuyer.getEmail().value).build());
+
+        assertCommandFailure(editCommand, model,
+                String.format(EditCommand.MESSAGE_DUPLICATE_EMAIL, secondBuyer.getName()));
+    }
+
+    @Test
+    public void execute_ownPhoneAndEmail_success() {
+        Buyer firstBuyer = model.getFilteredBuyerList().get(INDEX_FIRST.getZeroBased());
+        EditBuyerDescriptor descriptor = new EditBuyerDescriptorBuilder().withPhone(firstBuyer.getPhone().value)
+                .withEmail(firstBuyer.getEmail().value).withBudget("123").build();
+        Buyer editedBuyer = new BuyerBuilder(firstBuyer).withBudget("123").build();
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_BUYER_SUCCESS, Messages.format(editedBuyer));
+        Model expectedModel = new ModelManager(new BuyerList(model.getBuyerList()), new UserPrefs(),
+                new MeetUpList(model.getMeetUpList()), new PropertyList(model.getPropertyList()));
+        expectedModel.setBuyer(firstBuyer, editedBuyer);
+
+        assertCommandSuccess(new EditCommand(INDEX_FIRST, descriptor), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sharedContactsUntouched_success() {
+        // buyers saved before contacts were checked may share a phone number and email
+        Buyer husband = new BuyerBuilder().withName("Tan Ah Kow").withPhone("91234567")
+                .withEmail("tans@example.com").build();
+        Buyer wife = new BuyerBuilder().withName("Lim Mei Ling").withPhone("91234567")
+                .withEmail("tans@example.com").build();
+        BuyerList buyerList = new BuyerList();
+        buyerList.addBuyer(husband);
+        buyerList.addBuyer(wife);
+        Model sharedModel = new ModelManager(buyerList, new UserPrefs(), new MeetUpList(), new PropertyList());
+
+        EditBuyerDescriptor descriptor = new EditBuyerDescriptorBuilder().withBudget("600,000").build();
+        Buyer editedHusband = new BuyerBuilder(husband).withBudget("600,000").build();
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_BUYER_SUCCESS,
+                Messages.format(editedHusband));
+        Model expectedModel = new ModelManager(new BuyerList(buyerList), new UserPrefs(), new MeetUpList(),
+                new PropertyList());
+        expectedModel.setBuyer(husband, editedHusband);
+
+        assertCommandSuccess(new EditCommand(INDEX_FIRST, descriptor), sharedModel, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_duplicateBuyerFilteredList_failure() {
         showBuyerAtIndex(model, INDEX_FIRST);
@@ -0,0 +1,104 @@
+package seedu.address.logic.commands.buyer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_BUYERS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.buyer.TypicalBuyers.ALICE;
+import static seedu.address.testutil.buyer.TypicalBuyers.BENSON;
+import static seedu.address.testutil.buyer.TypicalBuyers.DANIEL;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+    private Model expectedModel = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void equals() {
+        TagFilter firstFilter = prepareFilter(Set.of(FRIENDS), Collections.emptySet());
+        TagFilter secondFilter = prepareFilter(Collections.emptySet(), Set.of(FRIENDS));
+
+        FilterCommand filterFirstCommand = new FilterCommand(firstFilter);
+        FilterCommand filterSecondCommand = new FilterCommand(secondFilter);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(prepareFilter(Set.of(FRIENDS),
+                Collections.emptySet()))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_presentTag_multipleBuyersFound() {
+        String expectedMessage = String.format(MESSAGE_BUYERS_LISTED_OVERVIEW, 3);
+        TagFilter filter = prepareFilter(Set.of(FRIENDS), Collections.emptySet());
+        expectedModel.updateFilteredBuyerList(buyer -> filter.test(buyer.getTags()));
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredBuyerList());
+    }
+
+    @Test
+    public void execute_presentAndAbsentTags_buyersFound() {
+        String expectedMessage = String.format(MESSAGE_BUYERS_LISTED_OVERVIEW, 2);
+        TagFilter filter = new TagFilter(List.of(new TagFilter.Clause(Set.of(FRIENDS), Collections.emptySet()),
+                new TagFilter.Clause(Collections.emptySet(), Set.of(OWES_MONEY))));
+        expectedModel.updateFilteredBuyerList(buyer -> filter.test(buyer.getTags()));
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredBuyerList());
+    }
+
+    @Test
+    public void execute_unknownTag_noBuyerFound() {
+        String expectedMessage = String.format(MESSAGE_BUYERS_LISTED_OVERVIEW, 0);
+        TagFilter filter = prepareFilter(Set.of(new Tag("unknown")), Collections.emptySet());
+        expectedModel.updateFilteredBuyerList(buyer -> false);
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredBuyerList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagFilter filter = prepareFilter(Set.of(FRIENDS), Collections.emptySet());
+        FilterCommand filterCommand = new FilterCommand(filter);
+        String expected = FilterCommand.class.getCanonicalName() + "{filter=" + filter + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+
+    private TagFilter prepareFilter(Set<Tag> present, Set<Tag> absent) {
+        return new TagFilter(List.of(new TagFilter.Clause(present, absent)));
+    }
+}
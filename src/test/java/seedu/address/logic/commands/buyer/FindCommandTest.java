@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_BUYERS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.buyer.TypicalBuyers.BENSON;
 import static seedu.address.testutil.buyer.TypicalBuyers.CARL;
+import static seedu.address.testutil.buyer.TypicalBuyers.DANIEL;
 import static seedu.address.testutil.buyer.TypicalBuyers.ELLE;
 import static seedu.address.testutil.buyer.TypicalBuyers.FIONA;
 import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
@@ -14,13 +16,17 @@ import static seedu.address.testutil.property.TypicalProperties.getTypicalProper
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.buyer.Buyer;
 import seedu.address.model.buyer.NameContainsKeywordsPredicate;
+import seedu.address.model.index.FuzzyQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -78,12 +84,35 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredBuyerList());
     }
 
+    @Test
+    public void execute_fuzzyQuery_buyersFoundClosestFirst() {
+        String expectedMessage = String.format(MESSAGE_BUYERS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommand(new FuzzyQuery(Collections.singletonList("Meyr"), 2));
+        List<Buyer> expectedBuyers = Arrays.asList(ELLE, BENSON, DANIEL);
+        expectedModel.updateFilteredBuyerList(expectedBuyers::contains, Comparator.comparing(expectedBuyers::indexOf));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedBuyers, model.getFilteredBuyerList());
+    }
+
+    @Test
+    public void equals_fuzzyQuery() {
+        FindCommand fuzzyCommand = new FindCommand(new FuzzyQuery(Collections.singletonList("Meyr"), 1));
+        assertTrue(fuzzyCommand.equals(new FindCommand(new FuzzyQuery(Collections.singletonList("Meyr"), 1))));
+        assertFalse(fuzzyCommand.equals(new FindCommand(new FuzzyQuery(Collections.singletonList("Meyr"), 2))));
+        assertFalse(fuzzyCommand.equals(new FindCommand(preparePredicate("Meyr"))));
+        assertFalse(new FindCommand(preparePredicate("Meyr")).equals(fuzzyCommand));
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
         String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
         assertEquals(expected, findCommand.toString());
+
+        FuzzyQuery fuzzyQuery = new FuzzyQuery(Arrays.asList("keyword"), 1);
+        expected = FindCommand.class.getCanonicalName() + "{fuzzyQuery=" + fuzzyQuery + "}";
+        assertEquals(expected, new FindCommand(fuzzyQuery).toString());
     }
 
     /**
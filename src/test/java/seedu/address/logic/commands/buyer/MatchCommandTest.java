@@ -0,0 +1,118 @@
+package seedu.address.logic.commands.buyer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.buyer.TypicalBuyers.ALICE;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.match.Match;
+import seedu.address.model.match.MatchScorer;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.property.TypicalProperties;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code MatchCommand}.
+ */
+public class MatchCommandTest {
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+    private Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+            model.getPropertyList());
+
+    @Test
+    public void execute_buyerWithMatches_success() {
+        Property property = TypicalProperties.ALICE;
+        Match match = new Match(ALICE, property, MatchScorer.score(ALICE, property));
+        String expectedMessage = String.format(MatchCommand.MESSAGE_MATCH_SUCCESS, 1, ALICE.getName())
+                + "\n1. " + match.getScorePercentage() + "% " + Messages.format(property);
+
+        assertCommandSuccess(new MatchCommand(INDEX_FIRST, 5), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_hugeCount_listsAllMatches() throws Exception {
+        Property property = TypicalProperties.ALICE;
+        Match match = new Match(ALICE, property, MatchScorer.score(ALICE, property));
+        String expectedMessage = String.format(MatchCommand.MESSAGE_MATCH_SUCCESS, 1, ALICE.getName())
+                + "\n1. " + match.getScorePercentage() + "% " + Messages.format(property);
+
+        assertCommandSuccess(new MatchCommand(INDEX_FIRST, Integer.MAX_VALUE), model, expectedMessage,
+                expectedModel);
+        assertCommandSuccess(new MatchCommand(null, Integer.MAX_VALUE), model,
+                new MatchCommand(null, 5).execute(model).getFeedbackToUser(), expectedModel);
+    }
+
+    @Test
+    public void execute_buyerWithoutMatches_success() {
+        Index bensonIndex = INDEX_SECOND;
+        String expectedMessage = String.format(MatchCommand.MESSAGE_NO_MATCHES,
+                model.getFilteredBuyerList().get(bensonIndex.getZeroBased()).getName());
+
+        assertCommandSuccess(new MatchCommand(bensonIndex, 5), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_all_listsEveryBuyer() {
+        model.updateFilteredBuyerList(buyer -> buyer.equals(ALICE));
+        expectedModel.updateFilteredBuyerList(buyer -> buyer.equals(ALICE));
+        Property property = TypicalProperties.ALICE;
+        Match match = new Match(ALICE, property, MatchScorer.score(ALICE, property));
+        String expectedMessage = String.format(MatchCommand.MESSAGE_MATCH_ALL_SUCCESS, 1)
+                + "\n" + ALICE.getName() + ": " + property.getAddress() + " (" + match.getScorePercentage() + "%)";
+
+        assertCommandSuccess(new MatchCommand(null, 5), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredBuyerList().size() + 1);
+
+        assertCommandFailure(new MatchCommand(outOfBoundIndex, 5), model,
+                Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        MatchCommand matchFirstCommand = new MatchCommand(INDEX_FIRST, 5);
+
+        // same object -> returns true
+        assertTrue(matchFirstCommand.equals(matchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(matchFirstCommand.equals(new MatchCommand(INDEX_FIRST, 5)));
+        assertTrue(new MatchCommand(null, 5).equals(new MatchCommand(null, 5)));
+
+        // different types -> returns false
+        assertFalse(matchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(matchFirstCommand.equals(null));
+
+        // different index, all buyers or limit -> returns false
+        assertFalse(matchFirstCommand.equals(new MatchCommand(INDEX_SECOND, 5)));
+        assertFalse(matchFirstCommand.equals(new MatchCommand(null, 5)));
+        assertFalse(matchFirstCommand.equals(new MatchCommand(INDEX_FIRST, 3)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        MatchCommand matchCommand = new MatchCommand(INDEX_FIRST, 5);
+        String expected = MatchCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_FIRST + ", limit=5}";
+        assertEquals(expected, matchCommand.toString());
+    }
+}
@@ -44,6 +44,13 @@ public class AddCommandIntegrationTest {
         assertCommandSuccess(new AddCommand(meetUp), model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    public void execute_viewingAtUnknownProperty_throwsCommandException() {
+        MeetUp meetUp = new MeetUpBuilder().withProperty("Nowhere Rd #01-01").build();
+        assertCommandFailure(new AddCommand(meetUp), model,
+                String.format(Messages.MESSAGE_UNKNOWN_PROPERTY, "Nowhere Rd #01-01"));
+    }
+
     @Test
     public void execute_duplicateMeetUp_throwsCommandException() {
         MeetUp meetUpInList = model.getMeetUpList().getMeetUpList().get(0);
@@ -7,8 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.meetup.TypicalMeetUps.FIRST_MEETUP;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +21,7 @@ import seedu.address.logic.commands.ModelStub;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.MeetUpList;
 import seedu.address.model.ReadOnlyMeetUpList;
+import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.MeetUp;
 import seedu.address.testutil.meetup.MeetUpBuilder;
 
@@ -40,6 +44,23 @@ public class AddCommandTest {
         assertEquals(Arrays.asList(validMeetUp), modelStub.meetUpsAdded);
     }
 
+    @Test
+    public void execute_buyerDoubleBooked_addSuccessfulWithWarning() throws Exception {
+        ModelStubAcceptingMeetUpAdded modelStub = new ModelStubAcceptingMeetUpAdded();
+        MeetUp firstMeetUp = new MeetUpBuilder().withAddedBuyers("David Li", "Alex Yeoh").build();
+        modelStub.addMeetUp(firstMeetUp);
+        MeetUp overlappingMeetUp = new MeetUpBuilder().withSubject("Site Visit")
+                .withFrom("2024-09-01 13:00").withTo("2024-09-01 15:00").withAddedBuyers("David Li").build();
+
+        CommandResult commandResult = new AddCommand(overlappingMeetUp).execute(modelStub);
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(overlappingMeetUp)) + "\n"
+                + String.format(ConflictsCommand.MESSAGE_DOUBLE_BOOKED, "David Li",
+                "Client Meeting (2024-09-01 12:00 to 2024-09-01 14:00)"),
+                commandResult.getFeedbackToUser());
+        assertEquals(Arrays.asList(firstMeetUp, overlappingMeetUp), modelStub.meetUpsAdded);
+    }
+
     @Test
     public void execute_duplicateMeetUp_throwsCommandException() {
         MeetUp validMeetUp = new MeetUpBuilder().build();
@@ -129,6 +150,15 @@ public class AddCommandTest {
             meetUpsAdded.add(meetUp);
         }
 
+        @Override
+        public List<MeetUp> findMeetUpsOverlappingFor(AddedBuyer buyer, LocalDateTime start, LocalDateTime end) {
+            return meetUpsAdded.stream()
+                    .filter(meetUp -> meetUp.getAddedBuyers().contains(buyer))
+                    .filter(meetUp -> meetUp.getFrom().getDateTime().isBefore(end)
+                            && meetUp.getTo().getDateTime().isAfter(start))
+                    .collect(Collectors.toList());
+        }
+
         @Override
         public ReadOnlyMeetUpList getMeetUpList() {
             return new MeetUpList();
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands.meetup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.FITH_MEETUP;
+import static seedu.address.testutil.meetup.TypicalMeetUps.SECOND_MEETUP;
+import static seedu.address.testutil.meetup.TypicalMeetUps.THIRD_MEETUP;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.testutil.meetup.MeetUpBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AgendaCommand}.
+ */
+public class AgendaCommandTest {
+
+    private static final LocalDateTime OCTOBER = LocalDateTime.of(2024, 10, 1, 0, 0);
+    private static final LocalDateTime NOVEMBER = LocalDateTime.of(2024, 11, 1, 0, 0);
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+    private Model expectedModel = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void constructor_endNotAfterStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AgendaCommand(OCTOBER, OCTOBER));
+    }
+
+    @Test
+    public void execute_range_meetUpsListedInTimeOrder() {
+        AgendaCommand command = new AgendaCommand(OCTOBER, NOVEMBER);
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_AGENDA_LISTED, 3,
+                "2024-10-01 00:00", "2024-11-01 00:00");
+        expectedModel.updateFilteredMeetUpList(meetUp -> meetUp == SECOND_MEETUP || meetUp == THIRD_MEETUP
+                || meetUp == FITH_MEETUP, Comparator.comparing(meetUp -> meetUp.getFrom().getDateTime()));
+        CommandResult expectedResult = new CommandResult(expectedMessage, false, false, true, false, false);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+        assertEquals(Arrays.asList(SECOND_MEETUP, THIRD_MEETUP, FITH_MEETUP), model.getFilteredMeetUpList());
+    }
+
+    @Test
+    public void execute_repeatingMeetUpStartedBeforeRange_listedByOccurrence() {
+        MeetUp weekly = new MeetUpBuilder().withSubject("Weekly catch up").withFrom("2025-01-01 09:00")
+                .withTo("2025-01-01 10:00").withRecurrence("weekly", "2025-03-31").build();
+        MeetUp oneOff = new MeetUpBuilder().withSubject("Viewing").withFrom("2025-02-03 10:00")
+                .withTo("2025-02-03 11:00").build();
+        model.addMeetUp(weekly);
+        model.addMeetUp(oneOff);
+
+        // the series started first, but its occurrence in the range is after the one-off meet-up
+        new AgendaCommand(LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 2, 8, 0, 0)).execute(model);
+        assertEquals(Arrays.asList(oneOff, weekly), model.getFilteredMeetUpList());
+    }
+
+    @Test
+    public void execute_emptyRange_noMeetUpFound() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        AgendaCommand command = new AgendaCommand(start, start.plusDays(1));
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_AGENDA_LISTED, 0,
+                "2025-01-01 00:00", "2025-01-02 00:00");
+        expectedModel.updateFilteredMeetUpList(unused -> false);
+        CommandResult expectedResult = new CommandResult(expectedMessage, false, false, true, false, false);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+        assertEquals(Arrays.<MeetUp>asList(), model.getFilteredMeetUpList());
+    }
+
+    @Test
+    public void equals() {
+        AgendaCommand octoberCommand = new AgendaCommand(OCTOBER, NOVEMBER);
+        AgendaCommand novemberCommand = new AgendaCommand(NOVEMBER, NOVEMBER.plusMonths(1));
+
+        // same object -> returns true
+        assertTrue(octoberCommand.equals(octoberCommand));
+
+        // same values -> returns true
+        assertTrue(octoberCommand.equals(new AgendaCommand(OCTOBER, NOVEMBER)));
+
+        // different types -> returns false
+        assertFalse(octoberCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(octoberCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(octoberCommand.equals(novemberCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AgendaCommand command = new AgendaCommand(OCTOBER, NOVEMBER);
+        String expected = AgendaCommand.class.getCanonicalName() + "{start=" + OCTOBER + ", end=" + NOVEMBER + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands.meetup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.FOURTH_MEETUP;
+import static seedu.address.testutil.meetup.TypicalMeetUps.SECOND_MEETUP;
+import static seedu.address.testutil.meetup.TypicalMeetUps.THIRD_MEETUP;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.testutil.meetup.MeetUpBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ConflictsCommand}.
+ */
+public class ConflictsCommandTest {
+
+    private static final MeetUp VIEWING = new MeetUpBuilder().withSubject("Viewing")
+            .withFrom("2024-10-01 10:00").withTo("2024-10-01 16:00").withAddedBuyers("Patrick", "Betty Ho").build();
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+    private Model expectedModel = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_noDoubleBookings_noneListed() {
+        expectedModel.updateFilteredMeetUpList(unused -> false);
+        CommandResult expectedResult = new CommandResult(ConflictsCommand.MESSAGE_NO_CONFLICTS,
+                false, false, true, false, false);
+        assertCommandSuccess(new ConflictsCommand(), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_doubleBookings_listedByBuyer() {
+        model.addMeetUp(VIEWING);
+        expectedModel.addMeetUp(VIEWING);
+        expectedModel.updateFilteredMeetUpList(meetUp -> meetUp == SECOND_MEETUP || meetUp == THIRD_MEETUP
+                || meetUp == VIEWING, Comparator.comparing(meetUp -> meetUp.getFrom().getDateTime()));
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_CONFLICTS_FOUND, 2)
+                + "\n1. Betty Ho: Viewing (2024-10-01 10:00 to 2024-10-01 16:00)"
+                + " and Sales Closure (2024-10-01 15:00 to 2024-10-01 17:00)"
+                + "\n2. Patrick: Contract Negotiation (2024-10-01 08:00 to 2024-10-01 11:00)"
+                + " and Viewing (2024-10-01 10:00 to 2024-10-01 16:00)";
+        CommandResult expectedResult = new CommandResult(expectedMessage, false, false, true, false, false);
+        assertCommandSuccess(new ConflictsCommand(), model, expectedResult, expectedModel);
+        assertEquals(Arrays.asList(SECOND_MEETUP, VIEWING, THIRD_MEETUP), model.getFilteredMeetUpList());
+    }
+
+    @Test
+    public void getDoubleBookingWarnings_replacedMeetUp_notCounted() {
+        model.addMeetUp(VIEWING);
+        MeetUp movedViewing = new MeetUpBuilder(VIEWING).withFrom("2024-10-01 11:00").build();
+
+        assertEquals("\n" + String.format(ConflictsCommand.MESSAGE_DOUBLE_BOOKED, "Betty Ho",
+                "Sales Closure (2024-10-01 15:00 to 2024-10-01 17:00)"),
+                ConflictsCommand.getDoubleBookingWarnings(model, movedViewing, VIEWING));
+        assertEquals("", ConflictsCommand.getDoubleBookingWarnings(model, FOURTH_MEETUP, FOURTH_MEETUP));
+    }
+
+    @Test
+    public void equals() {
+        ConflictsCommand command = new ConflictsCommand();
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ConflictsCommand()));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
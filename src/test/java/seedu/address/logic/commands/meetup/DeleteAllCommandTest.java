@@ -0,0 +1,92 @@
+package seedu.address.logic.commands.meetup;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showMeetUpAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meetup.MeetUp;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code DeleteAllCommand}.
+ */
+public class DeleteAllCommandTest {
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        List<MeetUp> meetUpsToDelete = List.copyOf(model.getFilteredMeetUpList().subList(0, 2));
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(IndexRange.between(INDEX_FIRST, INDEX_SECOND));
+
+        CommandResult expectedResult = new CommandResult(
+                String.format(DeleteAllCommand.MESSAGE_DELETE_MEETUPS_SUCCESS, 2), false, false, true, false, false);
+
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        expectedModel.deleteMeetUps(meetUpsToDelete);
+
+        assertCommandSuccess(deleteAllCommand, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_allShownFilteredList_success() {
+        showMeetUpAtIndex(model, INDEX_SECOND);
+        List<MeetUp> meetUpsToDelete = List.copyOf(model.getFilteredMeetUpList());
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(IndexRange.all());
+
+        CommandResult expectedResult = new CommandResult(
+                String.format(DeleteAllCommand.MESSAGE_DELETE_MEETUPS_SUCCESS, 1), false, false, true, false, false);
+
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        showMeetUpAtIndex(expectedModel, INDEX_SECOND);
+        expectedModel.deleteMeetUps(meetUpsToDelete);
+
+        assertCommandSuccess(deleteAllCommand, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_rangePastDisplayedList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredMeetUpList().size() + 1);
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(IndexRange.between(INDEX_SECOND, outOfBoundIndex));
+
+        assertCommandFailure(deleteAllCommand, model, Messages.MESSAGE_INVALID_MEETUP_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        DeleteAllCommand deleteFirstCommand = new DeleteAllCommand(IndexRange.of(INDEX_FIRST));
+
+        // same object -> returns true
+        assertTrue(deleteFirstCommand.equals(deleteFirstCommand));
+
+        // same values -> returns true
+        assertTrue(deleteFirstCommand.equals(new DeleteAllCommand(IndexRange.of(INDEX_FIRST))));
+
+        // null -> returns false
+        assertFalse(deleteFirstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(deleteFirstCommand.equals(new DeleteAllCommand(IndexRange.all())));
+    }
+}
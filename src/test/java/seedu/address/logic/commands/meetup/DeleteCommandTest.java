@@ -12,15 +12,19 @@ import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
 import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
 import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.MeetUpList;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.testutil.meetup.MeetUpBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -66,6 +70,55 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    public void execute_occurrenceOfRepeatingMeetUp_cancelsOccurrence() {
+        MeetUp series = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 10:00")
+                .withRecurrence("weekly", "2024-10-29").build();
+        MeetUpList meetUpList = new MeetUpList();
+        meetUpList.addMeetUp(series);
+        Model seriesModel = new ModelManager(model.getBuyerList(), new UserPrefs(), meetUpList,
+                model.getPropertyList());
+        LocalDate date = LocalDate.of(2024, 10, 15);
+
+        MeetUp remainingSeries = series.withoutOccurrenceOn(date);
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_CANCEL_OCCURRENCE_SUCCESS, date,
+                Messages.format(remainingSeries));
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), seriesModel.getMeetUpList(),
+                model.getPropertyList());
+        expectedModel.setMeetUp(series, remainingSeries);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, true, false, false);
+
+        assertCommandSuccess(new DeleteCommand(INDEX_FIRST, date), seriesModel, expectedCommandResult,
+                expectedModel);
+
+        // cancelled again or not on the rule -> no such occurrence
+        assertCommandFailure(new DeleteCommand(INDEX_FIRST, date), seriesModel,
+                String.format(EditCommand.MESSAGE_NO_OCCURRENCE, date));
+        assertCommandFailure(new DeleteCommand(INDEX_FIRST, LocalDate.of(2024, 10, 16)), seriesModel,
+                String.format(EditCommand.MESSAGE_NO_OCCURRENCE, LocalDate.of(2024, 10, 16)));
+    }
+
+    @Test
+    public void execute_lastOccurrence_throwsCommandException() {
+        MeetUp series = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 10:00")
+                .withRecurrence("weekly", "2024-10-08", "2024-10-01").build();
+        MeetUpList meetUpList = new MeetUpList();
+        meetUpList.addMeetUp(series);
+        Model seriesModel = new ModelManager(model.getBuyerList(), new UserPrefs(), meetUpList,
+                model.getPropertyList());
+
+        assertCommandFailure(new DeleteCommand(INDEX_FIRST, LocalDate.of(2024, 10, 8)), seriesModel,
+                DeleteCommand.MESSAGE_LAST_OCCURRENCE);
+    }
+
+    @Test
+    public void execute_occurrenceOfOneOffMeetUp_throwsCommandException() {
+        MeetUp meetUp = model.getFilteredMeetUpList().get(INDEX_FIRST.getZeroBased());
+        LocalDate date = meetUp.getFrom().getDateTime().toLocalDate();
+        assertCommandFailure(new DeleteCommand(INDEX_FIRST, date), model,
+                String.format(EditCommand.MESSAGE_NO_OCCURRENCE, date));
+    }
+
     @Test
     public void execute_invalidIndexFilteredList_throwsCommandException() {
         showMeetUpAtIndex(model, INDEX_FIRST);
@@ -105,7 +158,8 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex
+                + ", occurrenceDate=null}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -0,0 +1,121 @@
+package seedu.address.logic.commands.meetup;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MEETUP_INFO_NETWORKING;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MEETUP_INFO_PITCH;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showMeetUpAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.meetup.EditCommand.EditMeetUpDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.testutil.meetup.EditMeetUpDescriptorBuilder;
+import seedu.address.testutil.meetup.MeetUpBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for EditAllCommand.
+ */
+public class EditAllCommandTest {
+
+    private static final EditMeetUpDescriptor NEW_INFO =
+            new EditMeetUpDescriptorBuilder().withInfo(VALID_MEETUP_INFO_PITCH).build();
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.between(INDEX_FIRST, INDEX_SECOND), NEW_INFO);
+
+        CommandResult expectedResult = new CommandResult(
+                String.format(EditAllCommand.MESSAGE_EDIT_MEETUPS_SUCCESS, 2), false, false, true, false, false);
+
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        Map<MeetUp, MeetUp> editedMeetUps = new HashMap<>();
+        for (MeetUp meetUp : model.getFilteredMeetUpList().subList(0, 2)) {
+            editedMeetUps.put(meetUp, new MeetUpBuilder(meetUp).withInfo(VALID_MEETUP_INFO_PITCH).build());
+        }
+        expectedModel.replaceMeetUps(editedMeetUps);
+
+        assertCommandSuccess(editAllCommand, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_allShownFilteredList_success() {
+        showMeetUpAtIndex(model, INDEX_SECOND);
+        MeetUp meetUpInFilteredList = model.getFilteredMeetUpList().get(0);
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.all(), NEW_INFO);
+
+        CommandResult expectedResult = new CommandResult(
+                String.format(EditAllCommand.MESSAGE_EDIT_MEETUPS_SUCCESS, 1), false, false, true, false, false);
+
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        expectedModel.setMeetUp(meetUpInFilteredList,
+                new MeetUpBuilder(meetUpInFilteredList).withInfo(VALID_MEETUP_INFO_PITCH).build());
+
+        assertCommandSuccess(editAllCommand, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownProperty_failure() {
+        String address = "1 Nowhere Road";
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.all(),
+                new EditMeetUpDescriptorBuilder().withProperty(address).build());
+
+        assertCommandFailure(editAllCommand, model, String.format(Messages.MESSAGE_UNKNOWN_PROPERTY, address));
+    }
+
+    @Test
+    public void execute_rangePastFilteredList_failure() {
+        showMeetUpAtIndex(model, INDEX_FIRST);
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.between(INDEX_FIRST, INDEX_SECOND), NEW_INFO);
+
+        assertCommandFailure(editAllCommand, model, Messages.MESSAGE_INVALID_MEETUP_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        final EditAllCommand standardCommand = new EditAllCommand(IndexRange.of(INDEX_FIRST), NEW_INFO);
+
+        // same values -> returns true
+        EditMeetUpDescriptor copyDescriptor = new EditMeetUpDescriptor(NEW_INFO);
+        assertTrue(standardCommand.equals(new EditAllCommand(IndexRange.of(INDEX_FIRST), copyDescriptor)));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+
+        // different range -> returns false
+        assertFalse(standardCommand.equals(new EditAllCommand(
+                IndexRange.between(INDEX_FIRST, Index.fromOneBased(3)), NEW_INFO)));
+
+        // different descriptor -> returns false
+        assertFalse(standardCommand.equals(new EditAllCommand(IndexRange.of(INDEX_FIRST),
+                new EditMeetUpDescriptorBuilder().withInfo(VALID_MEETUP_INFO_NETWORKING).build())));
+    }
+}
@@ -16,6 +16,8 @@ import static seedu.address.testutil.meetup.TypicalMeetUps.FIRST_MEETUP;
 import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
 import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -30,6 +32,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.PropertyList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
 import seedu.address.testutil.meetup.EditMeetUpDescriptorBuilder;
 import seedu.address.testutil.meetup.MeetUpBuilder;
 
@@ -145,6 +148,31 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, Messages.MESSAGE_INVALID_MEETUP_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_propertySpecifiedUnfilteredList_linksProperty() {
+        MeetUp firstMeetUp = model.getFilteredMeetUpList().get(INDEX_FIRST.getZeroBased());
+        MeetUp editedMeetUp = new MeetUpBuilder(firstMeetUp).withProperty("Jurong West Blk 100 #05-01").build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST,
+                new EditMeetUpDescriptorBuilder().withProperty("Jurong West Blk 100 #05-01").build());
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_MEETUP_SUCCESS,
+                Messages.format(editedMeetUp));
+        Model expectedModel = new ModelManager(new BuyerList(model.getBuyerList()), new UserPrefs(),
+                new MeetUpList(model.getMeetUpList()), new PropertyList(model.getPropertyList()));
+        expectedModel.setMeetUp(firstMeetUp, editedMeetUp);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, true, false, false);
+
+        assertCommandSuccess(editCommand, model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownProperty_failure() {
+        EditCommand editCommand = new EditCommand(INDEX_FIRST,
+                new EditMeetUpDescriptorBuilder().withProperty("Nowhere Rd #01-01").build());
+
+        assertCommandFailure(editCommand, model, String.format(Messages.MESSAGE_UNKNOWN_PROPERTY, "Nowhere Rd #01-01"));
+    }
+
     @Test
     public void execute_invalidToFrom_failure() {
         EditMeetUpDescriptor descriptor = new EditMeetUpDescriptorBuilder(FIRST_MEETUP)
@@ -175,6 +203,56 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, Messages.MESSAGE_INVALID_MEETUP_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_occurrenceOfRepeatingMeetUp_detachesOccurrence() {
+        MeetUp series = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 10:00")
+                .withRecurrence("weekly", "2024-10-29").build();
+        MeetUpList meetUpList = new MeetUpList();
+        meetUpList.addMeetUp(series);
+        Model seriesModel = new ModelManager(model.getBuyerList(), new UserPrefs(), meetUpList,
+                model.getPropertyList());
+        LocalDate date = LocalDate.of(2024, 10, 15);
+
+        EditMeetUpDescriptor descriptor = new EditMeetUpDescriptorBuilder().withFrom("2024-10-15 13:00")
+                .withTo("2024-10-15 14:00").build();
+        MeetUp editedOccurrence = new MeetUpBuilder().withFrom("2024-10-15 13:00").withTo("2024-10-15 14:00")
+                .build();
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_OCCURRENCE_SUCCESS, date,
+                Messages.format(editedOccurrence));
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), seriesModel.getMeetUpList(),
+                model.getPropertyList());
+        expectedModel.setMeetUp(series, series.withoutOccurrenceOn(date));
+        expectedModel.addMeetUp(editedOccurrence);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false, true, false, false);
+
+        assertCommandSuccess(new EditCommand(INDEX_FIRST, descriptor, date), seriesModel, expectedCommandResult,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_occurrenceNotOnRule_failure() {
+        MeetUp series = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 10:00")
+                .withRecurrence("weekly", "2024-10-29").build();
+        MeetUpList meetUpList = new MeetUpList();
+        meetUpList.addMeetUp(series);
+        Model seriesModel = new ModelManager(model.getBuyerList(), new UserPrefs(), meetUpList,
+                model.getPropertyList());
+        LocalDate date = LocalDate.of(2024, 10, 16);
+        EditMeetUpDescriptor descriptor = new EditMeetUpDescriptorBuilder().withInfo(VALID_MEETUP_INFO_PITCH).build();
+
+        assertCommandFailure(new EditCommand(INDEX_FIRST, descriptor, date), seriesModel,
+                String.format(EditCommand.MESSAGE_NO_OCCURRENCE, date));
+    }
+
+    @Test
+    public void execute_recurrenceLongerThanFrequency_failure() {
+        EditMeetUpDescriptor descriptor = new EditMeetUpDescriptorBuilder().withRecurrence("daily", "2025-12-31")
+                .build();
+        // the fifth typical meet-up spans three days
+        assertCommandFailure(new EditCommand(Index.fromOneBased(5), descriptor), model,
+                Recurrence.MESSAGE_CONSTRAINTS_SERIES);
+    }
+
     @Test
     public void equals() {
         final EditCommand standardCommand = new EditCommand(INDEX_FIRST, DESC_PITCH_MEETUP);
@@ -206,7 +284,7 @@ public class EditCommandTest {
         EditMeetUpDescriptor editMeetUpDescriptor = new EditMeetUpDescriptor();
         EditCommand editCommand = new EditCommand(index, editMeetUpDescriptor);
         String expected = EditCommand.class.getCanonicalName() + "{index=" + index + ", editMeetUpDescriptor="
-                + editMeetUpDescriptor + "}";
+                + editMeetUpDescriptor + ", occurrenceDate=null}";
         assertEquals(expected, editCommand.toString());
     }
 }
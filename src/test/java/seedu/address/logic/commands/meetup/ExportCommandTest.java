@@ -0,0 +1,79 @@
+package seedu.address.logic.commands.meetup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUps;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_thenImport_sameMeetUps() throws Exception {
+        Path file = testFolder.resolve("calendar").resolve("meetups.ics");
+        CommandResult result = new ExportCommand(file).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, getTypicalMeetUps().size(), file),
+                result.getFeedbackToUser());
+
+        Model emptyModel = new ModelManager();
+        new ImportCommand(file).execute(emptyModel);
+        assertEquals(getTypicalMeetUps(), emptyModel.getMeetUpList().getMeetUpList());
+    }
+
+    @Test
+    public void execute_pathIsFolder_throwsCommandException() throws Exception {
+        Path folder = Files.createDirectory(testFolder.resolve("meetups.ics"));
+        assertThrows(CommandException.class, () -> new ExportCommand(folder).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(ExportCommand.DEFAULT_FILE);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(ExportCommand.DEFAULT_FILE)));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(testFolder)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportCommand command = new ExportCommand(ExportCommand.DEFAULT_FILE);
+        String expected = ExportCommand.class.getCanonicalName() + "{file=" + ExportCommand.DEFAULT_FILE + "}";
+        assertEquals(expected, command.toString());
+    }
+}
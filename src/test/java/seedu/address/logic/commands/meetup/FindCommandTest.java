@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_MEETUPS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
 import static seedu.address.testutil.meetup.TypicalMeetUps.FIRST_MEETUP;
+import static seedu.address.testutil.meetup.TypicalMeetUps.FITH_MEETUP;
 import static seedu.address.testutil.meetup.TypicalMeetUps.SECOND_MEETUP;
 import static seedu.address.testutil.meetup.TypicalMeetUps.THIRD_MEETUP;
 import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
@@ -14,6 +15,8 @@ import static seedu.address.testutil.property.TypicalProperties.getTypicalProper
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +24,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.index.FuzzyQuery;
+import seedu.address.model.meetup.MeetUp;
 import seedu.address.model.meetup.MeetUpContainsKeywordsPredicate;
 
 /**
@@ -83,6 +88,27 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(FIRST_MEETUP, SECOND_MEETUP, THIRD_MEETUP), model.getFilteredMeetUpList());
     }
 
+    @Test
+    public void execute_addedBuyerQuery_meetUpsFoundClosestFirst() {
+        String expectedMessage = String.format(MESSAGE_MEETUPS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand(new FuzzyQuery(Arrays.asList("Bety", "simon"), 1));
+        List<MeetUp> expectedMeetUps = Arrays.asList(FITH_MEETUP, THIRD_MEETUP);
+        expectedModel.updateFilteredMeetUpList(expectedMeetUps::contains,
+                Comparator.comparing(expectedMeetUps::indexOf));
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage, false, false,
+                true, false, false);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(expectedMeetUps, model.getFilteredMeetUpList());
+    }
+
+    @Test
+    public void equals_addedBuyerQuery() {
+        FindCommand addedBuyerCommand = new FindCommand(new FuzzyQuery(Collections.singletonList("Betty"), 0));
+        assertTrue(addedBuyerCommand.equals(new FindCommand(new FuzzyQuery(Collections.singletonList("Betty"), 0))));
+        assertFalse(addedBuyerCommand.equals(new FindCommand(new FuzzyQuery(Collections.singletonList("Betty"), 1))));
+        assertFalse(addedBuyerCommand.equals(new FindCommand(preparePredicate("Betty"))));
+    }
+
     @Test
     public void toStringMethod() {
         MeetUpContainsKeywordsPredicate predicate = new MeetUpContainsKeywordsPredicate(Arrays.asList("keyword"));
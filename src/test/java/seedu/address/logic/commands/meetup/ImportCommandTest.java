@@ -0,0 +1,131 @@
+package seedu.address.logic.commands.meetup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.FIRST_MEETUP;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.storage.meetup.IcsMeetUpFile;
+import seedu.address.testutil.meetup.MeetUpBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final String INVALID_EVENT = String.join("\r\n",
+            "BEGIN:VEVENT",
+            "SUMMARY:No buyers",
+            "DTSTART:20241001T090000",
+            "DTEND:20241001T100000",
+            "END:VEVENT");
+
+    @TempDir
+    public Path testFolder;
+
+    /** The line of the written calendar at which the extra events begin. */
+    private int extraEventsLine;
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+    private Model expectedModel = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_newDuplicateAndInvalidEvents_onlyNewImported() throws Exception {
+        MeetUp newMeetUp = new MeetUpBuilder().withSubject("Imported viewing").withFrom("2025-01-01 10:00")
+                .withTo("2025-01-01 11:00").build();
+        Path file = writeCalendar(List.of(FIRST_MEETUP, newMeetUp), INVALID_EVENT);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, file)
+                + String.format(ImportCommand.MESSAGE_DUPLICATES_SKIPPED, 1)
+                + String.format(ImportCommand.MESSAGE_INVALID_SKIPPED, 1)
+                + "\n" + String.format(IcsMeetUpFile.MESSAGE_INVALID_EVENT, extraEventsLine,
+                        IcsMeetUpFile.MESSAGE_NO_BUYER);
+        expectedModel.addMeetUp(newMeetUp);
+        assertCommandSuccess(new ImportCommand(file), model,
+                new CommandResult(expectedMessage, false, false, true, false, false), expectedModel);
+    }
+
+    @Test
+    public void execute_manyInvalidEvents_someDescribed() throws Exception {
+        Path file = writeCalendar(List.of(),
+                String.join("\r\n", Collections.nCopies(ImportCommand.MAX_INVALID_SHOWN + 1, INVALID_EVENT)));
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_INVALID_SKIPPED,
+                ImportCommand.MAX_INVALID_SHOWN + 1)));
+        assertEquals(ImportCommand.MAX_INVALID_SHOWN, feedback.split(IcsMeetUpFile.MESSAGE_NO_BUYER, -1).length - 1);
+        assertTrue(feedback.endsWith("\n..."));
+    }
+
+    @Test
+    public void execute_fileNotFound_failure() {
+        Path file = testFolder.resolve("missing.ics");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(ExportCommand.DEFAULT_FILE);
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(ExportCommand.DEFAULT_FILE)));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(testFolder)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand command = new ImportCommand(ExportCommand.DEFAULT_FILE);
+        String expected = ImportCommand.class.getCanonicalName() + "{file=" + ExportCommand.DEFAULT_FILE + "}";
+        assertEquals(expected, command.toString());
+    }
+
+    /**
+     * Writes {@code meetUps} followed by {@code extraEvents} as a calendar, returning the file written to.
+     */
+    private Path writeCalendar(List<MeetUp> meetUps, String extraEvents) throws IOException {
+        StringWriter writer = new StringWriter();
+        IcsMeetUpFile.write(writer, meetUps, Instant.EPOCH);
+        List<String> lines = new ArrayList<>(List.of(writer.toString().split("\r\n")));
+        extraEventsLine = lines.size();
+        lines.add(lines.size() - 1, extraEvents);
+        Path file = testFolder.resolve("import.ics");
+        Files.writeString(file, String.join("\r\n", lines));
+        return file;
+    }
+}
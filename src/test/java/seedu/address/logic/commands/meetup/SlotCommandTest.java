@@ -0,0 +1,117 @@
+package seedu.address.logic.commands.meetup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meetup.AddedBuyer;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SlotCommand}.
+ */
+public class SlotCommandTest {
+
+    private static final LocalDateTime FIRST_OCTOBER = LocalDateTime.of(2024, 10, 1, 0, 0);
+    private static final LocalDateTime SECOND_OCTOBER = LocalDateTime.of(2024, 10, 2, 0, 0);
+    private static final Set<AddedBuyer> PATRICK_AND_BETTY = Set.of(new AddedBuyer("Patrick"),
+            new AddedBuyer("Betty Ho"));
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+    private Model expectedModel = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SlotCommand(Set.of(), Duration.ofHours(1),
+                FIRST_OCTOBER, SECOND_OCTOBER, 3));
+        assertThrows(IllegalArgumentException.class, () -> new SlotCommand(PATRICK_AND_BETTY, Duration.ZERO,
+                FIRST_OCTOBER, SECOND_OCTOBER, 3));
+        assertThrows(IllegalArgumentException.class, () -> new SlotCommand(PATRICK_AND_BETTY, Duration.ofHours(1),
+                FIRST_OCTOBER, FIRST_OCTOBER, 3));
+        assertThrows(IllegalArgumentException.class, () -> new SlotCommand(PATRICK_AND_BETTY, Duration.ofHours(1),
+                FIRST_OCTOBER, SECOND_OCTOBER, 0));
+    }
+
+    @Test
+    public void execute_busyBuyers_earliestFreeSlotsListed() {
+        // Patrick meets from 08:00 to 11:00 and Betty Ho from 15:00 to 17:00 on 1 October
+        SlotCommand command = new SlotCommand(PATRICK_AND_BETTY, Duration.ofHours(4), FIRST_OCTOBER, SECOND_OCTOBER,
+                3);
+        String expectedMessage = String.format(SlotCommand.MESSAGE_SLOTS_FOUND, 240, "Betty Ho, Patrick")
+                + String.format(SlotCommand.MESSAGE_SLOT, 1, "2024-10-01 00:00", "2024-10-01 08:00")
+                + String.format(SlotCommand.MESSAGE_SLOT, 2, "2024-10-01 11:00", "2024-10-01 15:00")
+                + String.format(SlotCommand.MESSAGE_SLOT, 3, "2024-10-01 17:00", "2024-10-02 00:00");
+        CommandResult expectedResult = new CommandResult(expectedMessage, false, false, true, false, false);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_noLongEnoughSlot_noSlotsFound() {
+        SlotCommand command = new SlotCommand(PATRICK_AND_BETTY, Duration.ofHours(5),
+                FIRST_OCTOBER.plusHours(8), FIRST_OCTOBER.plusHours(17), 3);
+        String expectedMessage = String.format(SlotCommand.MESSAGE_NO_SLOTS, 300, "Betty Ho, Patrick",
+                "2024-10-01 08:00", "2024-10-01 17:00");
+        CommandResult expectedResult = new CommandResult(expectedMessage, false, false, true, false, false);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SlotCommand command = new SlotCommand(PATRICK_AND_BETTY, Duration.ofHours(1), FIRST_OCTOBER,
+                SECOND_OCTOBER, 3);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new SlotCommand(PATRICK_AND_BETTY, Duration.ofHours(1), FIRST_OCTOBER,
+                SECOND_OCTOBER, 3)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different buyers -> returns false
+        assertFalse(command.equals(new SlotCommand(Set.of(new AddedBuyer("Patrick")), Duration.ofHours(1),
+                FIRST_OCTOBER, SECOND_OCTOBER, 3)));
+
+        // different duration -> returns false
+        assertFalse(command.equals(new SlotCommand(PATRICK_AND_BETTY, Duration.ofHours(2), FIRST_OCTOBER,
+                SECOND_OCTOBER, 3)));
+
+        // different range -> returns false
+        assertFalse(command.equals(new SlotCommand(PATRICK_AND_BETTY, Duration.ofHours(1), FIRST_OCTOBER,
+                SECOND_OCTOBER.plusDays(1), 3)));
+
+        // different count -> returns false
+        assertFalse(command.equals(new SlotCommand(PATRICK_AND_BETTY, Duration.ofHours(1), FIRST_OCTOBER,
+                SECOND_OCTOBER, 1)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<AddedBuyer> buyers = Set.of(new AddedBuyer("Patrick"));
+        SlotCommand command = new SlotCommand(buyers, Duration.ofHours(1), FIRST_OCTOBER, SECOND_OCTOBER, 3);
+        String expected = SlotCommand.class.getCanonicalName() + "{buyers=" + buyers + ", duration="
+                + Duration.ofHours(1) + ", start=" + FIRST_OCTOBER + ", end=" + SECOND_OCTOBER + ", limit=3}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPropertyAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.PITCH_MEETUP;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.meetup.MeetUpBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code DeleteAllCommand}.
+ */
+public class DeleteAllCommandTest {
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        List<Property> propertiesToDelete = List.copyOf(model.getFilteredPropertyList().subList(0, 2));
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(IndexRange.between(INDEX_FIRST, INDEX_SECOND));
+
+        String expectedMessage = String.format(DeleteAllCommand.MESSAGE_DELETE_PROPERTIES_SUCCESS, 2);
+
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        expectedModel.deleteProperties(propertiesToDelete);
+
+        assertCommandSuccess(deleteAllCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allShownFilteredList_success() {
+        showPropertyAtIndex(model, INDEX_SECOND);
+        List<Property> propertiesToDelete = List.copyOf(model.getFilteredPropertyList());
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(IndexRange.all());
+
+        String expectedMessage = String.format(DeleteAllCommand.MESSAGE_DELETE_PROPERTIES_SUCCESS, 1);
+
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        showPropertyAtIndex(expectedModel, INDEX_SECOND);
+        expectedModel.deleteProperties(propertiesToDelete);
+
+        assertCommandSuccess(deleteAllCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_propertiesWithMeetUps_meetUpsKeptWithoutProperty() throws CommandException {
+        Property first = model.getFilteredPropertyList().get(INDEX_FIRST.getZeroBased());
+        Property second = model.getFilteredPropertyList().get(INDEX_SECOND.getZeroBased());
+        Property third = model.getFilteredPropertyList().get(INDEX_THIRD.getZeroBased());
+        MeetUp atFirst = new MeetUpBuilder().withProperty(first.getAddress().value).build();
+        MeetUp atSecond = new MeetUpBuilder(PITCH_MEETUP).withProperty(second.getAddress().value).build();
+        MeetUp atThird = new MeetUpBuilder().withSubject("Viewing").withFrom("2024-12-02 12:00")
+                .withTo("2024-12-02 13:00").withProperty(third.getAddress().value).build();
+        model.addMeetUp(atFirst);
+        model.addMeetUp(atSecond);
+        model.addMeetUp(atThird);
+
+        new DeleteAllCommand(IndexRange.between(INDEX_FIRST, INDEX_SECOND)).execute(model);
+
+        List<MeetUp> meetUps = model.getUnfilteredMeetUpList();
+        assertTrue(meetUps.contains(atFirst.withProperty(null)));
+        assertTrue(meetUps.contains(atSecond.withProperty(null)));
+        assertTrue(meetUps.contains(atThird));
+        assertEquals(Optional.of(third), model.findPropertyByAddress(third.getAddress()));
+        assertEquals(Optional.empty(), model.findPropertyByAddress(first.getAddress()));
+    }
+
+    @Test
+    public void execute_rangePastDisplayedList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPropertyList().size() + 1);
+        DeleteAllCommand deleteAllCommand = new DeleteAllCommand(IndexRange.between(INDEX_SECOND, outOfBoundIndex));
+
+        assertCommandFailure(deleteAllCommand, model, Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        DeleteAllCommand deleteFirstCommand = new DeleteAllCommand(IndexRange.of(INDEX_FIRST));
+
+        // same object -> returns true
+        assertTrue(deleteFirstCommand.equals(deleteFirstCommand));
+
+        // same values -> returns true
+        assertTrue(deleteFirstCommand.equals(new DeleteAllCommand(IndexRange.of(INDEX_FIRST))));
+
+        // null -> returns false
+        assertFalse(deleteFirstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(deleteFirstCommand.equals(new DeleteAllCommand(IndexRange.all())));
+    }
+}
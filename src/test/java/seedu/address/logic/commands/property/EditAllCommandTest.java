@@ -0,0 +1,110 @@
+package seedu.address.logic.commands.property;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PROPERTY_TYPE_ALAN;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PROPERTY_TYPE_BRENDA;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPropertyAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.property.EditCommand.EditPropertyDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.property.EditPropertyDescriptorBuilder;
+import seedu.address.testutil.property.PropertyBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for EditAllCommand.
+ */
+public class EditAllCommandTest {
+
+    private static final EditPropertyDescriptor RETYPE =
+            new EditPropertyDescriptorBuilder().withPropertyType(VALID_PROPERTY_TYPE_BRENDA).build();
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.between(INDEX_FIRST, INDEX_SECOND), RETYPE);
+
+        String expectedMessage = String.format(EditAllCommand.MESSAGE_EDIT_PROPERTIES_SUCCESS, 2);
+
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        Map<Property, Property> editedProperties = new HashMap<>();
+        for (Property property : model.getFilteredPropertyList().subList(0, 2)) {
+            editedProperties.put(property,
+                    new PropertyBuilder(property).withPropertyType(VALID_PROPERTY_TYPE_BRENDA).build());
+        }
+        expectedModel.replaceProperties(editedProperties);
+
+        assertCommandSuccess(editAllCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allShownFilteredList_success() {
+        showPropertyAtIndex(model, INDEX_SECOND);
+        Property propertyInFilteredList = model.getFilteredPropertyList().get(0);
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.all(), RETYPE);
+
+        String expectedMessage = String.format(EditAllCommand.MESSAGE_EDIT_PROPERTIES_SUCCESS, 1);
+
+        Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+                model.getPropertyList());
+        expectedModel.setProperty(propertyInFilteredList,
+                new PropertyBuilder(propertyInFilteredList).withPropertyType(VALID_PROPERTY_TYPE_BRENDA).build());
+
+        assertCommandSuccess(editAllCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangePastFilteredList_failure() {
+        showPropertyAtIndex(model, INDEX_FIRST);
+        EditAllCommand editAllCommand = new EditAllCommand(IndexRange.between(INDEX_FIRST, INDEX_SECOND), RETYPE);
+
+        assertCommandFailure(editAllCommand, model, Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        final EditAllCommand standardCommand = new EditAllCommand(IndexRange.of(INDEX_FIRST), RETYPE);
+
+        // same values -> returns true
+        EditPropertyDescriptor copyDescriptor = new EditPropertyDescriptor(RETYPE);
+        assertTrue(standardCommand.equals(new EditAllCommand(IndexRange.of(INDEX_FIRST), copyDescriptor)));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+
+        // different range -> returns false
+        assertFalse(standardCommand.equals(new EditAllCommand(
+                IndexRange.between(INDEX_FIRST, Index.fromOneBased(3)), RETYPE)));
+
+        // different descriptor -> returns false
+        assertFalse(standardCommand.equals(new EditAllCommand(IndexRange.of(INDEX_FIRST),
+                new EditPropertyDescriptorBuilder().withPropertyType(VALID_PROPERTY_TYPE_ALAN).build())));
+    }
+}
@@ -7,21 +7,29 @@ import static seedu.address.logic.Messages.MESSAGE_PROPERTIES_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
 import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.BENSON;
 import static seedu.address.testutil.property.TypicalProperties.CARL;
+import static seedu.address.testutil.property.TypicalProperties.DANIEL;
 import static seedu.address.testutil.property.TypicalProperties.ELLE;
 import static seedu.address.testutil.property.TypicalProperties.FIONA;
+import static seedu.address.testutil.property.TypicalProperties.GEORGE;
 import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.index.FuzzyQuery;
+import seedu.address.model.property.AddressContainsFragmentPredicate;
 import seedu.address.model.property.AddressContainsKeywordsPredicate;
 import seedu.address.model.property.LandlordNameContainsKeywordsPredicate;
+import seedu.address.model.property.Property;
 
 public class FindCommandTest {
     private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
@@ -135,6 +143,59 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPropertyList());
     }
 
+    @Test
+    public void execute_addressFragment_multiplePropertiesFound() {
+        String expectedMessage = String.format(MESSAGE_PROPERTIES_LISTED_OVERVIEW, 3);
+        AddressContainsFragmentPredicate predicate = new AddressContainsFragmentPredicate("#02-0");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPropertyList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL, GEORGE), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_shortAddressFragment_matchesIgnoringCase() {
+        String expectedMessage = String.format(MESSAGE_PROPERTIES_LISTED_OVERVIEW, 3);
+        AddressContainsFragmentPredicate predicate = new AddressContainsFragmentPredicate("RD");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPropertyList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_fuzzyLandlordName_propertiesFoundClosestFirst() {
+        String expectedMessage = String.format(MESSAGE_PROPERTIES_LISTED_OVERVIEW, 5);
+        FindCommand command = new FindCommand(new FuzzyQuery(Arrays.asList("Meyr", "Kurtz"), 2));
+        List<Property> expectedProperties = Arrays.asList(CARL, ELLE, BENSON, DANIEL, FIONA);
+        expectedModel.updateFilteredPropertyList(expectedProperties::contains,
+                Comparator.comparing(expectedProperties::indexOf));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedProperties, model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void equals_fuzzyQuery() {
+        FindCommand fuzzyCommand = new FindCommand(new FuzzyQuery(Collections.singletonList("Meyr"), 1));
+        assertTrue(fuzzyCommand.equals(new FindCommand(new FuzzyQuery(Collections.singletonList("Meyr"), 1))));
+        assertFalse(fuzzyCommand.equals(new FindCommand(new FuzzyQuery(Collections.singletonList("Meier"), 1))));
+        assertFalse(fuzzyCommand.equals(
+                new FindCommand(new LandlordNameContainsKeywordsPredicate(Collections.singletonList("Meyr")))));
+        assertFalse(new FindCommand(new LandlordNameContainsKeywordsPredicate(Collections.singletonList("Meyr")))
+                .equals(fuzzyCommand));
+    }
+
+    @Test
+    public void equals_fragment() {
+        FindCommand findFragmentCommand = new FindCommand(new AddressContainsFragmentPredicate("Semb"));
+        assertTrue(findFragmentCommand.equals(new FindCommand(new AddressContainsFragmentPredicate("Semb"))));
+        assertFalse(findFragmentCommand.equals(new FindCommand(new AddressContainsFragmentPredicate("#12-"))));
+        assertFalse(findFragmentCommand.equals(
+                new FindCommand(new AddressContainsKeywordsPredicate(Collections.singletonList("Semb")))));
+        assertFalse(new FindCommand(new AddressContainsKeywordsPredicate(Collections.singletonList("Semb")))
+                .equals(findFragmentCommand));
+    }
+
     @Test
     public void toStringMethodForLandlordName() {
         LandlordNameContainsKeywordsPredicate predicate =
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands.property;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.ALICE;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.match.Match;
+import seedu.address.model.match.MatchScorer;
+import seedu.address.testutil.buyer.TypicalBuyers;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code MatchCommand}.
+ */
+public class MatchCommandTest {
+
+    private Model model = new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+            getTypicalPropertyList());
+    private Model expectedModel = new ModelManager(model.getBuyerList(), new UserPrefs(), model.getMeetUpList(),
+            model.getPropertyList());
+
+    @Test
+    public void execute_propertyWithMatches_success() {
+        Buyer buyer = TypicalBuyers.ALICE;
+        Match match = new Match(buyer, ALICE, MatchScorer.score(buyer, ALICE));
+        String expectedMessage = String.format(MatchCommand.MESSAGE_MATCH_SUCCESS, 1, ALICE.getAddress())
+                + "\n1. " + match.getScorePercentage() + "% " + Messages.format(buyer);
+
+        assertCommandSuccess(new MatchCommand(INDEX_FIRST, 5), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_propertyWithoutMatches_success() {
+        String expectedMessage = String.format(MatchCommand.MESSAGE_NO_MATCHES,
+                model.getFilteredPropertyList().get(INDEX_SECOND.getZeroBased()).getAddress());
+
+        assertCommandSuccess(new MatchCommand(INDEX_SECOND, 5), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_all_listsEveryProperty() {
+        model.updateFilteredPropertyList(property -> property.equals(ALICE));
+        expectedModel.updateFilteredPropertyList(property -> property.equals(ALICE));
+        Buyer buyer = TypicalBuyers.ALICE;
+        Match match = new Match(buyer, ALICE, MatchScorer.score(buyer, ALICE));
+        String expectedMessage = String.format(MatchCommand.MESSAGE_MATCH_ALL_SUCCESS, 1)
+                + "\n" + ALICE.getAddress() + ": " + buyer.getName() + " (" + match.getScorePercentage() + "%)";
+
+        assertCommandSuccess(new MatchCommand(null, 5), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPropertyList().size() + 1);
+
+        assertCommandFailure(new MatchCommand(outOfBoundIndex, 5), model,
+                Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        MatchCommand matchFirstCommand = new MatchCommand(INDEX_FIRST, 5);
+
+        assertTrue(matchFirstCommand.equals(matchFirstCommand));
+        assertTrue(matchFirstCommand.equals(new MatchCommand(INDEX_FIRST, 5)));
+        assertFalse(matchFirstCommand.equals(1));
+        assertFalse(matchFirstCommand.equals(null));
+        assertFalse(matchFirstCommand.equals(new MatchCommand(null, 5)));
+        assertFalse(matchFirstCommand.equals(new MatchCommand(INDEX_FIRST, 3)));
+    }
+}
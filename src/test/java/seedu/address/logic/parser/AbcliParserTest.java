@@ -6,12 +6,26 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SwitchParserModeCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.buyer.FilterCommand;
 import seedu.address.logic.commands.meetup.AddCommand;
+import seedu.address.logic.commands.meetup.AgendaCommand;
+import seedu.address.logic.commands.meetup.ConflictsCommand;
+import seedu.address.logic.commands.meetup.ExportCommand;
+import seedu.address.logic.commands.meetup.ImportCommand;
+import seedu.address.logic.commands.meetup.SlotCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.buyer.Buyer;
 import seedu.address.model.meetup.MeetUp;
@@ -22,50 +36,128 @@ import seedu.address.testutil.meetup.MeetUpUtil;
 
 public class AbcliParserTest {
 
+    private static final Pattern EXAMPLE_FORMAT = Pattern.compile("Example: (.*)");
+
     @Test
     public void parseCommand_exit() throws Exception {
-        assertTrue(AbcliParser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
-        assertTrue(AbcliParser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
+        assertTrue(AbcliParser.parseCommand(ExitCommand.COMMAND_WORD, ParserMode.BUYER) instanceof ExitCommand);
+        assertTrue(AbcliParser.parseCommand(ExitCommand.COMMAND_WORD + " 3", ParserMode.BUYER) instanceof ExitCommand);
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(AbcliParser.parseCommand(UndoCommand.COMMAND_WORD, ParserMode.MEETUP) instanceof UndoCommand);
+        assertTrue(AbcliParser.parseCommand(RedoCommand.COMMAND_WORD, ParserMode.PROPERTY) instanceof RedoCommand);
     }
 
     @Test
     public void parseCommand_help() throws Exception {
-        assertTrue(AbcliParser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
-        assertTrue(AbcliParser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
+        assertTrue(AbcliParser.parseCommand(HelpCommand.COMMAND_WORD, ParserMode.BUYER) instanceof HelpCommand);
+        assertTrue(AbcliParser.parseCommand(HelpCommand.COMMAND_WORD + " 3", ParserMode.BUYER) instanceof HelpCommand);
     }
 
     @Test
     public void parseCommand_switch() throws Exception {
         SwitchParserModeCommand switchParserModeCommand = (SwitchParserModeCommand) AbcliParser.parseCommand(
-                SwitchParserModeCommand.COMMAND_WORD + " m");
+                SwitchParserModeCommand.COMMAND_WORD + " m", ParserMode.BUYER);
         assertEquals(new SwitchParserModeCommand(ParserMode.MEETUP), switchParserModeCommand);
 
         MeetUp meetUp = new MeetUpBuilder().build();
-        AbcliParser.switchMode(ParserMode.MEETUP);
-        AddCommand addCommandMeetUp = (AddCommand) AbcliParser.parseCommand(MeetUpUtil.getAddMeetUpCommand(meetUp));
+        AddCommand addCommandMeetUp = (AddCommand) AbcliParser.parseCommand(MeetUpUtil.getAddMeetUpCommand(meetUp),
+                ParserMode.MEETUP);
         assertEquals(new AddCommand(meetUp), addCommandMeetUp);
 
         Buyer buyer = new BuyerBuilder().build();
-        AbcliParser.switchMode(ParserMode.BUYER);
         seedu.address.logic.commands.buyer.AddCommand addCommandBuyer = (seedu.address.logic.commands.buyer.AddCommand)
-                AbcliParser.parseCommand(BuyerUtil.getAddBuyerCommand(buyer));
+                AbcliParser.parseCommand(BuyerUtil.getAddBuyerCommand(buyer), ParserMode.BUYER);
         assertEquals(new seedu.address.logic.commands.buyer.AddCommand(buyer), addCommandBuyer);
     }
 
     @Test
-    public void switchMode_nullInput_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> AbcliParser.switchMode(null));
+    public void parseCommand_nullMode_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AbcliParser.parseCommand(ExitCommand.COMMAND_WORD, null));
     }
 
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
-                -> AbcliParser.parseCommand(""));
+                -> AbcliParser.parseCommand("", ParserMode.BUYER));
     }
 
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, ()
-                -> AbcliParser.parseCommand("unknownCommand"));
+                -> AbcliParser.parseCommand("unknownCommand", ParserMode.BUYER));
+    }
+
+    @Test
+    public void parseCommand_usageExampleOfEveryCommand_parsedInItsMode() throws Exception {
+        assertExamplesParsed(seedu.address.logic.commands.buyer.AddCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.buyer.AddCommand.class, ParserMode.BUYER);
+        assertExamplesParsed(seedu.address.logic.commands.buyer.EditCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.buyer.EditCommand.class, ParserMode.BUYER);
+        assertExamplesParsed(seedu.address.logic.commands.buyer.DeleteCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.buyer.DeleteCommand.class, ParserMode.BUYER);
+        assertExamplesParsed(seedu.address.logic.commands.buyer.EditAllCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.buyer.EditAllCommand.class, ParserMode.BUYER);
+        assertExamplesParsed(seedu.address.logic.commands.buyer.DeleteAllCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.buyer.DeleteAllCommand.class, ParserMode.BUYER);
+        assertExamplesParsed(seedu.address.logic.commands.buyer.FindCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.buyer.FindCommand.class, ParserMode.BUYER);
+        assertExamplesParsed(FilterCommand.MESSAGE_USAGE, FilterCommand.class, ParserMode.BUYER);
+        assertExamplesParsed(seedu.address.logic.commands.buyer.MatchCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.buyer.MatchCommand.class, ParserMode.BUYER);
+        assertExamplesParsed(LookupCommand.MESSAGE_USAGE, LookupCommand.class, ParserMode.BUYER);
+        assertExamplesParsed(RunCommand.MESSAGE_USAGE, RunCommand.class, ParserMode.BUYER);
+
+        assertExamplesParsed(AddCommand.MESSAGE_USAGE, AddCommand.class, ParserMode.MEETUP);
+        assertExamplesParsed(seedu.address.logic.commands.meetup.EditCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.meetup.EditCommand.class, ParserMode.MEETUP);
+        assertExamplesParsed(seedu.address.logic.commands.meetup.DeleteCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.meetup.DeleteCommand.class, ParserMode.MEETUP);
+        assertExamplesParsed(seedu.address.logic.commands.meetup.EditAllCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.meetup.EditAllCommand.class, ParserMode.MEETUP);
+        assertExamplesParsed(seedu.address.logic.commands.meetup.DeleteAllCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.meetup.DeleteAllCommand.class, ParserMode.MEETUP);
+        assertExamplesParsed(seedu.address.logic.commands.meetup.FindCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.meetup.FindCommand.class, ParserMode.MEETUP);
+        assertExamplesParsed(AgendaCommand.MESSAGE_USAGE, AgendaCommand.class, ParserMode.MEETUP);
+        assertExamplesParsed(SlotCommand.MESSAGE_USAGE, SlotCommand.class, ParserMode.MEETUP);
+        assertExamplesParsed(ExportCommand.MESSAGE_USAGE, ExportCommand.class, ParserMode.MEETUP);
+        assertExamplesParsed(ImportCommand.MESSAGE_USAGE, ImportCommand.class, ParserMode.MEETUP);
+        assertTrue(AbcliParser.parseCommand(ConflictsCommand.COMMAND_WORD, ParserMode.MEETUP)
+                instanceof ConflictsCommand);
+        assertExamplesParsed(SwitchParserModeCommand.MESSAGE_USAGE, SwitchParserModeCommand.class, ParserMode.MEETUP);
+
+        assertExamplesParsed(seedu.address.logic.commands.property.AddCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.property.AddCommand.class, ParserMode.PROPERTY);
+        assertExamplesParsed(seedu.address.logic.commands.property.EditCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.property.EditCommand.class, ParserMode.PROPERTY);
+        assertExamplesParsed(seedu.address.logic.commands.property.DeleteCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.property.DeleteCommand.class, ParserMode.PROPERTY);
+        assertExamplesParsed(seedu.address.logic.commands.property.EditAllCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.property.EditAllCommand.class, ParserMode.PROPERTY);
+        assertExamplesParsed(seedu.address.logic.commands.property.DeleteAllCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.property.DeleteAllCommand.class, ParserMode.PROPERTY);
+        assertExamplesParsed(seedu.address.logic.commands.property.FindCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.property.FindCommand.class, ParserMode.PROPERTY);
+        assertExamplesParsed(seedu.address.logic.commands.property.MatchCommand.MESSAGE_USAGE,
+                seedu.address.logic.commands.property.MatchCommand.class, ParserMode.PROPERTY);
+        assertTrue(AbcliParser.parseCommand(seedu.address.logic.commands.property.ClearCommand.COMMAND_WORD,
+                ParserMode.PROPERTY)
+                instanceof seedu.address.logic.commands.property.ClearCommand);
+    }
+
+    /**
+     * Asserts that every example in {@code usage} is parsed into a command of type {@code expectedType} in
+     * {@code mode}.
+     */
+    private void assertExamplesParsed(String usage, Class<? extends Command> expectedType, ParserMode mode)
+            throws Exception {
+        Matcher matcher = EXAMPLE_FORMAT.matcher(usage);
+        assertTrue(matcher.find());
+        do {
+            assertTrue(expectedType.isInstance(AbcliParser.parseCommand(matcher.group(1), mode)), matcher.group(1));
+        } while (matcher.find());
     }
 }
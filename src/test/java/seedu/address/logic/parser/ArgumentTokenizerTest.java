@@ -136,6 +136,34 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixAtEnd_emptyValue() {
+        String argsString = "preamble p/ value -t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "value");
+        assertArgumentPresent(argMultimap, dashT, "");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognized() {
+        String argsString = "preamble\tp/ tabbed\n-t new line";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, argsString);
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
+    @Test
+    public void tokenize_prefixesSharingStart_longestTaken() {
+        Prefix pSlashX = new Prefix("p/x");
+        String argsString = "preamble p/x first p/second";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashX);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlashX, "first");
+        assertArgumentPresent(argMultimap, pSlash, "second");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.model.buyer.Email;
+
+public class LookupCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE);
+
+    private LookupCommandParser parser = new LookupCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidPhone_throwsParseException() {
+        // too few digits
+        assertParseFailure(parser, "12", MESSAGE_INVALID_FORMAT);
+
+        // letters
+        assertParseFailure(parser, "9123abcd", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidEmail_throwsParseException() {
+        assertParseFailure(parser, "alice@", Email.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsLookupCommand() {
+        assertParseSuccess(parser, "94351253", new LookupCommand("94351253"));
+        assertParseSuccess(parser, "  +65 (9435) 1253 ", new LookupCommand("+65 (9435) 1253"));
+        assertParseSuccess(parser, " alice@example.com ", new LookupCommand("alice@example.com"));
+    }
+}
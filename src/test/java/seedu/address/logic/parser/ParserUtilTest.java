@@ -2,10 +2,15 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -13,6 +18,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.buyer.Budget;
 import seedu.address.model.buyer.Email;
@@ -56,6 +63,23 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRange_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexRange("0-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexRange("3-"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexRange("3 - 5"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexRange("5-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexRange("all"));
+    }
+
+    @Test
+    public void parseIndexRange_validInput_success() throws Exception {
+        assertEquals(IndexRange.of(INDEX_FIRST), ParserUtil.parseIndexRange("1"));
+        assertEquals(IndexRange.between(INDEX_SECOND, Index.fromOneBased(250)), ParserUtil.parseIndexRange(" 2-250 "));
+        assertEquals(IndexRange.of(INDEX_SECOND), ParserUtil.parseIndexRange("2-2"));
+        assertEquals(IndexRange.all(), ParserUtil.parseIndexRange(KEYWORD_ALL_SHOWN));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -193,4 +217,30 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseDuration_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("-30"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("1.5"));
+    }
+
+    @Test
+    public void parseDuration_validValueWithWhitespace_returnsMinutes() throws Exception {
+        assertEquals(Duration.ofMinutes(90), ParserUtil.parseDuration(WHITESPACE + "90" + WHITESPACE));
+    }
+
+    @Test
+    public void parseRangeStartAndEnd_dateOnly_coversWholeDay() throws Exception {
+        assertEquals(LocalDateTime.of(2024, 10, 1, 0, 0), ParserUtil.parseRangeStart(" 2024-10-01 "));
+        assertEquals(LocalDateTime.of(2024, 10, 2, 0, 0), ParserUtil.parseRangeEnd(" 2024-10-01 "));
+        assertEquals(LocalDateTime.of(2024, 10, 1, 9, 30), ParserUtil.parseRangeEnd("2024-10-01 09:30"));
+    }
+
+    @Test
+    public void parseRangeStart_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseRangeStart("2024-02-30"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRangeStart("2024-10-01 25:00"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRangeStart("tomorrow"));
+    }
 }
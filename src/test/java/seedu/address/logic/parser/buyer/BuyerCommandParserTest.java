@@ -9,7 +9,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -22,11 +24,14 @@ import seedu.address.logic.commands.buyer.ClearCommand;
 import seedu.address.logic.commands.buyer.DeleteCommand;
 import seedu.address.logic.commands.buyer.EditCommand;
 import seedu.address.logic.commands.buyer.EditCommand.EditBuyerDescriptor;
+import seedu.address.logic.commands.buyer.FilterCommand;
 import seedu.address.logic.commands.buyer.FindCommand;
 import seedu.address.logic.commands.buyer.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.buyer.Buyer;
 import seedu.address.model.buyer.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
 import seedu.address.testutil.buyer.BuyerBuilder;
 import seedu.address.testutil.buyer.BuyerUtil;
 import seedu.address.testutil.buyer.EditBuyerDescriptorBuilder;
@@ -91,6 +96,14 @@ public class BuyerCommandParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD, " t/friends");
+        TagFilter filter = new TagFilter(List.of(new TagFilter.Clause(Set.of(new Tag("friends")),
+                Collections.emptySet())));
+        assertEquals(new FilterCommand(filter), command);
+    }
+
     @Test
     public void parseCommand_view() throws Exception {
         assertTrue(parser.parseCommand(ViewCommand.COMMAND_WORD, "") instanceof ViewCommand);
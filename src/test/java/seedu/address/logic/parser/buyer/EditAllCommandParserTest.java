@@ -0,0 +1,69 @@
+package seedu.address.logic.parser.buyer;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.BUDGET_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_BUDGET_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.buyer.EditAllCommand;
+import seedu.address.logic.commands.buyer.EditCommand;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.buyer.EditBuyerDescriptorBuilder;
+
+public class EditAllCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditAllCommand.MESSAGE_USAGE);
+
+    private EditAllCommandParser parser = new EditAllCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no range specified
+        assertParseFailure(parser, TAG_DESC_FRIEND, MESSAGE_INVALID_FORMAT);
+
+        // no field specified
+        assertParseFailure(parser, "1-5", EditCommand.MESSAGE_NOT_EDITED);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        // first index after last
+        assertParseFailure(parser, "5-1" + TAG_DESC_FRIEND, MESSAGE_INVALID_FORMAT);
+
+        // name cannot be edited for many buyers
+        assertParseFailure(parser, "1-5" + NAME_DESC_AMY, EditAllCommand.MESSAGE_NAME_NOT_EDITABLE);
+
+        // invalid field
+        assertParseFailure(parser, "1-5" + INVALID_TAG_DESC, Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validRange_success() {
+        String userInput = "2-250" + TAG_DESC_HUSBAND + TAG_DESC_FRIEND;
+        EditAllCommand expectedCommand = new EditAllCommand(IndexRange.between(INDEX_SECOND, Index.fromOneBased(250)),
+                new EditBuyerDescriptorBuilder().withTags(VALID_TAG_HUSBAND, VALID_TAG_FRIEND).build());
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    public void parse_allShown_success() {
+        String userInput = KEYWORD_ALL_SHOWN + BUDGET_DESC_BOB;
+        EditAllCommand expectedCommand = new EditAllCommand(IndexRange.all(),
+                new EditBuyerDescriptorBuilder().withBudget(VALID_BUDGET_BOB).build());
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.parser.buyer;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.buyer.FilterCommand.MESSAGE_USAGE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.buyer.FilterCommand;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+public class FilterCommandParserTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag FAMILY = new Tag("family");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        assertParseFailure(parser, " t/ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        assertParseFailure(parser, " friends", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new TagFilter(List.of(
+                new TagFilter.Clause(Set.of(FRIENDS, FAMILY), Collections.emptySet()),
+                new TagFilter.Clause(Collections.emptySet(), Set.of(OWES_MONEY)))));
+
+        assertParseSuccess(parser, " t/friends family t/!owesMoney", expectedFilterCommand);
+
+        // multiple whitespaces between tags
+        assertParseSuccess(parser, " \n t/ family \t friends  t/!owesMoney ", expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_mixedGroup_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new TagFilter(List.of(
+                new TagFilter.Clause(Set.of(FRIENDS), Set.of(OWES_MONEY)))));
+
+        assertParseSuccess(parser, " t/friends !owesMoney", expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " t/friends*", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/!", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
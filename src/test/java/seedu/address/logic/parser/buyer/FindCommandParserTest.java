@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.buyer.FindCommand;
 import seedu.address.model.buyer.Name;
 import seedu.address.model.buyer.NameContainsKeywordsPredicate;
+import seedu.address.model.index.FuzzyQuery;
 
 public class FindCommandParserTest {
 
@@ -37,6 +38,22 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, PREAMBLE_WHITESPACE + NAME_DESC_FIND_ALICE_BOB, expectedFindCommand);
     }
 
+    @Test
+    public void parse_validDistance_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new FuzzyQuery(Arrays.asList("Alice", "Bob"), 2));
+
+        assertParseSuccess(parser, NAME_DESC_FIND_ALICE_BOB + " d/2", expectedFindCommand);
+        assertParseSuccess(parser, " d/ 2 " + NAME_DESC_FIND_ALICE_BOB, expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidDistance_failParse() {
+        assertParseFailure(parser, NAME_DESC_FIND_ALICE_BOB + " d/4", FuzzyQuery.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, NAME_DESC_FIND_ALICE_BOB + " d/-1", FuzzyQuery.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, NAME_DESC_FIND_ALICE_BOB + " d/one", FuzzyQuery.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " d/1", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidNameFormat_failParse() {
         assertParseFailure(parser, INVALID_BUYER_FIND_DESC,
@@ -25,8 +25,11 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_MEETUP_TO_PITCH
 import static seedu.address.logic.commands.meetup.AddCommand.MESSAGE_USAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.meetup.TypicalMeetUps.PITCH_MEETUP;
@@ -39,8 +42,10 @@ import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.From;
 import seedu.address.model.meetup.Info;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
 import seedu.address.model.meetup.Subject;
 import seedu.address.model.meetup.To;
+import seedu.address.model.property.Address;
 import seedu.address.testutil.meetup.MeetUpBuilder;
 
 public class AddCommandParserTest {
@@ -57,6 +62,53 @@ public class AddCommandParserTest {
                 + MEETUP_TO_DESC_PITCH + MEETUP_ADDED_BUYER_DESC_PITCH, new AddCommand(expectedMeetUp));
     }
 
+    @Test
+    public void parse_repeatingMeetUp_success() {
+        MeetUp expectedMeetUp = new MeetUpBuilder(PITCH_MEETUP).withRecurrence("weekly", "2025-03-31").build();
+        String userInput = MEETUP_SUBJECT_DESC_PITCH + MEETUP_INFO_DESC_PITCH + MEETUP_FROM_DESC_PITCH
+                + MEETUP_TO_DESC_PITCH + MEETUP_ADDED_BUYER_DESC_PITCH;
+
+        assertParseSuccess(parser, userInput + " " + PREFIX_REPEAT + "Weekly " + PREFIX_UNTIL + "2025-03-31",
+                new AddCommand(expectedMeetUp));
+    }
+
+    @Test
+    public void parse_viewingAtProperty_success() {
+        MeetUp expectedMeetUp = new MeetUpBuilder(PITCH_MEETUP).withProperty("Bukit Batok Rd #01-01").build();
+        String userInput = MEETUP_SUBJECT_DESC_PITCH + MEETUP_INFO_DESC_PITCH + MEETUP_FROM_DESC_PITCH
+                + MEETUP_TO_DESC_PITCH + MEETUP_ADDED_BUYER_DESC_PITCH;
+
+        assertParseSuccess(parser, userInput + " " + PREFIX_PROPERTY + "Bukit Batok Rd #01-01",
+                new AddCommand(expectedMeetUp));
+
+        // repeated property
+        assertParseFailure(parser, userInput + " " + PREFIX_PROPERTY + "Bukit Batok Rd #01-01 " + PREFIX_PROPERTY
+                + "Shibuya Rd #01-01", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PROPERTY));
+
+        // invalid property
+        assertParseFailure(parser, userInput + " " + PREFIX_PROPERTY, Address.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        String userInput = MEETUP_SUBJECT_DESC_PITCH + MEETUP_INFO_DESC_PITCH + MEETUP_FROM_DESC_PITCH
+                + MEETUP_TO_DESC_PITCH + MEETUP_ADDED_BUYER_DESC_PITCH;
+
+        // frequency without a last date
+        assertParseFailure(parser, userInput + " " + PREFIX_REPEAT + "weekly", Recurrence.MESSAGE_CONSTRAINTS);
+
+        // last date without a frequency
+        assertParseFailure(parser, userInput + " " + PREFIX_UNTIL + "2025-03-31", Recurrence.MESSAGE_CONSTRAINTS);
+
+        // unsupported frequency
+        assertParseFailure(parser, userInput + " " + PREFIX_REPEAT + "monthly " + PREFIX_UNTIL + "2025-03-31",
+                Recurrence.MESSAGE_CONSTRAINTS);
+
+        // repeated frequency
+        assertParseFailure(parser, userInput + " " + PREFIX_REPEAT + "daily " + PREFIX_REPEAT + "weekly "
+                + PREFIX_UNTIL + "2025-03-31", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_REPEAT));
+    }
+
     @Test
     public void parse_repeatedNonBuyerAddedValue_failure() {
         String validExpectedMeetUpString = MEETUP_SUBJECT_DESC_PITCH + MEETUP_INFO_DESC_PITCH
@@ -0,0 +1,82 @@
+package seedu.address.logic.parser.meetup;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.meetup.AgendaCommand;
+import seedu.address.logic.parser.ParserUtil;
+
+public class AgendaCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE);
+
+    // Thursday, 3 October 2024
+    private final AgendaCommandParser parser = new AgendaCommandParser(
+            Clock.fixed(LocalDateTime.of(2024, 10, 3, 9, 30).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    public void parse_shortcuts_success() {
+        assertParseSuccess(parser, " today", new AgendaCommand(LocalDateTime.of(2024, 10, 3, 0, 0),
+                LocalDateTime.of(2024, 10, 4, 0, 0)));
+        assertParseSuccess(parser, " tomorrow ", new AgendaCommand(LocalDateTime.of(2024, 10, 4, 0, 0),
+                LocalDateTime.of(2024, 10, 5, 0, 0)));
+        assertParseSuccess(parser, " week", new AgendaCommand(LocalDateTime.of(2024, 9, 30, 0, 0),
+                LocalDateTime.of(2024, 10, 7, 0, 0)));
+    }
+
+    @Test
+    public void parse_dates_success() {
+        // whole days
+        assertParseSuccess(parser, " f/2024-10-01 t/2024-10-31", new AgendaCommand(
+                LocalDateTime.of(2024, 10, 1, 0, 0), LocalDateTime.of(2024, 11, 1, 0, 0)));
+
+        // no end -> a single day
+        assertParseSuccess(parser, " f/2024-10-01", new AgendaCommand(
+                LocalDateTime.of(2024, 10, 1, 0, 0), LocalDateTime.of(2024, 10, 2, 0, 0)));
+
+        // date-times
+        assertParseSuccess(parser, " f/2024-10-01 09:00 t/2024-10-01 12:30", new AgendaCommand(
+                LocalDateTime.of(2024, 10, 1, 9, 0), LocalDateTime.of(2024, 10, 1, 12, 30)));
+        assertParseSuccess(parser, " f/2024-10-01 09:00", new AgendaCommand(
+                LocalDateTime.of(2024, 10, 1, 9, 0), LocalDateTime.of(2024, 10, 2, 0, 0)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no arguments
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+
+        // unknown shortcut
+        assertParseFailure(parser, " month", MESSAGE_INVALID_FORMAT);
+
+        // shortcut with dates
+        assertParseFailure(parser, " today f/2024-10-01", MESSAGE_INVALID_FORMAT);
+
+        // end without start
+        assertParseFailure(parser, " t/2024-10-01", MESSAGE_INVALID_FORMAT);
+
+        // invalid dates
+        assertParseFailure(parser, " f/2024-02-30", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " f/01-10-2024", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " f/2024-10-01 t/2024-10-01 25:00", ParserUtil.MESSAGE_INVALID_DATE);
+
+        // end not after start
+        assertParseFailure(parser, " f/2024-10-02 t/2024-10-01", AgendaCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " f/2024-10-01 09:00 t/2024-10-01 09:00",
+                AgendaCommandParser.MESSAGE_INVALID_RANGE);
+
+        // duplicate prefixes
+        assertParseFailure(parser, " f/2024-10-01 f/2024-10-02",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_FROM));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser.meetup;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.meetup.DeleteAllCommand;
+
+/**
+ * The forms of the range itself are covered by the ParserUtilTest.
+ */
+public class DeleteAllCommandParserTest {
+
+    private DeleteAllCommandParser parser = new DeleteAllCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDeleteAllCommand() {
+        assertParseSuccess(parser, "1-3", new DeleteAllCommand(IndexRange.between(INDEX_FIRST, INDEX_THIRD)));
+        assertParseSuccess(parser, " " + KEYWORD_ALL_SHOWN, new DeleteAllCommand(IndexRange.all()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "3-1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                DeleteAllCommand.MESSAGE_USAGE));
+    }
+}
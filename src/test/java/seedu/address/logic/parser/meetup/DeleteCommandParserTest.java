@@ -1,13 +1,18 @@
 package seedu.address.logic.parser.meetup;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.meetup.DeleteCommand;
+import seedu.address.logic.parser.ParserUtil;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -31,4 +36,17 @@ public class DeleteCommandParserTest {
         assertParseFailure(parser, "f", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 DeleteCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_occurrence_returnsDeleteCommand() {
+        assertParseSuccess(parser, "1 " + PREFIX_OCCURRENCE + "2024-10-08",
+                new DeleteCommand(INDEX_FIRST, LocalDate.of(2024, 10, 8)));
+    }
+
+    @Test
+    public void parse_invalidOccurrence_throwsParseException() {
+        assertParseFailure(parser, "1 " + PREFIX_OCCURRENCE + "08-10-2024", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "1 " + PREFIX_OCCURRENCE + "2024-10-08 " + PREFIX_OCCURRENCE + "2024-10-15",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_OCCURRENCE));
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser.meetup;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.MEETUP_INFO_DESC_PITCH;
+import static seedu.address.logic.commands.CommandTestUtil.MEETUP_SUBJECT_DESC_PITCH;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MEETUP_INFO_PITCH;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.meetup.EditAllCommand;
+import seedu.address.logic.commands.meetup.EditCommand;
+import seedu.address.testutil.meetup.EditMeetUpDescriptorBuilder;
+
+public class EditAllCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditAllCommand.MESSAGE_USAGE);
+
+    private EditAllCommandParser parser = new EditAllCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no range specified
+        assertParseFailure(parser, MEETUP_INFO_DESC_PITCH, MESSAGE_INVALID_FORMAT);
+
+        // no field specified
+        assertParseFailure(parser, KEYWORD_ALL_SHOWN, EditCommand.MESSAGE_MEETUP_NOT_EDITED);
+    }
+
+    @Test
+    public void parse_identityField_failure() {
+        assertParseFailure(parser, "1-3" + MEETUP_SUBJECT_DESC_PITCH + MEETUP_INFO_DESC_PITCH,
+                EditAllCommand.MESSAGE_IDENTITY_NOT_EDITABLE);
+        assertParseFailure(parser, "1-3 o/2024-01-01", EditAllCommand.MESSAGE_IDENTITY_NOT_EDITABLE);
+    }
+
+    @Test
+    public void parse_validRange_success() {
+        EditAllCommand expectedCommand = new EditAllCommand(IndexRange.between(INDEX_FIRST, INDEX_THIRD),
+                new EditMeetUpDescriptorBuilder().withInfo(VALID_MEETUP_INFO_PITCH).build());
+        assertParseSuccess(parser, "1-3" + MEETUP_INFO_DESC_PITCH, expectedCommand);
+    }
+}
@@ -22,18 +22,25 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_MEETUP_TO_PITCH
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INFO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OCCURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.meetup.EditCommand;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.meetup.From;
 import seedu.address.model.meetup.Subject;
 import seedu.address.model.meetup.To;
@@ -123,6 +130,45 @@ public class EditCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_recurrenceSpecified_success() {
+        String userInput = INDEX_FIRST.getOneBased() + " " + PREFIX_REPEAT + "daily " + PREFIX_UNTIL + "2025-01-31";
+        EditCommand.EditMeetUpDescriptor descriptor = new EditMeetUpDescriptorBuilder()
+                .withRecurrence("daily", "2025-01-31").build();
+        assertParseSuccess(parser, userInput, new EditCommand(INDEX_FIRST, descriptor));
+    }
+
+    @Test
+    public void parse_propertySpecified_success() {
+        String userInput = INDEX_FIRST.getOneBased() + " " + PREFIX_PROPERTY + "Bukit Batok Rd #01-01";
+        EditCommand.EditMeetUpDescriptor descriptor = new EditMeetUpDescriptorBuilder()
+                .withProperty("Bukit Batok Rd #01-01").build();
+        assertParseSuccess(parser, userInput, new EditCommand(INDEX_FIRST, descriptor));
+    }
+
+    @Test
+    public void parse_occurrenceSpecified_success() {
+        String userInput = INDEX_FIRST.getOneBased() + MEETUP_SUBJECT_DESC_NETWORKING + " " + PREFIX_OCCURRENCE
+                + "2024-10-08";
+        EditCommand.EditMeetUpDescriptor descriptor = new EditMeetUpDescriptorBuilder()
+                .withSubject(VALID_MEETUP_SUBJECT_NETWORKING).build();
+        assertParseSuccess(parser, userInput, new EditCommand(INDEX_FIRST, descriptor, LocalDate.of(2024, 10, 8)));
+    }
+
+    @Test
+    public void parse_invalidOccurrence_failure() {
+        // invalid date
+        assertParseFailure(parser, "1" + MEETUP_SUBJECT_DESC_NETWORKING + " " + PREFIX_OCCURRENCE + "2024-13-08",
+                ParserUtil.MESSAGE_INVALID_DATE);
+
+        // nothing to edit on the occurrence
+        assertParseFailure(parser, "1 " + PREFIX_OCCURRENCE + "2024-10-08", EditCommand.MESSAGE_MEETUP_NOT_EDITED);
+
+        // occurrence made to repeat
+        assertParseFailure(parser, "1 " + PREFIX_OCCURRENCE + "2024-10-08 " + PREFIX_REPEAT + "daily "
+                + PREFIX_UNTIL + "2025-01-31", EditCommandParser.MESSAGE_OCCURRENCE_REPEAT);
+    }
+
     @Test
     public void parse_multipleRepeatedFields_failure() {
         // More extensive testing of duplicate parameter detections is done in
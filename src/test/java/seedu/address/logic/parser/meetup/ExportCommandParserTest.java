@@ -0,0 +1,42 @@
+package seedu.address.logic.parser.meetup;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.meetup.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_noFilePath_returnsDefaultFile() {
+        assertParseSuccess(parser, " ics ", new ExportCommand(ExportCommand.DEFAULT_FILE));
+        assertParseSuccess(parser, " ICS", new ExportCommand(ExportCommand.DEFAULT_FILE));
+    }
+
+    @Test
+    public void parse_filePath_returnsExportCommand() {
+        assertParseSuccess(parser, " ics my calendars/viewings.ics ",
+                new ExportCommand(Paths.get("my calendars/viewings.ics")));
+    }
+
+    @Test
+    public void parse_invalidFormat_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " csv meetups.csv", expectedMessage);
+        assertParseFailure(parser, " viewings.ics", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, " ics bad\u0000path", String.format(ExportCommandParser.MESSAGE_INVALID_PATH,
+                "bad\u0000path"));
+    }
+}
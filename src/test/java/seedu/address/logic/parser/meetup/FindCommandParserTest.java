@@ -10,10 +10,12 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.meetup.FindCommand;
+import seedu.address.model.index.FuzzyQuery;
 import seedu.address.model.meetup.MeetUpContainsKeywordsPredicate;
 import seedu.address.model.meetup.Subject;
 
@@ -38,6 +40,20 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, PREAMBLE_WHITESPACE + MEETUP_FIND_DESC, expectedFindCommand);
     }
 
+    @Test
+    public void parse_validAddedBuyer_returnsFindCommand() {
+        assertParseSuccess(parser, " n/Betty", new FindCommand(new FuzzyQuery(Collections.singletonList("Betty"), 0)));
+        assertParseSuccess(parser, " n/Bety Ho d/1", new FindCommand(new FuzzyQuery(Arrays.asList("Bety", "Ho"), 1)));
+    }
+
+    @Test
+    public void parse_invalidAddedBuyerArgs_failParse() {
+        assertParseFailure(parser, " n/Betty s/Sales", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        assertParseFailure(parser, MEETUP_FIND_DESC + " d/1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MESSAGE_USAGE));
+        assertParseFailure(parser, " n/Betty d/4", FuzzyQuery.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_invalidSubjectFormat_failParse() {
         assertParseFailure(parser, INVALID_MEETUP_FIND_DESC,
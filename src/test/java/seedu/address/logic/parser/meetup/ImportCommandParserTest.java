@@ -0,0 +1,28 @@
+package seedu.address.logic.parser.meetup;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.meetup.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_filePath_returnsImportCommand() {
+        assertParseSuccess(parser, " ics data/viewings.ics", new ImportCommand(Paths.get("data/viewings.ics")));
+    }
+
+    @Test
+    public void parse_missingFormatOrPath_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " ics", expectedMessage);
+        assertParseFailure(parser, " data/viewings.ics", expectedMessage);
+    }
+}
@@ -4,12 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -18,13 +26,19 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.meetup.AddCommand;
+import seedu.address.logic.commands.meetup.AgendaCommand;
 import seedu.address.logic.commands.meetup.ClearCommand;
+import seedu.address.logic.commands.meetup.ConflictsCommand;
 import seedu.address.logic.commands.meetup.DeleteCommand;
 import seedu.address.logic.commands.meetup.EditCommand;
 import seedu.address.logic.commands.meetup.EditCommand.EditMeetUpDescriptor;
+import seedu.address.logic.commands.meetup.ExportCommand;
 import seedu.address.logic.commands.meetup.FindCommand;
+import seedu.address.logic.commands.meetup.ImportCommand;
+import seedu.address.logic.commands.meetup.SlotCommand;
 import seedu.address.logic.commands.meetup.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.MeetUp;
 import seedu.address.model.meetup.MeetUpContainsKeywordsPredicate;
 import seedu.address.testutil.meetup.EditMeetUpDescriptorBuilder;
@@ -91,6 +105,36 @@ public class MeetUpCommandParserTest {
         assertEquals(new FindCommand(new MeetUpContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_agenda() throws Exception {
+        AgendaCommand command = (AgendaCommand) parser.parseCommand(AgendaCommand.COMMAND_WORD,
+                " " + PREFIX_FROM + "2024-10-01 " + PREFIX_TO + "2024-10-31");
+        assertEquals(new AgendaCommand(LocalDateTime.of(2024, 10, 1, 0, 0), LocalDateTime.of(2024, 11, 1, 0, 0)),
+                command);
+    }
+
+    @Test
+    public void parseCommand_conflicts() throws Exception {
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD, "") instanceof ConflictsCommand);
+    }
+
+    @Test
+    public void parseCommand_slot() throws Exception {
+        SlotCommand command = (SlotCommand) parser.parseCommand(SlotCommand.COMMAND_WORD,
+                " " + PREFIX_ADDED_BUYER + "Alex Yeoh " + PREFIX_DURATION + "60 " + PREFIX_FROM + "2024-10-01");
+        assertEquals(new SlotCommand(Set.of(new AddedBuyer("Alex Yeoh")), Duration.ofMinutes(60),
+                LocalDateTime.of(2024, 10, 1, 0, 0), LocalDateTime.of(2024, 10, 8, 0, 0), SlotCommand.DEFAULT_COUNT),
+                command);
+    }
+
+    @Test
+    public void parseCommand_exportAndImport() throws Exception {
+        assertEquals(new ExportCommand(ExportCommand.DEFAULT_FILE),
+                parser.parseCommand(ExportCommand.COMMAND_WORD, " ics"));
+        assertEquals(new ImportCommand(Paths.get("viewings.ics")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD, " ics viewings.ics"));
+    }
+
     @Test
     public void parseCommand_view() throws Exception {
         assertTrue(parser.parseCommand(ViewCommand.COMMAND_WORD, "") instanceof ViewCommand);
@@ -0,0 +1,69 @@
+package seedu.address.logic.parser.meetup;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.meetup.SlotCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.meetup.AddedBuyer;
+
+public class SlotCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SlotCommand.MESSAGE_USAGE);
+    private static final Set<AddedBuyer> ALEX_AND_BETTY = Set.of(new AddedBuyer("Alex Yeoh"),
+            new AddedBuyer("Betty Ho"));
+
+    private final SlotCommandParser parser = new SlotCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " n/Alex Yeoh n/Betty Ho l/60 f/2024-10-01 t/2024-10-03 k/5",
+                new SlotCommand(ALEX_AND_BETTY, Duration.ofMinutes(60), LocalDateTime.of(2024, 10, 1, 0, 0),
+                        LocalDateTime.of(2024, 10, 4, 0, 0), 5));
+        assertParseSuccess(parser, " f/2024-10-01 09:00 t/2024-10-01 18:00 l/45 n/Alex Yeoh n/Betty Ho",
+                new SlotCommand(ALEX_AND_BETTY, Duration.ofMinutes(45), LocalDateTime.of(2024, 10, 1, 9, 0),
+                        LocalDateTime.of(2024, 10, 1, 18, 0), SlotCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_noEnd_searchesDefaultWindow() {
+        assertParseSuccess(parser, " n/Alex Yeoh n/Betty Ho l/30 f/2024-10-01 09:00",
+                new SlotCommand(ALEX_AND_BETTY, Duration.ofMinutes(30), LocalDateTime.of(2024, 10, 1, 9, 0),
+                        LocalDateTime.of(2024, 10, 8, 9, 0), SlotCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing buyer, duration or start
+        assertParseFailure(parser, " l/60 f/2024-10-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/Alex Yeoh f/2024-10-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/Alex Yeoh l/60", MESSAGE_INVALID_FORMAT);
+
+        // non-empty preamble
+        assertParseFailure(parser, " soon n/Alex Yeoh l/60 f/2024-10-01", MESSAGE_INVALID_FORMAT);
+
+        // invalid values
+        assertParseFailure(parser, " n/Alex Yeoh l/0 f/2024-10-01", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " n/Alex Yeoh l/an hour f/2024-10-01", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " n/Alex Yeoh l/60 f/2024-02-30", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " n/Alex Yeoh l/60 f/2024-10-01 k/0", ParserUtil.MESSAGE_INVALID_COUNT);
+
+        // end not after start
+        assertParseFailure(parser, " n/Alex Yeoh l/60 f/2024-10-02 t/2024-10-01",
+                SlotCommandParser.MESSAGE_INVALID_RANGE);
+
+        // duplicate prefixes
+        assertParseFailure(parser, " n/Alex Yeoh l/60 l/30 f/2024-10-01",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_DURATION));
+    }
+}
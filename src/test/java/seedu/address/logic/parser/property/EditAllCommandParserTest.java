@@ -0,0 +1,68 @@
+package seedu.address.logic.parser.property;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_ALAN;
+import static seedu.address.logic.commands.CommandTestUtil.ASKING_PRICE_DESC_BRENDA;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_ASKING_PRICE_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.PROPERTY_TYPE_DESC_BRENDA;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ASKING_PRICE_BRENDA;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PROPERTY_TYPE_BRENDA;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.property.EditAllCommand;
+import seedu.address.logic.commands.property.EditCommand;
+import seedu.address.model.property.AskingPrice;
+import seedu.address.testutil.property.EditPropertyDescriptorBuilder;
+
+public class EditAllCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditAllCommand.MESSAGE_USAGE);
+
+    private EditAllCommandParser parser = new EditAllCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no range specified
+        assertParseFailure(parser, PROPERTY_TYPE_DESC_BRENDA, MESSAGE_INVALID_FORMAT);
+
+        // no field specified
+        assertParseFailure(parser, "1-5", EditCommand.MESSAGE_NOT_EDITED);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        // first index after last
+        assertParseFailure(parser, "5-1" + PROPERTY_TYPE_DESC_BRENDA, MESSAGE_INVALID_FORMAT);
+
+        // address cannot be edited for many properties
+        assertParseFailure(parser, "1-5" + ADDRESS_DESC_ALAN, EditAllCommand.MESSAGE_ADDRESS_NOT_EDITABLE);
+
+        // invalid field
+        assertParseFailure(parser, "1-5" + INVALID_ASKING_PRICE_DESC, AskingPrice.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validRange_success() {
+        String userInput = "2-250" + PROPERTY_TYPE_DESC_BRENDA + ASKING_PRICE_DESC_BRENDA;
+        EditAllCommand expectedCommand = new EditAllCommand(IndexRange.between(INDEX_SECOND, Index.fromOneBased(250)),
+                new EditPropertyDescriptorBuilder().withPropertyType(VALID_PROPERTY_TYPE_BRENDA)
+                        .withAskingPrice(VALID_ASKING_PRICE_BRENDA).build());
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    public void parse_allShown_success() {
+        String userInput = KEYWORD_ALL_SHOWN + PROPERTY_TYPE_DESC_BRENDA;
+        EditAllCommand expectedCommand = new EditAllCommand(IndexRange.all(),
+                new EditPropertyDescriptorBuilder().withPropertyType(VALID_PROPERTY_TYPE_BRENDA).build());
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+}
@@ -16,7 +16,9 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.property.FindCommand;
+import seedu.address.model.index.FuzzyQuery;
 import seedu.address.model.property.Address;
+import seedu.address.model.property.AddressContainsFragmentPredicate;
 import seedu.address.model.property.AddressContainsKeywordsPredicate;
 import seedu.address.model.property.LandlordName;
 import seedu.address.model.property.LandlordNameContainsKeywordsPredicate;
@@ -48,6 +50,22 @@ public class FindCommandParserTest {
                 String.format(Address.MESSAGE_CONSTRAINTS, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_validFragment_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new AddressContainsFragmentPredicate("#12-"));
+
+        assertParseSuccess(parser, " pa/#12-", expectedFindCommand);
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + " pa/  #12-  ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFragment_failParse() {
+        assertParseFailure(parser, " pa/ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        assertParseFailure(parser, " pa/Semb a/Sembawang", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MESSAGE_USAGE));
+        assertParseFailure(parser, " pa/Semb n/John", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validLandlord_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -60,6 +78,22 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, PREAMBLE_WHITESPACE + LANDLORD_FIND_DESC, expectedFindCommand);
     }
 
+    @Test
+    public void parse_validDistance_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new FuzzyQuery(Arrays.asList("Jerald", "James"), 1));
+
+        assertParseSuccess(parser, LANDLORD_FIND_DESC + " d/1", expectedFindCommand);
+        assertParseSuccess(parser, " d/1" + LANDLORD_FIND_DESC, expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidDistance_failParse() {
+        assertParseFailure(parser, LANDLORD_FIND_DESC + " d/9", FuzzyQuery.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, ADDRESS_FIND_DESC + " d/1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MESSAGE_USAGE));
+        assertParseFailure(parser, " pa/#12- d/1", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidLandlordNameFormat_failParse() {
         assertParseFailure(parser, INVALID_PROPERTY_FIND_DESC,
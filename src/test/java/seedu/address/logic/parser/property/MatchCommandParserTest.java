@@ -0,0 +1,38 @@
+package seedu.address.logic.parser.property;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.NewMatchesCommand;
+import seedu.address.logic.commands.property.MatchCommand;
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.match.MatchEngine;
+
+public class MatchCommandParserTest {
+
+    private MatchCommandParser parser = new MatchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMatchCommand() {
+        assertParseSuccess(parser, "1", new MatchCommand(INDEX_FIRST, MatchEngine.DEFAULT_LIMIT));
+        assertParseSuccess(parser, " 1 k/3", new MatchCommand(INDEX_FIRST, 3));
+        assertParseSuccess(parser, " all", new MatchCommand(null, MatchEngine.DEFAULT_LIMIT));
+        assertParseSuccess(parser, " ALL k/10", new MatchCommand(null, 10));
+        assertParseSuccess(parser, " new", new NewMatchesCommand());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " k/3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MatchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 1 k/0", ParserUtil.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 1 k/3 k/4", Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_COUNT));
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.logic.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.testutil.meetup.MeetUpBuilder;
+
+public class ReminderServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(at(2024, 10, 1, 8, 0), ZoneOffset.UTC);
+    private static final Duration LEAD_TIME = Duration.ofMinutes(30);
+
+    private static final MeetUp VIEWING = new MeetUpBuilder().withSubject("Viewing").withFrom("2024-10-01 09:00")
+            .withTo("2024-10-01 10:00").withAddedBuyers("Zed", "Alex Yeoh").build();
+    private static final MeetUp LUNCH = new MeetUpBuilder().withSubject("Lunch").withFrom("2024-10-01 12:00")
+            .withTo("2024-10-01 13:00").build();
+
+    private final ObservableList<MeetUp> meetUps = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_negativeLeadTime_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ReminderService(meetUps, Duration.ofMinutes(-1), CLOCK));
+    }
+
+    @Test
+    public void tick_reminderDue_remindsOnce() {
+        meetUps.add(VIEWING);
+        ReminderService service = new ReminderService(meetUps, LEAD_TIME, CLOCK);
+
+        assertEquals(List.of(), service.tick(at(2024, 10, 1, 8, 29)));
+        assertEquals(List.of(reminder(VIEWING, "2024-10-01 09:00", "Alex Yeoh, Zed")),
+                service.tick(at(2024, 10, 1, 8, 30)));
+        assertEquals(List.of(), service.tick(at(2024, 10, 1, 8, 31)));
+        assertEquals(0, service.getPendingCount());
+    }
+
+    @Test
+    public void constructor_startedMeetUp_notReminded() {
+        MeetUp started = new MeetUpBuilder().withFrom("2024-10-01 07:30").withTo("2024-10-01 09:00").build();
+        MeetUp startingSoon = new MeetUpBuilder().withSubject("Soon").withFrom("2024-10-01 08:10")
+                .withTo("2024-10-01 09:00").build();
+        meetUps.addAll(started, startingSoon);
+        ReminderService service = new ReminderService(meetUps, LEAD_TIME, CLOCK);
+
+        // a meet-up starting within the lead time is reminded of on the next tick
+        assertEquals(1, service.getPendingCount());
+        assertEquals(List.of(reminder(startingSoon, "2024-10-01 08:10", MeetUpBuilder.DEFAULT_ADDED_BUYER)),
+                service.tick(at(2024, 10, 1, 8, 0).plusSeconds(1)));
+    }
+
+    @Test
+    public void tick_severalDue_remindsInOrder() {
+        meetUps.addAll(LUNCH, VIEWING);
+        ReminderService service = new ReminderService(meetUps, LEAD_TIME, CLOCK);
+
+        assertEquals(List.of(reminder(VIEWING, "2024-10-01 09:00", "Alex Yeoh, Zed"),
+                reminder(LUNCH, "2024-10-01 12:00", MeetUpBuilder.DEFAULT_ADDED_BUYER)),
+                service.tick(at(2024, 10, 2, 0, 0)));
+    }
+
+    @Test
+    public void onChanged_meetUpsAddedEditedAndDeleted_rescheduled() {
+        ReminderService service = new ReminderService(meetUps, LEAD_TIME, CLOCK);
+        meetUps.addAll(VIEWING, LUNCH);
+        assertEquals(2, service.getPendingCount());
+
+        meetUps.remove(LUNCH);
+        assertEquals(1, service.getPendingCount());
+
+        MeetUp movedViewing = new MeetUpBuilder(VIEWING).withFrom("2024-10-01 15:00").withTo("2024-10-01 16:00")
+                .build();
+        meetUps.set(0, movedViewing);
+        assertEquals(1, service.getPendingCount());
+        assertEquals(List.of(), service.tick(at(2024, 10, 1, 8, 30)));
+        assertEquals(List.of(reminder(movedViewing, "2024-10-01 15:00", "Alex Yeoh, Zed")),
+                service.tick(at(2024, 10, 1, 14, 30)));
+
+        meetUps.clear();
+        assertEquals(0, service.getPendingCount());
+    }
+
+    @Test
+    public void tick_repeatingMeetUp_remindsOfEachOccurrence() {
+        MeetUp series = new MeetUpBuilder().withSubject("Standup").withFrom("2024-10-01 09:00")
+                .withTo("2024-10-01 09:15").withRecurrence("daily", "2024-10-03", "2024-10-02").build();
+        meetUps.add(series);
+        ReminderService service = new ReminderService(meetUps, LEAD_TIME, CLOCK);
+
+        assertEquals(List.of(reminder(series, "2024-10-01 09:00", MeetUpBuilder.DEFAULT_ADDED_BUYER)),
+                service.tick(at(2024, 10, 1, 8, 30)));
+        assertEquals(List.of(), service.tick(at(2024, 10, 2, 8, 30)));
+        assertEquals(List.of(reminder(series, "2024-10-03 09:00", MeetUpBuilder.DEFAULT_ADDED_BUYER)),
+                service.tick(at(2024, 10, 3, 8, 30)));
+        assertEquals(0, service.getPendingCount());
+    }
+
+    private static String reminder(MeetUp meetUp, String start, String buyers) {
+        return String.format(ReminderService.MESSAGE_REMINDER, meetUp.getSubject(), start, buyers);
+    }
+
+    private static Instant at(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).toInstant(ZoneOffset.UTC);
+    }
+}
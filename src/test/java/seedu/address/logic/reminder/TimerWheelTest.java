@@ -0,0 +1,103 @@
+package seedu.address.logic.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TimerWheelTest {
+
+    @Test
+    public void constructor_noBuckets_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel<String>(0, 0));
+    }
+
+    @Test
+    public void advanceTo_expiresItemsInOrderOfDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(8, 100);
+        wheel.schedule("later", 105);
+        wheel.schedule("sooner", 103);
+        wheel.schedule("next turn", 111);
+
+        assertEquals(List.of(), wheel.advanceTo(102));
+        assertEquals(List.of("sooner", "later"), wheel.advanceTo(110));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("next turn"), wheel.advanceTo(111));
+        assertEquals(0, wheel.size());
+
+        // moving backwards does nothing
+        assertEquals(List.of(), wheel.advanceTo(50));
+        assertEquals(111, wheel.getCurrentTick());
+    }
+
+    @Test
+    public void schedule_pastDeadline_expiresOnNextTick() {
+        TimerWheel<String> wheel = new TimerWheel<>(8, 100);
+        wheel.schedule("overdue", 42);
+        assertEquals(List.of("overdue"), wheel.advanceTo(101));
+    }
+
+    @Test
+    public void schedule_scheduledItem_replacesDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(8, 0);
+        String item = "item";
+        wheel.schedule(item, 3);
+        wheel.schedule(item, 20);
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(), wheel.advanceTo(10));
+        assertEquals(List.of(item), wheel.advanceTo(20));
+    }
+
+    @Test
+    public void cancel() {
+        TimerWheel<String> wheel = new TimerWheel<>(8, 0);
+        wheel.schedule("kept", 5);
+        wheel.schedule("cancelled", 5);
+
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        assertFalse(wheel.contains("cancelled"));
+        assertEquals(List.of("kept"), wheel.advanceTo(5));
+    }
+
+    @Test
+    public void advanceTo_randomSchedule_matchesBruteForce() {
+        Random random = new Random(37);
+        TimerWheel<Integer> wheel = new TimerWheel<>(16, 0);
+        Map<Integer, Long> pending = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            long deadline = random.nextInt(2000);
+            wheel.schedule(i, deadline);
+            pending.put(i, Math.max(deadline, 1));
+        }
+
+        long tick = 0;
+        while (!pending.isEmpty()) {
+            // jumps are sometimes longer than a turn of the wheel
+            tick += 1 + random.nextInt(40);
+            List<Integer> expired = wheel.advanceTo(tick);
+
+            Set<Integer> due = new HashSet<>();
+            for (Map.Entry<Integer, Long> entry : pending.entrySet()) {
+                if (entry.getValue() <= tick) {
+                    due.add(entry.getKey());
+                }
+            }
+            assertEquals(due, new HashSet<>(expired));
+            for (int i = 1; i < expired.size(); i++) {
+                assertTrue(pending.get(expired.get(i - 1)) <= pending.get(expired.get(i)));
+            }
+            due.forEach(pending::remove);
+            assertEquals(pending.size(), wheel.size());
+        }
+    }
+}
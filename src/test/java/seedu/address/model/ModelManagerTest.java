@@ -12,14 +12,29 @@ import static seedu.address.testutil.meetup.TypicalMeetUps.PITCH_MEETUP;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.buyer.Buyer;
 import seedu.address.model.buyer.NameContainsKeywordsPredicate;
+import seedu.address.model.match.Match;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.buyer.BuyerBuilder;
 import seedu.address.testutil.buyer.BuyerListBuilder;
+import seedu.address.testutil.meetup.MeetUpBuilder;
 import seedu.address.testutil.meetup.MeetUpListBuilder;
+import seedu.address.testutil.property.PropertyBuilder;
 
 public class ModelManagerTest {
 
@@ -124,6 +139,338 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredBuyerList().remove(0));
     }
 
+    @Test
+    public void getNewMatchList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> modelManager.getNewMatchList().remove(0));
+    }
+
+    @Test
+    public void addProperty_affordableBuyers_addedToNewMatches() {
+        modelManager.addBuyer(ALICE);
+        modelManager.addBuyer(BENSON);
+        assertTrue(modelManager.getNewMatchList().isEmpty());
+
+        Property property = new PropertyBuilder().withAskingPrice("800000").build();
+        modelManager.addProperty(property);
+        assertEquals(1, modelManager.getNewMatchList().size());
+        assertEquals(ALICE, modelManager.getNewMatchList().get(0).getBuyer());
+
+        // edited buyer carried over to existing new matches
+        Buyer editedAlice = new BuyerBuilder(ALICE).withPhone("91234567").build();
+        modelManager.setBuyer(ALICE, editedAlice);
+        assertEquals(1, modelManager.getNewMatchList().size());
+        assertEquals(editedAlice, modelManager.getNewMatchList().get(0).getBuyer());
+
+        // edited budget now qualifies -> appended
+        Buyer richerBenson = new BuyerBuilder(BENSON).withBudget("900,000").build();
+        modelManager.setBuyer(BENSON, richerBenson);
+        assertEquals(2, modelManager.getNewMatchList().size());
+        assertEquals(richerBenson, modelManager.getNewMatchList().get(1).getBuyer());
+
+        // deleted property removed from new matches
+        modelManager.deleteProperty(property);
+        assertTrue(modelManager.getNewMatchList().isEmpty());
+
+        modelManager.addProperty(property);
+        modelManager.clearNewMatches();
+        assertTrue(modelManager.getNewMatchList().isEmpty());
+    }
+
+    @Test
+    public void replaceBuyers_budgetsEdited_newMatchesUpdated() {
+        Property property = new PropertyBuilder().withAskingPrice("800000").build();
+        modelManager.addBuyer(ALICE);
+        modelManager.addBuyer(BENSON);
+        modelManager.addProperty(property);
+        assertEquals(1, modelManager.getNewMatchList().size());
+
+        // edited buyer carried over to existing new matches, and newly qualifying buyer appended
+        Buyer editedAlice = new BuyerBuilder(ALICE).withPhone("91234567").build();
+        Buyer richerBenson = new BuyerBuilder(BENSON).withBudget("900,000").build();
+        modelManager.replaceBuyers(Map.of(ALICE, editedAlice, BENSON, richerBenson));
+        assertEquals(Arrays.asList(editedAlice, richerBenson), modelManager.getUnfilteredBuyerList());
+        assertEquals(Arrays.asList(editedAlice, richerBenson), modelManager.getNewMatchList().stream()
+                .map(Match::getBuyer).collect(Collectors.toList()));
+
+        // deleted buyers removed from new matches
+        modelManager.deleteBuyers(Arrays.asList(editedAlice, richerBenson));
+        assertTrue(modelManager.getUnfilteredBuyerList().isEmpty());
+        assertTrue(modelManager.getNewMatchList().isEmpty());
+    }
+
+    @Test
+    public void findUpcomingMeetUpsAt_meetUpsAtProperty_upcomingInOrder() {
+        Property property = new PropertyBuilder().build();
+        MeetUp past = new MeetUpBuilder().withSubject("Past").withFrom("2024-09-01 10:00")
+                .withTo("2024-09-01 11:00").withProperty(property.getAddress().value).build();
+        MeetUp weekly = new MeetUpBuilder().withSubject("Weekly").withFrom("2024-09-02 10:00")
+                .withTo("2024-09-02 11:00").withRecurrence("weekly", "2024-12-31")
+                .withProperty(property.getAddress().value).build();
+        MeetUp later = new MeetUpBuilder().withSubject("Later").withFrom("2024-10-03 10:00")
+                .withTo("2024-10-03 11:00").withProperty(property.getAddress().value).build();
+        modelManager.addProperty(property);
+        modelManager.addMeetUps(Arrays.asList(later, past, weekly, PITCH_MEETUP));
+
+        LocalDateTime now = LocalDateTime.of(2024, 10, 1, 0, 0);
+        assertEquals(Arrays.asList(later, weekly), modelManager.findUpcomingMeetUpsAt(property.getAddress(), now));
+        assertEquals(Optional.of(property), modelManager.findPropertyByAddress(property.getAddress()));
+        assertEquals(Optional.empty(), modelManager.findPropertyByAddress(new Address("Nowhere")));
+    }
+
+    @Test
+    public void setProperty_addressEdited_meetUpsMoved() {
+        Property property = new PropertyBuilder().build();
+        MeetUp meetUp = new MeetUpBuilder().withProperty(property.getAddress().value).build();
+        modelManager.addProperty(property);
+        modelManager.addMeetUp(meetUp);
+        modelManager.addMeetUp(PITCH_MEETUP);
+
+        // other fields edited -> meet-ups kept
+        Property cheaper = new PropertyBuilder(property).withAskingPrice("1").build();
+        modelManager.setProperty(property, cheaper);
+        assertEquals(Arrays.asList(meetUp, PITCH_MEETUP), modelManager.getUnfilteredMeetUpList());
+
+        // address edited -> meet-ups moved
+        Property moved = new PropertyBuilder(cheaper).withAddress("Orchard Road 1").build();
+        modelManager.setProperty(cheaper, moved);
+        MeetUp movedMeetUp = new MeetUpBuilder(meetUp).withProperty("Orchard Road 1").build();
+        assertEquals(Arrays.asList(movedMeetUp, PITCH_MEETUP), modelManager.getUnfilteredMeetUpList());
+        LocalDateTime start = LocalDateTime.MIN;
+        assertTrue(modelManager.findUpcomingMeetUpsAt(property.getAddress(), start).isEmpty());
+        assertEquals(Arrays.asList(movedMeetUp), modelManager.findUpcomingMeetUpsAt(moved.getAddress(), start));
+
+        // property deleted -> meet-ups kept at no property
+        modelManager.deleteProperty(moved);
+        assertEquals(Arrays.asList(meetUp.withProperty(null), PITCH_MEETUP), modelManager.getUnfilteredMeetUpList());
+    }
+
+    @Test
+    public void deleteProperties_meetUpsAtProperties_meetUpsUnlinked() {
+        Property property = new PropertyBuilder().build();
+        Property other = new PropertyBuilder().withAddress("Orchard Road 1").build();
+        MeetUp meetUp = new MeetUpBuilder().withProperty(property.getAddress().value).build();
+        MeetUp otherMeetUp = new MeetUpBuilder(PITCH_MEETUP).withProperty(other.getAddress().value).build();
+        modelManager.addProperty(property);
+        modelManager.addProperty(other);
+        modelManager.addMeetUps(Arrays.asList(meetUp, otherMeetUp, NETWORKING_MEETUP));
+
+        modelManager.deleteProperties(Arrays.asList(property, other));
+        assertTrue(modelManager.getUnfilteredPropertyList().isEmpty());
+        assertEquals(Arrays.asList(meetUp.withProperty(null), otherMeetUp.withProperty(null), NETWORKING_MEETUP),
+                modelManager.getUnfilteredMeetUpList());
+    }
+
+    @Test
+    public void setPropertyList_propertiesRemoved_meetUpsUnlinked() {
+        Property property = new PropertyBuilder().build();
+        MeetUp meetUp = new MeetUpBuilder().withProperty(property.getAddress().value).build();
+        modelManager.addProperty(property);
+        modelManager.addMeetUp(meetUp);
+
+        modelManager.setPropertyList(new PropertyList());
+        assertEquals(Arrays.asList(meetUp.withProperty(null)), modelManager.getUnfilteredMeetUpList());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_allUndone() {
+        Property property = new PropertyBuilder().withAskingPrice("800000").build();
+        MeetUp meetUp = new MeetUpBuilder().withProperty(property.getAddress().value).build();
+        modelManager.addBuyer(ALICE);
+        modelManager.updateFilteredBuyerList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        ModelManager expectedModel = new ModelManager(modelManager.getBuyerList(), new UserPrefs(),
+                modelManager.getMeetUpList(), modelManager.getPropertyList());
+        expectedModel.updateFilteredBuyerList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        modelManager.startTransaction();
+        modelManager.addBuyer(BENSON);
+        modelManager.addProperty(property);
+        modelManager.addMeetUp(meetUp);
+        modelManager.deleteBuyer(ALICE);
+        modelManager.rollbackTransaction();
+
+        assertEquals(expectedModel, modelManager);
+        assertTrue(modelManager.getNewMatchList().isEmpty());
+        assertTrue(modelManager.findUpcomingMeetUpsAt(property.getAddress(), LocalDateTime.MIN).isEmpty());
+    }
+
+    @Test
+    public void commitTransaction_changesMade_allKept() {
+        modelManager.startTransaction();
+        modelManager.addBuyer(ALICE);
+        modelManager.commitTransaction();
+
+        assertTrue(modelManager.hasBuyer(ALICE));
+        // a new transaction can start once the last has ended
+        modelManager.startTransaction();
+        modelManager.rollbackTransaction();
+        assertTrue(modelManager.hasBuyer(ALICE));
+    }
+
+    @Test
+    public void transaction_invalidState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+
+        modelManager.startTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.startTransaction());
+    }
+
+    @Test
+    public void getSnapshot_afterChanges_unchangedAndVersioned() {
+        ModelSnapshot initial = modelManager.getSnapshot();
+        modelManager.addBuyer(ALICE);
+        ModelSnapshot afterAdd = modelManager.getSnapshot();
+        modelManager.deleteBuyer(ALICE);
+
+        // earlier snapshots keep the lists as they were
+        assertTrue(initial.getBuyerList().isEmpty());
+        assertEquals(Arrays.asList(ALICE), afterAdd.getBuyerList());
+        assertTrue(modelManager.getSnapshot().getBuyerList().isEmpty());
+        assertTrue(initial.getVersion() < afterAdd.getVersion());
+        assertTrue(afterAdd.getVersion() < modelManager.getSnapshot().getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> afterAdd.getBuyerList().remove(0));
+
+        // a change that leaves the lists as they are publishes nothing
+        ModelSnapshot beforeFilter = modelManager.getSnapshot();
+        modelManager.updateFilteredBuyerList(PREDICATE_SHOW_ALL_BUYERS);
+        assertEquals(beforeFilter, modelManager.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_duringTransaction_publishedWhenEnded() {
+        Property property = new PropertyBuilder().build();
+        ModelSnapshot beforeTransaction = modelManager.getSnapshot();
+
+        modelManager.startTransaction();
+        modelManager.addBuyer(ALICE);
+        modelManager.addProperty(property);
+        assertEquals(beforeTransaction, modelManager.getSnapshot());
+        modelManager.commitTransaction();
+
+        ModelSnapshot committed = modelManager.getSnapshot();
+        assertEquals(Arrays.asList(ALICE), committed.getBuyerList());
+        assertEquals(Arrays.asList(property), committed.getPropertyList());
+        assertEquals(beforeTransaction.getVersion() + 1, committed.getVersion());
+
+        modelManager.startTransaction();
+        modelManager.deleteBuyer(ALICE);
+        modelManager.rollbackTransaction();
+        assertEquals(Arrays.asList(ALICE), modelManager.getSnapshot().getBuyerList());
+    }
+
+    @Test
+    public void undoRedo_changesCommitted_restoresEachVersion() {
+        Property property = new PropertyBuilder().build();
+        assertFalse(modelManager.canUndo());
+
+        modelManager.addBuyer(ALICE);
+        modelManager.commitVersion();
+        modelManager.addBuyer(BENSON);
+        modelManager.addProperty(property);
+        modelManager.commitVersion();
+        assertTrue(modelManager.canUndo());
+        assertFalse(modelManager.canRedo());
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredBuyerList());
+        assertEquals(Arrays.asList(), modelManager.getFilteredPropertyList());
+        modelManager.undo();
+        assertEquals(Arrays.asList(), modelManager.getFilteredBuyerList());
+        assertFalse(modelManager.canUndo());
+        assertThrows(IllegalStateException.class, () -> modelManager.undo());
+
+        modelManager.redo();
+        modelManager.redo();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredBuyerList());
+        assertEquals(Arrays.asList(property), modelManager.getFilteredPropertyList());
+        assertFalse(modelManager.canRedo());
+        assertThrows(IllegalStateException.class, () -> modelManager.redo());
+    }
+
+    @Test
+    public void undo_uncommittedChange_undoesIt() {
+        modelManager.addBuyer(ALICE);
+        assertTrue(modelManager.canUndo());
+        modelManager.undo();
+        assertEquals(Arrays.asList(), modelManager.getFilteredBuyerList());
+
+        modelManager.redo();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredBuyerList());
+    }
+
+    @Test
+    public void redo_changeMadeAfterUndo_cannotRedo() {
+        modelManager.addBuyer(ALICE);
+        modelManager.commitVersion();
+        modelManager.undo();
+        assertTrue(modelManager.canRedo());
+
+        modelManager.addBuyer(BENSON);
+        assertFalse(modelManager.canRedo());
+        modelManager.commitVersion();
+        assertFalse(modelManager.canRedo());
+        modelManager.undo();
+        assertEquals(Arrays.asList(), modelManager.getFilteredBuyerList());
+    }
+
+    @Test
+    public void undo_beyondUndoLimit_keepsOnlyLatestChanges() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoLimit(1);
+        modelManager = new ModelManager(new BuyerList(), userPrefs, new MeetUpList(), new PropertyList());
+
+        modelManager.addBuyer(ALICE);
+        modelManager.commitVersion();
+        modelManager.addBuyer(BENSON);
+        modelManager.commitVersion();
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredBuyerList());
+        assertFalse(modelManager.canUndo());
+
+        userPrefs.setUndoLimit(0);
+        modelManager = new ModelManager(new BuyerList(), userPrefs, new MeetUpList(), new PropertyList());
+        modelManager.addBuyer(ALICE);
+        modelManager.commitVersion();
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void undo_setBuyer_changesFilteredListOnlyAtThatBuyer() {
+        modelManager.addBuyer(ALICE);
+        modelManager.addBuyer(BENSON);
+        modelManager.commitVersion();
+        Buyer editedBenson = new BuyerBuilder(BENSON).withEmail("benson@example.com").build();
+        modelManager.setBuyer(BENSON, editedBenson);
+        modelManager.commitVersion();
+
+        List<String> changes = new ArrayList<>();
+        modelManager.getFilteredBuyerList().addListener((ListChangeListener<Buyer>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":-" + change.getRemovedSize() + "+" + change.getAddedSize());
+            }
+        });
+        modelManager.undo();
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredBuyerList());
+        assertEquals(List.of("1:-1+1"), changes);
+    }
+
+    @Test
+    public void rollbackTransaction_afterCommittedVersions_keepsUndoHistory() {
+        modelManager.addBuyer(ALICE);
+        modelManager.commitVersion();
+
+        modelManager.startTransaction();
+        modelManager.addBuyer(BENSON);
+        modelManager.commitVersion();
+        modelManager.rollbackTransaction();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredBuyerList());
+        assertFalse(modelManager.canRedo());
+        modelManager.undo();
+        assertEquals(Arrays.asList(), modelManager.getFilteredBuyerList());
+    }
+
     @Test
     public void equals() {
         BuyerList buyerList = new BuyerListBuilder().withBuyer(ALICE).withBuyer(BENSON).build();
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +21,22 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setBuyerListFilePath(null));
     }
 
+    @Test
+    public void setReminderLeadMinutes() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(Duration.ofMinutes(30), userPrefs.getReminderLeadTime());
+        userPrefs.setReminderLeadMinutes(5);
+        assertEquals(Duration.ofMinutes(5), new UserPrefs(userPrefs).getReminderLeadTime());
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setReminderLeadMinutes(-1));
+    }
+
+    @Test
+    public void setUndoLimit() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(100, userPrefs.getUndoLimit());
+        userPrefs.setUndoLimit(0);
+        assertEquals(0, new UserPrefs(userPrefs).getUndoLimit());
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoLimit(-1));
+    }
+
 }
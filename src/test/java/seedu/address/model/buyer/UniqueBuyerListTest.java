@@ -12,6 +12,7 @@ import static seedu.address.testutil.buyer.TypicalBuyers.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +128,38 @@ public class UniqueBuyerListTest {
         assertEquals(expectedUniqueBuyerList, uniqueBuyerList);
     }
 
+    @Test
+    public void replaceBuyers_sameBuyers_replacedInPlace() {
+        uniqueBuyerList.add(ALICE);
+        uniqueBuyerList.add(BOB);
+        Buyer editedBob = new BuyerBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniqueBuyerList.replaceBuyers(Map.of(BOB, editedBob));
+        assertEquals(Arrays.asList(ALICE, editedBob), uniqueBuyerList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceBuyers_invalidReplacement_throwsAndReplacesNone() {
+        uniqueBuyerList.add(ALICE);
+        assertThrows(DuplicateBuyerException.class, () -> uniqueBuyerList.replaceBuyers(Map.of(ALICE, BOB)));
+        assertThrows(BuyerNotFoundException.class, () -> uniqueBuyerList.replaceBuyers(Map.of(ALICE, ALICE, BOB, BOB)));
+        assertEquals(Arrays.asList(ALICE), uniqueBuyerList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingBuyers_removesBuyers() {
+        uniqueBuyerList.add(ALICE);
+        uniqueBuyerList.add(BOB);
+        uniqueBuyerList.removeAll(Arrays.asList(BOB, ALICE));
+        assertEquals(new UniqueBuyerList(), uniqueBuyerList);
+    }
+
+    @Test
+    public void removeAll_buyerDoesNotExist_throwsAndRemovesNone() {
+        uniqueBuyerList.add(ALICE);
+        assertThrows(BuyerNotFoundException.class, () -> uniqueBuyerList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertEquals(Arrays.asList(ALICE), uniqueBuyerList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setBuyers_nullUniqueBuyerList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueBuyerList.setBuyers((UniqueBuyerList) null));
@@ -0,0 +1,98 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeIndexTest {
+
+    private final ObservableList<String> source =
+            FXCollections.observableArrayList("Alice Pauline", "Benson Meier", "Elle Meyer");
+    private final BkTreeIndex<String> index = new BkTreeIndex<>(source, Collections::singletonList);
+
+    @Test
+    public void constructor_invalidMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FuzzyQuery(List.of("a"), -1));
+        assertThrows(IllegalArgumentException.class, () -> new FuzzyQuery(List.of("a"), FuzzyQuery.MAX_DISTANCE + 1));
+    }
+
+    @Test
+    public void find_existingEntities_mapsToSmallestDistance() {
+        assertEquals(Map.of("Elle Meyer", 0), asMap(index.find(new FuzzyQuery(List.of("MEYER"), 0))));
+        assertEquals(Map.of("Elle Meyer", 1), asMap(index.find(new FuzzyQuery(List.of("Meyr"), 1))));
+        assertEquals(Map.of("Elle Meyer", 1, "Benson Meier", 2),
+                asMap(index.find(new FuzzyQuery(List.of("meyr"), 2))));
+        assertEquals(Map.of("Elle Meyer", 0, "Alice Pauline", 1),
+                asMap(index.find(new FuzzyQuery(Arrays.asList("Alise", "elle"), 1))));
+        assertTrue(index.find(new FuzzyQuery(List.of("xyz"), 1)).isEmpty());
+    }
+
+    @Test
+    public void find_afterListChanges_followsList() {
+        source.add("Carl Kurz");
+        source.set(0, "Alice Tan");
+        source.remove("Benson Meier");
+        assertEquals(Map.of("Carl Kurz", 1), asMap(index.find(new FuzzyQuery(List.of("Kuurz"), 1))));
+        assertEquals(Map.of("Alice Tan", 1), asMap(index.find(new FuzzyQuery(Arrays.asList("Pauline", "Tam"), 1))));
+        assertEquals(Map.of("Elle Meyer", 1), asMap(index.find(new FuzzyQuery(List.of("Meier"), 1))));
+
+        source.setAll("Fiona Kunz");
+        assertTrue(index.find(new FuzzyQuery(Arrays.asList("Alice", "Meyer", "Kurz"), 0)).isEmpty());
+        assertEquals(Map.of("Fiona Kunz", 1), asMap(index.find(new FuzzyQuery(List.of("Kurz"), 1))));
+    }
+
+    @Test
+    public void find_randomWords_sameAsComparingEveryWord() {
+        Random random = new Random(7);
+        ObservableList<String> words = FXCollections.observableArrayList();
+        BkTreeIndex<String> wordIndex = new BkTreeIndex<>(words, Collections::singletonList);
+        for (int i = 0; i < 300; i++) {
+            words.add(randomWord(random));
+        }
+        for (int i = 0; i < 200; i++) {
+            words.remove(random.nextInt(words.size()));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String keyword = randomWord(random);
+            int maxDistance = random.nextInt(FuzzyQuery.MAX_DISTANCE + 1);
+            Map<String, Integer> expected = new HashMap<>();
+            for (String word : words) {
+                int distance = StringUtil.getEditDistance(keyword, word);
+                if (distance <= maxDistance) {
+                    expected.put(word, distance);
+                }
+            }
+            assertEquals(expected, asMap(wordIndex.find(new FuzzyQuery(List.of(keyword), maxDistance))));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    private static Map<String, Integer> asMap(Map<String, Integer> identityMap) {
+        Map<String, Integer> map = new HashMap<>();
+        new ArrayList<>(identityMap.keySet()).forEach(key -> map.merge(key, identityMap.get(key), Math::min));
+        return map;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class HashIndexTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList(
+            new String("9123 4567"), new String("91234567"), new String("8765-4321"));
+    private final HashIndex<String> index = new HashIndex<>(source, text -> text.replaceAll("\\D", ""));
+
+    @Test
+    public void find_normalizedKey_matchesEntities() {
+        assertEquals(identitySet(source.get(0), source.get(1)), index.find("91234567"));
+        assertEquals(identitySet(source.get(2)), index.find("87654321"));
+        assertTrue(index.find("9123").isEmpty());
+    }
+
+    @Test
+    public void find_afterListChanges_followsList() {
+        source.remove(0);
+        source.set(1, new String("9123-4567"));
+        source.add(new String("(8765) 4321"));
+        assertEquals(identitySet(source.get(0), source.get(1)), index.find("91234567"));
+        assertEquals(identitySet(source.get(2)), index.find("87654321"));
+
+        source.clear();
+        assertTrue(index.find("91234567").isEmpty());
+    }
+
+    @Test
+    public void find_returnedSet_isCopy() {
+        index.find("91234567").clear();
+        assertEquals(2, index.find("91234567").size());
+    }
+
+    private static Set<String> identitySet(String... entities) {
+        Set<String> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(set, entities);
+        return set;
+    }
+}
@@ -0,0 +1,217 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class IntervalIndexTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2024, 10, 1, 9, 0);
+
+    private final Booking morning = new Booking(Set.of("alex", "betty"), NINE, NINE.plusHours(2));
+    private final Booking lateMorning = new Booking(Set.of("alex"), NINE.plusHours(1), NINE.plusHours(3));
+    private final Booking noon = new Booking(Set.of("alex", "betty"), NINE.plusHours(3), NINE.plusHours(4));
+    private final Booking allDay = new Booking(Set.of("betty"), NINE.minusHours(1), NINE.plusHours(8));
+
+    private final ObservableList<Booking> source = FXCollections.observableArrayList(morning, lateMorning, noon);
+    private final IntervalIndex<Booking> index =
+            new IntervalIndex<>(source, Booking::getKeys, Booking::getStart, Booking::getEnd);
+
+    @Test
+    public void findOverlapping_sameKey_returnsOverlapsInStartOrder() {
+        assertEquals(List.of(morning, lateMorning), index.findOverlapping("alex", NINE.plusMinutes(30),
+                NINE.plusHours(2)));
+        assertEquals(List.of(morning), index.findOverlapping("betty", NINE.plusMinutes(30), NINE.plusHours(2)));
+
+        // touching intervals do not overlap
+        assertEquals(List.of(lateMorning), index.findOverlapping("alex", NINE.plusHours(2), NINE.plusHours(3)));
+        assertTrue(index.findOverlapping("betty", NINE.plusHours(2), NINE.plusHours(3)).isEmpty());
+
+        // unknown key
+        assertTrue(index.findOverlapping("carl", NINE, NINE.plusHours(8)).isEmpty());
+    }
+
+    @Test
+    public void findAllOverlaps_overlappingPairs_returnedPerKey() {
+        assertEquals(List.of(new IntervalIndex.Overlap<>("alex", morning, lateMorning)), index.findAllOverlaps());
+
+        source.add(allDay);
+        assertEquals(List.of(new IntervalIndex.Overlap<>("alex", morning, lateMorning),
+                new IntervalIndex.Overlap<>("betty", allDay, morning),
+                new IntervalIndex.Overlap<>("betty", allDay, noon)), index.findAllOverlaps());
+    }
+
+    @Test
+    public void findOverlapping_afterListChanges_followsList() {
+        source.remove(lateMorning);
+        source.set(0, allDay);
+        assertEquals(List.of(noon), index.findOverlapping("alex", NINE, NINE.plusHours(8)));
+        assertEquals(List.of(allDay, noon), index.findOverlapping("betty", NINE, NINE.plusHours(8)));
+
+        source.clear();
+        assertTrue(index.findOverlapping("betty", NINE, NINE.plusHours(8)).isEmpty());
+        assertTrue(index.findAllOverlaps().isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_randomIntervals_sameAsCheckingEveryEntity() {
+        Random random = new Random(34);
+        ObservableList<Booking> bookings = FXCollections.observableArrayList();
+        IntervalIndex<Booking> randomIndex =
+                new IntervalIndex<>(bookings, Booking::getKeys, Booking::getStart, Booking::getEnd);
+        for (int i = 0; i < 2000; i++) {
+            bookings.add(randomBooking(random));
+        }
+        for (int i = 0; i < 700; i++) {
+            bookings.remove(random.nextInt(bookings.size()));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            Booking query = randomBooking(random);
+            String key = query.getKeys().iterator().next();
+            List<Booking> expected = bookings.stream()
+                    .filter(booking -> booking.getKeys().contains(key))
+                    .filter(booking -> booking.getStart().isBefore(query.getEnd())
+                            && booking.getEnd().isAfter(query.getStart()))
+                    .sorted(Comparator.comparing(Booking::getStart))
+                    .collect(Collectors.toList());
+            assertEquals(expected, randomIndex.findOverlapping(key, query.getStart(), query.getEnd()));
+        }
+
+        List<IntervalIndex.Overlap<Booking>> expectedOverlaps = new ArrayList<>();
+        for (int i = 0; i < bookings.size(); i++) {
+            for (int j = 0; j < bookings.size(); j++) {
+                Booking first = bookings.get(i);
+                Booking second = bookings.get(j);
+                if (i != j && !first.getStart().isAfter(second.getStart())
+                        && (first.getStart().isBefore(second.getStart()) || i < j)
+                        && first.getEnd().isAfter(second.getStart())) {
+                    first.getKeys().stream().filter(second.getKeys()::contains)
+                            .forEach(key -> expectedOverlaps.add(new IntervalIndex.Overlap<>(key, first, second)));
+                }
+            }
+        }
+        assertEquals(expectedOverlaps.size(), randomIndex.findAllOverlaps().size());
+        assertTrue(randomIndex.findAllOverlaps().containsAll(expectedOverlaps));
+    }
+
+    @Test
+    public void findGaps_severalKeys_returnsEarliestCommonGaps() {
+        // alex is busy from 9:00 to 13:00, and betty from 9:00 to 11:00 and 12:00 to 13:00
+        assertEquals(List.of(new TimeSlot(NINE.minusHours(1), NINE),
+                new TimeSlot(NINE.plusHours(4), NINE.plusHours(8))), index.findGaps(List.of("alex", "betty"),
+                NINE.minusHours(1), NINE.plusHours(8), Duration.ofMinutes(30), 5));
+        assertEquals(List.of(new TimeSlot(NINE.plusHours(2), NINE.plusHours(3))),
+                index.findGaps(List.of("betty"), NINE, NINE.plusHours(4), Duration.ofHours(1), 5));
+
+        // gaps shorter than the length asked for are skipped, and at most the limit is returned
+        assertEquals(List.of(new TimeSlot(NINE.plusHours(4), NINE.plusHours(8))),
+                index.findGaps(List.of("alex", "betty"), NINE.minusHours(1), NINE.plusHours(8), Duration.ofHours(2),
+                        5));
+        assertEquals(List.of(new TimeSlot(NINE.minusHours(1), NINE)),
+                index.findGaps(List.of("alex", "betty"), NINE.minusHours(1), NINE.plusHours(8), Duration.ofHours(1),
+                        1));
+
+        // gaps are clipped to the window, and unknown keys are always free
+        assertEquals(List.of(new TimeSlot(NINE.plusHours(4), NINE.plusHours(5))),
+                index.findGaps(List.of("alex", "carl"), NINE.plusMinutes(30), NINE.plusHours(5), Duration.ofHours(1),
+                        5));
+        assertEquals(List.of(new TimeSlot(NINE, NINE.plusHours(1))),
+                index.findGaps(List.of("carl"), NINE, NINE.plusHours(1), Duration.ofHours(1), 5));
+        assertTrue(index.findGaps(List.of("alex"), NINE, NINE.plusHours(4), Duration.ofMinutes(15), 5).isEmpty());
+    }
+
+    @Test
+    public void findGaps_randomIntervals_sameAsCheckingEveryQuarterHour() {
+        Random random = new Random(35);
+        ObservableList<Booking> bookings = FXCollections.observableArrayList();
+        IntervalIndex<Booking> randomIndex =
+                new IntervalIndex<>(bookings, Booking::getKeys, Booking::getStart, Booking::getEnd);
+        for (int i = 0; i < 1000; i++) {
+            bookings.add(randomBooking(random));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            Set<String> keys = Set.of("buyer" + random.nextInt(10), "buyer" + (10 + random.nextInt(10)));
+            LocalDateTime start = NINE.plusMinutes(15L * random.nextInt(4 * 24 * 4));
+            int quarters = 1 + random.nextInt(4 * 24);
+            Duration minLength = Duration.ofMinutes(15L * (1 + random.nextInt(8)));
+            int limit = 1 + random.nextInt(5);
+
+            boolean[] busy = new boolean[quarters];
+            for (Booking booking : bookings) {
+                if (booking.getKeys().stream().noneMatch(keys::contains)) {
+                    continue;
+                }
+                for (int q = 0; q < quarters; q++) {
+                    LocalDateTime quarter = start.plusMinutes(15L * q);
+                    if (!booking.getStart().isAfter(quarter) && booking.getEnd().isAfter(quarter)) {
+                        busy[q] = true;
+                    }
+                }
+            }
+            List<TimeSlot> expected = new ArrayList<>();
+            for (int q = 0; q < quarters && expected.size() < limit; q++) {
+                int runEnd = q;
+                while (runEnd < quarters && !busy[runEnd]) {
+                    runEnd++;
+                }
+                if (15L * (runEnd - q) >= minLength.toMinutes()) {
+                    expected.add(new TimeSlot(start.plusMinutes(15L * q), start.plusMinutes(15L * runEnd)));
+                }
+                q = runEnd;
+            }
+            assertEquals(expected, randomIndex.findGaps(keys, start, start.plusMinutes(15L * quarters), minLength,
+                    limit));
+        }
+    }
+
+    private static Booking randomBooking(Random random) {
+        LocalDateTime start = NINE.plusMinutes(15L * random.nextInt(4 * 24 * 60));
+        Set<String> keys = random.nextBoolean()
+                ? Set.of("buyer" + random.nextInt(20))
+                : Set.of("buyer" + random.nextInt(10), "buyer" + (10 + random.nextInt(10)));
+        int quarters = 1 + random.nextInt(random.nextInt(50) == 0 ? 400 : 12);
+        return new Booking(keys, start, start.plusMinutes(15L * quarters));
+    }
+
+    /**
+     * An interval with keys, compared by identity.
+     */
+    private static class Booking {
+        private final Set<String> keys;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        Booking(Set<String> keys, LocalDateTime start, LocalDateTime end) {
+            this.keys = keys;
+            this.start = start;
+            this.end = end;
+        }
+
+        Set<String> getKeys() {
+            return keys;
+        }
+
+        LocalDateTime getStart() {
+            return start;
+        }
+
+        LocalDateTime getEnd() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+
+public class InvertedIndexTest {
+
+    private final ObservableList<String> source =
+            FXCollections.observableArrayList("Alice Pauline", "Benson Meier", "Daniel Meier");
+    private final InvertedIndex<String> index = new InvertedIndex<>(source, text -> text);
+
+    @Test
+    public void find_existingEntities_matchesWholeWordsIgnoringCase() {
+        assertEquals(setOf("Benson Meier", "Daniel Meier"), index.find(Collections.singletonList("mEiEr")));
+        assertEquals(setOf("Alice Pauline", "Daniel Meier"), index.find(Arrays.asList("alice", "DANIEL")));
+        assertTrue(index.find(Collections.singletonList("Mei")).isEmpty());
+        assertTrue(index.find(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void find_afterListChanges_followsList() {
+        source.add("Carl Meier");
+        source.set(0, "Alice Tan");
+        source.remove("Benson Meier");
+        assertEquals(setOf("Daniel Meier", "Carl Meier"), index.find(Collections.singletonList("meier")));
+        assertEquals(setOf("Alice Tan"), index.find(Arrays.asList("alice", "pauline")));
+
+        source.setAll("Elle Meyer");
+        assertTrue(index.find(Arrays.asList("alice", "meier", "daniel")).isEmpty());
+        assertEquals(setOf("Elle Meyer"), index.find(Collections.singletonList("ELLE")));
+    }
+
+    @Test
+    public void find_sameAsContainsWordIgnoreCase() {
+        List<String> keywords = Arrays.asList("pauline", "benson", "x");
+        for (String text : source) {
+            boolean expected = keywords.stream().anyMatch(keyword ->
+                    StringUtil.containsWordIgnoreCase(text, keyword));
+            assertEquals(expected, index.find(keywords).contains(text));
+        }
+    }
+
+    @Test
+    public void foldCase() {
+        assertEquals(InvertedIndex.foldCase("ABC"), InvertedIndex.foldCase("abc"));
+        assertEquals("abc1-", InvertedIndex.foldCase("aBc1-"));
+    }
+
+    private static Set<String> setOf(String... strings) {
+        return new HashSet<>(Arrays.asList(strings));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class JoinIndexTest {
+
+    private final ObservableList<String> places = FXCollections.observableArrayList("Home", "Office");
+    private final ObservableList<String> events = FXCollections.observableArrayList(
+            new String("lunch@home"), new String("dinner@home"), new String("meeting@office"), new String("walk"));
+    private final JoinIndex<String, String> index = new JoinIndex<>(places, String::toLowerCase, events,
+            event -> event.contains("@") ? Optional.of(event.substring(event.indexOf('@') + 1)) : Optional.empty());
+
+    @Test
+    public void find_initialLists_joined() {
+        assertEquals(Optional.of("Home"), index.findReferenced("home"));
+        assertEquals(Optional.empty(), index.findReferenced("park"));
+        assertEquals(identitySet(events.get(0), events.get(1)), index.findReferencing("home"));
+        assertEquals(identitySet(events.get(2)), index.findReferencing("office"));
+        assertTrue(index.findReferencing("park").isEmpty());
+        assertTrue(index.findDangling().isEmpty());
+    }
+
+    @Test
+    public void find_afterReferencingChanges_followsList() {
+        events.remove(0);
+        events.set(0, new String("dinner@office"));
+        events.add(new String("picnic@park"));
+        assertTrue(index.findReferencing("home").isEmpty());
+        assertEquals(identitySet(events.get(0), events.get(1)), index.findReferencing("office"));
+        assertEquals(identitySet(events.get(3)), index.findReferencing("park"));
+        assertEquals(identitySet(events.get(3)), index.findDangling());
+    }
+
+    @Test
+    public void find_afterReferencedChanges_referencesKept() {
+        places.remove("Home");
+        assertEquals(Optional.empty(), index.findReferenced("home"));
+        assertEquals(identitySet(events.get(0), events.get(1)), index.findReferencing("home"));
+        assertEquals(identitySet(events.get(0), events.get(1)), index.findDangling());
+
+        places.set(0, "OFFICE");
+        places.add("HOME");
+        assertEquals(Optional.of("OFFICE"), index.findReferenced("office"));
+        assertEquals(Optional.of("HOME"), index.findReferenced("home"));
+        assertTrue(index.findDangling().isEmpty());
+
+        places.clear();
+        events.clear();
+        assertTrue(index.findReferencing("home").isEmpty());
+        assertEquals(Optional.empty(), index.findReferenced("office"));
+    }
+
+    @Test
+    public void findReferencing_returnedSet_isCopy() {
+        index.findReferencing("home").clear();
+        assertEquals(2, index.findReferencing("home").size());
+    }
+
+    private static Set<String> identitySet(String... entities) {
+        Set<String> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(set, entities);
+        return set;
+    }
+}
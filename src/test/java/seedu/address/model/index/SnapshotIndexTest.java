@@ -0,0 +1,103 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+
+public class SnapshotIndexTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList(
+            IntStream.range(0, 100).mapToObj(i -> "e" + i).collect(Collectors.toList()));
+    private final SnapshotIndex<String> index = new SnapshotIndex<>(source);
+
+    @Test
+    public void getSnapshot_afterSmallChanges_followsListAndKeepsOldSnapshot() {
+        PersistentList<String> before = index.getSnapshot();
+        List<String> expectedBefore = List.copyOf(source);
+
+        source.add("added");
+        source.add(0, "first");
+        source.remove(50);
+        source.set(10, "replaced");
+        source.removeAll("e20", "e30");
+        source.subList(60, 63).clear();
+
+        assertEquals(source, index.getSnapshot());
+        assertEquals(expectedBefore, before);
+    }
+
+    @Test
+    public void getSnapshot_afterLargeChanges_followsList() {
+        source.setAll("a", "b", "c");
+        assertEquals(source, index.getSnapshot());
+
+        FXCollections.reverse(source);
+        assertEquals(source, index.getSnapshot());
+
+        source.clear();
+        assertEquals(source, index.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_noChange_sameSnapshot() {
+        PersistentList<String> before = index.getSnapshot();
+        source.removeAll("absent");
+        assertSame(before, index.getSnapshot());
+    }
+
+    @Test
+    public void restore_fewChanges_editsOnlyThoseEntities() {
+        PersistentList<String> before = index.getSnapshot();
+        source.set(5, "replaced");
+        source.add("added");
+
+        List<String> changes = new ArrayList<>();
+        source.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":-" + change.getRemovedSize() + "+" + change.getAddedSize());
+            }
+        });
+        SnapshotIndex.Difference<String> difference = index.restore(before);
+
+        assertEquals(before, source);
+        assertSame(before, index.getSnapshot());
+        assertEquals(List.of("5:-1+1", "100:-1+0"), changes);
+        assertEquals(List.of("replaced", "added"), difference.getRemoved());
+        assertEquals(List.of("e5"), difference.getAdded());
+    }
+
+    @Test
+    public void restore_manyChanges_replacesList() {
+        PersistentList<String> before = index.getSnapshot();
+        source.setAll("a", "b");
+
+        SnapshotIndex.Difference<String> difference = index.restore(before);
+
+        assertEquals(before, source);
+        assertEquals(List.of("a", "b"), difference.getRemoved());
+        assertEquals(before, difference.getAdded());
+
+        // the list follows later changes from the restored snapshot
+        source.remove(0);
+        assertEquals(source, index.getSnapshot());
+    }
+
+    @Test
+    public void restore_currentSnapshot_noChange() {
+        SnapshotIndex.Difference<String> difference = index.restore(index.getSnapshot());
+        assertTrue(difference.getRemoved().isEmpty());
+        assertTrue(difference.getAdded().isEmpty());
+    }
+}
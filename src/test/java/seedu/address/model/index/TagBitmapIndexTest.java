@@ -0,0 +1,113 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+public class TagBitmapIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag FAMILY = new Tag("family");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final ObservableList<Set<Tag>> source = FXCollections.observableArrayList(
+            Set.of(FRIENDS), Set.of(FRIENDS, OWES_MONEY), Set.of(FAMILY), Set.of());
+    private final TagBitmapIndex<Set<Tag>> index = new TagBitmapIndex<>(source, tags -> tags);
+
+    @Test
+    public void find_booleanCombinations_matchesTags() {
+        assertEquals(identitySet(source.get(0), source.get(1)), index.find(filterOf(anyOf(FRIENDS))));
+        assertEquals(identitySet(source.get(0), source.get(1), source.get(2)),
+                index.find(filterOf(anyOf(FRIENDS, FAMILY))));
+        assertEquals(identitySet(source.get(1)), index.find(filterOf(anyOf(FRIENDS), anyOf(OWES_MONEY))));
+        assertEquals(identitySet(source.get(0), source.get(2), source.get(3)),
+                index.find(filterOf(noneOf(OWES_MONEY))));
+        assertEquals(identitySet(source.get(0)), index.find(filterOf(anyOf(FRIENDS), noneOf(OWES_MONEY))));
+        assertTrue(index.find(filterOf(anyOf(new Tag("unknown")))).isEmpty());
+    }
+
+    @Test
+    public void find_afterListChanges_followsList() {
+        source.remove(0);
+        source.set(0, Set.of(FAMILY));
+        source.add(Set.of(FRIENDS, FAMILY));
+        assertEquals(identitySet(source.get(3)), index.find(filterOf(anyOf(FRIENDS))));
+        assertEquals(identitySet(source.get(0), source.get(1), source.get(3)),
+                index.find(filterOf(anyOf(FAMILY))));
+        assertEquals(identitySet(source.get(0), source.get(1)),
+                index.find(filterOf(anyOf(FAMILY), noneOf(FRIENDS))));
+
+        source.clear();
+        assertTrue(index.find(filterOf(noneOf(FRIENDS))).isEmpty());
+    }
+
+    @Test
+    public void find_randomFilters_sameAsTestingEveryEntity() {
+        Random random = new Random(31);
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tags.add(new Tag("tag" + i));
+        }
+        ObservableList<Set<Tag>> entities = FXCollections.observableArrayList();
+        TagBitmapIndex<Set<Tag>> randomIndex = new TagBitmapIndex<>(entities, entity -> entity);
+        for (int i = 0; i < 3000; i++) {
+            entities.add(randomTags(random, tags, 1 + random.nextInt(i % 100 == 0 ? 20 : 4)));
+        }
+        for (int i = 0; i < 1000; i++) {
+            entities.remove(random.nextInt(entities.size()));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            List<TagFilter.Clause> clauses = new ArrayList<>();
+            for (int j = random.nextInt(3); j >= 0; j--) {
+                clauses.add(new TagFilter.Clause(randomTags(random, tags, random.nextInt(3)),
+                        randomTags(random, tags, 1 + random.nextInt(2))));
+            }
+            TagFilter filter = new TagFilter(clauses);
+            Set<Set<Tag>> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            entities.stream().filter(filter::test).forEach(expected::add);
+            assertEquals(expected, randomIndex.find(filter));
+        }
+    }
+
+    private static Set<Tag> randomTags(Random random, List<Tag> tags, int count) {
+        Set<Tag> chosen = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            chosen.add(tags.get(random.nextInt(tags.size())));
+        }
+        return chosen;
+    }
+
+    private static TagFilter filterOf(TagFilter.Clause... clauses) {
+        return new TagFilter(List.of(clauses));
+    }
+
+    private static TagFilter.Clause anyOf(Tag... tags) {
+        return new TagFilter.Clause(Set.of(tags), Collections.emptySet());
+    }
+
+    private static TagFilter.Clause noneOf(Tag... tags) {
+        return new TagFilter.Clause(Collections.emptySet(), Set.of(tags));
+    }
+
+    @SafeVarargs
+    private static Set<Set<Tag>> identitySet(Set<Tag>... entities) {
+        Set<Set<Tag>> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(set, entities);
+        return set;
+    }
+}
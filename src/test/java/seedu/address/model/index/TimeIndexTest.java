@@ -0,0 +1,83 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class TimeIndexTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2024, 10, 1, 8, 0);
+    private static final LocalDateTime AFTERNOON = LocalDateTime.of(2024, 10, 1, 15, 0);
+    private static final LocalDateTime NEXT_DAY = LocalDateTime.of(2024, 10, 2, 7, 0);
+    private static final LocalDateTime NEXT_MONTH = LocalDateTime.of(2024, 11, 1, 7, 0);
+
+    private final ObservableList<LocalDateTime> source =
+            FXCollections.observableArrayList(NEXT_MONTH, AFTERNOON, MORNING, NEXT_DAY);
+    private final TimeIndex<LocalDateTime> index = new TimeIndex<>(source, time -> time);
+
+    @Test
+    public void findBetween_range_returnsEntitiesInTimeOrder() {
+        assertEquals(List.of(MORNING, AFTERNOON, NEXT_DAY, NEXT_MONTH),
+                index.findBetween(MORNING, NEXT_MONTH.plusMinutes(1)));
+        assertEquals(List.of(MORNING, AFTERNOON), index.findBetween(MORNING.toLocalDate().atStartOfDay(),
+                NEXT_DAY.toLocalDate().atStartOfDay()));
+
+        // start is inclusive, end is exclusive
+        assertEquals(List.of(AFTERNOON, NEXT_DAY), index.findBetween(AFTERNOON, NEXT_MONTH));
+        assertTrue(index.findBetween(MORNING.plusMinutes(1), AFTERNOON).isEmpty());
+    }
+
+    @Test
+    public void findBetween_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findBetween(AFTERNOON, MORNING));
+    }
+
+    @Test
+    public void findBetween_afterListChanges_followsList() {
+        source.remove(AFTERNOON);
+        source.set(0, NEXT_DAY.plusHours(1));
+        LocalDateTime sameAsMorning = LocalDateTime.of(2024, 10, 1, 8, 0);
+        source.add(sameAsMorning);
+        List<LocalDateTime> found = index.findBetween(MORNING, NEXT_MONTH);
+        assertEquals(List.of(MORNING, MORNING, NEXT_DAY, NEXT_DAY.plusHours(1)), found);
+        assertTrue(found.get(1) == sameAsMorning);
+
+        source.clear();
+        assertTrue(index.findBetween(MORNING, NEXT_MONTH).isEmpty());
+    }
+
+    @Test
+    public void findBetween_randomRanges_sameAsCheckingEveryEntity() {
+        Random random = new Random(33);
+        LocalDateTime origin = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ObservableList<LocalDateTime> entities = FXCollections.observableArrayList();
+        TimeIndex<LocalDateTime> randomIndex = new TimeIndex<>(entities, time -> time);
+        for (int i = 0; i < 3000; i++) {
+            entities.add(origin.plusMinutes(15L * random.nextInt(365 * 24 * 4)));
+        }
+        for (int i = 0; i < 1000; i++) {
+            entities.remove(random.nextInt(entities.size()));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            LocalDateTime start = origin.plusMinutes(15L * random.nextInt(365 * 24 * 4));
+            LocalDateTime end = start.plusMinutes(15L * random.nextInt(30 * 24 * 4));
+            List<LocalDateTime> expected = entities.stream()
+                    .filter(time -> !time.isBefore(start) && time.isBefore(end))
+                    .sorted(Comparator.naturalOrder())
+                    .collect(Collectors.toList());
+            assertEquals(expected, randomIndex.findBetween(start, end));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class TrigramIndexTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList(
+            "Sembawang Drive Blk 12 #12-01", "Jurong West #05-12", "Marsiling Rd #12-345");
+    private final TrigramIndex<String> index = new TrigramIndex<>(source, text -> text);
+
+    @Test
+    public void find_fragment_matchesSubstringsIgnoringCase() {
+        assertEquals(setOf("Sembawang Drive Blk 12 #12-01"), index.find("semb"));
+        assertEquals(setOf("Sembawang Drive Blk 12 #12-01", "Marsiling Rd #12-345"), index.find("#12-"));
+        assertEquals(setOf("Jurong West #05-12"), index.find("T #05"));
+        assertTrue(index.find("#12-99").isEmpty());
+        assertTrue(index.find("zzz").isEmpty());
+    }
+
+    @Test
+    public void find_shortFragment_checksEveryEntity() {
+        assertEquals(setOf("Marsiling Rd #12-345"), index.find("rD"));
+        assertEquals(new HashSet<>(source), index.find(""));
+    }
+
+    @Test
+    public void find_afterListChanges_followsList() {
+        source.set(0, "Sengkang East #01-01");
+        source.remove("Jurong West #05-12");
+        source.add("Sembawang Crescent #12-02");
+        assertEquals(setOf("Sembawang Crescent #12-02"), index.find("SEMBAWANG"));
+        assertEquals(setOf("Sembawang Crescent #12-02", "Marsiling Rd #12-345"), index.find("#12-"));
+        assertTrue(index.find("jurong").isEmpty());
+
+        source.setAll("Jurong West #05-12");
+        assertEquals(setOf("Jurong West #05-12"), index.find("west"));
+        assertTrue(index.find("#12-").isEmpty());
+    }
+
+    @Test
+    public void find_manyEntitiesSharingTrigrams_followsRemovals() {
+        ObservableList<String> units = FXCollections.observableArrayList();
+        TrigramIndex<String> unitIndex = new TrigramIndex<>(units, text -> text);
+        for (int i = 0; i < 200; i++) {
+            units.add("Sembawang Drive #" + i);
+        }
+
+        // removes from the front, the back and the middle of the shared posting lists, then reuses the freed slots
+        units.remove("Sembawang Drive #0");
+        units.remove("Sembawang Drive #199");
+        units.removeIf(unit -> unit.endsWith("7"));
+        units.addAll("Sembawang Drive #7", "Woodlands Drive #17");
+
+        for (String fragment : Arrays.asList("sembawang drive", "drive #1", "#17", "#7", "ds dr", "#199", "#19")) {
+            Set<String> expected = new HashSet<>();
+            for (String unit : units) {
+                if (unit.toLowerCase().contains(fragment)) {
+                    expected.add(unit);
+                }
+            }
+            assertEquals(expected, unitIndex.find(fragment), fragment);
+        }
+
+        units.clear();
+        assertTrue(unitIndex.find("sembawang").isEmpty());
+    }
+
+    private static Set<String> setOf(String... strings) {
+        return new HashSet<>(Arrays.asList(strings));
+    }
+}
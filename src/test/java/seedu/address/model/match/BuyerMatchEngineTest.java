@@ -0,0 +1,84 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.buyer.BuyerBuilder;
+import seedu.address.testutil.property.PropertyBuilder;
+
+public class BuyerMatchEngineTest {
+
+    private static final Property JURONG_HDB = new PropertyBuilder().withAddress("Jurong West Blk 100")
+            .withAskingPrice("450000").withPropertyType("HDB").build();
+
+    private static final Buyer JURONG_BUYER = new BuyerBuilder().withName("Jurong").withBudget("500,000")
+            .withTags("hdb", "Jurong").build();
+    private static final Buyer RICH_BUYER = new BuyerBuilder().withName("Rich").withBudget("900,000").build();
+    private static final Buyer STRETCH_BUYER = new BuyerBuilder().withName("Stretch").withBudget("420,000")
+            .withTags("HDB").build();
+    private static final Buyer POOR_BUYER = new BuyerBuilder().withName("Poor").withBudget("1,000").build();
+
+    private static final List<Buyer> BUYERS = Arrays.asList(POOR_BUYER, RICH_BUYER, STRETCH_BUYER, JURONG_BUYER);
+
+    @Test
+    public void matchBuyers_rankedByScore() {
+        List<Match> matches = new BuyerMatchEngine(BUYERS).matchBuyers(JURONG_HDB, 10);
+        assertEquals(Arrays.asList(JURONG_BUYER, RICH_BUYER, STRETCH_BUYER),
+                matches.stream().map(Match::getBuyer).collect(Collectors.toList()));
+        for (Match match : matches) {
+            assertEquals(MatchScorer.score(match.getBuyer(), JURONG_HDB), match.getScore(), 1e-9);
+        }
+        assertEquals(MatchEngine.matchBuyers(JURONG_HDB, BUYERS, 10), matches);
+    }
+
+    @Test
+    public void matchBuyers_limit_keepsBest() {
+        assertEquals(MatchEngine.matchBuyers(JURONG_HDB, BUYERS, 1),
+                new BuyerMatchEngine(BUYERS).matchBuyers(JURONG_HDB, 1));
+        assertEquals(new BuyerMatchEngine(BUYERS).matchBuyers(JURONG_HDB, 10),
+                new BuyerMatchEngine(BUYERS).matchBuyers(JURONG_HDB, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void matchBuyers_noBuyersInReach_returnsEmpty() {
+        assertTrue(new BuyerMatchEngine(Arrays.asList(POOR_BUYER)).matchBuyers(JURONG_HDB, 5).isEmpty());
+        assertTrue(new BuyerMatchEngine(Collections.emptyList()).matchBuyers(JURONG_HDB, 5).isEmpty());
+    }
+
+    @Test
+    public void matchBuyers_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BuyerMatchEngine(BUYERS).matchBuyers(JURONG_HDB, 0));
+    }
+
+    @Test
+    public void matchAll_manyProperties_sameAsMatchingEachProperty() {
+        List<Buyer> buyers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            buyers.add(new BuyerBuilder().withName("Buyer " + i).withBudget(String.valueOf(3000 * i + 1))
+                    .withTags(i % 2 == 0 ? "HDB" : "Bishan").build());
+        }
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            properties.add(new PropertyBuilder().withAddress((i % 3 == 0 ? "Bishan" : "Tampines") + " Blk " + i)
+                    .withAskingPrice(String.valueOf(1000 * i + 1)).withPropertyType(i % 2 == 0 ? "HDB" : "Condo")
+                    .build());
+        }
+
+        List<List<Match>> results = new BuyerMatchEngine(buyers).matchAll(properties, 3);
+        assertEquals(properties.size(), results.size());
+        for (int i = 0; i < properties.size(); i++) {
+            assertEquals(MatchEngine.matchBuyers(properties.get(i), buyers, 3), results.get(i));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.buyer.BuyerBuilder;
+import seedu.address.testutil.property.PropertyBuilder;
+
+public class IncrementalMatcherTest {
+
+    private static final Buyer RICH_BUYER = new BuyerBuilder().withName("Rich").withBudget("2,000,000").build();
+    private static final Buyer HDB_BUYER = new BuyerBuilder().withName("Hdb").withBudget("500,000")
+            .withTags("HDB").build();
+    private static final Buyer POOR_BUYER = new BuyerBuilder().withName("Poor").withBudget("1,000").build();
+    private static final Buyer STRETCH_BUYER = new BuyerBuilder().withName("Stretch").withBudget("450,000").build();
+
+    private static final Property HDB = new PropertyBuilder().withAddress("Jurong West Blk 100")
+            .withAskingPrice("480000").withPropertyType("HDB").build();
+    private static final Property CONDO = new PropertyBuilder().withAddress("Clementi Avenue")
+            .withAskingPrice("1500000").withPropertyType("Condominium").build();
+
+    private IncrementalMatcher matcher = new IncrementalMatcher();
+
+    @BeforeEach
+    public void setUp() {
+        matcher.reset(Arrays.asList(RICH_BUYER, HDB_BUYER, POOR_BUYER), Collections.singletonList(CONDO));
+    }
+
+    @Test
+    public void addProperty_returnsAffordableBuyersBestFirst() {
+        matcher.addBuyer(STRETCH_BUYER);
+
+        // the rich buyer can afford it too, but its budget is too far above the price to be reported
+        List<Match> matches = matcher.addProperty(HDB);
+        assertEquals(Arrays.asList(HDB_BUYER, STRETCH_BUYER), buyersOf(matches));
+        for (Match match : matches) {
+            assertEquals(MatchScorer.score(match.getBuyer(), HDB), match.getScore(), 1e-9);
+        }
+    }
+
+    @Test
+    public void addBuyer_returnsAffordableProperties() {
+        matcher.addProperty(HDB);
+        Buyer buyer = new BuyerBuilder().withName("New").withBudget("1,400,000").build();
+        assertEquals(Collections.singletonList(CONDO), propertiesOf(matcher.addBuyer(buyer)));
+
+        // properties priced far below the budget are left out
+        Buyer richBuyer = new BuyerBuilder().withName("Richer").withBudget("2,000,000").build();
+        assertTrue(matcher.addBuyer(richBuyer).isEmpty());
+    }
+
+    @Test
+    public void addProperty_manyMatchingBuyers_onlyBestKept() {
+        List<Buyer> buyers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            buyers.add(new BuyerBuilder().withName("Buyer " + i).withBudget(String.valueOf(480000 + 1000 * i))
+                    .build());
+        }
+        matcher.reset(buyers, Collections.emptyList());
+
+        List<Match> matches = matcher.addProperty(HDB);
+        assertEquals(buyers.subList(0, IncrementalMatcher.MAX_MATCHES_PER_CHANGE), buyersOf(matches));
+    }
+
+    @Test
+    public void addBuyerAndProperty_amountsNearLongMax_matchedWithoutOverflow() {
+        String max = String.valueOf(Long.MAX_VALUE);
+        String nearMax = String.valueOf(Long.MAX_VALUE - 1000);
+        Property mansion = new PropertyBuilder().withAddress("Sentosa Cove").withAskingPrice(nearMax)
+                .withPropertyType("Bungalow").build();
+        Buyer tycoon = new BuyerBuilder().withName("Tycoon").withBudget(max).build();
+
+        assertTrue(matcher.setBuyer(RICH_BUYER, tycoon).isEmpty());
+        assertEquals(Collections.singletonList(tycoon), buyersOf(matcher.addProperty(mansion)));
+
+        Property palace = new PropertyBuilder().withAddress("Istana").withAskingPrice(max).build();
+        assertEquals(Collections.singletonList(tycoon), buyersOf(matcher.addProperty(palace)));
+        Buyer heir = new BuyerBuilder().withName("Heir").withBudget(nearMax).build();
+        assertEquals(Arrays.asList(mansion, palace), propertiesOf(matcher.addBuyer(heir)));
+    }
+
+    @Test
+    public void reportedBand_largeAmounts_saturates() {
+        assertEquals(Long.MAX_VALUE, MatchScorer.getMaxMatchingPrice(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, MatchScorer.getMaxMatchingPrice(Long.MAX_VALUE / 10 * 10));
+        assertEquals(1100, MatchScorer.getMaxMatchingPrice(1000));
+
+        assertEquals(Long.MAX_VALUE, IncrementalMatcher.getMaxReportedBudget(Long.MAX_VALUE));
+        assertEquals(1250, IncrementalMatcher.getMaxReportedBudget(1000));
+        assertEquals(1251, IncrementalMatcher.getMaxReportedBudget(1001));
+
+        assertEquals(7378697629483820646L, IncrementalMatcher.getMinReportedPrice(Long.MAX_VALUE));
+        assertEquals(800, IncrementalMatcher.getMinReportedPrice(1000));
+        assertEquals(801, IncrementalMatcher.getMinReportedPrice(1001));
+    }
+
+    @Test
+    public void setBuyer_onlyNewlyQualifyingPropertiesReturned() {
+        matcher.addProperty(HDB);
+        Buyer richerHdbBuyer = new BuyerBuilder(HDB_BUYER).withBudget("1,500,000").build();
+        assertEquals(Collections.singletonList(CONDO), propertiesOf(matcher.setBuyer(HDB_BUYER, richerHdbBuyer)));
+
+        // no change in which properties qualify -> no new matches
+        Buyer retagged = new BuyerBuilder(richerHdbBuyer).withTags("Condominium").build();
+        assertTrue(matcher.setBuyer(richerHdbBuyer, retagged).isEmpty());
+    }
+
+    @Test
+    public void setProperty_onlyNewlyQualifyingBuyersReturned() {
+        Property cheaperCondo = new PropertyBuilder(CONDO).withAskingPrice("400000").build();
+        assertEquals(Collections.singletonList(HDB_BUYER), buyersOf(matcher.setProperty(CONDO, cheaperCondo)));
+    }
+
+    @Test
+    public void removeBuyer_noLongerMatched() {
+        matcher.removeBuyer(HDB_BUYER);
+        assertTrue(matcher.addProperty(HDB).isEmpty());
+    }
+
+    @Test
+    public void removeProperty_noLongerMatched() {
+        matcher.removeProperty(CONDO);
+        assertTrue(matcher.addBuyer(new BuyerBuilder().withName("New").withBudget("1,500,000").build()).isEmpty());
+    }
+
+    private static List<Buyer> buyersOf(List<Match> matches) {
+        return matches.stream().map(Match::getBuyer).collect(Collectors.toList());
+    }
+
+    private static List<Property> propertiesOf(List<Match> matches) {
+        return matches.stream().map(Match::getProperty).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.buyer.Buyer;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.buyer.BuyerBuilder;
+import seedu.address.testutil.property.PropertyBuilder;
+
+public class MatchEngineTest {
+
+    private static final Buyer BUYER = new BuyerBuilder().withBudget("500,000").withTags("hdb", "Jurong").build();
+
+    private static final Property JURONG_HDB = new PropertyBuilder().withAddress("Jurong West Blk 100")
+            .withAskingPrice("450000").withPropertyType("HDB").build();
+    private static final Property CLEMENTI_CONDO = new PropertyBuilder().withAddress("Clementi Avenue Blk 102")
+            .withAskingPrice("500000").withPropertyType("Condominium").build();
+    private static final Property BISHAN_HDB_STRETCH = new PropertyBuilder().withAddress("Bishan Rd #01-01")
+            .withAskingPrice("520000").withPropertyType("HDB").build();
+    private static final Property BISHAN_HDB_TOO_EXPENSIVE = new PropertyBuilder().withAddress("Bishan Rd #02-02")
+            .withAskingPrice("600000").withPropertyType("HDB").build();
+    private static final Property TAMPINES_HDB = new PropertyBuilder().withAddress("Tampines Blk 10")
+            .withAskingPrice("100000").withPropertyType("HDB").build();
+
+    private static final List<Property> PROPERTIES = Arrays.asList(CLEMENTI_CONDO, BISHAN_HDB_TOO_EXPENSIVE,
+            BISHAN_HDB_STRETCH, TAMPINES_HDB, JURONG_HDB);
+
+    @Test
+    public void getAffordability() {
+        assertEquals(1, MatchScorer.getAffordability(500, 500), 1e-9);
+        assertEquals(0.75, MatchScorer.getAffordability(500, 250), 1e-9);
+        assertEquals(0.25, MatchScorer.getAffordability(1000, 1050), 1e-9);
+        assertEquals(0, MatchScorer.getAffordability(1000, 1100), 1e-9);
+        assertEquals(0, MatchScorer.getAffordability(1000, 5000), 1e-9);
+    }
+
+    @Test
+    public void matchProperties_rankedByScore() {
+        List<Match> matches = new MatchEngine(PROPERTIES).matchProperties(BUYER, 10);
+        assertEquals(Arrays.asList(JURONG_HDB, TAMPINES_HDB, CLEMENTI_CONDO, BISHAN_HDB_STRETCH),
+                matches.stream().map(Match::getProperty).collect(Collectors.toList()));
+        assertEquals(97, matches.get(0).getScorePercentage());
+        for (Match match : matches) {
+            assertEquals(MatchScorer.score(BUYER, match.getProperty()), match.getScore(), 1e-9);
+        }
+    }
+
+    @Test
+    public void matchProperties_limit_keepsBest() {
+        List<Match> matches = new MatchEngine(PROPERTIES).matchProperties(BUYER, 2);
+        assertEquals(Arrays.asList(JURONG_HDB, TAMPINES_HDB),
+                matches.stream().map(Match::getProperty).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void matchProperties_equalScores_listOrderKept() {
+        Property first = new PropertyBuilder().withAddress("Woodlands Rd").withAskingPrice("300000").build();
+        Property second = new PropertyBuilder().withAddress("Yishun Rd").withAskingPrice("300000").build();
+        Property third = new PropertyBuilder().withAddress("Sengkang Rd").withAskingPrice("300000").build();
+        List<Match> matches = new MatchEngine(Arrays.asList(first, second, third)).matchProperties(BUYER, 2);
+        assertEquals(Arrays.asList(first, second),
+                matches.stream().map(Match::getProperty).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void matchProperties_noPropertiesInReach_returnsEmpty() {
+        Buyer poorBuyer = new BuyerBuilder().withBudget("1").build();
+        assertTrue(new MatchEngine(PROPERTIES).matchProperties(poorBuyer, 5).isEmpty());
+        assertTrue(new MatchEngine(Collections.emptyList()).matchProperties(BUYER, 5).isEmpty());
+    }
+
+    @Test
+    public void matchProperties_hugeLimit_returnsAllMatches() {
+        assertEquals(new MatchEngine(PROPERTIES).matchProperties(BUYER, 10),
+                new MatchEngine(PROPERTIES).matchProperties(BUYER, Integer.MAX_VALUE));
+        assertEquals(MatchEngine.matchBuyers(JURONG_HDB, Arrays.asList(BUYER), 10),
+                MatchEngine.matchBuyers(JURONG_HDB, Arrays.asList(BUYER), Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void matchProperties_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MatchEngine(PROPERTIES).matchProperties(BUYER, 0));
+        assertThrows(IllegalArgumentException.class, () -> MatchEngine.matchProperties(BUYER, PROPERTIES, 0));
+    }
+
+    @Test
+    public void matchProperties_withoutPreparing_sameAsEngine() {
+        assertEquals(new MatchEngine(PROPERTIES).matchProperties(BUYER, 10),
+                MatchEngine.matchProperties(BUYER, PROPERTIES, 10));
+        assertEquals(new MatchEngine(PROPERTIES).matchProperties(BUYER, 2),
+                MatchEngine.matchProperties(BUYER, PROPERTIES, 2));
+
+        // equal scores keep the list order
+        Property first = new PropertyBuilder().withAddress("Woodlands Rd").withAskingPrice("300000").build();
+        Property second = new PropertyBuilder().withAddress("Yishun Rd").withAskingPrice("300000").build();
+        Property third = new PropertyBuilder().withAddress("Sengkang Rd").withAskingPrice("300000").build();
+        List<Match> matches = MatchEngine.matchProperties(BUYER, Arrays.asList(first, second, third), 2);
+        assertEquals(Arrays.asList(first, second),
+                matches.stream().map(Match::getProperty).collect(Collectors.toList()));
+
+        Buyer poorBuyer = new BuyerBuilder().withBudget("1").build();
+        assertTrue(MatchEngine.matchProperties(poorBuyer, PROPERTIES, 5).isEmpty());
+    }
+
+    @Test
+    public void matchAll_manyBuyers_sameAsMatchingEachBuyer() {
+        List<Buyer> buyers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            buyers.add(new BuyerBuilder().withName("Buyer " + i).withBudget(String.valueOf(1000 * i + 1))
+                    .withTags(i % 2 == 0 ? "HDB" : "Bishan").build());
+        }
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            properties.add(new PropertyBuilder().withAddress((i % 3 == 0 ? "Bishan" : "Tampines") + " Blk " + i)
+                    .withAskingPrice(String.valueOf(3000 * i + 1)).withPropertyType(i % 2 == 0 ? "HDB" : "Condo")
+                    .build());
+        }
+
+        MatchEngine engine = new MatchEngine(properties);
+        List<List<Match>> results = engine.matchAll(buyers, 3);
+        assertEquals(buyers.size(), results.size());
+        for (int i = 0; i < buyers.size(); i++) {
+            assertEquals(engine.matchProperties(buyers.get(i), 3), results.get(i));
+            assertEquals(MatchEngine.matchProperties(buyers.get(i), properties, 3), results.get(i));
+        }
+    }
+
+    @Test
+    public void matchBuyers_rankedByScore() {
+        Buyer richBuyer = new BuyerBuilder().withName("Rich").withBudget("900,000").build();
+        Buyer poorBuyer = new BuyerBuilder().withName("Poor").withBudget("1,000").build();
+        List<Match> matches = MatchEngine.matchBuyers(JURONG_HDB, Arrays.asList(poorBuyer, richBuyer, BUYER), 5);
+        assertEquals(Arrays.asList(BUYER, richBuyer),
+                matches.stream().map(Match::getBuyer).collect(Collectors.toList()));
+    }
+}
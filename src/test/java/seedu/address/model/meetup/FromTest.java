@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 public class FromTest {
@@ -20,6 +22,11 @@ public class FromTest {
         assertThrows(IllegalArgumentException.class, () -> new From(invalidFrom));
     }
 
+    @Test
+    public void of_dateTimeWithSeconds_secondsDropped() {
+        assertEquals(new From("2024-06-25 14:30"), From.of(LocalDateTime.of(2024, 6, 25, 14, 30, 59)));
+    }
+
     @Test
     public void equals() {
         From from = new From("2024-06-25 14:30");
@@ -12,11 +12,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_MEETUP_SUBJECT_
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MEETUP_SUBJECT_PITCH;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MEETUP_TO_NETWORKING;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MEETUP_TO_PITCH;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.meetup.TypicalMeetUps.NETWORKING_MEETUP;
 import static seedu.address.testutil.meetup.TypicalMeetUps.PITCH_MEETUP;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.index.TimeSlot;
+import seedu.address.model.property.Address;
 import seedu.address.testutil.meetup.MeetUpBuilder;
 
 public class MeetUpTest {
@@ -100,13 +108,111 @@ public class MeetUpTest {
         // different tags -> returns false
         editedPitchMeetUp = new MeetUpBuilder(PITCH_MEETUP).withAddedBuyers(VALID_MEETUP_ADDED_PERSON_BETTY).build();
         assertFalse(PITCH_MEETUP.equals(editedPitchMeetUp));
+
+        // different property -> returns false, but same meet-up
+        editedPitchMeetUp = PITCH_MEETUP.withProperty(new Address("Jurong West Blk 100 #05-01"));
+        assertFalse(PITCH_MEETUP.equals(editedPitchMeetUp));
+        assertTrue(PITCH_MEETUP.isSameMeetUp(editedPitchMeetUp));
+        assertEquals(PITCH_MEETUP, editedPitchMeetUp.withProperty(null));
     }
 
     @Test
     public void toStringMethod() {
         String expected = MeetUp.class.getCanonicalName() + "{subject=" + PITCH_MEETUP.getSubject() + ", info="
                 + PITCH_MEETUP.getInfo() + ", from=" + PITCH_MEETUP.getFrom() + ", to=" + PITCH_MEETUP.getTo()
-                + ", addedBuyers=" + PITCH_MEETUP.getAddedBuyers() + "}";
+                + ", addedBuyers=" + PITCH_MEETUP.getAddedBuyers() + ", recurrence=null, property=null}";
         assertEquals(expected, PITCH_MEETUP.toString());
     }
+
+    @Test
+    public void hasValidRecurrence() {
+        MeetUpBuilder builder = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 11:00");
+        assertTrue(builder.build().hasValidRecurrence());
+        assertTrue(builder.withRecurrence("daily", "2024-10-01").build().hasValidRecurrence());
+
+        // last date before the first occurrence -> returns false
+        assertFalse(builder.withRecurrence("weekly", "2024-09-30").build().hasValidRecurrence());
+
+        // longer than the frequency -> returns false
+        assertFalse(builder.withTo("2024-10-02 10:00").withRecurrence("daily", "2024-10-31").build()
+                .hasValidRecurrence());
+    }
+
+    @Test
+    public void getOccurrencesOverlapping() {
+        MeetUp series = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 11:00")
+                .withRecurrence("weekly", "2024-10-29", "2024-10-15").build();
+        LocalDateTime first = LocalDateTime.of(2024, 10, 1, 9, 0);
+
+        assertEquals(first.plusDays(28).plusHours(2), series.getLastEnd());
+
+        // occurrence started before the window
+        assertEquals(List.of(new TimeSlot(first.plusDays(7), first.plusDays(7).plusHours(2))),
+                series.getOccurrencesOverlapping(first.plusDays(7).plusHours(1), first.plusDays(10)));
+
+        // touching windows and cancelled occurrences do not overlap
+        assertEquals(List.of(), series.getOccurrencesOverlapping(first.plusHours(2), first.plusDays(7)));
+        assertEquals(List.of(), series.getOccurrencesOverlapping(first.plusDays(14), first.plusDays(15)));
+
+        // one-off meet-up
+        MeetUp oneOff = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 11:00").build();
+        assertEquals(List.of(new TimeSlot(first, first.plusHours(2))),
+                oneOff.getOccurrencesOverlapping(first.minusDays(1), first.plusDays(1)));
+        assertEquals(List.of(), oneOff.getOccurrencesOverlapping(first.plusDays(7), first.plusDays(8)));
+    }
+
+    @Test
+    public void overlapsWith() {
+        MeetUp series = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 11:00")
+                .withRecurrence("weekly", "2024-10-29", "2024-10-15").build();
+
+        // same time on an occurrence date -> returns true
+        MeetUp clash = new MeetUpBuilder().withFrom("2024-10-22 10:00").withTo("2024-10-22 12:00").build();
+        assertTrue(series.overlapsWith(clash));
+        assertTrue(clash.overlapsWith(series));
+
+        // same time on a cancelled date, other day, after the series -> returns false
+        assertFalse(series.overlapsWith(new MeetUpBuilder().withFrom("2024-10-15 10:00").withTo("2024-10-15 12:00")
+                .build()));
+        assertFalse(series.overlapsWith(new MeetUpBuilder().withFrom("2024-10-23 10:00").withTo("2024-10-23 12:00")
+                .build()));
+        assertFalse(series.overlapsWith(new MeetUpBuilder().withFrom("2024-11-05 10:00").withTo("2024-11-05 12:00")
+                .build()));
+
+        // two series meeting on different days -> returns false
+        MeetUp otherSeries = new MeetUpBuilder().withFrom("2024-10-02 09:00").withTo("2024-10-02 11:00")
+                .withRecurrence("weekly", "2024-12-31").build();
+        assertFalse(series.overlapsWith(otherSeries));
+
+        // daily series overlapping the weekly one -> returns true
+        MeetUp dailySeries = new MeetUpBuilder().withFrom("2024-10-02 10:30").withTo("2024-10-02 11:30")
+                .withRecurrence("daily", "2024-12-31").build();
+        assertTrue(series.overlapsWith(dailySeries));
+    }
+
+    @Test
+    public void getOccurrenceOn() {
+        MeetUp series = new MeetUpBuilder().withFrom("2024-10-01 23:00").withTo("2024-10-02 01:00")
+                .withRecurrence("weekly", "2024-10-29", "2024-10-15").withProperty("Bukit Batok Rd #01-01").build();
+
+        MeetUp expected = new MeetUpBuilder().withFrom("2024-10-08 23:00").withTo("2024-10-09 01:00")
+                .withProperty("Bukit Batok Rd #01-01").build();
+        assertEquals(Optional.of(expected), series.getOccurrenceOn(LocalDate.of(2024, 10, 8)));
+        assertEquals(Optional.empty(), series.getOccurrenceOn(LocalDate.of(2024, 10, 15)));
+        assertEquals(Optional.empty(), series.getOccurrenceOn(LocalDate.of(2024, 10, 9)));
+        assertEquals(Optional.empty(), PITCH_MEETUP.getOccurrenceOn(LocalDate.of(2024, 10, 8)));
+    }
+
+    @Test
+    public void withoutOccurrenceOn() {
+        MeetUp series = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 11:00")
+                .withRecurrence("weekly", "2024-10-08").build();
+        MeetUp cancelled = series.withoutOccurrenceOn(LocalDate.of(2024, 10, 8));
+        assertEquals(new MeetUpBuilder(series).withRecurrence("weekly", "2024-10-08", "2024-10-08").build(),
+                cancelled);
+        assertFalse(cancelled.hasNoOccurrences());
+        assertTrue(cancelled.withoutOccurrenceOn(LocalDate.of(2024, 10, 1)).hasNoOccurrences());
+        assertThrows(IllegalArgumentException.class, () -> PITCH_MEETUP.withoutOccurrenceOn(LocalDate.of(2024, 10,
+                8)));
+    }
 }
@@ -0,0 +1,121 @@
+package seedu.address.model.meetup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meetup.Recurrence.Frequency;
+
+public class RecurrenceTest {
+
+    private static final LocalDateTime FIRST = LocalDateTime.of(2024, 10, 1, 9, 0);
+    private static final LocalDate UNTIL = LocalDate.of(2024, 10, 29);
+    private static final Recurrence WEEKLY = new Recurrence(Frequency.WEEKLY, UNTIL, Set.of());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Recurrence(null, UNTIL, Set.of()));
+        assertThrows(NullPointerException.class, () -> new Recurrence(Frequency.DAILY, null, Set.of()));
+        assertThrows(NullPointerException.class, () -> new Recurrence(Frequency.DAILY, UNTIL, null));
+    }
+
+    @Test
+    public void isValidFrequency() {
+        assertThrows(NullPointerException.class, () -> Recurrence.isValidFrequency(null));
+
+        // invalid frequencies
+        assertFalse(Recurrence.isValidFrequency(""));
+        assertFalse(Recurrence.isValidFrequency("monthly"));
+        assertFalse(Recurrence.isValidFrequency("week"));
+
+        // valid frequencies
+        assertTrue(Recurrence.isValidFrequency("daily"));
+        assertTrue(Recurrence.isValidFrequency("WEEKLY"));
+        assertEquals(Frequency.WEEKLY, Recurrence.parseFrequency("Weekly"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parseFrequency("monthly"));
+    }
+
+    @Test
+    public void occursOn() {
+        Recurrence recurrence = WEEKLY.withException(LocalDate.of(2024, 10, 15));
+        assertTrue(recurrence.occursOn(FIRST, LocalDate.of(2024, 10, 1)));
+        assertTrue(recurrence.occursOn(FIRST, LocalDate.of(2024, 10, 29)));
+
+        // before the first occurrence, off the frequency, cancelled, after the last date -> returns false
+        assertFalse(recurrence.occursOn(FIRST, LocalDate.of(2024, 9, 24)));
+        assertFalse(recurrence.occursOn(FIRST, LocalDate.of(2024, 10, 2)));
+        assertFalse(recurrence.occursOn(FIRST, LocalDate.of(2024, 10, 15)));
+        assertFalse(recurrence.occursOn(FIRST, LocalDate.of(2024, 11, 5)));
+    }
+
+    @Test
+    public void getStartsBetween() {
+        Recurrence recurrence = WEEKLY.withException(LocalDate.of(2024, 10, 15));
+
+        // whole series, skipping the cancelled occurrence
+        assertEquals(List.of(FIRST, FIRST.plusDays(7), FIRST.plusDays(21), FIRST.plusDays(28)),
+                recurrence.getStartsBetween(FIRST, FIRST.minusYears(1), FIRST.plusYears(1)));
+
+        // start is inclusive and end is exclusive
+        assertEquals(List.of(FIRST.plusDays(7)),
+                recurrence.getStartsBetween(FIRST, FIRST.plusDays(7), FIRST.plusDays(21)));
+
+        // window between occurrences
+        assertEquals(List.of(), recurrence.getStartsBetween(FIRST, FIRST.plusDays(1), FIRST.plusDays(6)));
+
+        // limited
+        assertEquals(List.of(FIRST.plusDays(21)),
+                recurrence.getStartsBetween(FIRST, FIRST.plusDays(8), FIRST.plusYears(1), 1));
+    }
+
+    @Test
+    public void getStartsBetween_longDailySeries_onlyVisitsWindow() {
+        Recurrence daily = new Recurrence(Frequency.DAILY, LocalDate.of(2124, 1, 1), Set.of());
+        LocalDateTime start = LocalDateTime.of(2100, 6, 1, 0, 0);
+        assertEquals(List.of(LocalDateTime.of(2100, 6, 1, 9, 0), LocalDateTime.of(2100, 6, 2, 9, 0)),
+                daily.getStartsBetween(FIRST, start, start.plusDays(2)));
+    }
+
+    @Test
+    public void getLastStart() {
+        assertEquals(FIRST.plusDays(28), WEEKLY.getLastStart(FIRST));
+
+        // last date falls between occurrences
+        Recurrence recurrence = new Recurrence(Frequency.WEEKLY, LocalDate.of(2024, 10, 27), Set.of());
+        assertEquals(FIRST.plusDays(21), recurrence.getLastStart(FIRST));
+
+        // last occurrence cancelled
+        recurrence = WEEKLY.withException(LocalDate.of(2024, 10, 29));
+        assertEquals(FIRST.plusDays(21), recurrence.getLastStart(FIRST));
+    }
+
+    @Test
+    public void equals() {
+        Recurrence copy = new Recurrence(Frequency.WEEKLY, UNTIL, Set.of());
+
+        assertTrue(WEEKLY.equals(WEEKLY));
+        assertTrue(WEEKLY.equals(copy));
+        assertEquals(WEEKLY.hashCode(), copy.hashCode());
+
+        assertFalse(WEEKLY.equals(null));
+        assertFalse(WEEKLY.equals(5.0f));
+        assertFalse(WEEKLY.equals(new Recurrence(Frequency.DAILY, UNTIL, Set.of())));
+        assertFalse(WEEKLY.equals(new Recurrence(Frequency.WEEKLY, UNTIL.plusDays(1), Set.of())));
+        assertFalse(WEEKLY.equals(WEEKLY.withException(UNTIL)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("weekly until 2024-10-29", WEEKLY.toString());
+        assertEquals("weekly until 2024-10-29 except 2024-10-08, 2024-10-15",
+                WEEKLY.withException(LocalDate.of(2024, 10, 15)).withException(LocalDate.of(2024, 10, 8)).toString());
+    }
+}
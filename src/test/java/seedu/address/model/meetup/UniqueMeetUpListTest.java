@@ -8,14 +8,21 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.meetup.TypicalMeetUps.NETWORKING_MEETUP;
 import static seedu.address.testutil.meetup.TypicalMeetUps.PITCH_MEETUP;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.index.IntervalIndex;
+import seedu.address.model.index.TimeSlot;
 import seedu.address.model.meetup.exceptions.DuplicateMeetUpException;
 import seedu.address.model.meetup.exceptions.MeetUpNotFoundException;
+import seedu.address.model.property.Address;
 import seedu.address.testutil.meetup.MeetUpBuilder;
 
 public class UniqueMeetUpListTest {
@@ -56,6 +63,43 @@ public class UniqueMeetUpListTest {
         assertThrows(DuplicateMeetUpException.class, () -> uniqueMeetUpList.add(PITCH_MEETUP));
     }
 
+    @Test
+    public void replaceMeetUps_sameMeetUps_replacedInPlace() {
+        uniqueMeetUpList.add(PITCH_MEETUP);
+        uniqueMeetUpList.add(NETWORKING_MEETUP);
+        MeetUp viewing = PITCH_MEETUP.withProperty(new Address("Bukit Batok Rd #01-01"));
+        uniqueMeetUpList.replaceMeetUps(Map.of(PITCH_MEETUP, viewing));
+        assertEquals(Arrays.asList(viewing, NETWORKING_MEETUP), uniqueMeetUpList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceMeetUps_invalidReplacement_throwsAndReplacesNone() {
+        uniqueMeetUpList.add(PITCH_MEETUP);
+        assertThrows(DuplicateMeetUpException.class, () ->
+                uniqueMeetUpList.replaceMeetUps(Map.of(PITCH_MEETUP, NETWORKING_MEETUP)));
+        assertThrows(MeetUpNotFoundException.class, () -> uniqueMeetUpList.replaceMeetUps(Map.of(
+                PITCH_MEETUP, PITCH_MEETUP.withProperty(new Address("Bukit Batok Rd #01-01")),
+                NETWORKING_MEETUP, NETWORKING_MEETUP.withProperty(new Address("Bukit Batok Rd #01-01")))));
+        assertEquals(Arrays.asList(PITCH_MEETUP), uniqueMeetUpList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_newMeetUps_addedInOrder() {
+        uniqueMeetUpList.add(PITCH_MEETUP);
+        uniqueMeetUpList.addAll(Arrays.asList(NETWORKING_MEETUP));
+        assertEquals(Arrays.asList(PITCH_MEETUP, NETWORKING_MEETUP), uniqueMeetUpList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicateMeetUp_throwsDuplicateMeetUpExceptionAndAddsNone() {
+        uniqueMeetUpList.add(PITCH_MEETUP);
+        assertThrows(DuplicateMeetUpException.class, () ->
+                uniqueMeetUpList.addAll(Arrays.asList(NETWORKING_MEETUP, PITCH_MEETUP)));
+        assertThrows(DuplicateMeetUpException.class, () ->
+                uniqueMeetUpList.addAll(Arrays.asList(NETWORKING_MEETUP, NETWORKING_MEETUP)));
+        assertEquals(Arrays.asList(PITCH_MEETUP), uniqueMeetUpList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setMeetUp_nullTargetMeetUp_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueMeetUpList.setMeetUp(null, PITCH_MEETUP));
@@ -124,6 +168,22 @@ public class UniqueMeetUpListTest {
         assertEquals(expectedUniqueMeetUpList, uniqueMeetUpList);
     }
 
+    @Test
+    public void removeAll_existingMeetUps_removesMeetUps() {
+        uniqueMeetUpList.add(PITCH_MEETUP);
+        uniqueMeetUpList.add(NETWORKING_MEETUP);
+        uniqueMeetUpList.removeAll(Arrays.asList(NETWORKING_MEETUP, PITCH_MEETUP));
+        assertEquals(new UniqueMeetUpList(), uniqueMeetUpList);
+    }
+
+    @Test
+    public void removeAll_meetUpDoesNotExist_throwsAndRemovesNone() {
+        uniqueMeetUpList.add(PITCH_MEETUP);
+        assertThrows(MeetUpNotFoundException.class, () ->
+                uniqueMeetUpList.removeAll(Arrays.asList(PITCH_MEETUP, NETWORKING_MEETUP)));
+        assertEquals(Arrays.asList(PITCH_MEETUP), uniqueMeetUpList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setMeetUps_nullUniqueMeetUpList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueMeetUpList.setMeetUps((UniqueMeetUpList) null));
@@ -165,6 +225,60 @@ public class UniqueMeetUpListTest {
                 -> uniqueMeetUpList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void findStartingBetween_repeatingMeetUp_orderedByFirstOccurrenceInRange() {
+        MeetUp series = new MeetUpBuilder().withSubject("Weekly Viewing").withFrom("2024-09-03 09:00")
+                .withTo("2024-09-03 10:00").withRecurrence("weekly", "2024-12-31", "2024-10-01").build();
+        MeetUp oneOff = new MeetUpBuilder().withSubject("One Off").withFrom("2024-10-02 08:00")
+                .withTo("2024-10-02 09:00").build();
+        uniqueMeetUpList.add(series);
+        uniqueMeetUpList.add(oneOff);
+
+        assertEquals(Arrays.asList(oneOff, series), uniqueMeetUpList.findStartingBetween(
+                LocalDateTime.of(2024, 10, 1, 0, 0), LocalDateTime.of(2024, 10, 9, 0, 0)));
+        assertEquals(Arrays.asList(series, oneOff), uniqueMeetUpList.findStartingBetween(
+                LocalDateTime.of(2024, 9, 24, 0, 0), LocalDateTime.of(2024, 10, 9, 0, 0)));
+
+        // only the cancelled occurrence in range
+        assertEquals(Collections.emptyList(), uniqueMeetUpList.findStartingBetween(
+                LocalDateTime.of(2024, 10, 1, 0, 0), LocalDateTime.of(2024, 10, 2, 0, 0)));
+    }
+
+    @Test
+    public void findDoubleBookings_repeatingMeetUp_onlyOverlappingOccurrences() {
+        MeetUp series = new MeetUpBuilder().withSubject("Weekly Viewing").withFrom("2024-09-03 09:00")
+                .withTo("2024-09-03 10:00").withRecurrence("weekly", "2024-12-31").build();
+        MeetUp betweenOccurrences = new MeetUpBuilder().withSubject("Between").withFrom("2024-09-04 09:00")
+                .withTo("2024-09-09 09:00").build();
+        uniqueMeetUpList.add(series);
+        uniqueMeetUpList.add(betweenOccurrences);
+        assertTrue(uniqueMeetUpList.findDoubleBookings().isEmpty());
+
+        MeetUp clash = new MeetUpBuilder().withSubject("Clash").withFrom("2024-11-05 09:30")
+                .withTo("2024-11-05 11:00").build();
+        uniqueMeetUpList.add(clash);
+        List<IntervalIndex.Overlap<MeetUp>> overlaps = uniqueMeetUpList.findDoubleBookings();
+        assertEquals(1, overlaps.size());
+        assertEquals(series, overlaps.get(0).getFirst());
+        assertEquals(clash, overlaps.get(0).getSecond());
+
+        // cancelling the clashing occurrence clears the double booking
+        uniqueMeetUpList.setMeetUp(series, series.withoutOccurrenceOn(LocalDate.of(2024, 11, 5)));
+        assertTrue(uniqueMeetUpList.findDoubleBookings().isEmpty());
+    }
+
+    @Test
+    public void findFreeSlotsFor_repeatingMeetUp_skipsEveryOccurrence() {
+        MeetUp series = new MeetUpBuilder().withFrom("2024-10-01 09:00").withTo("2024-10-01 17:00")
+                .withRecurrence("daily", "2024-10-31").build();
+        uniqueMeetUpList.add(series);
+        List<TimeSlot> slots = uniqueMeetUpList.findFreeSlotsFor(series.getAddedBuyers(),
+                LocalDateTime.of(2024, 10, 2, 8, 0), LocalDateTime.of(2024, 10, 4, 0, 0), Duration.ofHours(2), 3);
+        assertEquals(Arrays.asList(
+                new TimeSlot(LocalDateTime.of(2024, 10, 2, 17, 0), LocalDateTime.of(2024, 10, 3, 9, 0)),
+                new TimeSlot(LocalDateTime.of(2024, 10, 3, 17, 0), LocalDateTime.of(2024, 10, 4, 0, 0))), slots);
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniqueMeetUpList.asUnmodifiableObservableList().toString(), uniqueMeetUpList.toString());
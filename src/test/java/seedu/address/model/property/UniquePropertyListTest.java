@@ -12,6 +12,7 @@ import static seedu.address.testutil.property.TypicalProperties.BRENDA;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +128,41 @@ public class UniquePropertyListTest {
         assertEquals(expectedUniquePropertyList, uniquePropertyList);
     }
 
+    @Test
+    public void replaceProperties_sameProperties_replacedInPlace() {
+        uniquePropertyList.add(ALICE);
+        uniquePropertyList.add(BRENDA);
+        Property editedAlice = new PropertyBuilder(ALICE).withPropertyType(VALID_PROPERTY_TYPE_BRENDA).build();
+        uniquePropertyList.replaceProperties(Map.of(ALICE, editedAlice));
+        assertEquals(Arrays.asList(editedAlice, BRENDA), uniquePropertyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceProperties_invalidReplacement_throwsAndReplacesNone() {
+        uniquePropertyList.add(ALICE);
+        assertThrows(DuplicatePropertyException.class, () ->
+                uniquePropertyList.replaceProperties(Map.of(ALICE, BRENDA)));
+        assertThrows(PropertyNotFoundException.class, () ->
+                uniquePropertyList.replaceProperties(Map.of(ALICE, ALICE, BRENDA, BRENDA)));
+        assertEquals(Arrays.asList(ALICE), uniquePropertyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingProperties_removesProperties() {
+        uniquePropertyList.add(ALICE);
+        uniquePropertyList.add(BRENDA);
+        uniquePropertyList.removeAll(Arrays.asList(ALICE));
+        assertEquals(Arrays.asList(BRENDA), uniquePropertyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_propertyDoesNotExist_throwsAndRemovesNone() {
+        uniquePropertyList.add(ALICE);
+        assertThrows(PropertyNotFoundException.class, () ->
+                uniquePropertyList.removeAll(Arrays.asList(ALICE, BRENDA)));
+        assertEquals(Arrays.asList(ALICE), uniquePropertyList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setProperties_nullUniquePropertyList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePropertyList.setProperties((UniquePropertyList) null));
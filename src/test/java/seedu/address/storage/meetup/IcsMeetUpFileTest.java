@@ -0,0 +1,152 @@
+package seedu.address.storage.meetup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.testutil.meetup.MeetUpBuilder;
+import seedu.address.testutil.meetup.TypicalMeetUps;
+
+public class IcsMeetUpFileTest {
+
+    private static final ZoneId SINGAPORE = ZoneId.of("Asia/Singapore");
+    private static final Instant STAMP = Instant.parse("2024-10-01T00:00:00Z");
+
+    private final List<MeetUp> meetUps = new ArrayList<>();
+    private final List<String> invalidEvents = new ArrayList<>();
+
+    @Test
+    public void write_thenRead_sameMeetUps() throws IOException {
+        List<MeetUp> written = new ArrayList<>(TypicalMeetUps.getTypicalMeetUps());
+        written.add(new MeetUpBuilder().withSubject("Weekly viewing").withInfo("Bring keys; and the map, please\\")
+                .withFrom("2024-10-01 09:00").withTo("2024-10-01 10:00").withAddedBuyers("Alex Yeoh", "Bernice Yu")
+                .withRecurrence("weekly", "2024-12-31", "2024-10-15", "2024-10-22").build());
+        StringWriter writer = new StringWriter();
+
+        assertEquals(written.size(), IcsMeetUpFile.write(writer, written, STAMP));
+        read(writer.toString());
+
+        assertEquals(written, meetUps);
+        assertEquals(List.of(), invalidEvents);
+    }
+
+    @Test
+    public void write_longLine_foldedWithinLimit() throws IOException {
+        String info = "Viewing the penthouse at the very end of the longest road in town, \u00e9t\u00e9 \u4f60\u597d "
+                .repeat(4);
+        MeetUp meetUp = new MeetUpBuilder().withInfo(info).build();
+        StringWriter writer = new StringWriter();
+        IcsMeetUpFile.write(writer, List.of(meetUp), STAMP);
+
+        String[] lines = writer.toString().split("\r\n");
+        for (String line : lines) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+        read(writer.toString());
+        assertEquals(List.of(meetUp), meetUps);
+    }
+
+    @Test
+    public void read_calendarFromOtherTools_convertsEvents() throws IOException {
+        read(String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VTIMEZONE",
+                "TZID:Europe/London",
+                "END:VTIMEZONE",
+                "BEGIN:VEVENT",
+                "SUMMARY:Viewing: 12 Oak St.",
+                "DTSTART;TZID=Europe/London:20241001T090000",
+                "DURATION:PT1H30M",
+                "ATTENDEE;CN=\"Yeoh, Alex\";ROLE=REQ-PARTICIPANT:mailto:alex@example.com",
+                "ATTENDEE:mailto:bernice@example.com",
+                "BEGIN:VALARM",
+                "DESCRIPTION:Nested components are ignored",
+                "END:VALARM",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Standup",
+                "DESCRIPTION:Daily check-in\\, with\\nnotes",
+                "DTSTART:20241001T010000Z",
+                "DTEND:20241001T011500Z",
+                "RRULE:FREQ=DAILY;COUNT=5",
+                "EXDATE:20241002T010000Z,20241003T010000Z",
+                "ATTENDEE;CN=Zed:invalid:nomail",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Open ",
+                " house",
+                "DTSTART;VALUE=DATE:20241005",
+                "ATTENDEE;CN=Alex:invalid:nomail",
+                "END:VEVENT",
+                "END:VCALENDAR"));
+
+        assertEquals(List.of(
+                new MeetUpBuilder().withSubject("Viewing 12 Oak St").withInfo("Viewing: 12 Oak St.")
+                        .withFrom("2024-10-01 16:00").withTo("2024-10-01 17:30")
+                        .withAddedBuyers("Yeoh Alex", "bernice").build(),
+                new MeetUpBuilder().withSubject("Standup").withInfo("Daily check-in, with\nnotes")
+                        .withFrom("2024-10-01 09:00").withTo("2024-10-01 09:15").withAddedBuyers("Zed")
+                        .withRecurrence("daily", "2024-10-05", "2024-10-02", "2024-10-03").build(),
+                new MeetUpBuilder().withSubject("Open house").withInfo("Open house")
+                        .withFrom("2024-10-05 00:00").withTo("2024-10-06 00:00").withAddedBuyers("Alex").build()),
+                meetUps);
+        assertEquals(List.of(), invalidEvents);
+    }
+
+    @Test
+    public void read_invalidEvents_reportedWithLineNumbers() throws IOException {
+        read(String.join("\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:No buyers",
+                "DTSTART:20241001T090000",
+                "DTEND:20241001T100000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Monthly",
+                "DTSTART:20241001T090000",
+                "DTEND:20241001T100000",
+                "RRULE:FREQ=MONTHLY;COUNT=3",
+                "ATTENDEE;CN=Alex:invalid:nomail",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:!!!",
+                "DTSTART:20241001T090000",
+                "DTEND:20241001T100000",
+                "ATTENDEE;CN=Alex:invalid:nomail",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:Backwards",
+                "DTSTART:20241001T090000",
+                "DTEND:20241001T080000",
+                "ATTENDEE;CN=Alex:invalid:nomail",
+                "END:VEVENT",
+                "this line is malformed",
+                "END:VCALENDAR"));
+
+        assertEquals(List.of(), meetUps);
+        assertEquals(List.of(
+                String.format(IcsMeetUpFile.MESSAGE_INVALID_EVENT, 2, IcsMeetUpFile.MESSAGE_NO_BUYER),
+                String.format(IcsMeetUpFile.MESSAGE_INVALID_EVENT, 7, IcsMeetUpFile.MESSAGE_UNSUPPORTED_RULE),
+                String.format(IcsMeetUpFile.MESSAGE_INVALID_EVENT, 14, IcsMeetUpFile.MESSAGE_NO_SUBJECT),
+                String.format(IcsMeetUpFile.MESSAGE_INVALID_EVENT, 20, IcsMeetUpFile.MESSAGE_NO_TIME)),
+                invalidEvents);
+    }
+
+    private void read(String calendar) throws IOException {
+        IcsMeetUpFile.read(new BufferedReader(new StringReader(calendar)), SINGAPORE, meetUps::add,
+                invalidEvents::add);
+    }
+}
@@ -14,8 +14,12 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.meetup.From;
 import seedu.address.model.meetup.Info;
+import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
 import seedu.address.model.meetup.Subject;
 import seedu.address.model.meetup.To;
+import seedu.address.model.property.Address;
+import seedu.address.testutil.meetup.MeetUpBuilder;
 
 public class JsonAdaptedMeetUpTest {
     private static final String INVALID_NAME = "Z!x!n";
@@ -131,4 +135,46 @@ public class JsonAdaptedMeetUpTest {
         assertThrows(IllegalValueException.class, expectedMessage, meetUp::toModelType);
     }
 
+
+    @Test
+    public void toModelType_repeatingMeetUp_returnsMeetUp() throws Exception {
+        MeetUp series = new MeetUpBuilder(FIRST_MEETUP).withRecurrence("weekly", "2025-01-31", "2024-12-15").build();
+        assertEquals(series, new JsonAdaptedMeetUp(series).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        // frequency without a last date
+        JsonAdaptedMeetUp meetUp = new JsonAdaptedMeetUp(VALID_NAME, VALID_INFO, VALID_FROM, VALID_TO,
+                VALID_ADDED_BUYER, "weekly", null, null);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, meetUp::toModelType);
+
+        // unknown frequency
+        meetUp = new JsonAdaptedMeetUp(VALID_NAME, VALID_INFO, VALID_FROM, VALID_TO, VALID_ADDED_BUYER, "monthly",
+                "2025-01-31", null);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, meetUp::toModelType);
+
+        // invalid cancelled date
+        meetUp = new JsonAdaptedMeetUp(VALID_NAME, VALID_INFO, VALID_FROM, VALID_TO, VALID_ADDED_BUYER, "weekly",
+                "2025-01-31", List.of("2024-13-01"));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, meetUp::toModelType);
+
+        // last date before the first occurrence
+        meetUp = new JsonAdaptedMeetUp(VALID_NAME, VALID_INFO, VALID_FROM, VALID_TO, VALID_ADDED_BUYER, "weekly",
+                "2024-01-31", null);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS_SERIES, meetUp::toModelType);
+    }
+
+    @Test
+    public void toModelType_meetUpAtProperty_returnsMeetUp() throws Exception {
+        MeetUp viewing = new MeetUpBuilder(FIRST_MEETUP).withProperty("Jurong West Blk 100 #05-01").build();
+        assertEquals(viewing, new JsonAdaptedMeetUp(viewing).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidProperty_throwsIllegalValueException() {
+        JsonAdaptedMeetUp meetUp = new JsonAdaptedMeetUp(VALID_NAME, VALID_INFO, VALID_FROM, VALID_TO,
+                VALID_ADDED_BUYER, null, null, null, " ");
+        assertThrows(IllegalValueException.class, Address.MESSAGE_CONSTRAINTS, meetUp::toModelType);
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.testutil.meetup;
 
+import java.time.LocalDate;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -9,8 +10,10 @@ import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.From;
 import seedu.address.model.meetup.Info;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
 import seedu.address.model.meetup.Subject;
 import seedu.address.model.meetup.To;
+import seedu.address.model.property.Address;
 
 /**
  * A utility class to help with building EditMeetUpDescriptor objects.
@@ -81,6 +84,23 @@ public class EditMeetUpDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Recurrence} of the {@code EditMeetUpDescriptor} that we are building.
+     */
+    public EditMeetUpDescriptorBuilder withRecurrence(String frequency, String until) {
+        descriptor.setRecurrence(new Recurrence(Recurrence.parseFrequency(frequency), LocalDate.parse(until),
+                Set.of()));
+        return this;
+    }
+
+    /**
+     * Sets the address of the property of the {@code EditMeetUpDescriptor} that we are building.
+     */
+    public EditMeetUpDescriptorBuilder withProperty(String property) {
+        descriptor.setProperty(new Address(property));
+        return this;
+    }
+
     public EditCommand.EditMeetUpDescriptor build() {
         return descriptor;
     }
@@ -1,5 +1,6 @@
 package seedu.address.testutil.meetup;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -7,8 +8,10 @@ import seedu.address.model.meetup.AddedBuyer;
 import seedu.address.model.meetup.From;
 import seedu.address.model.meetup.Info;
 import seedu.address.model.meetup.MeetUp;
+import seedu.address.model.meetup.Recurrence;
 import seedu.address.model.meetup.Subject;
 import seedu.address.model.meetup.To;
+import seedu.address.model.property.Address;
 import seedu.address.model.util.SampleMeetUpDataUtil;
 
 /**
@@ -27,6 +30,8 @@ public class MeetUpBuilder {
     private From from;
     private To to;
     private Set<AddedBuyer> addedBuyers;
+    private Recurrence recurrence;
+    private Address property;
 
     /**
      * Creates a {@code MeetUpBuilder} with the default details.
@@ -49,6 +54,8 @@ public class MeetUpBuilder {
         from = meetUpToCopy.getFrom();
         to = meetUpToCopy.getTo();
         addedBuyers = new HashSet<>(meetUpToCopy.getAddedBuyers());
+        recurrence = meetUpToCopy.getRecurrence().orElse(null);
+        property = meetUpToCopy.getProperty().orElse(null);
     }
 
     /**
@@ -93,8 +100,29 @@ public class MeetUpBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Recurrence} of the {@code MeetUp} that we are building, cancelling the occurrences on
+     * {@code exceptions}.
+     */
+    public MeetUpBuilder withRecurrence(String frequency, String until, String... exceptions) {
+        Set<LocalDate> exceptionDates = new HashSet<>();
+        for (String exception : exceptions) {
+            exceptionDates.add(LocalDate.parse(exception));
+        }
+        this.recurrence = new Recurrence(Recurrence.parseFrequency(frequency), LocalDate.parse(until), exceptionDates);
+        return this;
+    }
+
+    /**
+     * Sets the address of the property of the {@code MeetUp} that we are building.
+     */
+    public MeetUpBuilder withProperty(String property) {
+        this.property = new Address(property);
+        return this;
+    }
+
     public MeetUp build() {
-        return new MeetUp(subject, info, from, to, addedBuyers);
+        return new MeetUp(subject, info, from, to, addedBuyers, recurrence, property);
     }
 
 }
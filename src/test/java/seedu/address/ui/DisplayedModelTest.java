@@ -0,0 +1,119 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.buyer.TypicalBuyers.AMY;
+import static seedu.address.testutil.buyer.TypicalBuyers.BOB;
+import static seedu.address.testutil.buyer.TypicalBuyers.getTypicalBuyerList;
+import static seedu.address.testutil.meetup.TypicalMeetUps.getTypicalMeetUpList;
+import static seedu.address.testutil.property.TypicalProperties.getTypicalPropertyList;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.property.Property;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.buyer.JsonBuyerListStorage;
+import seedu.address.storage.meetup.JsonMeetUpListStorage;
+import seedu.address.storage.property.JsonPropertyListStorage;
+import seedu.address.testutil.buyer.BuyerUtil;
+
+public class DisplayedModelTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<Runnable> modelThreadTasks = new ArrayList<>();
+    private final List<Runnable> fxThreadTasks = new ArrayList<>();
+    private LogicManager logic;
+    private DisplayedModel displayedModel;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonBuyerListStorage(temporaryFolder.resolve("buyerList.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonMeetUpListStorage(temporaryFolder.resolve("meetUpList.json")),
+                new JsonPropertyListStorage(temporaryFolder.resolve("propertyList.json")));
+        logic = new LogicManager(new ModelManager(getTypicalBuyerList(), new UserPrefs(), getTypicalMeetUpList(),
+                getTypicalPropertyList()), storage);
+        displayedModel = new DisplayedModel(logic, modelThreadTasks::add, fxThreadTasks::add);
+    }
+
+    @Test
+    public void constructor_copiesShownLists() {
+        assertShownListsUpToDate();
+        assertThrows(UnsupportedOperationException.class, () -> displayedModel.getFilteredBuyerList().remove(0));
+    }
+
+    @Test
+    public void publish_changesBeforeShown_mergedIntoOnePulse() throws Exception {
+        logic.execute(BuyerUtil.getAddBuyerCommand(AMY));
+
+        // every list that changed queues the same pulse
+        assertEquals(1, modelThreadTasks.size());
+        runAll(modelThreadTasks);
+        assertEquals(1, fxThreadTasks.size());
+
+        logic.execute(BuyerUtil.getAddBuyerCommand(BOB));
+        displayedModel.publish();
+        runAll(modelThreadTasks);
+
+        // the second pulse is merged into the one waiting to be shown
+        assertEquals(1, fxThreadTasks.size());
+        assertEquals(getTypicalBuyerList().getBuyerList(), displayedModel.getUnfilteredBuyerList());
+        runAll(fxThreadTasks);
+        assertShownListsUpToDate();
+    }
+
+    @Test
+    public void publish_modelUnchanged_nothingShown() throws Exception {
+        logic.execute("help");
+        displayedModel.publish();
+        runAll(modelThreadTasks);
+
+        assertTrue(fxThreadTasks.isEmpty());
+    }
+
+    @Test
+    public void publish_meetUpsChanged_viewingsAndDoubleBookingsShown() throws Exception {
+        logic.execute("switch m");
+        logic.execute("clear");
+        displayedModel.publish();
+        runAll(fxThreadTasks);
+
+        assertShownListsUpToDate();
+        assertTrue(displayedModel.getDoubleBookedMeetUps().isEmpty());
+    }
+
+    /**
+     * Runs every task in {@code tasks}, in order, including those queued while they run.
+     */
+    private static void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private void assertShownListsUpToDate() {
+        assertEquals(logic.getFilteredBuyerList(), displayedModel.getFilteredBuyerList());
+        assertEquals(logic.getUnfilteredBuyerList(), displayedModel.getUnfilteredBuyerList());
+        assertEquals(logic.getFilteredMeetUpList(), displayedModel.getFilteredMeetUpList());
+        assertEquals(logic.getUnfilteredMeetUpList(), displayedModel.getUnfilteredMeetUpList());
+        assertEquals(logic.getFilteredPropertyList(), displayedModel.getFilteredPropertyList());
+        assertEquals(logic.getDoubleBookedMeetUps(), displayedModel.getDoubleBookedMeetUps());
+        for (Property property : logic.getFilteredPropertyList()) {
+            assertEquals(logic.getUpcomingMeetUpsAt(property), displayedModel.getUpcomingMeetUpsAt(property));
+        }
+    }
+}